@@ -341,7 +341,11 @@ public enum OrekitMessages implements Localizable {
     UNSUPPORTED_TRANSFORM("transform from {0} to {1} is not implemented"),
     WRONG_ORBIT_PARAMETERS_TYPE("orbital parameters type: {0} is different from expected orbital type : {1}"),
     CANNOT_CHANGE_COVARIANCE_TYPE_IF_DEFINED_IN_LOF("cannot change covariance type if defined in a local orbital frame"),
-    CANNOT_CHANGE_COVARIANCE_TYPE_IF_DEFINED_IN_NON_INERTIAL_FRAME("cannot change covariance type if defined in a non pseudo-inertial reference frame");
+    CANNOT_CHANGE_COVARIANCE_TYPE_IF_DEFINED_IN_NON_INERTIAL_FRAME("cannot change covariance type if defined in a non pseudo-inertial reference frame"),
+    MEASUREMENT_NOT_DISPATCHABLE("measurement at {0} does not refer to satellites managed by a single estimator"),
+    MEASUREMENTS_STREAM_CLOSED("measurements stream already closed"),
+    INCOMPATIBLE_CHECKPOINT("checkpoint does not contain estimated parameter {0}"),
+    UNKNOWN_CHECKPOINT_PARAMETER("checkpoint contains parameter {0} which is not estimated");
     // CHECKSTYLE: resume JavadocVariable check
 
     /** Base name of the resource bundle in classpath. */
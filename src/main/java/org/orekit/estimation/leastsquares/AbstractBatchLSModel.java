@@ -34,6 +34,7 @@ import org.hipparchus.util.FastMath;
 import org.hipparchus.util.Incrementor;
 import org.hipparchus.util.Pair;
 import org.orekit.estimation.measurements.EstimatedMeasurement;
+import org.orekit.estimation.measurements.ObservableSatellite;
 import org.orekit.estimation.measurements.ObservedMeasurement;
 import org.orekit.orbits.Orbit;
 import org.orekit.propagation.MatricesHarvester;
@@ -241,6 +242,25 @@ public abstract class AbstractBatchLSModel implements MultivariateJacobianFuncti
         }
     }
 
+    /** Select the Jacobian matrix storage.
+     * <p>
+     * By default, the Jacobian matrix is a dense matrix. A {@link SparseJacobianMatrix}
+     * stores only non-zero entries and keeps track of the satellite each row depends on,
+     * which is useful when many satellites are estimated simultaneously.
+     * </p>
+     * @param sparse if true, use a {@link SparseJacobianMatrix}
+     * @since 11.4
+     */
+    public void setSparseJacobian(final boolean sparse) {
+        if (sparse != jacobian instanceof SparseJacobianMatrix) {
+            final int rows    = jacobian.getRowDimension();
+            final int columns = jacobian.getColumnDimension();
+            jacobian = sparse ?
+                       new SparseJacobianMatrix(rows, columns) :
+                       MatrixUtils.createRealMatrix(rows, columns);
+        }
+    }
+
     /** Set the counter for evaluations.
      * @param evaluationsCounter counter for evaluations
      */
@@ -307,9 +327,13 @@ public abstract class AbstractBatchLSModel implements MultivariateJacobianFuncti
         // Reset value and Jacobian
         evaluations.clear();
         value.set(0.0);
-        for (int i = 0; i < jacobian.getRowDimension(); ++i) {
-            for (int j = 0; j < jacobian.getColumnDimension(); ++j) {
-                jacobian.setEntry(i, j, 0.0);
+        if (jacobian instanceof SparseJacobianMatrix) {
+            ((SparseJacobianMatrix) jacobian).clear();
+        } else {
+            for (int i = 0; i < jacobian.getRowDimension(); ++i) {
+                for (int j = 0; j < jacobian.getColumnDimension(); ++j) {
+                    jacobian.setEntry(i, j, 0.0);
+                }
             }
         }
 
@@ -447,6 +471,19 @@ public abstract class AbstractBatchLSModel implements MultivariateJacobianFuncti
             value.setEntry(index + i, weight[i] * (evaluated[i] - observed[i]) / sigma[i]);
         }
 
+        if (jacobian instanceof SparseJacobianMatrix) {
+            // identify the satellite the measurement depends on, if it is unique
+            int owner = observedMeasurement.getSatellites().get(0).getPropagatorIndex();
+            for (final ObservableSatellite satellite : observedMeasurement.getSatellites()) {
+                if (satellite.getPropagatorIndex() != owner) {
+                    owner = SparseJacobianMatrix.SHARED;
+                }
+            }
+            for (int i = 0; i < evaluated.length; ++i) {
+                ((SparseJacobianMatrix) jacobian).setOwner(index + i, owner);
+            }
+        }
+
         for (int k = 0; k < evaluationStates.length; ++k) {
 
             final int p = observedMeasurement.getSatellites().get(k).getPropagatorIndex();
@@ -0,0 +1,283 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.leastsquares;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hipparchus.exception.DummyLocalizable;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.utils.ParameterDriver;
+
+/** Snapshot of a batch least squares estimation, allowing to resume it later.
+ * <p>
+ * A checkpoint contains the names and physical values of the estimated parameters,
+ * the iterations and evaluations counts, the evaluation statistics (RMS, χ², cost)
+ * of the last iteration and a flag telling if the estimation has completed. It is
+ * stored in a compact big-endian binary form: a header, the parameters, the
+ * statistics and the completion flag.
+ * </p>
+ * @see BatchLSEstimator#setCheckpoint(Path)
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+public class BatchLSCheckpoint {
+
+    /** Magic number identifying checkpoints ("OKCP"). */
+    private static final int MAGIC = 0x4F4B4350;
+
+    /** Binary format version. */
+    private static final int VERSION = 1;
+
+    /** Suffix for temporary files. */
+    private static final String TMP_SUFFIX = ".tmp";
+
+    /** Names of the estimated parameters. */
+    private final String[] names;
+
+    /** Physical values of the estimated parameters. */
+    private final double[] values;
+
+    /** Number of iterations performed. */
+    private final int iterations;
+
+    /** Number of evaluations performed. */
+    private final int evaluations;
+
+    /** RMS of the last evaluation. */
+    private final double rms;
+
+    /** χ² of the last evaluation. */
+    private final double chiSquare;
+
+    /** Cost of the last evaluation. */
+    private final double cost;
+
+    /** Indicator for completed estimation. */
+    private final boolean isFinal;
+
+    /** Simple constructor.
+     * @param names names of the estimated parameters
+     * @param values physical values of the estimated parameters
+     * @param iterations number of iterations performed
+     * @param evaluations number of evaluations performed
+     * @param rms RMS of the last evaluation
+     * @param chiSquare χ² of the last evaluation
+     * @param cost cost of the last evaluation
+     * @param isFinal if true, the estimation has completed
+     */
+    public BatchLSCheckpoint(final String[] names, final double[] values,
+                             final int iterations, final int evaluations,
+                             final double rms, final double chiSquare, final double cost,
+                             final boolean isFinal) {
+        this.names       = names.clone();
+        this.values      = values.clone();
+        this.iterations  = iterations;
+        this.evaluations = evaluations;
+        this.rms         = rms;
+        this.chiSquare   = chiSquare;
+        this.cost        = cost;
+        this.isFinal     = isFinal;
+    }
+
+    /** Get the names of the estimated parameters.
+     * @return names of the estimated parameters
+     */
+    public String[] getNames() {
+        return names.clone();
+    }
+
+    /** Get the physical values of the estimated parameters.
+     * @return physical values of the estimated parameters
+     */
+    public double[] getValues() {
+        return values.clone();
+    }
+
+    /** Get the number of iterations performed.
+     * @return number of iterations performed
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /** Get the number of evaluations performed.
+     * @return number of evaluations performed
+     */
+    public int getEvaluations() {
+        return evaluations;
+    }
+
+    /** Get the RMS of the last evaluation.
+     * @return RMS of the last evaluation
+     */
+    public double getRMS() {
+        return rms;
+    }
+
+    /** Get the χ² of the last evaluation.
+     * @return χ² of the last evaluation
+     */
+    public double getChiSquare() {
+        return chiSquare;
+    }
+
+    /** Get the cost of the last evaluation.
+     * @return cost of the last evaluation
+     */
+    public double getCost() {
+        return cost;
+    }
+
+    /** Check if the estimation has completed.
+     * <p>
+     * Final checkpoints are written when estimation converges, they
+     * are not used to resume an estimation.
+     * </p>
+     * @return true if the estimation has completed
+     */
+    public boolean isFinal() {
+        return isFinal;
+    }
+
+    /** Restore the parameters values.
+     * @param drivers all estimated parameters drivers to restore
+     * (the checkpoint must contain exactly these parameters)
+     */
+    public void restore(final List<? extends ParameterDriver> drivers) {
+
+        // check all parameters in the checkpoint are estimated
+        final Set<String> estimated = new HashSet<>();
+        for (final ParameterDriver driver : drivers) {
+            estimated.add(driver.getName());
+        }
+        for (final String name : names) {
+            if (!estimated.contains(name)) {
+                throw new OrekitException(OrekitMessages.UNKNOWN_CHECKPOINT_PARAMETER, name);
+            }
+        }
+
+        for (final ParameterDriver driver : drivers) {
+            int index = -1;
+            for (int i = 0; i < names.length && index < 0; ++i) {
+                if (names[i].equals(driver.getName())) {
+                    index = i;
+                }
+            }
+            if (index < 0) {
+                throw new OrekitException(OrekitMessages.INCOMPATIBLE_CHECKPOINT, driver.getName());
+            }
+            driver.setValue(values[index]);
+        }
+
+    }
+
+    /** Write the checkpoint to a stream.
+     * @param output output stream (not closed by this method)
+     * @exception IOException if checkpoint cannot be written
+     */
+    public void write(final OutputStream output) throws IOException {
+        final DataOutputStream dos = new DataOutputStream(output);
+        dos.writeInt(MAGIC);
+        dos.writeByte(VERSION);
+        dos.writeInt(names.length);
+        for (int i = 0; i < names.length; ++i) {
+            dos.writeUTF(names[i]);
+            dos.writeDouble(values[i]);
+        }
+        dos.writeInt(iterations);
+        dos.writeInt(evaluations);
+        dos.writeDouble(rms);
+        dos.writeDouble(chiSquare);
+        dos.writeDouble(cost);
+        dos.writeBoolean(isFinal);
+        dos.flush();
+    }
+
+    /** Read a checkpoint from a stream.
+     * @param input input stream (not closed by this method)
+     * @param name name of the stream (for error messages)
+     * @return checkpoint read
+     * @exception IOException if checkpoint cannot be read
+     */
+    public static BatchLSCheckpoint read(final InputStream input, final String name)
+        throws IOException {
+        final DataInputStream dis = new DataInputStream(input);
+        if (dis.readInt() != MAGIC || dis.readByte() != VERSION) {
+            throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT, name);
+        }
+        final int      nbParams  = dis.readInt();
+        final String[] names     = new String[nbParams];
+        final double[] values    = new double[nbParams];
+        for (int i = 0; i < nbParams; ++i) {
+            names[i]  = dis.readUTF();
+            values[i] = dis.readDouble();
+        }
+        final int    iterations  = dis.readInt();
+        final int    evaluations = dis.readInt();
+        final double rms         = dis.readDouble();
+        final double chiSquare   = dis.readDouble();
+        final double cost        = dis.readDouble();
+        final boolean isFinal    = dis.readBoolean();
+        return new BatchLSCheckpoint(names, values, iterations, evaluations, rms, chiSquare, cost, isFinal);
+    }
+
+    /** Save the checkpoint to a file.
+     * <p>
+     * The checkpoint is first written to a temporary file in the same directory,
+     * which is then moved to its final location, so an interruption during
+     * writing does not corrupt a previous checkpoint.
+     * </p>
+     * @param path path of the checkpoint file
+     */
+    public void save(final Path path) {
+        final Path tmp = path.resolveSibling(path.getFileName() + TMP_SUFFIX);
+        try {
+            try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                write(os);
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ioe) {
+            throw new OrekitException(ioe, new DummyLocalizable(ioe.getMessage()));
+        }
+    }
+
+    /** Load a checkpoint from a file.
+     * @param path path of the checkpoint file
+     * @return checkpoint loaded
+     */
+    public static BatchLSCheckpoint load(final Path path) {
+        try (InputStream is = new BufferedInputStream(Files.newInputStream(path))) {
+            return read(is, path.toString());
+        } catch (IOException ioe) {
+            throw new OrekitException(ioe, new DummyLocalizable(ioe.getMessage()));
+        }
+    }
+
+}
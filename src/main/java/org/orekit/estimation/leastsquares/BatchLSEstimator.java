@@ -16,6 +16,8 @@
  */
 package org.orekit.estimation.leastsquares;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -96,6 +98,15 @@ public class BatchLSEstimator {
     /** Counter for the iterations. */
     private Incrementor iterationsCounter;
 
+    /** Checkpoint file (null if checkpoints are disabled). */
+    private Path checkpoint;
+
+    /** Number of iterations performed before resuming from a checkpoint. */
+    private int resumedIterations;
+
+    /** Number of evaluations performed before resuming from a checkpoint. */
+    private int resumedEvaluations;
+
     /** Simple constructor.
      * <p>
      * If multiple {@link PropagatorBuilder propagator builders} are set up,
@@ -125,6 +136,7 @@ public class BatchLSEstimator {
         this.observer                       = null;
         this.estimations                    = null;
         this.orbits                         = new Orbit[builders.length];
+        this.checkpoint                     = null;
 
         setParametersConvergenceThreshold(Double.NaN);
 
@@ -146,6 +158,39 @@ public class BatchLSEstimator {
         this.observer = observer;
     }
 
+    /** Set the checkpoint file.
+     * <p>
+     * When a checkpoint file is set, the estimated parameters, the iterations
+     * and evaluations counts and the evaluation statistics are saved to this
+     * file as a {@link BatchLSCheckpoint} after each iteration. If the file
+     * already exists when {@link #estimate()} is called, the estimated parameters
+     * are first restored from it, so an interrupted estimation resumes where it
+     * stopped instead of starting over. When estimation converges, the file is
+     * overwritten with a {@link BatchLSCheckpoint#isFinal() final} checkpoint,
+     * which is ignored when {@link #estimate()} is called again.
+     * </p>
+     * <p>
+     * When resuming, the {@link #getIterationsCount() iterations} and {@link
+     * #getEvaluationsCount() evaluations} counts include the ones performed before
+     * the checkpoint, but the {@link #setMaxIterations(int) maximum number of
+     * iterations} and {@link #setMaxEvaluations(int) maximum number of evaluations}
+     * apply only to the resumed run.
+     * </p>
+     * @param checkpoint checkpoint file (null to disable checkpoints)
+     * @since 11.4
+     */
+    public void setCheckpoint(final Path checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    /** Get the checkpoint file.
+     * @return checkpoint file (null if checkpoints are disabled)
+     * @since 11.4
+     */
+    public Path getCheckpoint() {
+        return checkpoint;
+    }
+
     /** Add a measurement.
      * @param measurement measurement to add
      */
@@ -375,6 +420,22 @@ public class BatchLSEstimator {
         final ParameterDriversList estimatedPropagatorParameters   = getPropagatorParametersDrivers(true);
         final ParameterDriversList estimatedMeasurementsParameters = getMeasurementsParametersDrivers(true);
 
+        // resume from a previous checkpoint if available
+        resumedIterations  = 0;
+        resumedEvaluations = 0;
+        if (checkpoint != null && Files.exists(checkpoint)) {
+            final BatchLSCheckpoint previous = BatchLSCheckpoint.load(checkpoint);
+            if (!previous.isFinal()) {
+                final List<ParameterDriver> estimated = new ArrayList<>();
+                estimated.addAll(estimatedOrbitalParameters.getDrivers());
+                estimated.addAll(estimatedPropagatorParameters.getDrivers());
+                estimated.addAll(estimatedMeasurementsParameters.getDrivers());
+                previous.restore(estimated);
+                resumedIterations  = previous.getIterations();
+                resumedEvaluations = previous.getEvaluations();
+            }
+        }
+
         // create start point
         final double[] start = new double[estimatedOrbitalParameters.getNbParams() +
                                           estimatedPropagatorParameters.getNbParams() +
@@ -413,6 +474,7 @@ public class BatchLSEstimator {
         };
         final AbstractBatchLSModel model = builders[0].buildLSModel(builders, measurements, estimatedMeasurementsParameters, modelObserver);
 
+        model.setSparseJacobian(optimizer instanceof SparseGaussNewtonOptimizer);
         lsBuilder.model(model);
 
         // add a validator for orbital parameters
@@ -423,7 +485,7 @@ public class BatchLSEstimator {
         lsBuilder.checker(convergenceChecker);
 
         // set up the problem to solve
-        final LeastSquaresProblem problem = new TappedLSProblem(lsBuilder.build(),
+        final TappedLSProblem problem = new TappedLSProblem(lsBuilder.build(),
                                                                 model,
                                                                 estimatedOrbitalParameters,
                                                                 estimatedPropagatorParameters,
@@ -434,6 +496,11 @@ public class BatchLSEstimator {
             // solve the problem
             optimum = optimizer.optimize(problem);
 
+            // mark the estimation as completed
+            if (checkpoint != null) {
+                problem.saveCheckpoint(optimum, true);
+            }
+
             // create a new configured propagator with all estimated parameters
             return model.createPropagators(optimum.getPoint());
 
@@ -517,7 +584,7 @@ public class BatchLSEstimator {
      * @see #setMaxIterations(int)
      */
     public int getIterationsCount() {
-        return iterationsCounter.getCount();
+        return resumedIterations + iterationsCounter.getCount();
     }
 
     /** Get the number of evaluations used for last estimation.
@@ -525,7 +592,7 @@ public class BatchLSEstimator {
      * @see #setMaxEvaluations(int)
      */
     public int getEvaluationsCount() {
-        return evaluationsCounter.getCount();
+        return resumedEvaluations + evaluationsCounter.getCount();
     }
 
     /** Wrapper used to tap the various counters. */
@@ -586,7 +653,15 @@ public class BatchLSEstimator {
         /** {@inheritDoc} */
         @Override
         public ConvergenceChecker<Evaluation> getConvergenceChecker() {
-            return problem.getConvergenceChecker();
+            final ConvergenceChecker<Evaluation> checker = problem.getConvergenceChecker();
+            if (checkpoint == null || checker == null) {
+                return checker;
+            }
+            // save progress once per iteration, when convergence is checked
+            return (iteration, previous, current) -> {
+                saveCheckpoint(current, false);
+                return checker.converged(iteration, previous, current);
+            };
         }
 
         /** {@inheritDoc} */
@@ -616,8 +691,8 @@ public class BatchLSEstimator {
 
             // notify the observer
             if (observer != null) {
-                observer.evaluationPerformed(iterationsCounter.getCount(),
-                                             evaluationsCounter.getCount(),
+                observer.evaluationPerformed(getIterationsCount(),
+                                             getEvaluationsCount(),
                                              orbits,
                                              estimatedOrbitalParameters,
                                              estimatedPropagatorParameters,
@@ -630,6 +705,34 @@ public class BatchLSEstimator {
 
         }
 
+        /** Save a checkpoint.
+         * @param evaluation last evaluation
+         * @param isFinal if true, the estimation has completed
+         */
+        private void saveCheckpoint(final Evaluation evaluation, final boolean isFinal) {
+            final int nbParams = estimatedOrbitalParameters.getNbParams() +
+                                 estimatedPropagatorParameters.getNbParams() +
+                                 estimatedMeasurementsParameters.getNbParams();
+            final String[] names  = new String[nbParams];
+            final double[] values = new double[nbParams];
+            final RealVector point = evaluation.getPoint();
+            int i = 0;
+            for (final ParameterDriversList list : Arrays.asList(estimatedOrbitalParameters,
+                                                                 estimatedPropagatorParameters,
+                                                                 estimatedMeasurementsParameters)) {
+                for (final ParameterDriver driver : list.getDrivers()) {
+                    // drivers may have been set to a later trial point, so we use the evaluation point
+                    names[i]  = driver.getName();
+                    values[i] = driver.getReferenceValue() + driver.getScale() * point.getEntry(i);
+                    ++i;
+                }
+            }
+            new BatchLSCheckpoint(names, values, getIterationsCount(), getEvaluationsCount(),
+                                  evaluation.getRMS(), evaluation.getChiSquare(), evaluation.getCost(),
+                                  isFinal).
+            save(checkpoint);
+        }
+
     }
 
     /** Provider for evaluations. */
@@ -0,0 +1,207 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.leastsquares;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.hipparchus.exception.NullArgumentException;
+import org.hipparchus.linear.ArrayRealVector;
+import org.hipparchus.linear.DecompositionSolver;
+import org.hipparchus.linear.MatrixDecomposer;
+import org.hipparchus.linear.QRDecomposer;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.linear.RealVector;
+import org.hipparchus.optim.ConvergenceChecker;
+import org.hipparchus.optim.nonlinear.vector.leastsquares.LeastSquaresOptimizer;
+import org.hipparchus.optim.nonlinear.vector.leastsquares.LeastSquaresProblem;
+import org.hipparchus.optim.nonlinear.vector.leastsquares.LeastSquaresProblem.Evaluation;
+import org.hipparchus.util.Incrementor;
+
+/** Gauss-Newton optimizer solving normal equations with elimination of local parameters.
+ * <p>
+ * When used in a {@link BatchLSEstimator}, this optimizer makes the model
+ * build a {@link SparseJacobianMatrix} instead of a dense matrix, so memory
+ * is proportional to the number of non-zero entries. At each iteration, the
+ * normal equations J<sup>T</sup>J δ = J<sup>T</sup>r are accumulated from the
+ * non-zero entries only.
+ * </p>
+ * <p>
+ * Parameters that are {@link SparseJacobianMatrix#getLocalBlocks() local} to one
+ * satellite (its orbit, its own propagation parameters, measurements parameters
+ * seen only by this satellite like per-pass biases) are then eliminated using
+ * Schur complements: each local block is factorized independently, the reduced
+ * system for the global parameters (shared force model parameters, station
+ * parameters) is solved, and local parameters are recovered by back substitution.
+ * When estimating many satellites simultaneously, this replaces one factorization
+ * of the full normal matrix by many small ones and a factorization whose size
+ * depends only on the number of global parameters.
+ * </p>
+ * <p>
+ * If the problem Jacobian is not a {@link SparseJacobianMatrix}, the normal
+ * equations are solved without elimination, like {@link
+ * org.hipparchus.optim.nonlinear.vector.leastsquares.GaussNewtonOptimizer
+ * GaussNewtonOptimizer} does with normal equations.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+public class SparseGaussNewtonOptimizer implements LeastSquaresOptimizer {
+
+    /** Decomposer for normal matrices blocks. */
+    private final MatrixDecomposer decomposer;
+
+    /** Build an optimizer using QR decomposition of normal matrices blocks.
+     */
+    public SparseGaussNewtonOptimizer() {
+        this(new QRDecomposer(1.0e-11));
+    }
+
+    /** Build an optimizer.
+     * @param decomposer decomposer for normal matrices blocks
+     */
+    public SparseGaussNewtonOptimizer(final MatrixDecomposer decomposer) {
+        this.decomposer = decomposer;
+    }
+
+    /** Get the decomposer.
+     * @return decomposer for normal matrices blocks
+     */
+    public MatrixDecomposer getDecomposer() {
+        return decomposer;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optimum optimize(final LeastSquaresProblem lsp) {
+
+        final Incrementor evaluationCounter = lsp.getEvaluationCounter();
+        final Incrementor iterationCounter  = lsp.getIterationCounter();
+        final ConvergenceChecker<Evaluation> checker = lsp.getConvergenceChecker();
+        if (checker == null) {
+            throw new NullArgumentException();
+        }
+
+        RealVector currentPoint = lsp.getStart();
+        Evaluation current      = null;
+        while (true) {
+
+            iterationCounter.increment();
+
+            // evaluate the objective function and its Jacobian
+            final Evaluation previous = current;
+            evaluationCounter.increment();
+            current      = lsp.evaluate(currentPoint);
+            currentPoint = current.getPoint();
+
+            // check convergence
+            if (previous != null && checker.converged(iterationCounter.getCount(), previous, current)) {
+                return Optimum.of(current, evaluationCounter.getCount(), iterationCounter.getCount());
+            }
+
+            // update parameters
+            currentPoint = currentPoint.add(solve(current.getJacobian(), current.getResiduals()));
+
+        }
+
+    }
+
+    /** Solve the normal equations.
+     * @param jacobian Jacobian matrix J
+     * @param residuals residuals r
+     * @return solution δ of J<sup>T</sup>J δ = J<sup>T</sup>r
+     */
+    private RealVector solve(final RealMatrix jacobian, final RealVector residuals) {
+
+        final RealMatrix normal = jacobian.transposeMultiply(jacobian);
+        final RealVector jTr    = jacobian.preMultiply(residuals);
+        final List<int[]> blocks = (jacobian instanceof SparseJacobianMatrix) ?
+                                   ((SparseJacobianMatrix) jacobian).getLocalBlocks() :
+                                   Collections.emptyList();
+
+        // identify global parameters
+        final boolean[] isLocal = new boolean[normal.getColumnDimension()];
+        int nbLocal = 0;
+        for (final int[] block : blocks) {
+            for (final int j : block) {
+                isLocal[j] = true;
+                ++nbLocal;
+            }
+        }
+        final int[] global = new int[isLocal.length - nbLocal];
+        for (int j = 0, k = 0; j < isLocal.length; ++j) {
+            if (!isLocal[j]) {
+                global[k++] = j;
+            }
+        }
+
+        // eliminate local blocks, building the reduced system for global parameters
+        RealMatrix         reducedNormal = global.length > 0 ? normal.getSubMatrix(global, global) : null;
+        final RealVector   reducedJTr    = subVector(jTr, global);
+        final RealMatrix[] coupling      = new RealMatrix[blocks.size()];
+        final RealVector[] partial       = new RealVector[blocks.size()];
+        for (int b = 0; b < blocks.size(); ++b) {
+            final int[] block = blocks.get(b);
+            final DecompositionSolver solver = decomposer.decompose(normal.getSubMatrix(block, block));
+            partial[b] = solver.solve(subVector(jTr, block));
+            if (global.length > 0) {
+                final RealMatrix blockGlobal = normal.getSubMatrix(block, global);
+                coupling[b] = solver.solve(blockGlobal);
+                reducedNormal = reducedNormal.subtract(blockGlobal.transposeMultiply(coupling[b]));
+                reducedJTr.combineToSelf(1.0, -1.0, blockGlobal.preMultiply(partial[b]));
+            }
+        }
+
+        // solve for global parameters
+        final RealVector delta = new ArrayRealVector(isLocal.length);
+        RealVector deltaGlobal = null;
+        if (global.length > 0) {
+            deltaGlobal = decomposer.decompose(reducedNormal).solve(reducedJTr);
+            for (int k = 0; k < global.length; ++k) {
+                delta.setEntry(global[k], deltaGlobal.getEntry(k));
+            }
+        }
+
+        // back-substitute local parameters
+        for (int b = 0; b < blocks.size(); ++b) {
+            final RealVector deltaLocal = deltaGlobal == null ?
+                                          partial[b] :
+                                          partial[b].subtract(coupling[b].operate(deltaGlobal));
+            final int[] block = blocks.get(b);
+            for (int k = 0; k < block.length; ++k) {
+                delta.setEntry(block[k], deltaLocal.getEntry(k));
+            }
+        }
+
+        return delta;
+
+    }
+
+    /** Extract a sub-vector.
+     * @param v vector
+     * @param indices indices of the elements to extract
+     * @return extracted sub-vector
+     */
+    private static RealVector subVector(final RealVector v, final int[] indices) {
+        final RealVector sub = new ArrayRealVector(indices.length);
+        for (int k = 0; k < indices.length; ++k) {
+            sub.setEntry(k, v.getEntry(indices[k]));
+        }
+        return sub;
+    }
+
+}
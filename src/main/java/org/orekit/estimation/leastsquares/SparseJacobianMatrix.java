@@ -0,0 +1,342 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.leastsquares;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.hipparchus.linear.AbstractRealMatrix;
+import org.hipparchus.linear.ArrayRealVector;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.linear.RealVector;
+import org.hipparchus.linear.SparseRealMatrix;
+
+/** Sparse Jacobian matrix for batch least squares problems.
+ * <p>
+ * In orbit determination, each measurement depends only on the orbits of the
+ * satellites it involves and on a few measurements parameters, so most of the
+ * Jacobian matrix is zero. This matrix stores only the non-zero entries of each
+ * row, and computes the normal matrix J<sup>T</sup>J and the vectors
+ * J<sup>T</sup>r with a cost proportional to the number of non-zero entries.
+ * </p>
+ * <p>
+ * Each row can also be associated with the index of the only satellite its
+ * measurement involves. This allows to identify {@link #getLocalBlocks() local
+ * blocks} of parameters that can be eliminated from normal equations using
+ * Schur complements.
+ * </p>
+ * @see SparseGaussNewtonOptimizer
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+public class SparseJacobianMatrix extends AbstractRealMatrix implements SparseRealMatrix {
+
+    /** Marker for rows not associated with a single satellite. */
+    public static final int SHARED = -1;
+
+    /** Initial capacity of rows. */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /** Number of columns. */
+    private final int columnDimension;
+
+    /** Columns indices of non-zero entries, per row. */
+    private final int[][] columns;
+
+    /** Values of non-zero entries, per row. */
+    private final double[][] values;
+
+    /** Number of non-zero entries, per row. */
+    private final int[] sizes;
+
+    /** Satellite owning each row. */
+    private final int[] owners;
+
+    /** Simple constructor.
+     * @param rowDimension number of rows
+     * @param columnDimension number of columns
+     */
+    public SparseJacobianMatrix(final int rowDimension, final int columnDimension) {
+        super(rowDimension, columnDimension);
+        this.columnDimension = columnDimension;
+        this.columns         = new int[rowDimension][];
+        this.values          = new double[rowDimension][];
+        this.sizes           = new int[rowDimension];
+        this.owners          = new int[rowDimension];
+        Arrays.fill(owners, SHARED);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return sizes.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return columnDimension;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SparseJacobianMatrix createMatrix(final int rows, final int cols) {
+        return new SparseJacobianMatrix(rows, cols);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SparseJacobianMatrix copy() {
+        final SparseJacobianMatrix copy = new SparseJacobianMatrix(getRowDimension(), columnDimension);
+        for (int i = 0; i < sizes.length; ++i) {
+            if (sizes[i] > 0) {
+                copy.columns[i] = Arrays.copyOf(columns[i], sizes[i]);
+                copy.values[i]  = Arrays.copyOf(values[i],  sizes[i]);
+                copy.sizes[i]   = sizes[i];
+            }
+        }
+        System.arraycopy(owners, 0, copy.owners, 0, owners.length);
+        return copy;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getEntry(final int row, final int column) {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        final int k = find(row, column);
+        return k < 0 ? 0.0 : values[row][k];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setEntry(final int row, final int column, final double value) {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        final int k = find(row, column);
+        if (k >= 0) {
+            values[row][k] = value;
+        } else if (value != 0.0) {
+            append(row, column, value);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addToEntry(final int row, final int column, final double increment) {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        final int k = find(row, column);
+        if (k >= 0) {
+            values[row][k] += increment;
+        } else if (increment != 0.0) {
+            append(row, column, increment);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void multiplyEntry(final int row, final int column, final double factor) {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        final int k = find(row, column);
+        if (k >= 0) {
+            values[row][k] *= factor;
+        }
+    }
+
+    /** Set the satellite owning a row.
+     * @param row row index
+     * @param owner index of the only satellite involved in the row measurement,
+     * or {@link #SHARED} if the measurement involves several satellites
+     */
+    public void setOwner(final int row, final int owner) {
+        owners[row] = owner;
+    }
+
+    /** Get the satellite owning a row.
+     * @param row row index
+     * @return index of the only satellite involved in the row measurement,
+     * or {@link #SHARED} if the measurement involves several satellites
+     */
+    public int getOwner(final int row) {
+        return owners[row];
+    }
+
+    /** Reset all entries to zero and all rows to {@link #SHARED}.
+     */
+    public void clear() {
+        Arrays.fill(sizes, 0);
+        Arrays.fill(owners, SHARED);
+    }
+
+    /** Get the number of non-zero entries.
+     * @return number of non-zero entries
+     */
+    public int getNonZeros() {
+        int nnz = 0;
+        for (final int size : sizes) {
+            nnz += size;
+        }
+        return nnz;
+    }
+
+    /** Identify local blocks of parameters.
+     * <p>
+     * A parameter is local to a satellite if all rows with a non-zero
+     * entry in its column are owned by this satellite. Local blocks of
+     * different satellites are therefore uncoupled in the normal matrix:
+     * they are only coupled to the remaining (global) parameters.
+     * </p>
+     * @return columns indices of local parameters, one array per satellite
+     * having local parameters, sorted by satellite index
+     */
+    public List<int[]> getLocalBlocks() {
+
+        // identify the owner of each column
+        final int unused = SHARED - 1;
+        final int[] columnOwners = new int[columnDimension];
+        Arrays.fill(columnOwners, unused);
+        for (int i = 0; i < sizes.length; ++i) {
+            for (int k = 0; k < sizes[i]; ++k) {
+                final int j = columns[i][k];
+                if (columnOwners[j] == unused) {
+                    columnOwners[j] = owners[i];
+                } else if (columnOwners[j] != owners[i]) {
+                    columnOwners[j] = SHARED;
+                }
+            }
+        }
+
+        // gather local columns per satellite
+        final Map<Integer, List<Integer>> map = new TreeMap<>();
+        for (int j = 0; j < columnDimension; ++j) {
+            if (columnOwners[j] >= 0) {
+                map.computeIfAbsent(columnOwners[j], o -> new ArrayList<>()).add(j);
+            }
+        }
+        final List<int[]> blocks = new ArrayList<>(map.size());
+        for (final List<Integer> block : map.values()) {
+            blocks.add(block.stream().mapToInt(Integer::intValue).toArray());
+        }
+        return blocks;
+
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * When {@code m} is this matrix itself, the normal matrix J<sup>T</sup>J
+     * is computed using only the non-zero entries.
+     * </p>
+     */
+    @Override
+    public RealMatrix transposeMultiply(final RealMatrix m) {
+        if (m != this) {
+            return super.transposeMultiply(m);
+        }
+        final double[][] normal = new double[columnDimension][columnDimension];
+        for (int i = 0; i < sizes.length; ++i) {
+            final int[]    c = columns[i];
+            final double[] v = values[i];
+            for (int k = 0; k < sizes[i]; ++k) {
+                final double[] normalRow = normal[c[k]];
+                for (int l = 0; l < sizes[i]; ++l) {
+                    normalRow[c[l]] += v[k] * v[l];
+                }
+            }
+        }
+        return MatrixUtils.createRealMatrix(normal);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v) {
+        if (v.length != columnDimension) {
+            return super.operate(v);
+        }
+        final double[] out = new double[sizes.length];
+        for (int i = 0; i < sizes.length; ++i) {
+            double sum = 0;
+            for (int k = 0; k < sizes[i]; ++k) {
+                sum += values[i][k] * v[columns[i][k]];
+            }
+            out[i] = sum;
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector operate(final RealVector v) {
+        return new ArrayRealVector(operate(v.toArray()), false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v) {
+        if (v.length != sizes.length) {
+            return super.preMultiply(v);
+        }
+        final double[] out = new double[columnDimension];
+        for (int i = 0; i < sizes.length; ++i) {
+            for (int k = 0; k < sizes[i]; ++k) {
+                out[columns[i][k]] += v[i] * values[i][k];
+            }
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector preMultiply(final RealVector v) {
+        return new ArrayRealVector(preMultiply(v.toArray()), false);
+    }
+
+    /** Find the index of an entry within its row.
+     * @param row row index
+     * @param column column index
+     * @return index of the entry within row storage, or -1 if entry is not stored
+     */
+    private int find(final int row, final int column) {
+        final int[] c = columns[row];
+        for (int k = 0; k < sizes[row]; ++k) {
+            if (c[k] == column) {
+                return k;
+            }
+        }
+        return -1;
+    }
+
+    /** Append an entry to a row.
+     * @param row row index
+     * @param column column index
+     * @param value entry value
+     */
+    private void append(final int row, final int column, final double value) {
+        if (columns[row] == null) {
+            columns[row] = new int[INITIAL_CAPACITY];
+            values[row]  = new double[INITIAL_CAPACITY];
+        } else if (sizes[row] == columns[row].length) {
+            columns[row] = Arrays.copyOf(columns[row], 2 * sizes[row]);
+            values[row]  = Arrays.copyOf(values[row],  2 * sizes[row]);
+        }
+        columns[row][sizes[row]] = column;
+        values[row][sizes[row]]  = value;
+        ++sizes[row];
+    }
+
+}
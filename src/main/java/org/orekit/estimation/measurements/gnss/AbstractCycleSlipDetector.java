@@ -17,36 +17,65 @@
 package org.orekit.estimation.measurements.gnss;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.hipparchus.util.FastMath;
 import org.orekit.gnss.Frequency;
 import org.orekit.gnss.ObservationDataSet;
+import org.orekit.gnss.RinexObservationHandler;
 import org.orekit.gnss.SatelliteSystem;
 import org.orekit.time.AbsoluteDate;
 
 /**
  * Base class for cycle-slip detectors.
+ * <p>
+ * Detectors can be used either in batch mode, by calling {@link #detect(List)}
+ * with all observations, or in streaming mode, by feeding them one epoch at a
+ * time through {@link #handleEpoch(List)} (for example directly from a {@link
+ * org.orekit.gnss.RinexObservationLoader RinexObservationLoader} or from a
+ * real-time stream). In both cases, data are processed in one single pass and
+ * only the last measurements for each satellite and frequency are retained, in
+ * fixed-size primitive ring buffers, so memory does not grow with the number of
+ * epochs. Cycle-slips can be reported as soon as they are detected using
+ * {@link #addHandler(CycleSlipHandler) handlers}.
+ * </p>
  * @author David Soulard
  * @since 10.2
  */
-public abstract class AbstractCycleSlipDetector implements CycleSlipDetectors {
+public abstract class AbstractCycleSlipDetector implements CycleSlipDetectors, RinexObservationHandler {
 
     /** Separator for satellite name. */
     private static final String SEPARATOR = " - ";
 
     /** Minimum number of measurement needed before being able to figure out cycle-slip occurrence.*/
-    private int minMeasurementNumber;
+    private final int minMeasurementNumber;
 
     /** Maximum time lapse between two measurements without considering a cycle-slip occurred [s]. */
     private final double dt;
 
     /** List which contains all the info regarding the cycle slip. */
-    private List<CycleSlipDetectorResults> data;
+    private final List<CycleSlipDetectorResults> data;
 
-    /** List of all the things use for cycle-slip detections. */
-    private List<Map<Frequency, DataForDetection>> stuff;
+    /** Data used for cycle-slip detections, per satellite and frequency. */
+    private final Map<String, Map<Frequency, DataForDetection>> stuff;
+
+    /** Results, per satellite. */
+    private final Map<String, CycleSlipDetectorResults> indexedData;
+
+    /** Handlers for detected cycle-slips. */
+    private final List<CycleSlipHandler> handlers;
+
+    /** Normal matrix for polynomial fitting. */
+    private double[][] normal;
+
+    /** Right hand side for polynomial fitting. */
+    private double[] rhs;
+
+    /** Powers of the abscissa for polynomial fitting. */
+    private double[] powers;
 
     /**
      * Cycle-slip detector Abstract Constructor.
@@ -58,7 +87,9 @@ public abstract class AbstractCycleSlipDetector implements CycleSlipDetectors {
         this.minMeasurementNumber = n;
         this.dt                   = dt;
         this.data                 = new ArrayList<>();
-        this.stuff                = new ArrayList<>();
+        this.stuff                = new HashMap<>();
+        this.indexedData          = new HashMap<>();
+        this.handlers             = new ArrayList<>();
     }
 
     /** {@inheritDoc} */
@@ -73,6 +104,41 @@ public abstract class AbstractCycleSlipDetector implements CycleSlipDetectors {
         return getResults();
     }
 
+    /** Process one epoch in streaming mode.
+     * <p>
+     * Epochs must be provided in chronological order. Handlers registered
+     * with {@link #addHandler(CycleSlipHandler)} are called as soon as
+     * cycle-slips are detected.
+     * </p>
+     * @param epoch observations data sets sharing the same date
+     * @since 11.4
+     */
+    @Override
+    public void handleEpoch(final List<ObservationDataSet> epoch) {
+        for (final ObservationDataSet observation : epoch) {
+            manageData(observation);
+        }
+    }
+
+    /** Add a handler for detected cycle-slips.
+     * @param handler handler to add
+     * @since 11.4
+     */
+    public void addHandler(final CycleSlipHandler handler) {
+        handlers.add(handler);
+    }
+
+    /** Get the results computed so far.
+     * <p>
+     * The returned list is updated as new epochs are processed.
+     * </p>
+     * @return results computed so far (one element per satellite)
+     * @since 11.4
+     */
+    public List<CycleSlipDetectorResults> getCurrentResults() {
+        return getResults();
+    }
+
     /**
      * The method is in charge of collecting the measurements, manage them, and call the detection method.
      * @param observation observation data set
@@ -103,51 +169,70 @@ public abstract class AbstractCycleSlipDetector implements CycleSlipDetectors {
         return data;
     }
 
-    /**
-     * Get the stuff (all the things needed for, the detector).
-     * @return return stuff
-     */
-    protected List<Map<Frequency, DataForDetection>> getStuffReference() {
-        return stuff;
-    }
-
-    /** Set the data: collect data at the current Date, at the current frequency, for a given satellite, add it within the attributes data and stuff.
+    /** Check a new measurement for cycle-slip and store it.
+     * <p>
+     * A cycle-slip is declared if the time gap with respect to the previous measurement
+     * exceeds the {@link #getMaxTimeBeetween2Measurement() maximum time lapse}, or if
+     * the polynomial fitted on the last {@link #getMinMeasurementNumber()} measurements
+     * predicts a value too far from the current measurement. In both cases, the ring
+     * buffer is restarted from the current measurement.
+     * </p>
      * @param nameSat name of the satellite (e.g. "GPS - 7")
      * @param date date of the measurement
      * @param value measurement at the current date
      * @param freq frequency used
+     * @param order order of the fitting polynomial
+     * @param threshold threshold above which cycle-slip occurs
+     * @return true if a cycle slip has been detected
+     * @since 11.4
      */
-    protected void cycleSlipDataSet(final String nameSat, final AbsoluteDate date,
-                                    final double value, final Frequency freq)  {
-        // Check if cycle-slip data are empty
-        if (data.isEmpty()) {
-            data.add(new CycleSlipDetectorResults(nameSat, date, freq));
+    protected boolean checkCycleSlip(final String nameSat, final AbsoluteDate date,
+                                     final double value, final Frequency freq,
+                                     final int order, final double threshold) {
+
+        final CycleSlipDetectorResults result = indexedData.get(nameSat);
+        if (result == null) {
+            // first measurement for this satellite
+            final CycleSlipDetectorResults newResult = new CycleSlipDetectorResults(nameSat, date, freq);
+            data.add(newResult);
+            indexedData.put(nameSat, newResult);
             final Map<Frequency, DataForDetection> newMap = new HashMap<>();
             newMap.put(freq, new DataForDetection(value, date));
-            stuff.add(newMap);
-        } else {
-            if (!alreadyExist(nameSat, freq)) {
-                // As the couple satellite-frequency, first possibility is that the satellite already exist within the data but not at this frequency
-                for (CycleSlipDetectorResults r: data) {
-                    if (r.getSatelliteName().compareTo(nameSat) == 0) {
-                        r.addAtOtherFrequency(freq, date);
-                        final Map<Frequency, DataForDetection> newMap = stuff.get(data.indexOf(r));
-                        newMap.put(freq, new DataForDetection(value, date));
-                        stuff.set(data.indexOf(r), newMap);
-                        return;
-                    }
-                }
-                //If w've reach this point is because the name does not exist, in this case another element in the two list should be added
-                data.add(new CycleSlipDetectorResults(nameSat, date, freq));
-                final Map<Frequency, DataForDetection> newMap = new HashMap<>();
-                newMap.put(freq, new DataForDetection(value, date));
-                stuff.add(newMap);
-            } else {
-                // We add the value of the combination of measurements
-                addValue(nameSat, date, value, freq);
+            stuff.put(nameSat, newMap);
+            return false;
+        }
+
+        final Map<Frequency, DataForDetection> values = stuff.get(nameSat);
+        final DataForDetection detection = values.get(freq);
+        if (detection == null) {
+            // first measurement for this satellite at this frequency
+            result.addAtOtherFrequency(freq, date);
+            values.put(freq, new DataForDetection(value, date));
+            return false;
+        }
+
+        // Check the time gap condition
+        final double current = date.durationFrom(detection.reference);
+        boolean slip = FastMath.abs(current - detection.times[detection.write]) > dt;
+
+        // Compute the fitting polynomial if there are enough measurement since last cycle-slip
+        if (!slip && detection.canBeComputed >= minMeasurementNumber) {
+            slip = FastMath.abs(fit(detection, current, order) - value) > threshold;
+        }
+
+        result.setDate(freq, date);
+        if (slip) {
+            result.addCycleSlipDate(freq, date);
+            detection.reset(value, date);
+            for (final CycleSlipHandler handler : handlers) {
+                handler.handleCycleSlip(result, freq, date);
             }
+        } else {
+            detection.add(value, current);
         }
 
+        return slip;
+
     }
 
     /**
@@ -160,100 +245,119 @@ public abstract class AbstractCycleSlipDetector implements CycleSlipDetectors {
         return sys.name() + SEPARATOR + numSat;
     }
 
-    /**
-     * Return true if the link (defined by a frequency and a satellite) has been already built.
-     * @param nameSat name of the satellite (e.g.: GPS - 07 for satelite 7 of GPS constellation).
-     * @param freq frequency used in the link
-     * @return true if it already exists within attribute data
+    /** Evaluate at current time a least squares polynomial fitted on the ring buffer.
+     * <p>
+     * The normal equations are solved in place, with abscissae scaled to [-1, 0]
+     * to keep them well conditioned, so no object is allocated per measurement.
+     * </p>
+     * @param detection data for detection
+     * @param current current time offset with respect to ring buffer reference
+     * @param order order of the fitting polynomial
+     * @return value of the fitted polynomial at current time
      */
-    private boolean alreadyExist(final String nameSat, final Frequency freq) {
-        if (data != null) {
-            for (CycleSlipDetectorResults result: data) {
-                if (result.getSatelliteName().compareTo(nameSat) == 0) {
-                    return result.getCycleSlipMap().containsKey(freq);
+    private double fit(final DataForDetection detection, final double current, final int order) {
+
+        final int m = order + 1;
+        if (rhs == null || rhs.length != m) {
+            normal = new double[m][m];
+            rhs    = new double[m];
+            powers = new double[m];
+        }
+
+        // scaling of abscissae
+        double span = 0;
+        for (final double t : detection.times) {
+            span = FastMath.max(span, current - t);
+        }
+        final double scale = span > 0 ? 1.0 / span : 1.0;
+
+        // accumulate normal equations
+        for (int i = 0; i < m; ++i) {
+            Arrays.fill(normal[i], 0.0);
+        }
+        Arrays.fill(rhs, 0.0);
+        for (int k = 0; k < detection.times.length; ++k) {
+            final double x = (detection.times[k] - current) * scale;
+            powers[0] = 1.0;
+            for (int i = 1; i < m; ++i) {
+                powers[i] = powers[i - 1] * x;
+            }
+            for (int i = 0; i < m; ++i) {
+                rhs[i] += powers[i] * detection.values[k];
+                for (int j = 0; j <= i; ++j) {
+                    normal[i][j] += powers[i] * powers[j];
                 }
             }
         }
-        return false;
-    }
-
-    /**
-     * Add a value the data.
-     * @param nameSat name of the satellite (satellite system - PRN)
-     * @param date date of the measurement
-     * @param value phase measurement minus code measurement
-     * @param frequency frequency use
-     */
-    private void addValue(final String nameSat, final AbsoluteDate date,
-                          final double value, final Frequency frequency) {
-        // Loop on cycle-slip data
-        for (CycleSlipDetectorResults result: data) {
-            // Find the good position to add the data
-            if (result.getSatelliteName().compareTo(nameSat) == 0 && result.getCycleSlipMap().containsKey(frequency)) {
-                // The date is not to far away from the last one
-                final Map<Frequency, DataForDetection> valuesMap = stuff.get(data.indexOf(result));
-                final DataForDetection detect = valuesMap.get(frequency);
-                detect.write                  = (detect.write + 1) % minMeasurementNumber;
-                detect.figures[detect.write]  = new SlipComputationData(value, date);
-                result.setDate(frequency, date);
-                detect.canBeComputed++;
-                break;
+        for (int i = 0; i < m; ++i) {
+            for (int j = i + 1; j < m; ++j) {
+                normal[i][j] = normal[j][i];
             }
         }
-    }
-
-    /**
-     * Container for computed if cycle-slip occurs.
-     * @author David Soulard
-     */
-    static class SlipComputationData {
 
-        /** Value of the measurement. */
-        private double value;
-
-        /** Date of measurement. */
-        private AbsoluteDate date;
-
-        /**
-         * Simple constructor.
-         * @param value value of the measurement
-         * @param date date of the measurement
-         */
-        SlipComputationData(final double value, final AbsoluteDate date) {
-            this.value  = value;
-            this.date   = date;
+        // Gauss elimination with partial pivoting
+        for (int p = 0; p < m; ++p) {
+            int best = p;
+            for (int i = p + 1; i < m; ++i) {
+                if (FastMath.abs(normal[i][p]) > FastMath.abs(normal[best][p])) {
+                    best = i;
+                }
+            }
+            if (normal[best][p] == 0.0) {
+                // degenerate fit, cannot decide
+                return Double.NaN;
+            }
+            final double[] tmpRow = normal[p];
+            normal[p]    = normal[best];
+            normal[best] = tmpRow;
+            final double tmpRhs = rhs[p];
+            rhs[p]    = rhs[best];
+            rhs[best] = tmpRhs;
+            for (int i = p + 1; i < m; ++i) {
+                final double factor = normal[i][p] / normal[p][p];
+                for (int j = p; j < m; ++j) {
+                    normal[i][j] -= factor * normal[p][j];
+                }
+                rhs[i] -= factor * rhs[p];
+            }
         }
 
-        /**
-         * Get the value of the measurement.
-         * @return value of the measurement
-         */
-        protected double getValue() {
-            return value;
+        // back substitution, down to the constant term which is the value at current time
+        for (int i = m - 1; i >= 0; --i) {
+            double sum = rhs[i];
+            for (int j = i + 1; j < m; ++j) {
+                sum -= normal[i][j] * rhs[j];
+            }
+            rhs[i] = sum / normal[i][i];
         }
+        return rhs[0];
 
-        /**
-         * Get the date of measurement saved within this.
-         * @return date of measurement saved within this
-         */
-        protected AbsoluteDate getDate() {
-            return date;
-        }
     }
 
     /**
      * Container for all the data need for doing cycle-slip detection.
+     * <p>
+     * Measurements are stored in fixed-size primitive ring buffers, with
+     * dates stored as offsets with respect to the first measurement
+     * since last cycle-slip.
+     * </p>
      * @author David Soulard
      */
-    class DataForDetection {
+    private class DataForDetection {
+
+        /** Reference date for time offsets. */
+        private AbsoluteDate reference;
+
+        /** Time offsets of measurements with respect to reference date. */
+        private final double[] times;
 
-        /** Array used to compute cycle slip. */
-        private SlipComputationData[] figures;
+        /** Values of measurements. */
+        private final double[] values;
 
-        /** Integer to make the array above circular. */
+        /** Integer to make the arrays above circular. */
         private int write;
 
-        /** Integer to know how many data have been added since last cycle-slip. */
+        /** Integer to know how many data have been added since last cycle-slip (capped to the ring buffer size). */
         private int canBeComputed;
 
         /**
@@ -262,49 +366,37 @@ public abstract class AbstractCycleSlipDetector implements CycleSlipDetectors {
          * @param date date at which measurements are taken.
          */
         DataForDetection(final double value, final AbsoluteDate date) {
-            this.figures       = new SlipComputationData[minMeasurementNumber];
-            this.figures[0]    = new SlipComputationData(value, date);
-            this.canBeComputed = 1;
-            this.write         = 0;
-        }
-
-        /**
-         * Get the array of values used for computation of cycle-slip detectors.
-         * @return SlipComputationDatat array
-         */
-        protected SlipComputationData[] getFiguresReference() {
-            return figures;
-        }
-
-        /**
-         * Get the reference of the counter of position into the array.
-         * @return the position on which writing should occur within the circular array figures.
-         */
-        protected int getWrite() {
-            return write;
-        }
-
-        /**
-         * Get the counter on the number of measurement which have been saved up to the current date.
-         * @return the number of measurement which have been saved up to the current date
-         */
-        protected int getCanBeComputed() {
-            return canBeComputed;
+            this.times  = new double[minMeasurementNumber];
+            this.values = new double[minMeasurementNumber];
+            reset(value, date);
         }
 
         /**
          * Reset this to the initial value when a cycle slip occurs.
-         * The first element is already setting with a value and a date
-         * @param newF new SlipComputationData[] to be used within the detector
          * @param value to be added in the first element of the array
          * @param date at which the value is given.
          */
-        protected void resetFigures(final SlipComputationData[] newF, final double value, final AbsoluteDate date) {
-            this.figures        = newF;
-            this.figures[0]     = new SlipComputationData(value, date);
-            this.write          = 0;
-            this.canBeComputed  = 1;
+        void reset(final double value, final AbsoluteDate date) {
+            this.reference     = date;
+            this.times[0]      = 0.0;
+            this.values[0]     = value;
+            this.write         = 0;
+            this.canBeComputed = 1;
+        }
+
+        /** Add a measurement.
+         * @param value measurement
+         * @param time time offset with respect to reference date
+         */
+        void add(final double value, final double time) {
+            write         = (write + 1) % minMeasurementNumber;
+            times[write]  = time;
+            values[write] = value;
+            if (canBeComputed < minMeasurementNumber) {
+                ++canBeComputed;
+            }
         }
 
     }
+
 }
@@ -0,0 +1,37 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.measurements.gnss;
+
+import org.orekit.gnss.Frequency;
+import org.orekit.time.AbsoluteDate;
+
+/** Handler for cycle-slips detected in streaming mode.
+ * @see AbstractCycleSlipDetector#addHandler(CycleSlipHandler)
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+@FunctionalInterface
+public interface CycleSlipHandler {
+
+    /** Handle a cycle-slip as soon as it is detected.
+     * @param results results for the satellite, updated up to current date
+     * @param frequency frequency at which the cycle-slip occurred
+     * @param date date of the cycle-slip
+     */
+    void handleCycleSlip(CycleSlipDetectorResults results, Frequency frequency, AbsoluteDate date);
+
+}
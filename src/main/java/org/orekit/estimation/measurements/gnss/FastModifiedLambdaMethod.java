@@ -0,0 +1,660 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.measurements.gnss;
+
+import java.util.Arrays;
+
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.special.Erf;
+import org.hipparchus.util.FastMath;
+
+/** High throughput implementation of the Modified LAMBDA method.
+ * <p>
+ * This class implements the same algorithms as {@link ModifiedLambdaMethod}
+ * (LᵀDL decomposition with minimum symmetric pivoting, MLAMBDA reduction and
+ * search), and therefore finds the same solutions, but it is designed for
+ * solving many large problems, as in network RTK where many tens of ambiguities
+ * must be fixed at each epoch:
+ * </p>
+ * <ul>
+ *   <li>the decomposition and decorrelation are performed in place in packed arrays,</li>
+ *   <li>all work arrays are allocated once and reused from one problem to the next
+ *   (they grow only if a problem larger than all previous ones is solved),</li>
+ *   <li>candidates found during search are stored in preallocated primitive arrays
+ *   instead of being wrapped in {@link IntegerLeastSquareSolution} instances
+ *   managed in a sorted set.</li>
+ * </ul>
+ * <p>
+ * The {@link #solve(int, double[], int[], RealMatrix) solve} and {@link #solvePartial(int,
+ * double, double[], int[], RealMatrix) solvePartial} methods together with the {@link
+ * #getSolution(int, double[])} and {@link #getSquaredDistance(int)} accessors do not allocate
+ * any memory once the work arrays have been sized. The {@link #solveILS(int, double[], int[],
+ * RealMatrix) solveILS} method from the {@link IntegerLeastSquareSolver} interface is also
+ * available, so this class can be used by {@link AmbiguitySolver}.
+ * </p>
+ * <p>
+ * Partial ambiguity resolution is supported: {@link #solvePartial(int, double, double[],
+ * int[], RealMatrix) solvePartial} fixes only the largest subset of decorrelated ambiguities,
+ * taken in search order (i.e. starting from the last one, which after reduction have the
+ * smallest conditional variances), whose bootstrapped success rate is above a user threshold,
+ * the remaining ambiguities being set to their float values conditioned on the fixed ones.
+ * </p>
+ * <p>
+ * As work arrays are reused, instances of this class are <em>not</em> thread-safe.
+ * </p>
+ * @see ModifiedLambdaMethod
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+public class FastModifiedLambdaMethod implements IntegerLeastSquareSolver {
+
+    /** Threshold for considering a rounded value to be non-zero. */
+    private static final double MU_THRESHOLD = 1.0e-9;
+
+    /** Current number of ambiguities. */
+    private int n;
+
+    /** Number of fixed decorrelated ambiguities (the last ones). */
+    private int fixed;
+
+    /** Bootstrapped success rate of the fixed subset. */
+    private double successRate;
+
+    /** Decorrelated ambiguities. */
+    private double[] decorrelated;
+
+    /** Lower triangular matrix with unit diagonal, in row order (unit diagonal not stored). */
+    private double[] low;
+
+    /** Diagonal matrix. */
+    private double[] diag;
+
+    /** Z⁻¹ transformation matrix, in row order. */
+    private int[] zInverse;
+
+    /** Permutation used in decomposition. */
+    private int[] perm;
+
+    /** Current integer candidate during search. */
+    private long[] z;
+
+    /** Conditional estimates during search. */
+    private double[] zb;
+
+    /** Residuals during search. */
+    private double[] y;
+
+    /** Search path. */
+    private int[] path;
+
+    /** Search steps. */
+    private double[] step;
+
+    /** Partial distances during search. */
+    private double[] dist;
+
+    /** Lower triangular matrix, in column order (unit diagonal not stored), for search. */
+    private double[] lowByColumns;
+
+    /** Inverse of diagonal matrix, for search. */
+    private double[] invDiag;
+
+    /** Partial conditional corrections during search (lower triangular, in column order). */
+    private double[] lS;
+
+    /** Conditional corrections during search. */
+    private double[] dS;
+
+    /** Candidates found, sorted by increasing squared distance, each one using n slots. */
+    private long[] candidates;
+
+    /** Squared distances of candidates found. */
+    private double[] distances;
+
+    /** Number of candidates found. */
+    private int nbCandidates;
+
+    /** Simple constructor.
+     */
+    public FastModifiedLambdaMethod() {
+        n     = 0;
+        fixed = 0;
+        ensureCapacity(0, 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public IntegerLeastSquareSolution[] solveILS(final int nbSol, final double[] floatAmbiguities,
+                                                 final int[] indirection, final RealMatrix covariance) {
+        final int nbFound = solve(nbSol, floatAmbiguities, indirection, covariance);
+        final IntegerLeastSquareSolution[] solutions = new IntegerLeastSquareSolution[nbFound];
+        for (int k = 0; k < nbFound; ++k) {
+            final long[] a = new long[n];
+            final int offset = k * n;
+            for (int i = 0; i < n; ++i) {
+                // compute a = Z⁻ᵀ.s
+                long ai = 0;
+                for (int j = 0; j < n; ++j) {
+                    ai += zInverse[j * n + i] * candidates[offset + j];
+                }
+                a[i] = ai;
+            }
+            solutions[k] = new IntegerLeastSquareSolution(a, distances[k]);
+        }
+        return solutions;
+    }
+
+    /** Solve an Integer Least Square problem, fixing all ambiguities.
+     * @param nbSol number of solutions to search for
+     * @param floatAmbiguities float estimates of ambiguities
+     * @param indirection indirection array to extract ambiguity covariances from global covariance matrix
+     * @param covariance global covariance matrix (includes ambiguities among other parameters)
+     * @return number of solutions found (at most {@code nbSol}), available
+     * through {@link #getSolution(int, double[])} and {@link #getSquaredDistance(int)}
+     */
+    public int solve(final int nbSol, final double[] floatAmbiguities,
+                     final int[] indirection, final RealMatrix covariance) {
+        return solvePartial(nbSol, 0.0, floatAmbiguities, indirection, covariance);
+    }
+
+    /** Solve an Integer Least Square problem, fixing only a subset of decorrelated ambiguities.
+     * <p>
+     * After decorrelation, the largest subset of decorrelated ambiguities
+     * (taken in search order) whose bootstrapped success rate is at least {@code minSuccessRate}
+     * is fixed, the other ones are conditioned on the fixed ones. Setting
+     * {@code minSuccessRate} to 0 fixes all ambiguities.
+     * </p>
+     * @param nbSol number of solutions to search for
+     * @param minSuccessRate minimum bootstrapped success rate for the fixed subset
+     * @param floatAmbiguities float estimates of ambiguities
+     * @param indirection indirection array to extract ambiguity covariances from global covariance matrix
+     * @param covariance global covariance matrix (includes ambiguities among other parameters)
+     * @return number of solutions found (at most {@code nbSol}), available
+     * through {@link #getSolution(int, double[])} and {@link #getSquaredDistance(int)}
+     * (0 if even the most precise decorrelated ambiguity does not reach the success rate)
+     * @see #getFixedNumber()
+     * @see #getSuccessRate()
+     */
+    public int solvePartial(final int nbSol, final double minSuccessRate,
+                            final double[] floatAmbiguities, final int[] indirection,
+                            final RealMatrix covariance) {
+
+        // initialize the ILS problem search
+        n = floatAmbiguities.length;
+        ensureCapacity(n, nbSol);
+        System.arraycopy(floatAmbiguities, 0, decorrelated, 0, n);
+        Arrays.fill(zInverse, 0, n * n, 0);
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < i; ++j) {
+                low[lIndex(i, j)] = covariance.getEntry(indirection[i], indirection[j]);
+            }
+            diag[i] = covariance.getEntry(indirection[i], indirection[i]);
+        }
+
+        // perform Q = ZᵀLᵀDLZ decomposition and decorrelation/reduction
+        ltdlDecomposition();
+        reduction();
+
+        // select the subset of decorrelated ambiguities to fix
+        fixed       = 0;
+        successRate = 1.0;
+        for (int i = n - 1; i >= 0; --i) {
+            final double rate = successRate * Erf.erf(0.5 / FastMath.sqrt(2 * diag[i]));
+            if (rate < minSuccessRate) {
+                break;
+            }
+            successRate = rate;
+            ++fixed;
+        }
+
+        // perform discrete search on the fixed subset
+        nbCandidates = 0;
+        if (fixed > 0) {
+            discreteSearch(nbSol, n - fixed);
+        }
+        return nbCandidates;
+
+    }
+
+    /** Get the number of decorrelated ambiguities fixed in last resolution.
+     * @return number of decorrelated ambiguities fixed in last resolution
+     * (equal to the number of ambiguities for full resolution)
+     */
+    public int getFixedNumber() {
+        return fixed;
+    }
+
+    /** Get the bootstrapped success rate of the subset fixed in last resolution.
+     * @return bootstrapped success rate of the subset fixed in last resolution
+     */
+    public double getSuccessRate() {
+        return successRate;
+    }
+
+    /** Get the squared distance of one solution to the float solution.
+     * <p>
+     * For partial resolution, the distance only involves the fixed subset.
+     * </p>
+     * @param k index of the solution (solutions are sorted by increasing squared distance)
+     * @return squared distance of the solution to the float solution
+     */
+    public double getSquaredDistance(final int k) {
+        return distances[k];
+    }
+
+    /** Get one solution.
+     * <p>
+     * For full resolution, all components are integers. For partial resolution,
+     * components are the float ambiguities conditioned on the fixed subset.
+     * </p>
+     * @param k index of the solution (solutions are sorted by increasing squared distance)
+     * @param ambiguities placeholder where to put the ambiguities (at least as large as the problem)
+     */
+    public void getSolution(final int k, final double[] ambiguities) {
+
+        // compute the decorrelated ambiguities, conditioned on the fixed ones
+        final int first  = n - fixed;
+        final int offset = k * n;
+        for (int i = n - 1; i >= 0; --i) {
+            double conditional = decorrelated[i];
+            for (int j = i + 1; j < n; ++j) {
+                conditional -= y[j] * low[lIndex(j, i)];
+            }
+            zb[i] = i >= first ? candidates[offset + i] : conditional;
+            y[i]  = conditional - zb[i];
+        }
+
+        // compute a = Z⁻ᵀ.s
+        for (int i = 0; i < n; ++i) {
+            double ai = 0;
+            for (int j = 0; j < n; ++j) {
+                ai += zInverse[j * n + i] * zb[j];
+            }
+            ambiguities[i] = ai;
+        }
+
+    }
+
+    /** Compute the LᵀDL factorization with minimum symmetric pivoting of Q: Q = ZᵀLᵀDLZ.
+     */
+    private void ltdlDecomposition() {
+
+        for (int i = 0; i < n; i++) {
+            perm[i] = i;
+        }
+
+        for (int k = n - 1; k >= 0; k--) {
+
+            // find the smallest diagonal element
+            int q = 0;
+            for (int i = 1; i <= k; i++) {
+                if (diag[q] > diag[i]) {
+                    q = i;
+                }
+            }
+
+            // symmetric permutation of rows/columns q and k
+            if (q < k) {
+                swap(perm, k, q);
+                swap(decorrelated, k, q);
+                swap(diag, k, q);
+                for (int j = 0; j < q; j++) {
+                    swap(low, lIndex(k, j), lIndex(q, j));
+                }
+                for (int j = q + 1; j < k; j++) {
+                    swap(low, lIndex(k, j), lIndex(j, q));
+                }
+                for (int i = k + 1; i < n; i++) {
+                    swap(low, lIndex(i, k), lIndex(i, q));
+                }
+            }
+
+            if (k > 0) {
+                // W(k, 0:k-1) = W(k, 0:k-1) / W(k, k)
+                final double wkk = diag[k];
+                final int rowK = lIndex(k, 0);
+                for (int j = 0; j < k; j++) {
+                    low[rowK + j] = low[rowK + j] / wkk;
+                }
+                // W(0:k-1, 0:k-1) = W(0:k-1, 0:k-1) - W(k, 0:k-1)ᵀ W(k, k) W(k, 0:k-1)
+                for (int i = 0; i < k; i++) {
+                    final double lki = low[rowK + i];
+                    final int    rowI = lIndex(i, 0);
+                    for (int j = 0; j < i; j++) {
+                        low[rowI + j] = low[rowI + j] - lki * low[rowK + j] * wkk;
+                    }
+                    diag[i] = diag[i] - lki * lki * wkk;
+                }
+            }
+
+        }
+
+        for (int j = 0; j < n; j++) {
+            zInverse[j * n + perm[j]] = 1;
+        }
+
+    }
+
+    /** Perform MLAMBDA reduction.
+     */
+    private void reduction() {
+        int k = n - 2;
+        while (k > -1) {
+            final int kp1 = k + 1;
+            double tmp = low[lIndex(kp1, k)];
+            final double mu = FastMath.rint(tmp);
+            if (FastMath.abs(mu) > MU_THRESHOLD) {
+                tmp -= mu;
+            }
+            final double delta = diag[k] + tmp * tmp * diag[kp1];
+            if (delta < diag[kp1]) {
+                integerGaussTransformation(kp1, k);
+                if (mu > 0) {
+                    for (int i = k + 2; i < n; i++) {
+                        integerGaussTransformation(i, k);
+                    }
+                }
+                permutation(k, delta);
+                if (k < n - 2) {
+                    k++;
+                }
+            } else {
+                k--;
+            }
+        }
+    }
+
+    /** Perform one integer Gauss transformation.
+     * @param row row index (counting from 0)
+     * @param col column index (counting from 0)
+     */
+    private void integerGaussTransformation(final int row, final int col) {
+        final int mu = (int) FastMath.rint(low[lIndex(row, col)]);
+        if (mu != 0) {
+
+            // update low triangular matrix (post-multiplying L by Zᵢⱼ = I - μ eᵢ eⱼᵀ)
+            low[lIndex(row, col)] -= mu;
+            for (int i = row + 1; i < n; ++i) {
+                low[lIndex(i, col)] -= mu * low[lIndex(i, row)];
+            }
+
+            // update Z⁻¹ transformation matrix (pre-multiplying Z⁻¹ by Zᵢⱼ⁻¹ = I + μ eᵢ eⱼᵀ)
+            final int rowOffset = row * n;
+            final int colOffset = col * n;
+            for (int i = 0; i < n; ++i) {
+                zInverse[rowOffset + i] += mu * zInverse[colOffset + i];
+            }
+
+            // update decorrelated ambiguities estimates (pre-multiplying a by  Zᵢⱼᵀ = I - μ eⱼ eᵢᵀ)
+            decorrelated[col] -= mu * decorrelated[row];
+
+        }
+    }
+
+    /** Perform one symmetric permutation involving rows/columns {@code k0} and {@code k0+1}.
+     * @param k0 diagonal index (counting from 0)
+     * @param delta new value for diag[k0+1]
+     */
+    private void permutation(final int k0, final double delta) {
+
+        final int    k1        = k0 + 1;
+        final int    indexk1k0 = lIndex(k1, k0);
+        final double lk1k0     = low[indexk1k0];
+        final double eta       = diag[k0] / delta;
+        final double lambda    = diag[k1] * lk1k0 / delta;
+
+        // update diagonal
+        diag[k0] = eta * diag[k1];
+        diag[k1] = delta;
+
+        // update low triangular matrix
+        for (int j = 0; j < k0; ++j) {
+            final int indexk0j = lIndex(k0, j);
+            final int indexk1j = lIndex(k1, j);
+            final double lk0j  = low[indexk0j];
+            final double lk1j  = low[indexk1j];
+            low[indexk0j]      = lk1j          - lk1k0 * lk0j;
+            low[indexk1j]      = lambda * lk1j + eta   * lk0j;
+        }
+        low[indexk1k0] = lambda;
+        for (int i = k0 + 2; i < n; ++i) {
+            final int indexik0 = lIndex(i, k0);
+            swap(low, indexik0, indexik0 + 1);
+        }
+
+        // update Z⁻¹ transformation matrix
+        for (int i = 0; i < n; ++i) {
+            final int indexk0i = k0 * n + i;
+            final int tmp      = zInverse[indexk0i];
+            zInverse[indexk0i]     = zInverse[indexk0i + n];
+            zInverse[indexk0i + n] = tmp;
+        }
+
+        // update decorrelated ambiguities
+        swap(decorrelated, k0, k1);
+
+    }
+
+    /** Search the best solutions to the Integer Least Square problem.
+     * @param maxSolutions maximum number of solutions
+     * @param first index of the first fixed decorrelated ambiguity
+     */
+    private void discreteSearch(final int maxSolutions, final int first) {
+
+        // prepare search-friendly layout: column k of L (rows k+1 to n-1) is stored
+        // contiguously, so the conditional updates below run on consecutive elements
+        for (int k = 0; k < n; ++k) {
+            final int start = cIndex(k + 1, k);
+            for (int j = k + 1; j < n; ++j) {
+                lowByColumns[start + j - k - 1] = low[lIndex(j, k)];
+            }
+            invDiag[k] = 1.0 / diag[k];
+        }
+
+        Arrays.fill(path, 0, n, n - 1);
+        Arrays.fill(dist, 0, n + 1, 0.0);
+        Arrays.fill(lS, 0, (n * (n - 1)) / 2, 0.0);
+        Arrays.fill(dS, 0, n, 0.0);
+        double maxDist    = Double.POSITIVE_INFINITY;
+        int count         = 0;
+        boolean endSearch = false;
+        int ulevel        = first;
+
+        // determine which level to move to after z(first) is chosen
+        final int k0 = (maxSolutions == 1 && first < n - 1) ? first + 1 : first;
+
+        // initialization at level n
+        zb[n - 1]   = decorrelated[n - 1];
+        z[n - 1]    = (long) FastMath.rint(zb[n - 1]);
+        y[n - 1]    = zb[n - 1] - z[n - 1];
+        step[n - 1] = sign(y[n - 1]);
+        int k = n - 1;
+        while (!endSearch) {
+            for (int i = ulevel; i <= k - 1; i++) {
+                path[i] = k;
+            }
+            for (int j = ulevel - 1; j >= first; j--) {
+                if (path[j] < k) {
+                    path[j] = k;
+                } else {
+                    break;
+                }
+            }
+            double newDist = dist[k] + y[k] * y[k] * invDiag[k];
+            while (newDist < maxDist) {
+                if (k != first) {
+                    // move to level k-1
+                    k--;
+                    dist[k] = newDist;
+                    final int start = cIndex(k + 1, k);
+                    for (int index = cIndex(path[k], k); index > start; --index) {
+                        lS[index - 1] = lS[index] - y[index - start + k + 1] * lowByColumns[index];
+                    }
+                    dS[k] = lS[start] - y[k + 1] * lowByColumns[start];
+                    zb[k]   = decorrelated[k] + dS[k];
+                    z[k]    = (long) FastMath.rint(zb[k]);
+                    y[k]    = zb[k] - z[k];
+                    step[k] = sign(y[k]);
+                } else {
+                    // save the value of one candidate
+                    if (count < maxSolutions - 1) {
+                        addCandidate(newDist);
+                        count++;
+                    } else if (count == maxSolutions - 1) {
+                        addCandidate(newDist);
+                        maxDist = distances[nbCandidates - 1];
+                        count++;
+                    } else {
+                        // replace the candidate with the greatest distance
+                        --nbCandidates;
+                        addCandidate(newDist);
+                        maxDist = distances[nbCandidates - 1];
+                    }
+                    k       = k0;
+                    z[k]    = z[k] + (long) step[k];
+                    y[k]    = zb[k] - z[k];
+                    step[k] = -step[k] - sign(step[k]);
+                }
+                newDist = dist[k] + y[k] * y[k] * invDiag[k];
+            }
+            ulevel = k;
+            // exit or move to level k+1
+            while (newDist >= maxDist) {
+                if (k == n - 1) {
+                    endSearch = true;
+                    break;
+                }
+                k++;
+                z[k]    = z[k] + (long) step[k];
+                y[k]    = zb[k] - z[k];
+                step[k] = -step[k] - sign(step[k]);
+                newDist = dist[k] + y[k] * y[k] * invDiag[k];
+            }
+        }
+
+    }
+
+    /** Add the current candidate, keeping candidates sorted by increasing distance.
+     * <p>
+     * Candidates with a distance exactly equal to an already stored one are ignored.
+     * </p>
+     * @param squaredNorm squared distance to the float solution
+     */
+    private void addCandidate(final double squaredNorm) {
+
+        // find insertion point
+        int index = nbCandidates;
+        while (index > 0 && distances[index - 1] >= squaredNorm) {
+            if (distances[index - 1] == squaredNorm) {
+                return;
+            }
+            --index;
+        }
+
+        // shift larger candidates
+        for (int i = nbCandidates; i > index; --i) {
+            distances[i] = distances[i - 1];
+        }
+        System.arraycopy(candidates, index * n, candidates, (index + 1) * n, (nbCandidates - index) * n);
+
+        // store new candidate
+        distances[index] = squaredNorm;
+        System.arraycopy(z, 0, candidates, index * n, n);
+        ++nbCandidates;
+
+    }
+
+    /** Ensure work arrays are large enough.
+     * @param size problem size
+     * @param nbSol maximum number of solutions
+     */
+    private void ensureCapacity(final int size, final int nbSol) {
+        if (diag == null || diag.length < size) {
+            decorrelated = new double[size];
+            low          = new double[(size * (size - 1)) / 2];
+            diag         = new double[size];
+            zInverse     = new int[size * size];
+            perm         = new int[size];
+            z            = new long[size];
+            zb           = new double[size];
+            y            = new double[size];
+            path         = new int[size];
+            step         = new double[size];
+            dist         = new double[size + 1];
+            lowByColumns = new double[(size * (size - 1)) / 2];
+            invDiag      = new double[size];
+            lS           = new double[(size * (size - 1)) / 2];
+            dS           = new double[size];
+            candidates   = new long[0];
+        }
+        if (distances == null || distances.length < nbSol) {
+            distances = new double[nbSol];
+        }
+        if (candidates.length < nbSol * size) {
+            candidates = new long[nbSol * size];
+        }
+    }
+
+    /** Get the index of an entry in the lower triangular matrix.
+     * @param row row index (counting from 0)
+     * @param col column index (counting from 0)
+     * @return index in the single dimension array
+     */
+    private static int lIndex(final int row, final int col) {
+        return (row * (row - 1)) / 2 + col;
+    }
+
+    /** Get the index of an entry in the lower triangular matrix stored by columns.
+     * @param row row index (counting from 0)
+     * @param col column index (counting from 0)
+     * @return index in the single dimension array
+     */
+    private int cIndex(final int row, final int col) {
+        return col * (2 * n - col - 1) / 2 + row - col - 1;
+    }
+
+    /** Swap two elements.
+     * @param array array to modify
+     * @param i index of first element
+     * @param j index of second element
+     */
+    private static void swap(final double[] array, final int i, final int j) {
+        final double tmp = array[i];
+        array[i] = array[j];
+        array[j] = tmp;
+    }
+
+    /** Swap two elements.
+     * @param array array to modify
+     * @param i index of first element
+     * @param j index of second element
+     */
+    private static void swap(final int[] array, final int i, final int j) {
+        final int tmp = array[i];
+        array[i] = array[j];
+        array[j] = tmp;
+    }
+
+    /** Return the symbol of parameter a.
+     * @param a the double for which we want the want the symbol
+     * @return -1.0 if a is lower than or equal to 0 or 1.0 if a is greater than 0
+     */
+    private static double sign(final double a) {
+        return (a <= 0.0) ? -1.0 : ((a > 0.0) ? 1.0 : a);
+    }
+
+}
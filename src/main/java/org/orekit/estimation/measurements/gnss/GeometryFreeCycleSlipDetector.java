@@ -18,11 +18,7 @@ package org.orekit.estimation.measurements.gnss;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
-import org.hipparchus.fitting.PolynomialCurveFitter;
-import org.hipparchus.fitting.WeightedObservedPoint;
-import org.hipparchus.util.FastMath;
 import org.orekit.gnss.CombinedObservationData;
 import org.orekit.gnss.CombinedObservationDataSet;
 import org.orekit.gnss.Frequency;
@@ -53,6 +49,9 @@ import org.orekit.time.AbsoluteDate;
  */
 public class GeometryFreeCycleSlipDetector extends AbstractCycleSlipDetector {
 
+    /** Order of the polynomial used for fitting. */
+    private static final int ORDER = 2;
+
     /** Threshold above which cycle-slip occurs. */
     private final double threshold;
 
@@ -96,80 +95,9 @@ public class GeometryFreeCycleSlipDetector extends AbstractCycleSlipDetector {
             final String nameSat = setName(prn, observation.getSatelliteSystem());
             // Check for cycle-slip detection
             final Frequency frequency = cod.getUsedObservationData().get(0).getObservationType().getFrequency(system);
-            final boolean slip = cycleSlipDetection(nameSat, date, cod.getValue(), frequency);
-            if (!slip) {
-                // Update cycle slip data
-                cycleSlipDataSet(nameSat, date, cod.getValue(), cod.getUsedObservationData().get(0).getObservationType().getFrequency(system));
-            }
-        }
-
-    }
-
-    /**
-     * Compute if there is a cycle slip at an specific date.
-     * @param nameSat name of the satellite, on the pre-defined format (e.g.: GPS - 07 for satellite 7 of GPS constellation)
-     * @param currentDate the date at which we check if a cycle-slip occurs
-     * @param valueGF geometry free measurement
-     * @param frequency frequency used
-     * @return true if a cycle slip has been detected.
-     */
-    private boolean cycleSlipDetection(final String nameSat, final AbsoluteDate currentDate,
-                                       final double valueGF, final Frequency frequency) {
-
-        // Access the cycle slip results to know if a cycle-slip already occurred
-        final List<CycleSlipDetectorResults>         data  = getResults();
-        final List<Map<Frequency, DataForDetection>> stuff = getStuffReference();
-
-        // If a cycle-slip already occurred
-        if (data != null) {
-
-            // Loop on cycle-slip results
-            for (CycleSlipDetectorResults resultGF : data) {
-
-                // Found the right cycle data
-                if (resultGF.getSatelliteName().compareTo(nameSat) == 0 && resultGF.getCycleSlipMap().containsKey(frequency)) {
-                    final Map<Frequency, DataForDetection> values = stuff.get(data.indexOf(resultGF));
-                    final DataForDetection dataForDetection = values.get(frequency);
-
-                    // Check the time gap condition
-                    final double deltaT = FastMath.abs(currentDate.durationFrom(dataForDetection.getFiguresReference()[dataForDetection.getWrite()].getDate()));
-                    if (deltaT > getMaxTimeBeetween2Measurement()) {
-                        resultGF.addCycleSlipDate(frequency, currentDate);
-                        dataForDetection.resetFigures(new SlipComputationData[getMinMeasurementNumber()], valueGF, currentDate);
-                        resultGF.setDate(frequency, currentDate);
-                        return true;
-                    }
-
-                    // Compute the fitting polynomial if there are enough measurement since last cycle-slip
-                    if (dataForDetection.getCanBeComputed() >= getMinMeasurementNumber()) {
-                        final List<WeightedObservedPoint> xy = new ArrayList<>();
-                        for (int i = 0; i < getMinMeasurementNumber(); i++) {
-                            final SlipComputationData current = dataForDetection.getFiguresReference()[i];
-                            xy.add(new WeightedObservedPoint(1.0, current.getDate().durationFrom(currentDate),
-                                                             current.getValue()));
-                        }
-
-                        final PolynomialCurveFitter fitting = PolynomialCurveFitter.create(2);
-                        // Check if there is a cycle_slip
-                        if (FastMath.abs(fitting.fit(xy)[0] - valueGF) > threshold) {
-                            resultGF.addCycleSlipDate(frequency, currentDate);
-                            dataForDetection.resetFigures(new SlipComputationData[getMinMeasurementNumber()], valueGF, currentDate);
-                            resultGF.setDate(frequency, currentDate);
-                            return true;
-                        }
-
-                    } else {
-                        break;
-                    }
-
-                }
-
-            }
-
+            checkCycleSlip(nameSat, date, cod.getValue(), frequency, ORDER, threshold);
         }
 
-        // No cycle-slip
-        return false;
     }
 
 }
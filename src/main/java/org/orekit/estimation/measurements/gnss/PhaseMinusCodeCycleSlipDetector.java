@@ -18,13 +18,8 @@ package org.orekit.estimation.measurements.gnss;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
-import org.hipparchus.fitting.PolynomialCurveFitter;
-import org.hipparchus.fitting.WeightedObservedPoint;
-import org.hipparchus.util.FastMath;
 import org.orekit.gnss.CombinedObservationData;
-import org.orekit.gnss.Frequency;
 import org.orekit.gnss.MeasurementType;
 import org.orekit.gnss.ObservationData;
 import org.orekit.gnss.ObservationDataSet;
@@ -118,81 +113,12 @@ public class PhaseMinusCodeCycleSlipDetector extends AbstractCycleSlipDetector {
                     final String nameSat = setName(prn, observation.getSatelliteSystem());
 
                     // Check for cycle-slip detection
-                    final boolean slip = cycleSlipDetection(nameSat, date, cod.getValue(), phase.getObservationType().getFrequency(system));
-                    if (!slip) {
-                        // Update cycle slip data
-                        cycleSlipDataSet(nameSat, date, cod.getValue(), phase.getObservationType().getFrequency(system));
-                    }
+                    checkCycleSlip(nameSat, date, cod.getValue(), phase.getObservationType().getFrequency(system),
+                                   order, threshold);
                 }
             }
         }
 
     }
 
-    /**
-     * Compute if there is a cycle slip at a specific date.
-     * @param nameSat name of the satellite, on the predefined format (e.g. GPS - 07 for satellite 7 of GPS constellation)
-     * @param currentDate the date at which we check if a cycle-slip occurs
-     * @param phaseMinusCode phase measurement minus code measurement
-     * @param frequency frequency used
-     * @return true if a cycle slip has been detected.
-     */
-    private boolean cycleSlipDetection(final String nameSat, final AbsoluteDate currentDate,
-                                       final double phaseMinusCode, final Frequency frequency) {
-
-        // Access the cycle slip results to know if a cycle-slip already occurred
-        final List<CycleSlipDetectorResults>         data  = getResults();
-        final List<Map<Frequency, DataForDetection>> stuff = getStuffReference();
-
-        // If a cycle-slip already occurred
-        if (data != null) {
-
-            // Loop on cycle-slip results
-            for (CycleSlipDetectorResults resultPmC : data) {
-
-                // Found the right cycle data
-                if (resultPmC.getSatelliteName().compareTo(nameSat) == 0 && resultPmC.getCycleSlipMap().containsKey(frequency)) {
-                    final Map<Frequency, DataForDetection> values = stuff.get(data.indexOf(resultPmC));
-                    final DataForDetection v = values.get(frequency);
-
-                    // Check the time gap condition
-                    if (FastMath.abs(currentDate.durationFrom(v.getFiguresReference()[v.getWrite()].getDate())) > getMaxTimeBeetween2Measurement()) {
-                        resultPmC.addCycleSlipDate(frequency, currentDate);
-                        v.resetFigures( new SlipComputationData[getMinMeasurementNumber()], phaseMinusCode, currentDate);
-                        resultPmC.setDate(frequency, currentDate);
-                        return true;
-                    }
-
-                    // Compute the fitting polynomial if there are enough measurement since last cycle-slip
-                    if (v.getCanBeComputed() >= getMinMeasurementNumber()) {
-                        final List<WeightedObservedPoint> xy = new ArrayList<>();
-                        for (int i = 0; i < getMinMeasurementNumber(); i++) {
-                            final SlipComputationData current = v.getFiguresReference()[i];
-                            xy.add(new WeightedObservedPoint(1.0, current.getDate().durationFrom(currentDate),
-                                                                 current.getValue()));
-                        }
-
-                        final PolynomialCurveFitter fitting = PolynomialCurveFitter.create(order);
-                        // Check if there is a cycle_slip
-                        if (FastMath.abs(fitting.fit(xy)[0] - phaseMinusCode) > threshold) {
-                            resultPmC.addCycleSlipDate(frequency, currentDate);
-                            v.resetFigures( new SlipComputationData[getMinMeasurementNumber()], phaseMinusCode, currentDate);
-                            resultPmC.setDate(frequency, currentDate);
-                            return true;
-                        }
-
-                    } else {
-                        break;
-                    }
-
-                }
-
-            }
-
-        }
-
-        // No cycle-slip
-        return false;
-    }
-
 }
@@ -0,0 +1,229 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.sequential;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.estimation.measurements.ObservableSatellite;
+import org.orekit.estimation.measurements.ObservedMeasurement;
+import org.orekit.propagation.Propagator;
+import org.orekit.utils.ConcurrencyUtils;
+
+/** Sequential estimation of a fleet of independently tracked satellites.
+ * <p>
+ * {@link KalmanEstimator} and {@link UnscentedKalmanEstimator} can estimate
+ * several satellites at once, but they do so in a single joint state, with
+ * a covariance matrix that grows quadratically with the number of satellites.
+ * When satellites are tracked independently from each other (i.e. there are
+ * no inter-satellites measurements), it is much more efficient to run one
+ * filter per satellite. This class manages such a set of independent filters
+ * and runs them concurrently.
+ * </p>
+ * <p>
+ * Each filter is registered together with the {@link ObservableSatellite}
+ * instance used in the measurements it must process. Satellites are compared
+ * by identity, so all filters can use propagator index 0 as long as each one
+ * uses its own {@link ObservableSatellite} instance. A time-ordered merged
+ * stream of measurements is split according to the satellites the measurements
+ * refer to, and each resulting sub-stream is processed in chronological order
+ * by its filter, in a task submitted to the executor. The sub-streams are
+ * processed using the filters {@code processMeasurements} method, so filter
+ * specific settings like {@link KalmanEstimatorBuilder#groupSimultaneousMeasurements(boolean)
+ * grouping of simultaneous measurements} are honored.
+ * </p>
+ * <p>
+ * The same filter can be registered for several satellites, for example when they
+ * are estimated jointly because they share inter-satellites measurements. The
+ * measurements of all these satellites are then gathered in one sub-stream,
+ * so the filter is never run concurrently with itself.
+ * </p>
+ * <p>
+ * Frames, Earth Orientation Parameters and celestial bodies from a {@link
+ * org.orekit.data.DataContext data context} are thread-safe and cache their
+ * data, so all filters share the same caches. Each filter must however use
+ * its own propagator builders, as they are updated during estimation.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+public class FleetKalmanEstimator {
+
+    /** Executor running the filters. */
+    private final ExecutorService executor;
+
+    /** Filters, per satellite. */
+    private final Map<ObservableSatellite, Member> members;
+
+    /** Simple constructor.
+     * <p>
+     * The executor is not shut down by this class, this remains
+     * the responsibility of the caller.
+     * </p>
+     * @param executor executor running the filters
+     */
+    public FleetKalmanEstimator(final ExecutorService executor) {
+        this.executor = executor;
+        this.members  = new IdentityHashMap<>();
+    }
+
+    /** Add an extended Kalman filter.
+     * @param satellite satellite referred to by the measurements to process with this filter
+     * @param estimator filter for the satellite
+     */
+    public void addEstimator(final ObservableSatellite satellite, final KalmanEstimator estimator) {
+        members.put(satellite, getMember(estimator, estimator::processMeasurements));
+    }
+
+    /** Add an unscented Kalman filter.
+     * @param satellite satellite referred to by the measurements to process with this filter
+     * @param estimator filter for the satellite
+     */
+    public void addEstimator(final ObservableSatellite satellite, final UnscentedKalmanEstimator estimator) {
+        members.put(satellite, getMember(estimator, estimator::processMeasurements));
+    }
+
+    /** Get the member associated with a filter, creating it if needed.
+     * @param estimator filter
+     * @param processor measurements processor for the filter
+     * @return member associated with the filter
+     */
+    private Member getMember(final AbstractKalmanEstimator estimator,
+                             final Function<Iterable<ObservedMeasurement<?>>, Propagator[]> processor) {
+        for (final Member member : members.values()) {
+            if (member.estimator == estimator) {
+                // the filter is already registered for another satellite
+                return member;
+            }
+        }
+        return new Member(estimator, processor);
+    }
+
+    /** Get the filter associated with a satellite.
+     * @param satellite satellite
+     * @return filter associated with the satellite, or null if satellite is not managed
+     */
+    public AbstractKalmanEstimator getEstimator(final ObservableSatellite satellite) {
+        final Member member = members.get(satellite);
+        return member == null ? null : member.estimator;
+    }
+
+    /** Process several measurements.
+     * <p>
+     * Each measurement must refer only to satellites managed by the same filter,
+     * otherwise an exception is thrown before any measurement is processed. This
+     * method can be called several times, for example with successive chunks of
+     * a measurements stream, the filters keep their state between calls.
+     * </p>
+     * @param observedMeasurements the measurements to process in <em>chronologically sorted</em> order
+     * @return estimated propagators, for the satellites that had at least one measurement
+     */
+    public Map<ObservableSatellite, Propagator[]> processMeasurements(final Iterable<ObservedMeasurement<?>> observedMeasurements) {
+
+        // split the measurements stream, preserving chronological order for each filter
+        final Map<Member, List<ObservedMeasurement<?>>> split = new LinkedHashMap<>();
+        for (final ObservedMeasurement<?> measurement : observedMeasurements) {
+            split.computeIfAbsent(dispatch(measurement), m -> new ArrayList<>()).add(measurement);
+        }
+
+        // run the filters concurrently
+        final Map<Member, Future<Propagator[]>> futures = new LinkedHashMap<>();
+        for (final Map.Entry<Member, List<ObservedMeasurement<?>>> entry : split.entrySet()) {
+            futures.put(entry.getKey(), executor.submit(() -> entry.getKey().process(entry.getValue())));
+        }
+
+        // gather the estimated propagators
+        final Map<Member, Propagator[]> estimated = new IdentityHashMap<>();
+        try {
+            for (final Map.Entry<Member, Future<Propagator[]>> entry : futures.entrySet()) {
+                estimated.put(entry.getKey(), entry.getValue().get());
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            throw ConcurrencyUtils.cancelAndConvert(futures.values(), e);
+        }
+
+        final Map<ObservableSatellite, Propagator[]> propagators = new IdentityHashMap<>();
+        for (final Map.Entry<ObservableSatellite, Member> entry : members.entrySet()) {
+            final Propagator[] p = estimated.get(entry.getValue());
+            if (p != null) {
+                propagators.put(entry.getKey(), p);
+            }
+        }
+        return Collections.unmodifiableMap(propagators);
+
+    }
+
+    /** Find the filter that must process a measurement.
+     * @param measurement measurement to dispatch
+     * @return filter for the measurement
+     */
+    private Member dispatch(final ObservedMeasurement<?> measurement) {
+        Member member = null;
+        for (final ObservableSatellite satellite : measurement.getSatellites()) {
+            final Member m = members.get(satellite);
+            if (m == null || member != null && m != member) {
+                member = null;
+                break;
+            }
+            member = m;
+        }
+        if (member == null) {
+            throw new OrekitException(OrekitMessages.MEASUREMENT_NOT_DISPATCHABLE, measurement.getDate());
+        }
+        return member;
+    }
+
+    /** Filter managed by the fleet. */
+    private static class Member {
+
+        /** Filter. */
+        private final AbstractKalmanEstimator estimator;
+
+        /** Measurements processor. */
+        private final Function<Iterable<ObservedMeasurement<?>>, Propagator[]> processor;
+
+        /** Simple constructor.
+         * @param estimator filter
+         * @param processor measurements processor
+         */
+        Member(final AbstractKalmanEstimator estimator,
+               final Function<Iterable<ObservedMeasurement<?>>, Propagator[]> processor) {
+            this.estimator = estimator;
+            this.processor = processor;
+        }
+
+        /** Process measurements.
+         * @param measurements measurements to process, in chronological order
+         * @return estimated propagators
+         */
+        Propagator[] process(final List<ObservedMeasurement<?>> measurements) {
+            return processor.apply(measurements);
+        }
+
+    }
+
+}
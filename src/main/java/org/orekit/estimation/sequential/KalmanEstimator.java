@@ -16,13 +16,16 @@
  */
 package org.orekit.estimation.sequential;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.filtering.kalman.KalmanFilter;
 import org.hipparchus.filtering.kalman.ProcessEstimate;
 import org.hipparchus.filtering.kalman.extended.ExtendedKalmanFilter;
 import org.hipparchus.linear.MatrixDecomposer;
 import org.orekit.errors.OrekitException;
+import org.orekit.estimation.measurements.MultiplexedMeasurement;
 import org.orekit.estimation.measurements.ObservedMeasurement;
 import org.orekit.propagation.Propagator;
 import org.orekit.propagation.conversion.OrbitDeterminationPropagatorBuilder;
@@ -74,7 +77,10 @@ public class KalmanEstimator extends AbstractKalmanEstimator {
     private final AbstractKalmanModel processModel;
 
     /** Filter. */
-    private final ExtendedKalmanFilter<MeasurementDecorator> filter;
+    private final KalmanFilter<MeasurementDecorator> filter;
+
+    /** Indicator for grouping simultaneous measurements. */
+    private final boolean groupSimultaneous;
 
     /** Observer to retrieve current estimation info. */
     private KalmanObserver observer;
@@ -85,16 +91,21 @@ public class KalmanEstimator extends AbstractKalmanEstimator {
      * @param processNoiseMatricesProviders providers for process noise matrices
      * @param estimatedMeasurementParameters measurement parameters to estimate
      * @param measurementProcessNoiseMatrix provider for measurement process noise matrix
-     * @since 10.3
+     * @param squareRoot if true, use a {@link SquareRootExtendedKalmanFilter square root filter}
+     * @param groupSimultaneous if true, simultaneous measurements are processed together
+     * by {@link #processMeasurements(Iterable)}
+     * @since 11.4
      */
     KalmanEstimator(final MatrixDecomposer decomposer,
                     final List<OrbitDeterminationPropagatorBuilder> propagatorBuilders,
                     final List<CovarianceMatrixProvider> processNoiseMatricesProviders,
                     final ParameterDriversList estimatedMeasurementParameters,
-                    final CovarianceMatrixProvider measurementProcessNoiseMatrix) {
+                    final CovarianceMatrixProvider measurementProcessNoiseMatrix,
+                    final boolean squareRoot, final boolean groupSimultaneous) {
         super(propagatorBuilders);
         this.referenceDate      = propagatorBuilders.get(0).getInitialOrbitDate();
         this.observer           = null;
+        this.groupSimultaneous  = groupSimultaneous;
 
         // Build the process model and measurement model
         this.processModel = propagatorBuilders.get(0).buildKalmanModel(propagatorBuilders,
@@ -102,7 +113,11 @@ public class KalmanEstimator extends AbstractKalmanEstimator {
                                                                        estimatedMeasurementParameters,
                                                                        measurementProcessNoiseMatrix);
 
-        this.filter = new ExtendedKalmanFilter<>(decomposer, processModel, processModel.getEstimate());
+        if (squareRoot) {
+            this.filter = new SquareRootExtendedKalmanFilter<>(decomposer, processModel, processModel.getEstimate());
+        } else {
+            this.filter = new ExtendedKalmanFilter<>(decomposer, processModel, processModel.getEstimate());
+        }
 
     }
 
@@ -140,15 +155,46 @@ public class KalmanEstimator extends AbstractKalmanEstimator {
     }
 
     /** Process several measurements.
+     * <p>
+     * If the estimator has been {@link KalmanEstimatorBuilder#groupSimultaneousMeasurements(boolean)
+     * configured} to group simultaneous measurements, consecutive measurements sharing the
+     * same date are gathered in a {@link MultiplexedMeasurement} and processed in one
+     * single {@link #estimationStep(ObservedMeasurement) estimation step}, hence with
+     * only one covariance prediction and one stacked correction.
+     * </p>
      * @param observedMeasurements the measurements to process in <em>chronologically sorted</em> order
      * @return estimated propagators
      */
     public Propagator[] processMeasurements(final Iterable<ObservedMeasurement<?>> observedMeasurements) {
         Propagator[] propagators = null;
-        for (ObservedMeasurement<?> observedMeasurement : observedMeasurements) {
-            propagators = estimationStep(observedMeasurement);
+        if (groupSimultaneous) {
+            final List<ObservedMeasurement<?>> group = new ArrayList<>();
+            for (ObservedMeasurement<?> observedMeasurement : observedMeasurements) {
+                if (!group.isEmpty() && !group.get(0).getDate().equals(observedMeasurement.getDate())) {
+                    propagators = processGroup(group);
+                    group.clear();
+                }
+                group.add(observedMeasurement);
+            }
+            if (!group.isEmpty()) {
+                propagators = processGroup(group);
+            }
+        } else {
+            for (ObservedMeasurement<?> observedMeasurement : observedMeasurements) {
+                propagators = estimationStep(observedMeasurement);
+            }
         }
         return propagators;
     }
 
+    /** Process a group of simultaneous measurements.
+     * @param group measurements sharing the same date
+     * @return estimated propagators
+     */
+    private Propagator[] processGroup(final List<ObservedMeasurement<?>> group) {
+        return estimationStep(group.size() == 1 ?
+                              group.get(0) :
+                              new MultiplexedMeasurement(new ArrayList<>(group)));
+    }
+
 }
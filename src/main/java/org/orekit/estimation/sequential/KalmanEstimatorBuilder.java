@@ -49,6 +49,12 @@ public class KalmanEstimatorBuilder {
     /** Process noise matrix provider for measurement parameters. */
     private CovarianceMatrixProvider measurementProcessNoiseMatrix;
 
+    /** Indicator for square root filter. */
+    private boolean squareRoot;
+
+    /** Indicator for grouping simultaneous measurements. */
+    private boolean groupSimultaneous;
+
     /** Default constructor.
      *  Set an extended Kalman filter, with linearized covariance prediction.
      */
@@ -58,6 +64,8 @@ public class KalmanEstimatorBuilder {
         this.estimatedMeasurementsParameters = new ParameterDriversList();
         this.processNoiseMatricesProviders   = new ArrayList<>();
         this.measurementProcessNoiseMatrix   = null;
+        this.squareRoot                      = false;
+        this.groupSimultaneous               = false;
     }
 
     /** Construct a {@link KalmanEstimator} from the data in this builder.
@@ -74,7 +82,8 @@ public class KalmanEstimatorBuilder {
             throw new OrekitException(OrekitMessages.NO_PROPAGATOR_CONFIGURED);
         }
         return new KalmanEstimator(decomposer, propagatorBuilders, processNoiseMatricesProviders,
-                                   estimatedMeasurementsParameters, measurementProcessNoiseMatrix);
+                                   estimatedMeasurementsParameters, measurementProcessNoiseMatrix,
+                                   squareRoot, groupSimultaneous);
     }
 
     /** Configure the matrix decomposer.
@@ -86,6 +95,40 @@ public class KalmanEstimatorBuilder {
         return this;
     }
 
+    /** Configure the covariance representation.
+     * <p>
+     * By default, the filter propagates the covariance matrix itself. If
+     * square root covariance is selected, a {@link SquareRootExtendedKalmanFilter}
+     * is used, which propagates a triangular square root of the covariance matrix,
+     * thus improving numerical stability.
+     * </p>
+     * @param useSquareRoot if true, use a square root covariance representation
+     * @return this object.
+     * @since 11.4
+     */
+    public KalmanEstimatorBuilder squareRootCovariance(final boolean useSquareRoot) {
+        squareRoot = useSquareRoot;
+        return this;
+    }
+
+    /** Configure grouping of simultaneous measurements.
+     * <p>
+     * If grouping is selected, {@link KalmanEstimator#processMeasurements(Iterable)}
+     * gathers consecutive measurements sharing the same date (for example ranges
+     * from several stations, or pseudo-ranges from several GNSS satellites) in a
+     * {@link org.orekit.estimation.measurements.MultiplexedMeasurement MultiplexedMeasurement},
+     * so the covariance is predicted only once and the correction is performed in
+     * one stacked update. By default, measurements are processed one at a time.
+     * </p>
+     * @param group if true, group simultaneous measurements
+     * @return this object.
+     * @since 11.4
+     */
+    public KalmanEstimatorBuilder groupSimultaneousMeasurements(final boolean group) {
+        groupSimultaneous = group;
+        return this;
+    }
+
     /** Add a propagation configuration.
      * <p>
      * This method must be called once for each propagator to managed with the
@@ -0,0 +1,229 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.sequential;
+
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.filtering.kalman.KalmanFilter;
+import org.hipparchus.filtering.kalman.Measurement;
+import org.hipparchus.filtering.kalman.ProcessEstimate;
+import org.hipparchus.filtering.kalman.extended.NonLinearEvolution;
+import org.hipparchus.filtering.kalman.extended.NonLinearProcess;
+import org.hipparchus.linear.CholeskyDecomposition;
+import org.hipparchus.linear.MatrixDecomposer;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.QRDecomposition;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.linear.RealVector;
+import org.hipparchus.linear.RectangularCholeskyDecomposition;
+import org.hipparchus.util.FastMath;
+
+/** Extended Kalman filter propagating a square root of the covariance matrix.
+ * <p>
+ * This filter is equivalent to Hipparchus {@link
+ * org.hipparchus.filtering.kalman.extended.ExtendedKalmanFilter ExtendedKalmanFilter},
+ * but instead of the covariance matrix P, it propagates a lower triangular
+ * matrix L such that P = L L<sup>T</sup>. Both the prediction and the
+ * correction are performed by triangularizing (using QR decompositions)
+ * arrays built from square roots, so the covariance remains symmetric
+ * positive semi-definite by construction, even with ill-conditioned
+ * problems where the conventional update may lose positivity.
+ * </p>
+ * <p>
+ * The correction is performed in one step for all components of the
+ * measurement, so several simultaneous measurements can be processed
+ * together, for example by gathering them in a {@link
+ * org.orekit.estimation.measurements.MultiplexedMeasurement MultiplexedMeasurement}.
+ * </p>
+ * @param <T> the type of the measurements
+ * @see KalmanEstimatorBuilder#squareRootCovariance(boolean)
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+public class SquareRootExtendedKalmanFilter<T extends Measurement> implements KalmanFilter<T> {
+
+    /** Default threshold below which diagonal elements are considered null when computing square roots. */
+    public static final double DEFAULT_ROOT_THRESHOLD = 1.0e-15;
+
+    /** Process to be estimated. */
+    private final NonLinearProcess<T> process;
+
+    /** Decomposer to use for the gain computation. */
+    private final MatrixDecomposer decomposer;
+
+    /** Threshold below which diagonal elements are considered null when computing square roots. */
+    private final double rootThreshold;
+
+    /** Square root of the corrected covariance. */
+    private RealMatrix correctedRoot;
+
+    /** Predicted state. */
+    private ProcessEstimate predicted;
+
+    /** Corrected state. */
+    private ProcessEstimate corrected;
+
+    /** Simple constructor.
+     * <p>
+     * This constructor uses {@link #DEFAULT_ROOT_THRESHOLD} as the threshold
+     * for computing square roots of covariance matrices.
+     * </p>
+     * @param decomposer decomposer to use for the gain computation
+     * @param process process to be estimated
+     * @param initialState initial state
+     */
+    public SquareRootExtendedKalmanFilter(final MatrixDecomposer decomposer,
+                                          final NonLinearProcess<T> process,
+                                          final ProcessEstimate initialState) {
+        this(decomposer, process, initialState, DEFAULT_ROOT_THRESHOLD);
+    }
+
+    /** Simple constructor.
+     * @param decomposer decomposer to use for the gain computation
+     * @param process process to be estimated
+     * @param initialState initial state
+     * @param rootThreshold threshold below which diagonal elements are considered
+     * null when computing square roots of covariance matrices (must be positive)
+     */
+    public SquareRootExtendedKalmanFilter(final MatrixDecomposer decomposer,
+                                          final NonLinearProcess<T> process,
+                                          final ProcessEstimate initialState,
+                                          final double rootThreshold) {
+        this.process       = process;
+        this.decomposer    = decomposer;
+        this.rootThreshold = rootThreshold;
+        this.correctedRoot = triangularize(root(initialState.getCovariance()));
+        this.predicted     = null;
+        this.corrected     = initialState;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ProcessEstimate estimationStep(final T measurement) throws MathRuntimeException {
+
+        final NonLinearEvolution evolution =
+                        process.getEvolution(corrected.getTime(), corrected.getState(), measurement);
+
+        // prediction: L⁻ L⁻ᵀ = F L Lᵀ Fᵀ + Q
+        final RealMatrix stm        = evolution.getStateTransitionMatrix();
+        final RealMatrix propagated = stm.multiply(correctedRoot);
+        final RealMatrix predictedRoot =
+                        triangularize(concatenate(propagated, root(evolution.getProcessNoiseMatrix())));
+        predicted = new ProcessEstimate(evolution.getCurrentTime(), evolution.getCurrentState(),
+                                        predictedRoot.multiplyTransposed(predictedRoot));
+        corrected = null;
+
+        final RealMatrix h = evolution.getMeasurementJacobian();
+        if (h == null) {
+            // measurement has been rejected
+            correctedRoot = predictedRoot;
+            corrected     = predicted;
+            return corrected;
+        }
+
+        // correction, triangularizing the pre-array
+        // [ √R  H L⁻ ]      [ √S  0  ]
+        // [ 0   L⁻   ]  ->  [ K̄   L⁺ ]
+        final int m = h.getRowDimension();
+        final int n = predictedRoot.getRowDimension();
+        final RealMatrix preArray = MatrixUtils.createRealMatrix(m + n, m + n);
+        preArray.setSubMatrix(new CholeskyDecomposition(measurement.getCovariance()).getL().getData(), 0, 0);
+        preArray.setSubMatrix(h.multiply(predictedRoot).getData(), 0, m);
+        preArray.setSubMatrix(predictedRoot.getData(), m, m);
+        final RealMatrix postArray = triangularize(preArray);
+
+        final RealMatrix sRoot = postArray.getSubMatrix(0, m - 1, 0, m - 1);
+        final RealMatrix s     = sRoot.multiplyTransposed(sRoot);
+        final RealVector innovation = process.getInnovation(measurement, evolution, s);
+        if (innovation == null) {
+            // measurement has been rejected
+            correctedRoot = predictedRoot;
+            corrected     = predicted;
+            return corrected;
+        }
+
+        // gain K = K̄ √S⁻¹
+        final RealMatrix kBar = postArray.getSubMatrix(m, m + n - 1, 0, m - 1);
+        final RealMatrix k    = decomposer.decompose(sRoot.transpose()).solve(kBar.transpose()).transpose();
+
+        correctedRoot = postArray.getSubMatrix(m, m + n - 1, m, m + n - 1);
+        corrected     = new ProcessEstimate(measurement.getTime(),
+                                            predicted.getState().add(k.operate(innovation)),
+                                            correctedRoot.multiplyTransposed(correctedRoot),
+                                            stm, h, s, k);
+        return corrected;
+
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ProcessEstimate getPredicted() {
+        return predicted;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ProcessEstimate getCorrected() {
+        return corrected;
+    }
+
+    /** Compute a (possibly rectangular) square root of a symmetric positive semi-definite matrix.
+     * @param covariance covariance matrix
+     * @return matrix B such that B B<sup>T</sup> = covariance
+     */
+    private RealMatrix root(final RealMatrix covariance) {
+        for (int i = 0; i < covariance.getRowDimension(); ++i) {
+            if (covariance.getEntry(i, i) > rootThreshold) {
+                return new RectangularCholeskyDecomposition(covariance, rootThreshold).getRootMatrix();
+            }
+        }
+        // semi-definite positive matrix with negligible diagonal is negligible,
+        // a single column of zeros is a suitable square root
+        return MatrixUtils.createRealMatrix(covariance.getRowDimension(), 1);
+    }
+
+    /** Concatenate two matrices horizontally.
+     * @param left left matrix
+     * @param right right matrix
+     * @return concatenated matrix
+     */
+    private static RealMatrix concatenate(final RealMatrix left, final RealMatrix right) {
+        final RealMatrix concatenated = MatrixUtils.createRealMatrix(left.getRowDimension(),
+                                                                     left.getColumnDimension() + right.getColumnDimension());
+        concatenated.setSubMatrix(left.getData(), 0, 0);
+        concatenated.setSubMatrix(right.getData(), 0, left.getColumnDimension());
+        return concatenated;
+    }
+
+    /** Compute a square lower triangular matrix L such that L L<sup>T</sup> = A A<sup>T</sup>.
+     * @param a n×k matrix
+     * @return n×n lower triangular matrix L
+     */
+    private static RealMatrix triangularize(final RealMatrix a) {
+        final int n = a.getRowDimension();
+        final int k = a.getColumnDimension();
+        // Aᵀ = Q R, hence A Aᵀ = Rᵀ R
+        final RealMatrix r = new QRDecomposition(a.transpose()).getR();
+        final RealMatrix l = MatrixUtils.createRealMatrix(n, n);
+        for (int i = 0; i < FastMath.min(n, k); ++i) {
+            for (int j = i; j < n; ++j) {
+                l.setEntry(j, i, r.getEntry(i, j));
+            }
+        }
+        return l;
+    }
+
+}
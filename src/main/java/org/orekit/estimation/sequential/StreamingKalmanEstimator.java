@@ -0,0 +1,499 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.sequential;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.stat.descriptive.StreamingStatistics;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.estimation.measurements.ObservedMeasurement;
+import org.orekit.propagation.Propagator;
+import org.orekit.time.AbsoluteDate;
+
+/** Streaming front-end for sequential estimators.
+ * <p>
+ * {@link KalmanEstimator#processMeasurements(Iterable)} and {@link
+ * UnscentedKalmanEstimator#processMeasurements(Iterable)} need all measurements
+ * to be known and sorted in advance. This class allows to feed a filter with
+ * measurements as they arrive, for example from tracking stations, possibly
+ * from several threads and slightly out of order.
+ * </p>
+ * <p>
+ * Submitted measurements are buffered and sorted chronologically. A buffered
+ * measurement is released to the filter only when a measurement at least
+ * {@code reorderWindow} seconds later has been submitted, when the buffer
+ * is full, or when the stream is {@link #close() closed}. Measurements arriving after a later measurement
+ * has already been released cannot be processed anymore by the filter and
+ * are discarded.
+ * </p>
+ * <p>
+ * The filter runs in a task submitted to an executor, started at first
+ * submission. The buffer has a limited capacity; when it is full, the earliest
+ * measurement is released to the filter regardless of the reorder window and
+ * {@link #submit(ObservedMeasurement)} blocks until the filter has consumed it,
+ * thus applying backpressure to the producers.
+ * </p>
+ * <p>
+ * The latency of each measurement, i.e. the time elapsed between its
+ * submission and the end of its processing by the filter, is monitored.
+ * Note that it includes the time spent waiting in the reorder window.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+public class StreamingKalmanEstimator {
+
+    /** Nanoseconds per second. */
+    private static final double NANOS_PER_SECOND = 1.0e9;
+
+    /** Estimation step. */
+    private final Function<ObservedMeasurement<?>, Propagator[]> step;
+
+    /** Executor running the filter. */
+    private final ExecutorService executor;
+
+    /** Reorder window (s). */
+    private final double reorderWindow;
+
+    /** Buffer capacity. */
+    private final int capacity;
+
+    /** Buffered measurements. */
+    private final PriorityQueue<Pending> buffer;
+
+    /** Lock protecting the buffer and the stream status. */
+    private final ReentrantLock lock;
+
+    /** Condition signaled when buffer is not full anymore. */
+    private final Condition notFull;
+
+    /** Condition signaled when stream status changes. */
+    private final Condition changed;
+
+    /** Latency statistics (s). */
+    private final StreamingStatistics latency;
+
+    /** Observer for the measurements flow (may be null). */
+    private volatile StreamingObserver observer;
+
+    /** Consumer task. */
+    private Future<?> consumer;
+
+    /** Latest date submitted. */
+    private AbsoluteDate newestDate;
+
+    /** Date of the last measurement released to the filter. */
+    private AbsoluteDate releasedDate;
+
+    /** Submissions counter, used to preserve submission order for simultaneous measurements. */
+    private long submissions;
+
+    /** Number of discarded measurements. */
+    private int discarded;
+
+    /** Indicator for closed stream. */
+    private boolean closed;
+
+    /** Failure raised by the filter. */
+    private RuntimeException failure;
+
+    /** Latest estimated propagators. */
+    private volatile Propagator[] estimated;
+
+    /** Build a streaming front-end for an extended Kalman filter.
+     * <p>
+     * The executor is not shut down by this class, this remains
+     * the responsibility of the caller.
+     * </p>
+     * @param estimator filter to feed
+     * @param executor executor running the filter
+     * @param reorderWindow reorder window (s)
+     * @param capacity maximum number of buffered measurements (must be strictly positive)
+     */
+    public StreamingKalmanEstimator(final KalmanEstimator estimator, final ExecutorService executor,
+                                    final double reorderWindow, final int capacity) {
+        this(estimator::estimationStep, executor, reorderWindow, capacity);
+    }
+
+    /** Build a streaming front-end for an unscented Kalman filter.
+     * <p>
+     * The executor is not shut down by this class, this remains
+     * the responsibility of the caller.
+     * </p>
+     * @param estimator filter to feed
+     * @param executor executor running the filter
+     * @param reorderWindow reorder window (s)
+     * @param capacity maximum number of buffered measurements (must be strictly positive)
+     */
+    public StreamingKalmanEstimator(final UnscentedKalmanEstimator estimator, final ExecutorService executor,
+                                    final double reorderWindow, final int capacity) {
+        this(estimator::estimationStep, executor, reorderWindow, capacity);
+    }
+
+    /** Simple constructor.
+     * @param step estimation step
+     * @param executor executor running the filter
+     * @param reorderWindow reorder window (s)
+     * @param capacity maximum number of buffered measurements (must be strictly positive)
+     */
+    private StreamingKalmanEstimator(final Function<ObservedMeasurement<?>, Propagator[]> step,
+                                     final ExecutorService executor,
+                                     final double reorderWindow, final int capacity) {
+        if (capacity < 1) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, capacity);
+        }
+        this.step          = step;
+        this.executor      = executor;
+        this.reorderWindow = reorderWindow;
+        this.capacity      = capacity;
+        this.buffer        = new PriorityQueue<>(capacity);
+        this.lock          = new ReentrantLock();
+        this.notFull       = lock.newCondition();
+        this.changed       = lock.newCondition();
+        this.latency       = new StreamingStatistics();
+        this.observer      = null;
+        this.consumer      = null;
+        this.newestDate    = AbsoluteDate.PAST_INFINITY;
+        this.releasedDate  = AbsoluteDate.PAST_INFINITY;
+        this.submissions   = 0;
+        this.discarded     = 0;
+        this.closed        = false;
+        this.failure       = null;
+        this.estimated     = null;
+    }
+
+    /** Set the observer.
+     * @param observer the observer
+     */
+    public void setObserver(final StreamingObserver observer) {
+        this.observer = observer;
+    }
+
+    /** Get the reorder window.
+     * @return reorder window (s)
+     */
+    public double getReorderWindow() {
+        return reorderWindow;
+    }
+
+    /** Get the buffer capacity.
+     * @return maximum number of buffered measurements
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /** Submit a measurement, waiting if the buffer is full.
+     * @param measurement measurement to submit
+     * @return true if the measurement was accepted, false if it was discarded
+     * because a later measurement has already been processed
+     * @exception InterruptedException if interrupted while waiting
+     */
+    public boolean submit(final ObservedMeasurement<?> measurement) throws InterruptedException {
+        lock.lock();
+        try {
+            checkOpen();
+            while (buffer.size() >= capacity) {
+                notFull.await();
+                checkOpen();
+            }
+            return enqueue(measurement);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Submit a measurement, without waiting.
+     * @param measurement measurement to submit
+     * @return true if the measurement was accepted, false if either the buffer
+     * was full or the measurement was discarded because a later measurement has
+     * already been processed
+     */
+    public boolean trySubmit(final ObservedMeasurement<?> measurement) {
+        lock.lock();
+        try {
+            checkOpen();
+            return buffer.size() < capacity && enqueue(measurement);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Close the stream.
+     * <p>
+     * All buffered measurements are processed, regardless of the reorder window,
+     * and this method waits until the filter has processed them all.
+     * </p>
+     * @return estimated propagators after the last processed measurement (null if none were processed)
+     * @exception InterruptedException if interrupted while waiting
+     */
+    public Propagator[] close() throws InterruptedException {
+
+        final Future<?> task;
+        lock.lock();
+        try {
+            closed = true;
+            changed.signalAll();
+            notFull.signalAll();
+            task = consumer;
+        } finally {
+            lock.unlock();
+        }
+
+        if (task != null) {
+            try {
+                task.get();
+            } catch (ExecutionException ee) {
+                throw new OrekitException(ee.getCause(), LocalizedCoreFormats.SIMPLE_MESSAGE, ee.getLocalizedMessage());
+            }
+        }
+
+        lock.lock();
+        try {
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return estimated;
+
+    }
+
+    /** Get the estimated propagators after the last processed measurement.
+     * @return estimated propagators after the last processed measurement (null if none were processed)
+     */
+    public Propagator[] getEstimatedPropagators() {
+        return estimated;
+    }
+
+    /** Get the number of measurements waiting in the buffer.
+     * @return number of measurements waiting in the buffer
+     */
+    public int getBuffered() {
+        lock.lock();
+        try {
+            return buffer.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Get the number of discarded measurements.
+     * @return number of measurements discarded because they arrived too late
+     */
+    public int getDiscarded() {
+        lock.lock();
+        try {
+            return discarded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Get the latency statistics.
+     * <p>
+     * The number of values in the statistics is the number of processed measurements.
+     * </p>
+     * @return copy of the latency statistics (s)
+     */
+    public StreamingStatistics getLatencyStatistics() {
+        lock.lock();
+        try {
+            return latency.copy();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Check the stream is still open.
+     * <p>
+     * This method must be called while holding the lock.
+     * </p>
+     */
+    private void checkOpen() {
+        if (failure != null) {
+            throw failure;
+        }
+        if (closed) {
+            throw new OrekitException(OrekitMessages.MEASUREMENTS_STREAM_CLOSED);
+        }
+    }
+
+    /** Add a measurement to the buffer.
+     * <p>
+     * This method must be called while holding the lock.
+     * </p>
+     * @param measurement measurement to add
+     * @return true if the measurement was accepted, false if it was discarded
+     */
+    private boolean enqueue(final ObservedMeasurement<?> measurement) {
+
+        if (measurement.getDate().compareTo(releasedDate) < 0) {
+            // too late, the filter has already moved past this measurement
+            ++discarded;
+            final StreamingObserver current = observer;
+            if (current != null) {
+                current.measurementDiscarded(measurement);
+            }
+            return false;
+        }
+
+        buffer.add(new Pending(measurement, submissions++, System.nanoTime()));
+        if (measurement.getDate().compareTo(newestDate) > 0) {
+            newestDate = measurement.getDate();
+        }
+        if (consumer == null) {
+            consumer = executor.submit(this::consume);
+        }
+        changed.signalAll();
+        return true;
+
+    }
+
+    /** Check if the earliest buffered measurement can be released to the filter.
+     * <p>
+     * The earliest measurement is released if it is out of the reorder window,
+     * if the buffer is full (otherwise producers waiting for room would never
+     * be woken up), or if the stream is closed.
+     * </p>
+     * <p>
+     * This method must be called while holding the lock.
+     * </p>
+     * @return true if the earliest buffered measurement can be released
+     */
+    private boolean releasable() {
+        return !buffer.isEmpty() &&
+               (closed || buffer.size() >= capacity ||
+                buffer.peek().measurement.getDate().durationFrom(newestDate) <= -reorderWindow);
+    }
+
+    /** Consume the buffered measurements. */
+    private void consume() {
+        try {
+            while (true) {
+
+                // wait for a measurement to be released
+                final Pending next;
+                lock.lock();
+                try {
+                    while (!releasable()) {
+                        if (closed) {
+                            return;
+                        }
+                        changed.await();
+                    }
+                    next         = buffer.poll();
+                    releasedDate = next.measurement.getDate();
+                    notFull.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+
+                // process the measurement
+                estimated = step.apply(next.measurement);
+                final double elapsed = (System.nanoTime() - next.submissionTime) / NANOS_PER_SECOND;
+                lock.lock();
+                try {
+                    latency.addValue(elapsed);
+                } finally {
+                    lock.unlock();
+                }
+                final StreamingObserver current = observer;
+                if (current != null) {
+                    current.measurementProcessed(next.measurement, elapsed);
+                }
+
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            // CHECKSTYLE: stop IllegalCatch check
+        } catch (RuntimeException e) {
+            // CHECKSTYLE: resume IllegalCatch check
+            // keep the original exception, it will be rethrown to producers
+            lock.lock();
+            try {
+                failure = e;
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            lock.lock();
+            try {
+                // stop the stream, releasing producers waiting for room in the buffer
+                closed = true;
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /** Measurement waiting in the buffer. */
+    private static class Pending implements Comparable<Pending> {
+
+        /** Measurement. */
+        private final ObservedMeasurement<?> measurement;
+
+        /** Submission rank. */
+        private final long rank;
+
+        /** Submission time (ns). */
+        private final long submissionTime;
+
+        /** Simple constructor.
+         * @param measurement measurement
+         * @param rank submission rank
+         * @param submissionTime submission time (ns)
+         */
+        Pending(final ObservedMeasurement<?> measurement, final long rank, final long submissionTime) {
+            this.measurement    = measurement;
+            this.rank           = rank;
+            this.submissionTime = submissionTime;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int compareTo(final Pending other) {
+            final int cmp = measurement.getDate().compareTo(other.measurement.getDate());
+            return cmp != 0 ? cmp : Long.compare(rank, other.rank);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof Pending && rank == ((Pending) other).rank;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode() {
+            return Long.hashCode(rank);
+        }
+
+    }
+
+}
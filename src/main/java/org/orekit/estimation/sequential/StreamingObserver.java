@@ -0,0 +1,49 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.sequential;
+
+import org.orekit.estimation.measurements.ObservedMeasurement;
+
+/** Observer for {@link StreamingKalmanEstimator streaming estimation}.
+ * <p>
+ * This interface is intended to be implemented by users to monitor
+ * the measurements flow. Processed measurements are notified from
+ * the thread that runs the filter, discarded measurements are notified
+ * from the thread that submitted them.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+public interface StreamingObserver {
+
+    /** Notification callback after a measurement has been processed by the filter.
+     * @param measurement measurement processed
+     * @param latency time elapsed between measurement submission and end of its processing (s)
+     */
+    void measurementProcessed(ObservedMeasurement<?> measurement, double latency);
+
+    /** Notification callback when a measurement arrived too late to be processed.
+     * <p>
+     * The default implementation does nothing.
+     * </p>
+     * @param measurement discarded measurement
+     */
+    default void measurementDiscarded(ObservedMeasurement<?> measurement) {
+        // nothing by default
+    }
+
+}
@@ -17,6 +17,7 @@
 package org.orekit.estimation.sequential;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.hipparchus.filtering.kalman.ProcessEstimate;
 import org.hipparchus.filtering.kalman.unscented.UnscentedKalmanFilter;
@@ -78,20 +79,26 @@ public class UnscentedKalmanEstimator extends AbstractKalmanEstimator {
      * @param estimatedMeasurementParameters measurement parameters to estimate
      * @param measurementProcessNoiseMatrix provider for measurement process noise matrix
      * @param utProvider provider for the unscented transform.
+     * @param executor executor for concurrent propagation of sigma points (may be null)
+     * @param linearizationThreshold maximum gap between measurements for which sigma points
+     * are linearized around a reference trajectory (s)
      */
     UnscentedKalmanEstimator(final MatrixDecomposer decomposer,
                              final List<NumericalPropagatorBuilder> propagatorBuilders,
                              final List<CovarianceMatrixProvider> processNoiseMatricesProviders,
                              final ParameterDriversList estimatedMeasurementParameters,
                              final CovarianceMatrixProvider measurementProcessNoiseMatrix,
-                             final UnscentedTransformProvider utProvider) {
+                             final UnscentedTransformProvider utProvider,
+                             final ExecutorService executor,
+                             final double linearizationThreshold) {
         super(propagatorBuilders);
         this.referenceDate = propagatorBuilders.get(0).getInitialOrbitDate();
         this.observer      = null;
 
         // Build the process model and measurement model
         this.processModel = new UnscentedKalmanModel(propagatorBuilders, processNoiseMatricesProviders,
-                                                     estimatedMeasurementParameters, measurementProcessNoiseMatrix);
+                                                     estimatedMeasurementParameters, measurementProcessNoiseMatrix,
+                                                     executor, linearizationThreshold);
 
         this.filter = new UnscentedKalmanFilter<>(decomposer, processModel, processModel.getEstimate(), utProvider);
 
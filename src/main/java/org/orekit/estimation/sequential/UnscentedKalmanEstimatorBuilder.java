@@ -18,6 +18,7 @@ package org.orekit.estimation.sequential;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.hipparchus.linear.MatrixDecomposer;
 import org.hipparchus.linear.QRDecomposer;
@@ -52,6 +53,12 @@ public class UnscentedKalmanEstimatorBuilder {
     /** Unscend transform provider. */
     private UnscentedTransformProvider utProvider;
 
+    /** Executor for concurrent propagation of sigma points. */
+    private ExecutorService executor;
+
+    /** Maximum gap between measurements for which sigma points are linearized (s). */
+    private double linearizationThreshold;
+
     /** Default constructor.
      *  Set an Unscented Kalman filter.
      */
@@ -62,6 +69,8 @@ public class UnscentedKalmanEstimatorBuilder {
         this.processNoiseMatrixProviders     = new ArrayList<>();
         this.measurementProcessNoiseMatrix   = null;
         this.utProvider                      = null;
+        this.executor                        = null;
+        this.linearizationThreshold          = 0.0;
     }
 
     /** Construct a {@link UnscentedKalmanEstimator} from the data in this builder.
@@ -86,7 +95,7 @@ public class UnscentedKalmanEstimatorBuilder {
         }
         return new UnscentedKalmanEstimator(decomposer, propagatorBuilders, processNoiseMatrixProviders,
                                             estimatedMeasurementsParameters, measurementProcessNoiseMatrix,
-                                            utProvider);
+                                            utProvider, executor, linearizationThreshold);
 
     }
 
@@ -108,6 +117,51 @@ public class UnscentedKalmanEstimatorBuilder {
         return this;
     }
 
+    /** Configure concurrent propagation of sigma points.
+     * <p>
+     * If this method is not called, or if it is called with a null executor,
+     * all sigma points are propagated in lockstep using a {@link
+     * org.orekit.propagation.PropagatorsParallelizer PropagatorsParallelizer}.
+     * Otherwise each sigma point is propagated by its own propagator instance,
+     * in a task submitted to the executor, independently of the other ones.
+     * </p>
+     * <p>
+     * The executor is not shut down by the estimator, this remains
+     * the responsibility of the caller.
+     * </p>
+     * @param sigmaPointsExecutor executor for sigma points propagation (may be null)
+     * @return this object.
+     * @since 11.4
+     */
+    public UnscentedKalmanEstimatorBuilder sigmaPointsExecutor(final ExecutorService sigmaPointsExecutor) {
+        this.executor = sigmaPointsExecutor;
+        return this;
+    }
+
+    /** Configure linearization of sigma points for short measurements gaps.
+     * <p>
+     * When the time gap between two successive measurements is smaller than
+     * the threshold, only one sigma point is propagated together with its
+     * state transition matrix, and all other sigma points are predicted using
+     * a first order expansion around this reference trajectory. This is much
+     * faster but neglects non-linearities, so it should be used only with
+     * gaps short enough for the dynamics to be almost linear over the spread
+     * of the sigma points.
+     * </p>
+     * <p>
+     * If this method is not called, the threshold is 0 and all sigma points
+     * are always propagated.
+     * </p>
+     * @param threshold maximum gap between measurements for which sigma points
+     * are linearized around a reference trajectory (s)
+     * @return this object.
+     * @since 11.4
+     */
+    public UnscentedKalmanEstimatorBuilder linearizationThreshold(final double threshold) {
+        this.linearizationThreshold = threshold;
+        return this;
+    }
+
     /** Add a propagation configuration.
      * <p>
      * This method must be called once for each propagator to managed with the
@@ -22,6 +22,9 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.hipparchus.filtering.kalman.ProcessEstimate;
 import org.hipparchus.filtering.kalman.unscented.UnscentedEvolution;
@@ -30,17 +33,21 @@ import org.hipparchus.linear.ArrayRealVector;
 import org.hipparchus.linear.MatrixUtils;
 import org.hipparchus.linear.RealMatrix;
 import org.hipparchus.linear.RealVector;
+import org.hipparchus.util.FastMath;
+import org.orekit.attitudes.Attitude;
 import org.orekit.estimation.measurements.EstimatedMeasurement;
 import org.orekit.estimation.measurements.ObservedMeasurement;
 import org.orekit.orbits.Orbit;
 import org.orekit.orbits.OrbitType;
 import org.orekit.orbits.PositionAngle;
+import org.orekit.propagation.MatricesHarvester;
 import org.orekit.propagation.Propagator;
 import org.orekit.propagation.PropagatorsParallelizer;
 import org.orekit.propagation.SpacecraftState;
 import org.orekit.propagation.conversion.NumericalPropagatorBuilder;
 import org.orekit.propagation.numerical.NumericalPropagator;
 import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.ConcurrencyUtils;
 import org.orekit.utils.ParameterDriver;
 import org.orekit.utils.ParameterDriversList;
 import org.orekit.utils.ParameterDriversList.DelegatingDriver;
@@ -52,6 +59,9 @@ import org.orekit.utils.ParameterDriversList.DelegatingDriver;
  */
 public class UnscentedKalmanModel implements KalmanEstimation, UnscentedProcess<MeasurementDecorator> {
 
+    /** Name of the state transition matrix used for linearized sigma points. */
+    private static final String STM_NAME = "stm";
+
     /** Builders for propagators. */
     private final List<NumericalPropagatorBuilder> builders;
 
@@ -97,6 +107,12 @@ public class UnscentedKalmanModel implements KalmanEstimation, UnscentedProcess<
     /** Orbit types used during orbit determination. */
     private final OrbitType[] orbitTypes;
 
+    /** Executor for concurrent propagation of sigma points (null if propagators are run in lockstep). */
+    private final ExecutorService executor;
+
+    /** Maximum gap between measurements for which sigma points are linearized around a reference trajectory (s). */
+    private final double linearizationThreshold;
+
     /** Current number of measurement. */
     private int currentMeasurementNumber;
 
@@ -131,7 +147,41 @@ public class UnscentedKalmanModel implements KalmanEstimation, UnscentedProcess<
                                    final List<CovarianceMatrixProvider> covarianceMatrixProviders,
                                    final ParameterDriversList estimatedMeasurementParameters,
                                    final CovarianceMatrixProvider measurementProcessNoiseMatrix) {
+        this(propagatorBuilders, covarianceMatrixProviders, estimatedMeasurementParameters,
+             measurementProcessNoiseMatrix, null, 0.0);
+    }
 
+    /** Unscented Kalman process model constructor (package private).
+     * <p>
+     * If {@code executor} is not null, sigma points are propagated independently
+     * from each other as tasks submitted to the executor, each with its own propagator
+     * instance. If {@code executor} is null, they are propagated in lockstep using a
+     * {@link PropagatorsParallelizer}.
+     * </p>
+     * <p>
+     * If the time gap between two measurements is smaller than {@code linearizationThreshold},
+     * only the first sigma point is propagated, together with its state transition matrix,
+     * and the other sigma points are predicted by applying the state transition matrix to
+     * their offsets with respect to the first one.
+     * </p>
+     * @param propagatorBuilders propagators builders used to evaluate the orbits.
+     * @param covarianceMatrixProviders provider for covariance matrix
+     * @param estimatedMeasurementParameters measurement parameters to estimate
+     * @param measurementProcessNoiseMatrix provider for measurement process noise matrix
+     * @param executor executor for concurrent propagation of sigma points (may be null)
+     * @param linearizationThreshold maximum gap between measurements for which sigma points
+     * are linearized around a reference trajectory (s), 0 to always propagate all sigma points
+     * @since 11.4
+     */
+    protected UnscentedKalmanModel(final List<NumericalPropagatorBuilder> propagatorBuilders,
+                                   final List<CovarianceMatrixProvider> covarianceMatrixProviders,
+                                   final ParameterDriversList estimatedMeasurementParameters,
+                                   final CovarianceMatrixProvider measurementProcessNoiseMatrix,
+                                   final ExecutorService executor,
+                                   final double linearizationThreshold) {
+
+        this.executor                        = executor;
+        this.linearizationThreshold          = linearizationThreshold;
         this.builders                        = propagatorBuilders;
         this.estimatedMeasurementsParameters = estimatedMeasurementParameters;
         this.measurementParameterColumns     = new HashMap<>(estimatedMeasurementsParameters.getDrivers().size());
@@ -458,7 +508,12 @@ public class UnscentedKalmanModel implements KalmanEstimation, UnscentedProcess<
      */
     private List<SpacecraftState> predictStates(final RealVector[] sigmaPoints, final int index) {
 
-        // Loop on sigma points to create the propagator parallelizer
+        if (FastMath.abs(currentDate.durationFrom(previousDate)) < linearizationThreshold) {
+            // short gap, use a single reference trajectory
+            return linearizeStates(sigmaPoints, index);
+        }
+
+        // Loop on sigma points to create the propagators
         final List<Propagator> propagators = new ArrayList<>(sigmaPoints.length);
         for (int k = 0; k < sigmaPoints.length; ++k) {
             // Current sigma point
@@ -469,12 +524,65 @@ public class UnscentedKalmanModel implements KalmanEstimation, UnscentedProcess<
             propagators.add(currentPropagator);
         }
 
-        // Create the propagator parallelizer and predict states
-        // (the shift is done to start a little bit before the previous measurement epoch)
-        final PropagatorsParallelizer parallelizer = new PropagatorsParallelizer(propagators, interpolators -> { });
-        final List<SpacecraftState>   states       = parallelizer.propagate(previousDate.shiftedBy(-1.0e-3), currentDate);
+        if (executor == null) {
+            // Create the propagator parallelizer and predict states
+            // (the shift is done to start a little bit before the previous measurement epoch)
+            final PropagatorsParallelizer parallelizer = new PropagatorsParallelizer(propagators, interpolators -> { });
+            return parallelizer.propagate(previousDate.shiftedBy(-1.0e-3), currentDate);
+        }
+
+        // propagate all sigma points independently
+        final List<Future<SpacecraftState>> futures = new ArrayList<>(propagators.size());
+        for (final Propagator propagator : propagators) {
+            futures.add(executor.submit(() -> propagator.propagate(previousDate.shiftedBy(-1.0e-3), currentDate)));
+        }
+
+        // gather predicted states, in sigma points order
+        final List<SpacecraftState> states = new ArrayList<>(futures.size());
+        try {
+            for (final Future<SpacecraftState> future : futures) {
+                states.add(future.get());
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            throw ConcurrencyUtils.cancelAndConvert(futures, e);
+        }
+
+        return states;
+
+    }
+
+    /** Predict states by linearizing sigma points around a reference trajectory.
+     * <p>
+     * Only the first sigma point is propagated, together with its state
+     * transition matrix Φ, the other predicted sigma points are computed
+     * as y<sub>0</sub> + Φ (σ<sub>i</sub> - σ<sub>0</sub>).
+     * </p>
+     * @param sigmaPoints sigma points
+     * @param index index of the propagator builder
+     * @return predicted states
+     */
+    private List<SpacecraftState> linearizeStates(final RealVector[] sigmaPoints, final int index) {
+
+        // propagate the reference sigma point, together with its state transition matrix
+        final NumericalPropagator reference = createPropagator(sigmaPoints[0].toArray(), index);
+        final MatricesHarvester   harvester = reference.setupMatricesComputation(STM_NAME, null, null);
+        final SpacecraftState     predicted = reference.propagate(previousDate.shiftedBy(-1.0e-3), currentDate);
+        final RealMatrix          stm       = harvester.getStateTransitionMatrix(predicted);
+        final double[] predictedArray = new double[sigmaPoints[0].getDimension()];
+        orbitTypes[index].mapOrbitToArray(predicted.getOrbit(), angleTypes[index], predictedArray, null);
+        final RealVector predictedReference = new ArrayRealVector(predictedArray, false);
+
+        final NumericalPropagatorBuilder builder = builders.get(index);
+        final List<SpacecraftState> states = new ArrayList<>(sigmaPoints.length);
+        states.add(predicted);
+        for (int i = 1; i < sigmaPoints.length; ++i) {
+            final RealVector linearized = predictedReference.add(stm.operate(sigmaPoints[i].subtract(sigmaPoints[0])));
+            final Orbit orbit = orbitTypes[index].mapArrayToOrbit(linearized.toArray(), null, angleTypes[index],
+                                                                  currentDate, builder.getMu(), builder.getFrame());
+            final Attitude attitude = builder.getAttitudeProvider().getAttitude(orbit, currentDate, builder.getFrame());
+            states.add(new SpacecraftState(orbit, attitude, predicted.getMass()));
+        }
 
-        // Return
         return states;
 
     }
@@ -485,7 +593,7 @@ public class UnscentedKalmanModel implements KalmanEstimation, UnscentedProcess<
      * @param index the index corresponding to the satellite one is dealing with
      * @return the corresponding orbit propagator
      */
-    private Propagator createPropagator(final double[] point, final int index) {
+    private NumericalPropagator createPropagator(final double[] point, final int index) {
         // Create a new instance of the current propagator builder
         final NumericalPropagatorBuilder copy = builders.get(index).copy();
         // Convert the given sigma point to an orbit
@@ -398,13 +398,14 @@ public abstract class AbstractFrames implements Frames {
             if (frame == null) {
                 // it's the first time we need this frame, build it and store it
                 final EOPHistory eopHistory = getEOPHistory(conventions, simpleEOP);
-                final TransformProvider shifting =
+                final ShiftingTransformProvider shifting =
                         new ShiftingTransformProvider(new CIRFProvider(eopHistory),
                                 CartesianDerivativesFilter.USE_PVA,
                                 AngularDerivativesFilter.USE_R,
                                 6, Constants.JULIAN_DAY / 24,
                                 OrekitConfiguration.getCacheSlotsNumber(),
                                 Constants.JULIAN_YEAR, 30 * Constants.JULIAN_DAY);
+                registerForUpdates(eopHistory, shifting);
                 frame = new FactoryManagedFrame(getGCRF(), shifting, true, factoryKey);
                 frames.put(factoryKey, frame);
             }
@@ -542,13 +543,14 @@ public abstract class AbstractFrames implements Frames {
                 final EOPHistory        eopHistory = todRaw.getEOPHistory();
                 final GTODProvider      gtodRaw    =
                         new GTODProvider(conventions, eopHistory, getTimeScales());
-                final TransformProvider gtodShifting =
+                final ShiftingTransformProvider gtodShifting =
                         new ShiftingTransformProvider(gtodRaw,
                                 CartesianDerivativesFilter.USE_PVA,
                                 AngularDerivativesFilter.USE_R,
                                 todInterpolating.getGridPoints(), todInterpolating.getStep(),
                                 OrekitConfiguration.getCacheSlotsNumber(),
                                 Constants.JULIAN_YEAR, 30 * Constants.JULIAN_DAY);
+                registerForUpdates(eopHistory, gtodShifting);
                 frame = new FactoryManagedFrame(tod, gtodShifting, false, factoryKey);
                 frames.put(factoryKey, frame);
             }
@@ -627,7 +629,7 @@ public abstract class AbstractFrames implements Frames {
                 final EOPHistory eopHistory = applyEOPCorr ?
                         getEOPHistory(conventions, simpleEOP) :
                         null;
-                final TransformProvider shifting =
+                final ShiftingTransformProvider shifting =
                         new ShiftingTransformProvider(
                                 new TODProvider(conventions, eopHistory, getTimeScales()),
                                 CartesianDerivativesFilter.USE_PVA,
@@ -635,6 +637,7 @@ public abstract class AbstractFrames implements Frames {
                                 interpolationPoints, Constants.JULIAN_DAY / pointsPerDay,
                                 OrekitConfiguration.getCacheSlotsNumber(),
                                 Constants.JULIAN_YEAR, 30 * Constants.JULIAN_DAY);
+                registerForUpdates(eopHistory, shifting);
                 frame = new FactoryManagedFrame(getMOD(conventions, applyEOPCorr), shifting, true, factoryKey);
                 frames.put(factoryKey, frame);
             }
@@ -774,6 +777,17 @@ public abstract class AbstractFrames implements Frames {
         return timeScales;
     }
 
+    /** Register a cached transform provider for invalidation when EOP are updated.
+     * @param eopHistory EOP history used by the raw provider (may be null)
+     * @param provider cached provider to invalidate when EOP are updated
+     * @since 11.4
+     */
+    private void registerForUpdates(final EOPHistory eopHistory, final ShiftingTransformProvider provider) {
+        if (eopHistory instanceof UpdatableEOPHistory) {
+            ((UpdatableEOPHistory) eopHistory).addListener(provider::invalidate);
+        }
+    }
+
     /** Local class for different ITRF versions keys.
      * @since 9.2
      */
@@ -829,4 +843,5 @@ public abstract class AbstractFrames implements Frames {
         }
 
     }
+
 }
@@ -55,21 +55,26 @@ import org.orekit.utils.TimeStampedGenerator;
  */
 public class EOPHistory implements Serializable {
 
+    /** Number of points to use in interpolation. */
+    static final int INTERPOLATION_POINTS = 4;
+
     /** Serializable UID. */
     private static final long serialVersionUID = 20191119L;
 
-    /** Number of points to use in interpolation. */
-    private static final int INTERPOLATION_POINTS = 4;
-
     /**
      * If this history has any EOP data.
      *
      * @see #hasDataFor(AbsoluteDate)
      */
-    private final boolean hasData;
+    private volatile boolean hasData;
 
-    /** EOP history entries. */
-    private final transient ImmutableTimeStampedCache<EOPEntry> cache;
+    /** EOP history entries.
+     * <p>
+     * The cache is immutable, but the reference may be replaced
+     * by {@link UpdatableEOPHistory}.
+     * </p>
+     */
+    private transient volatile ImmutableTimeStampedCache<EOPEntry> cache;
 
     /** IERS conventions to which EOP refers. */
     private final IERSConventions conventions;
@@ -127,14 +132,28 @@ public class EOPHistory implements Serializable {
         this.conventions      = conventions;
         this.tidalCorrection  = tidalCorrection;
         this.timeScales = timeScales;
+        setEntries(data);
+    }
+
+    /** Set the EOP entries.
+     * <p>
+     * The entries are replaced atomically, i.e. threads using the history
+     * concurrently see either the previous entries or the new ones, never
+     * a mix of both.
+     * </p>
+     * @param data the EOP data to use
+     * @since 11.4
+     */
+    void setEntries(final Collection<? extends EOPEntry> data) {
         if (data.size() >= 1) {
             // enough data to interpolate
-            cache = new ImmutableTimeStampedCache<EOPEntry>(FastMath.min(INTERPOLATION_POINTS, data.size()), data);
+            // (cache is set before the flag, so readers seeing the flag also see the cache)
+            cache   = new ImmutableTimeStampedCache<EOPEntry>(FastMath.min(INTERPOLATION_POINTS, data.size()), data);
             hasData = true;
         } else {
             // not enough data to interpolate -> always use null correction
-            cache = ImmutableTimeStampedCache.emptyCache();
             hasData = false;
+            cache   = ImmutableTimeStampedCache.emptyCache();
         }
     }
 
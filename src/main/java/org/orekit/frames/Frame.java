@@ -17,6 +17,8 @@
 package org.orekit.frames;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -26,6 +28,7 @@ import org.orekit.errors.OrekitIllegalArgumentException;
 import org.orekit.errors.OrekitMessages;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.FieldAbsoluteDate;
+import org.orekit.utils.TimeStampedPVCoordinates;
 
 
 /** Tridimensional references frames class.
@@ -267,6 +270,62 @@ public class Frame implements Serializable {
                 FieldTransform::getInverse);
     }
 
+    /** Get the transforms from the instance to another frame at several dates.
+     * <p>
+     * This method gives the same results as calling {@link #getTransformTo(Frame,
+     * AbsoluteDate)} for each date, but the path between the two frames in the
+     * frames tree is computed only once for all dates, using a {@link FramePath}.
+     * If dates are sorted in chronological order, the caches of the transform
+     * providers along the path are also walked sequentially, which is their most
+     * efficient access pattern.
+     * </p>
+     * @param destination destination frame to which we want to transform vectors
+     * @param dates dates at which transforms are desired (preferably sorted)
+     * @return transforms from the instance to the destination frame, one for each date
+     * @since 11.4
+     */
+    public List<Transform> getTransformsTo(final Frame destination, final List<AbsoluteDate> dates) {
+        return getPathTo(destination).getTransforms(dates);
+    }
+
+    /** Get a reusable path from the instance to another frame.
+     * <p>
+     * The path can be used to compute transforms between the two frames
+     * at many dates, without looking up the frames tree at each call.
+     * </p>
+     * @param destination destination frame to which we want to transform vectors
+     * @return path from the instance to the destination frame
+     * @since 11.4
+     */
+    public FramePath getPathTo(final Frame destination) {
+        return new FramePath(this, destination);
+    }
+
+    /** Transform position-velocity coordinates from the instance to another frame.
+     * <p>
+     * This method uses {@link #getTransformsTo(Frame, List)} to compute all
+     * transforms, hence it is efficient for large sets of coordinates, typically
+     * when converting an ephemeris from one frame to another one.
+     * </p>
+     * @param destination destination frame
+     * @param pv coordinates in the instance frame (preferably sorted in chronological order)
+     * @return coordinates in the destination frame
+     * @since 11.4
+     */
+    public List<TimeStampedPVCoordinates> transformPVCoordinates(final Frame destination,
+                                                                 final List<? extends TimeStampedPVCoordinates> pv) {
+        final List<AbsoluteDate> dates = new ArrayList<>(pv.size());
+        for (final TimeStampedPVCoordinates tpv : pv) {
+            dates.add(tpv.getDate());
+        }
+        final List<Transform> transforms = getTransformsTo(destination, dates);
+        final List<TimeStampedPVCoordinates> transformed = new ArrayList<>(pv.size());
+        for (int i = 0; i < pv.size(); ++i) {
+            transformed.add(transforms.get(i).transformPVCoordinates(pv.get(i)));
+        }
+        return transformed;
+    }
+
     /**
      * Get the static portion of the transform from the instance to another
      * frame. The returned transform is static in the sense that it includes
@@ -348,7 +407,7 @@ public class Frame implements Serializable {
      * @param to destination frame
      * @return an ancestor frame of both <code>from</code> and <code>to</code>
      */
-    private static Frame findCommon(final Frame from, final Frame to) {
+    static Frame findCommon(final Frame from, final Frame to) {
 
         // select deepest frames that could be the common ancestor
         Frame currentF = from.depth > to.depth ? from.getAncestor(from.depth - to.depth) : from;
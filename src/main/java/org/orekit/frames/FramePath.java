@@ -0,0 +1,373 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.frames;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hipparchus.CalculusFieldElement;
+import org.hipparchus.geometry.euclidean.threed.Rotation;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.FieldAbsoluteDate;
+
+/** Precomputed path between two frames in the frames tree.
+ * <p>
+ * Each call to {@link Frame#getTransformTo(Frame, AbsoluteDate)} looks up
+ * the common ancestor of the two frames and then composes the transforms
+ * of all frames along the path. When transforms between the same pair of
+ * frames are needed many times, as in measurements models or force models,
+ * this class allows to perform the look-up only once and to store the
+ * transform providers along the path in arrays.
+ * </p>
+ * <p>
+ * The {@link #getStaticTransform(AbsoluteDate) static transforms} and
+ * {@link #transformPosition(AbsoluteDate, Vector3D) positions transforms}
+ * are computed by accumulating the rotation quaternion and the translation
+ * components in primitive variables while walking the path, so no intermediate
+ * transform is built.
+ * </p>
+ * <p>
+ * Instances of this class are immutable, they can therefore be shared
+ * between threads, as long as the transform providers are themselves
+ * thread-safe, which is the case for all frames provided by Orekit.
+ * </p>
+ * @see Frame#getPathTo(Frame)
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+public class FramePath {
+
+    /** Source frame. */
+    private final Frame source;
+
+    /** Destination frame. */
+    private final Frame destination;
+
+    /** Providers from source (included) up to common ancestor (excluded). */
+    private final TransformProvider[] sourcePath;
+
+    /** Providers from destination (included) up to common ancestor (excluded). */
+    private final TransformProvider[] destinationPath;
+
+    /** Simple constructor.
+     * @param source source frame
+     * @param destination destination frame
+     */
+    public FramePath(final Frame source, final Frame destination) {
+        final Frame common   = Frame.findCommon(source, destination);
+        this.source          = source;
+        this.destination     = destination;
+        this.sourcePath      = getProvidersPath(source, common);
+        this.destinationPath = getProvidersPath(destination, common);
+    }
+
+    /** Get the source frame.
+     * @return source frame
+     */
+    public Frame getSource() {
+        return source;
+    }
+
+    /** Get the destination frame.
+     * @return destination frame
+     */
+    public Frame getDestination() {
+        return destination;
+    }
+
+    /** Get the transform from source to destination.
+     * <p>
+     * The result is the same as {@link Frame#getTransformTo(Frame, AbsoluteDate)
+     * source.getTransformTo(destination, date)}.
+     * </p>
+     * @param date date of the transform
+     * @return transform from source to destination
+     */
+    public Transform getTransform(final AbsoluteDate date) {
+
+        if (source == destination) {
+            // shortcut for special case that may be frequent
+            return Transform.IDENTITY;
+        }
+
+        // transform from common to source
+        Transform commonToSource = Transform.IDENTITY;
+        for (final TransformProvider provider : sourcePath) {
+            commonToSource = new Transform(date, provider.getTransform(date), commonToSource);
+        }
+
+        // transform from common to destination
+        Transform commonToDestination = Transform.IDENTITY;
+        for (final TransformProvider provider : destinationPath) {
+            commonToDestination = new Transform(date, provider.getTransform(date), commonToDestination);
+        }
+
+        // transform from source to destination via common
+        return new Transform(date, commonToSource.getInverse(), commonToDestination);
+
+    }
+
+    /** Get the transform from source to destination.
+     * <p>
+     * The result is the same as {@link Frame#getTransformTo(Frame, FieldAbsoluteDate)
+     * source.getTransformTo(destination, date)}.
+     * </p>
+     * @param date date of the transform
+     * @param <T> the type of the field elements
+     * @return transform from source to destination
+     */
+    public <T extends CalculusFieldElement<T>> FieldTransform<T> getTransform(final FieldAbsoluteDate<T> date) {
+
+        final FieldTransform<T> identity = FieldTransform.getIdentity(date.getField());
+        if (source == destination) {
+            // shortcut for special case that may be frequent
+            return identity;
+        }
+
+        // transform from common to source
+        FieldTransform<T> commonToSource = identity;
+        for (final TransformProvider provider : sourcePath) {
+            commonToSource = new FieldTransform<>(date, provider.getTransform(date), commonToSource);
+        }
+
+        // transform from common to destination
+        FieldTransform<T> commonToDestination = identity;
+        for (final TransformProvider provider : destinationPath) {
+            commonToDestination = new FieldTransform<>(date, provider.getTransform(date), commonToDestination);
+        }
+
+        // transform from source to destination via common
+        return new FieldTransform<>(date, commonToSource.getInverse(), commonToDestination);
+
+    }
+
+    /** Get the transforms from source to destination at several dates.
+     * <p>
+     * If dates are sorted in chronological order, the caches of the transform
+     * providers along the path are walked sequentially, which is their most
+     * efficient access pattern.
+     * </p>
+     * @param dates dates at which transforms are desired (preferably sorted)
+     * @return transforms from source to destination, one for each date
+     */
+    public List<Transform> getTransforms(final List<AbsoluteDate> dates) {
+        final List<Transform> transforms = new ArrayList<>(dates.size());
+        for (final AbsoluteDate date : dates) {
+            transforms.add(getTransform(date));
+        }
+        return transforms;
+    }
+
+    /** Get the static portion of the transform from source to destination.
+     * <p>
+     * The result is the same as {@link Frame#getStaticTransformTo(Frame, AbsoluteDate)
+     * source.getStaticTransformTo(destination, date)}, up to numerical noise.
+     * Only the final transform is built, composition along the path is
+     * performed in place.
+     * </p>
+     * @param date date of the transform
+     * @return static transform from source to destination
+     */
+    public StaticTransform getStaticTransform(final AbsoluteDate date) {
+
+        if (source == destination) {
+            // shortcut for special case that may be frequent
+            return StaticTransform.getIdentity();
+        }
+
+        // transforms from common to source and from common to destination
+        final double[] commonToSource      = compose(sourcePath, date);
+        final double[] commonToDestination = compose(destinationPath, date);
+
+        // composing the inverse of the first transform with the second transform
+        // results in translation rS(pD - pS) and rotation rS⁻¹ followed by rD
+        final double sq0 = commonToSource[0];
+        final double sq1 = commonToSource[1];
+        final double sq2 = commonToSource[2];
+        final double sq3 = commonToSource[3];
+        final double dx  = commonToDestination[4] - commonToSource[4];
+        final double dy  = commonToDestination[5] - commonToSource[5];
+        final double dz  = commonToDestination[6] - commonToSource[6];
+        final double s   = sq1 * dx + sq2 * dy + sq3 * dz;
+        final Vector3D translation =
+                        new Vector3D(2 * (sq0 * (dx * sq0 - (sq2 * dz - sq3 * dy)) + s * sq1) - dx,
+                                     2 * (sq0 * (dy * sq0 - (sq3 * dx - sq1 * dz)) + s * sq2) - dy,
+                                     2 * (sq0 * (dz * sq0 - (sq1 * dy - sq2 * dx)) + s * sq3) - dz);
+        final double[] q = new double[] {
+            -sq0, sq1, sq2, sq3
+        };
+        composeRotation(q, commonToDestination);
+
+        return StaticTransform.of(date, translation, new Rotation(q[0], q[1], q[2], q[3], false));
+
+    }
+
+    /** Transform a position from source to destination.
+     * <p>
+     * The position is transformed successively by the static transforms of
+     * all frames along the path, without composing them first.
+     * </p>
+     * @param date date of the transform
+     * @param position position in source frame
+     * @return position in destination frame
+     */
+    public Vector3D transformPosition(final AbsoluteDate date, final Vector3D position) {
+
+        double x = position.getX();
+        double y = position.getY();
+        double z = position.getZ();
+
+        // go up from source to common ancestor, applying inverse transforms
+        for (final TransformProvider provider : sourcePath) {
+            final StaticTransform t = provider.getStaticTransform(date);
+            final Rotation        r = t.getRotation();
+            final double q0 = r.getQ0();
+            final double q1 = r.getQ1();
+            final double q2 = r.getQ2();
+            final double q3 = r.getQ3();
+            final double s  = q1 * x + q2 * y + q3 * z;
+            final double m0 = -q0;
+            final double xr = 2 * (m0 * (x * m0 - (q2 * z - q3 * y)) + s * q1) - x;
+            final double yr = 2 * (m0 * (y * m0 - (q3 * x - q1 * z)) + s * q2) - y;
+            final double zr = 2 * (m0 * (z * m0 - (q1 * y - q2 * x)) + s * q3) - z;
+            final Vector3D p = t.getTranslation();
+            x = xr - p.getX();
+            y = yr - p.getY();
+            z = zr - p.getZ();
+        }
+
+        // go down from common ancestor to destination, applying direct transforms
+        for (int i = destinationPath.length - 1; i >= 0; --i) {
+            final StaticTransform t = destinationPath[i].getStaticTransform(date);
+            final Vector3D p = t.getTranslation();
+            final double xt = x + p.getX();
+            final double yt = y + p.getY();
+            final double zt = z + p.getZ();
+            final Rotation r = t.getRotation();
+            final double q0 = r.getQ0();
+            final double q1 = r.getQ1();
+            final double q2 = r.getQ2();
+            final double q3 = r.getQ3();
+            final double s  = q1 * xt + q2 * yt + q3 * zt;
+            x = 2 * (q0 * (xt * q0 - (q2 * zt - q3 * yt)) + s * q1) - xt;
+            y = 2 * (q0 * (yt * q0 - (q3 * xt - q1 * zt)) + s * q2) - yt;
+            z = 2 * (q0 * (zt * q0 - (q1 * yt - q2 * xt)) + s * q3) - zt;
+        }
+
+        return new Vector3D(x, y, z);
+
+    }
+
+    /** Compose static transforms along a path, in place.
+     * @param path providers from a frame up to the common ancestor
+     * @param date date of the transform
+     * @return composed transform from common ancestor to frame, as an array
+     * containing rotation quaternion q0, q1, q2, q3 followed by translation x, y, z
+     */
+    private static double[] compose(final TransformProvider[] path, final AbsoluteDate date) {
+
+        // start from identity
+        final double[] acc = new double[] {
+            1.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0
+        };
+
+        for (final TransformProvider provider : path) {
+
+            // the transform of a frame is applied before the transforms of its descendants
+            final StaticTransform t = provider.getStaticTransform(date);
+            final Rotation r  = t.getRotation();
+            final Vector3D p  = t.getTranslation();
+            final double   q0 = r.getQ0();
+            final double   q1 = r.getQ1();
+            final double   q2 = r.getQ2();
+            final double   q3 = r.getQ3();
+
+            // translation: p + r⁻¹(pAcc)
+            final double x  = acc[4];
+            final double y  = acc[5];
+            final double z  = acc[6];
+            final double s  = q1 * x + q2 * y + q3 * z;
+            final double m0 = -q0;
+            acc[4] = p.getX() + 2 * (m0 * (x * m0 - (q2 * z - q3 * y)) + s * q1) - x;
+            acc[5] = p.getY() + 2 * (m0 * (y * m0 - (q3 * x - q1 * z)) + s * q2) - y;
+            acc[6] = p.getZ() + 2 * (m0 * (z * m0 - (q1 * y - q2 * x)) + s * q3) - z;
+
+            // rotation: r followed by rAcc
+            final double a0 = acc[0];
+            final double a1 = acc[1];
+            final double a2 = acc[2];
+            final double a3 = acc[3];
+            acc[0] = q0;
+            acc[1] = q1;
+            acc[2] = q2;
+            acc[3] = q3;
+            composeRotation(acc, a0, a1, a2, a3);
+
+        }
+
+        return acc;
+
+    }
+
+    /** Compose a rotation with a second one, in place.
+     * @param q first rotation quaternion, replaced by the composed rotation
+     * (only the first four elements are used)
+     * @param second array whose first four elements are the second rotation quaternion
+     */
+    private static void composeRotation(final double[] q, final double[] second) {
+        composeRotation(q, second[0], second[1], second[2], second[3]);
+    }
+
+    /** Compose a rotation with a second one, in place.
+     * <p>
+     * This is equivalent to {@code r1.compose(r2, RotationConvention.FRAME_TRANSFORM)}.
+     * </p>
+     * @param q first rotation quaternion, replaced by the composed rotation
+     * (only the first four elements are used)
+     * @param p0 scalar component of the second rotation quaternion
+     * @param p1 first vectorial component of the second rotation quaternion
+     * @param p2 second vectorial component of the second rotation quaternion
+     * @param p3 third vectorial component of the second rotation quaternion
+     */
+    private static void composeRotation(final double[] q,
+                                        final double p0, final double p1,
+                                        final double p2, final double p3) {
+        final double q0 = q[0];
+        final double q1 = q[1];
+        final double q2 = q[2];
+        final double q3 = q[3];
+        q[0] = q0 * p0 - (q1 * p1 + q2 * p2 + q3 * p3);
+        q[1] = q1 * p0 + q0 * p1 + (q2 * p3 - q3 * p2);
+        q[2] = q2 * p0 + q0 * p2 + (q3 * p1 - q1 * p3);
+        q[3] = q3 * p0 + q0 * p3 + (q1 * p2 - q2 * p1);
+    }
+
+    /** Get the transform providers from a frame up to one of its ancestors.
+     * @param from frame from which the path starts
+     * @param ancestor ancestor at which the path ends (excluded)
+     * @return providers of the frames from {@code from} (included) up to {@code ancestor} (excluded)
+     */
+    private static TransformProvider[] getProvidersPath(final Frame from, final Frame ancestor) {
+        final List<TransformProvider> path = new ArrayList<>();
+        for (Frame frame = from; frame != ancestor; frame = frame.getParent()) {
+            path.add(frame.getTransformProvider());
+        }
+        return path.toArray(new TransformProvider[path.size()]);
+    }
+
+}
@@ -121,6 +121,23 @@ public class InterpolatingTransformProvider implements TransformProvider {
         return step;
     }
 
+    /** Invalidate the cached transforms in a time range.
+     * <p>
+     * This method must be called when the underlying raw provider
+     * has changed in the time range, for example when it depends on
+     * {@link UpdatableEOPHistory updatable Earth Orientation Parameters}.
+     * </p>
+     * @param start start of the time range
+     * @param end end of the time range
+     * @since 11.4
+     */
+    public void invalidate(final AbsoluteDate start, final AbsoluteDate end) {
+        cache.invalidate(start, end);
+        for (final Object fieldCache : fieldCaches.values()) {
+            ((GenericTimeStampedCache<?>) fieldCache).invalidate(start, end);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public Transform getTransform(final AbsoluteDate date) {
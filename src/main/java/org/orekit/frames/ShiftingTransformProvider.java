@@ -120,6 +120,32 @@ public class ShiftingTransformProvider implements TransformProvider {
         return interpolatingProvider.getStep();
     }
 
+    /** Invalidate the cached transforms in a time range.
+     * <p>
+     * This method must be called when the underlying raw provider
+     * has changed in the time range, for example when it depends on
+     * {@link UpdatableEOPHistory updatable Earth Orientation Parameters}.
+     * </p>
+     * @param start start of the time range
+     * @param end end of the time range
+     * @since 11.4
+     */
+    public void invalidate(final AbsoluteDate start, final AbsoluteDate end) {
+
+        // raw samples are computed only within the range
+        interpolatingProvider.invalidate(start, end);
+
+        // shifted samples are interpolated using raw samples up to one interpolation grid away
+        final double margin = getGridPoints() * getStep();
+        final AbsoluteDate extendedStart = start.shiftedBy(-margin);
+        final AbsoluteDate extendedEnd   = end.shiftedBy(margin);
+        cache.invalidate(extendedStart, extendedEnd);
+        for (final Object fieldCache : fieldCaches.values()) {
+            ((GenericTimeStampedCache<?>) fieldCache).invalidate(extendedStart, extendedEnd);
+        }
+
+    }
+
     /** {@inheritDoc} */
     public Transform getTransform(final AbsoluteDate date) {
         // retrieve a sample from the thread-safe cache
@@ -0,0 +1,155 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.frames;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hipparchus.util.FastMath;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.AbsoluteDateArray;
+import org.orekit.time.TimeScales;
+import org.orekit.utils.IERSConventions;
+
+/** Earth Orientation Parameters history that can be updated in place.
+ * <p>
+ * Long-running services need to ingest new EOP (for example the daily
+ * finals2000A or Bulletin A updates) without rebuilding the history, the
+ * frames that depend on it and all their caches. This class allows to
+ * {@link #update(Collection) update} the entries: new entries are appended
+ * and entries at already known dates are replaced. The update is performed
+ * by copy-on-write, so threads using the history concurrently see either
+ * the previous entries or the new ones, and the time range covered by the
+ * history never shrinks.
+ * </p>
+ * <p>
+ * After each update, the registered {@link UpdateListener listeners} are
+ * notified of the time range over which interpolated EOP may have changed.
+ * The frames built by {@link AbstractFrames} register their cached transform
+ * providers automatically when their EOP history is an instance of this class,
+ * so only the cache slots affected by the update are dropped. Using such an
+ * history consistently for frames and UT1 is done by returning it from
+ * {@link org.orekit.time.AbstractTimeScales#getEopHistory(IERSConventions, boolean)}
+ * in a custom time scales implementation, and then building the frames using
+ * {@link Frames#of(TimeScales, java.util.function.Supplier) Frames.of(...)}.
+ * </p>
+ * <p>
+ * Serializing an instance of this class produces a regular {@link EOPHistory}
+ * with the entries available at serialization time.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+public class UpdatableEOPHistory extends EOPHistory {
+
+    /** Serializable UID. */
+    private static final long serialVersionUID = 20221019L;
+
+    /** Listeners to notify after each update. */
+    private final transient List<UpdateListener> listeners;
+
+    /** Simple constructor.
+     * @param conventions IERS conventions to which EOP refers
+     * @param data the initial EOP data to use
+     * @param simpleEOP if true, tidal effects are ignored when interpolating EOP
+     * @param timeScales to use when computing EOP corrections.
+     */
+    public UpdatableEOPHistory(final IERSConventions conventions,
+                               final Collection<? extends EOPEntry> data,
+                               final boolean simpleEOP,
+                               final TimeScales timeScales) {
+        super(conventions, data, simpleEOP, timeScales);
+        this.listeners = new CopyOnWriteArrayList<>();
+    }
+
+    /** Add a listener to be notified after each update.
+     * @param listener listener to add
+     */
+    public void addListener(final UpdateListener listener) {
+        listeners.add(listener);
+    }
+
+    /** Remove a listener.
+     * @param listener listener to remove
+     */
+    public void removeListener(final UpdateListener listener) {
+        listeners.remove(listener);
+    }
+
+    /** Update the history.
+     * <p>
+     * Entries whose dates are not yet in the history are added, entries whose
+     * dates are already in the history replace the existing ones. Existing
+     * entries are never removed.
+     * </p>
+     * @param newEntries new entries (may be in any order)
+     */
+    public synchronized void update(final Collection<? extends EOPEntry> newEntries) {
+
+        if (newEntries.isEmpty()) {
+            return;
+        }
+
+        // merge existing and new entries, new entries override existing ones
+        final SortedMap<AbsoluteDate, EOPEntry> merged = new TreeMap<>();
+        for (final EOPEntry entry : getEntries()) {
+            merged.put(entry.getDate(), entry);
+        }
+        AbsoluteDate earliest = AbsoluteDate.FUTURE_INFINITY;
+        AbsoluteDate latest   = AbsoluteDate.PAST_INFINITY;
+        for (final EOPEntry entry : newEntries) {
+            merged.put(entry.getDate(), entry);
+            earliest = entry.getDate().isBefore(earliest) ? entry.getDate() : earliest;
+            latest   = entry.getDate().isAfter(latest)    ? entry.getDate() : latest;
+        }
+        final List<EOPEntry> entries = new ArrayList<>(merged.values());
+
+        // publish the new entries
+        setEntries(entries);
+
+        // interpolation uses a few neighboring entries, so changes
+        // in the entries affect dates up to a few entries away
+        final AbsoluteDateArray dates = new AbsoluteDateArray(entries);
+        final int iStart = FastMath.max(0, dates.floorIndex(earliest) - INTERPOLATION_POINTS);
+        final int iEnd   = FastMath.min(dates.size() - 1, dates.floorIndex(latest) + INTERPOLATION_POINTS);
+        final AbsoluteDate start = dates.getDate(iStart);
+        final AbsoluteDate end   = dates.getDate(iEnd);
+        for (final UpdateListener listener : listeners) {
+            listener.entriesUpdated(start, end);
+        }
+
+    }
+
+    /** Interface for objects that must be notified when the history is updated.
+     * @since 11.4
+     */
+    @FunctionalInterface
+    public interface UpdateListener {
+
+        /** Notify that interpolated EOP may have changed in a time range.
+         * @param start start of the time range
+         * @param end end of the time range
+         */
+        void entriesUpdated(AbsoluteDate start, AbsoluteDate end);
+
+    }
+
+}
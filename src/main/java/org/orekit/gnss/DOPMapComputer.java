@@ -0,0 +1,400 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.gnss;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+import org.orekit.bodies.GeodeticPoint;
+import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.Frame;
+import org.orekit.propagation.Propagator;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.ConcurrencyUtils;
+import org.orekit.utils.ElevationMask;
+
+/**
+ * Computer for {@link DOP dilution of precision} maps over many locations.
+ * <p>
+ * Contrary to {@link DOPComputer} which handles one location, this class
+ * propagates each GNSS spacecraft only once per date, in the body frame,
+ * and then evaluates visibility and DOP for all locations. As the per-location
+ * computation only involves the shared spacecraft positions and some
+ * precomputed local axes, locations can be processed concurrently by an
+ * {@link #withExecutor(ExecutorService) executor}.
+ * </p>
+ * <p>
+ * The DOP values are the same as the ones computed by {@link DOPComputer}
+ * for each location.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+public class DOPMapComputer {
+
+    /** Minimum number of propagators for DOP computation. */
+    private static final int DOP_MIN_PROPAGATORS = 4;
+
+    /** Number of locations processed by each task. */
+    private static final int CHUNK_SIZE = 256;
+
+    /** Body shape. */
+    private final OneAxisEllipsoid shape;
+
+    /** Locations. */
+    private final List<GeodeticPoint> locations;
+
+    /** Precomputed local axes. */
+    private final LocalAxes[] axes;
+
+    /** Minimum elevation value used if no mask is defined. */
+    private final double minElevation;
+
+    /** Elevation mask used for computation, if defined. */
+    private final ElevationMask elevationMask;
+
+    /** Executor for concurrent processing of locations (null for sequential processing). */
+    private final ExecutorService executor;
+
+    /** Constructor for DOP maps computation.
+     * @param shape body shape on which locations are defined
+     * @param locations locations where DOP will be computed
+     * @param axes precomputed local axes
+     * @param minElevation the minimum elevation to consider (rad)
+     * @param elevationMask the elevation mask to consider
+     * @param executor executor for concurrent processing of locations (null for sequential processing)
+     */
+    private DOPMapComputer(final OneAxisEllipsoid shape, final List<GeodeticPoint> locations,
+                           final LocalAxes[] axes, final double minElevation,
+                           final ElevationMask elevationMask, final ExecutorService executor) {
+        this.shape         = shape;
+        this.locations     = locations;
+        this.axes          = axes;
+        this.minElevation  = minElevation;
+        this.elevationMask = elevationMask;
+        this.executor      = executor;
+    }
+
+    /**
+     * Creates a DOP map computer.
+     *
+     * <p>A minimum elevation of 0° is taken into account to compute
+     * visibility between the locations and the GNSS spacecrafts, and
+     * locations are processed sequentially.</p>
+     *
+     * @param shape the body shape on which the locations are defined
+     * @param locations the points of interest
+     * @return a configured DOP map computer
+     */
+    public static DOPMapComputer create(final OneAxisEllipsoid shape, final List<GeodeticPoint> locations) {
+        final LocalAxes[] axes = new LocalAxes[locations.size()];
+        for (int i = 0; i < axes.length; ++i) {
+            axes[i] = new LocalAxes(shape, locations.get(i));
+        }
+        return new DOPMapComputer(shape, Collections.unmodifiableList(new ArrayList<>(locations)), axes,
+                                  DOPComputer.DOP_MIN_ELEVATION, null, null);
+    }
+
+    /**
+     * Create a regular latitude/longitude grid at zero altitude.
+     * <p>
+     * Points are sorted with longitude varying fastest, so the DOP array computed for
+     * one date can be seen as a row-major matrix indexed by latitude and longitude.
+     * </p>
+     * @param minLatitude minimum latitude (rad)
+     * @param maxLatitude maximum latitude (rad)
+     * @param latitudeStep latitude step (rad)
+     * @param minLongitude minimum longitude (rad)
+     * @param maxLongitude maximum longitude (rad)
+     * @param longitudeStep longitude step (rad)
+     * @return grid points
+     */
+    public static List<GeodeticPoint> createGrid(final double minLatitude, final double maxLatitude,
+                                                 final double latitudeStep,
+                                                 final double minLongitude, final double maxLongitude,
+                                                 final double longitudeStep) {
+        final int nLat = 1 + (int) FastMath.floor((maxLatitude  - minLatitude)  / latitudeStep  + 1.0e-10);
+        final int nLon = 1 + (int) FastMath.floor((maxLongitude - minLongitude) / longitudeStep + 1.0e-10);
+        final List<GeodeticPoint> grid = new ArrayList<>(nLat * nLon);
+        for (int i = 0; i < nLat; ++i) {
+            final double latitude = minLatitude + i * latitudeStep;
+            for (int j = 0; j < nLon; ++j) {
+                grid.add(new GeodeticPoint(latitude, minLongitude + j * longitudeStep, 0.0));
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Set the minimum elevation.
+     *
+     * <p>This will override an elevation mask if it has been configured as such previously.</p>
+     *
+     * @param newMinElevation minimum elevation for visibility (rad)
+     * @return a new DOP map computer with updated configuration (the instance is not changed)
+     *
+     * @see #getMinElevation()
+     */
+    public DOPMapComputer withMinElevation(final double newMinElevation) {
+        return new DOPMapComputer(shape, locations, axes, newMinElevation, null, executor);
+    }
+
+    /**
+     * Set the elevation mask.
+     *
+     * <p>This will override the min elevation if it has been configured as such previously.</p>
+     *
+     * @param newElevationMask elevation mask to use for the computation
+     * @return a new DOP map computer with updated configuration (the instance is not changed)
+     *
+     * @see #getElevationMask()
+     */
+    public DOPMapComputer withElevationMask(final ElevationMask newElevationMask) {
+        return new DOPMapComputer(shape, locations, axes, DOPComputer.DOP_MIN_ELEVATION, newElevationMask, executor);
+    }
+
+    /**
+     * Set the executor for concurrent processing of locations.
+     *
+     * <p>The executor is not shut down by the computer.</p>
+     *
+     * @param newExecutor executor to use (null for sequential processing)
+     * @return a new DOP map computer with updated configuration (the instance is not changed)
+     */
+    public DOPMapComputer withExecutor(final ExecutorService newExecutor) {
+        return new DOPMapComputer(shape, locations, axes, minElevation, elevationMask, newExecutor);
+    }
+
+    /**
+     * Compute the {@link DOP} at a given date for all locations.
+     * <p>Four GNSS spacecraft at least are needed to compute the DOP.
+     * If less than 4 propagators are provided, an exception will be thrown.
+     * If less than 4 spacecrafts are visible at some location, all DOP values
+     * at this location will be set to {@link java.lang.Double#NaN NaN}.</p>
+     *
+     * @param date the computation date
+     * @param gnss the propagators for GNSS spacecraft involved in the DOP computation
+     * @return the {@link DOP} at all locations, in the same order as the locations
+     */
+    public DOP[] compute(final AbsoluteDate date, final List<Propagator> gnss) {
+
+        // Checks the number of provided propagators
+        if (gnss.size() < DOP_MIN_PROPAGATORS) {
+            throw new OrekitException(OrekitMessages.NOT_ENOUGH_GNSS_FOR_DOP, gnss.size(), DOP_MIN_PROPAGATORS);
+        }
+
+        // propagate each spacecraft only once, for all locations
+        final Frame bodyFrame = shape.getBodyFrame();
+        final Vector3D[] positions = new Vector3D[gnss.size()];
+        for (int k = 0; k < positions.length; ++k) {
+            positions[k] = gnss.get(k).getPVCoordinates(date, bodyFrame).getPosition();
+        }
+
+        final DOP[] dops = new DOP[axes.length];
+        if (executor == null) {
+            computeChunk(date, positions, dops, 0, dops.length);
+        } else {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int start = 0; start < dops.length; start += CHUNK_SIZE) {
+                final int chunkStart = start;
+                final int chunkEnd   = FastMath.min(dops.length, start + CHUNK_SIZE);
+                futures.add(executor.submit(() -> computeChunk(date, positions, dops, chunkStart, chunkEnd)));
+            }
+            try {
+                for (final Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException | ExecutionException e) {
+                throw ConcurrencyUtils.cancelAndConvert(futures, e);
+            }
+        }
+
+        return dops;
+
+    }
+
+    /**
+     * Compute the {@link DOP} maps on a regular time sampling.
+     * <p>
+     * Propagators are called with increasing dates, which is the most efficient
+     * way to use numerical propagators.
+     * </p>
+     * @param start start date
+     * @param end end date (included if it falls on the sampling)
+     * @param step sampling step (s)
+     * @param gnss the propagators for GNSS spacecraft involved in the DOP computation
+     * @return the {@link DOP} maps, one for each date
+     * @see #compute(AbsoluteDate, List)
+     */
+    public List<DOP[]> compute(final AbsoluteDate start, final AbsoluteDate end, final double step,
+                               final List<Propagator> gnss) {
+        final List<DOP[]> maps = new ArrayList<>();
+        final int n = 1 + (int) FastMath.floor(end.durationFrom(start) / step + 1.0e-10);
+        for (int i = 0; i < n; ++i) {
+            maps.add(compute(start.shiftedBy(i * step), gnss));
+        }
+        return maps;
+    }
+
+    /**
+     * Get the locations.
+     *
+     * @return the locations
+     */
+    public List<GeodeticPoint> getLocations() {
+        return locations;
+    }
+
+    /**
+     * Get the minimum elevation.
+     *
+     * @return the minimum elevation (rad)
+     */
+    public double getMinElevation() {
+        return minElevation;
+    }
+
+    /**
+     * Get the elevation mask.
+     *
+     * @return the elevation mask
+     */
+    public ElevationMask getElevationMask() {
+        return elevationMask;
+    }
+
+    /**
+     * Get the executor.
+     *
+     * @return the executor (null for sequential processing)
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /** Compute DOP for a range of locations.
+     * @param date the computation date
+     * @param positions spacecrafts positions in body frame
+     * @param dops placeholder for computed DOP
+     * @param start index of first location to process
+     * @param end index after last location to process
+     */
+    private void computeChunk(final AbsoluteDate date, final Vector3D[] positions,
+                              final DOP[] dops, final int start, final int end) {
+        final double[] row = new double[4];
+        for (int i = start; i < end; ++i) {
+
+            final LocalAxes local = axes[i];
+
+            // accumulate normal matrix H<sup>T</sup>H from visible spacecrafts
+            final double[][] normal = new double[4][4];
+            int satNb = 0;
+            for (final Vector3D position : positions) {
+                final Vector3D los = position.subtract(local.origin);
+                final double   x   = Vector3D.dotProduct(los, local.east);
+                final double   y   = Vector3D.dotProduct(los, local.north);
+                final double   z   = Vector3D.dotProduct(los, local.zenith);
+                final double   r   = FastMath.sqrt(x * x + y * y + z * z);
+                final double elev  = FastMath.asin(z / r);
+                final double elMin = (elevationMask != null) ?
+                                     elevationMask.getElevation(MathUtils.normalizeAngle(FastMath.atan2(x, y),
+                                                                                         FastMath.PI)) :
+                                     minElevation;
+                // Only visible satellites are considered
+                if (elev > elMin) {
+                    row[0] = x / r;
+                    row[1] = y / r;
+                    row[2] = z / r;
+                    row[3] = -1.;
+                    for (int k = 0; k < 4; ++k) {
+                        for (int l = 0; l < 4; ++l) {
+                            normal[k][l] += row[k] * row[l];
+                        }
+                    }
+                    satNb++;
+                }
+            }
+
+            dops[i] = satNb > 3 ?
+                      createDOP(locations.get(i), date, satNb, MatrixUtils.createRealMatrix(normal)) :
+                      new DOP(locations.get(i), date, satNb, Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN);
+
+        }
+    }
+
+    /** Create DOP from normal matrix.
+     * @param location location
+     * @param date the computation date
+     * @param satNb number of visible spacecrafts
+     * @param normal normal matrix H<sup>T</sup>H
+     * @return DOP at location
+     */
+    private static DOP createDOP(final GeodeticPoint location, final AbsoluteDate date,
+                                 final int satNb, final RealMatrix normal) {
+        final RealMatrix hInv = MatrixUtils.inverse(normal);
+        final double sx2 = hInv.getEntry(0, 0);
+        final double sy2 = hInv.getEntry(1, 1);
+        final double sz2 = hInv.getEntry(2, 2);
+        final double st2 = hInv.getEntry(3, 3);
+        return new DOP(location, date, satNb,
+                       FastMath.sqrt(hInv.getTrace()),
+                       FastMath.sqrt(sx2 + sy2 + sz2),
+                       FastMath.sqrt(sx2 + sy2),
+                       FastMath.sqrt(sz2),
+                       FastMath.sqrt(st2));
+    }
+
+    /** Local axes at one location. */
+    private static class LocalAxes {
+
+        /** Location in body frame. */
+        private final Vector3D origin;
+
+        /** East direction in body frame. */
+        private final Vector3D east;
+
+        /** North direction in body frame. */
+        private final Vector3D north;
+
+        /** Zenith direction in body frame. */
+        private final Vector3D zenith;
+
+        /** Simple constructor.
+         * @param shape body shape
+         * @param location location
+         */
+        LocalAxes(final OneAxisEllipsoid shape, final GeodeticPoint location) {
+            this.origin = shape.transform(location);
+            this.east   = location.getEast();
+            this.north  = location.getNorth();
+            this.zenith = location.getZenith();
+        }
+
+    }
+
+}
@@ -0,0 +1,156 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.gnss;
+
+import java.util.Arrays;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.orekit.errors.OrekitException;
+import org.orekit.time.AbsoluteDate;
+
+/** Time series of one observation type for one satellite.
+ * <p>
+ * Instances of this class are views over the primitive arrays of an
+ * {@link ObservationStore}, they are created without copying data.
+ * </p>
+ * @see ObservationStore#getSeries(SatelliteSystem, int, ObservationType, AbsoluteDate, AbsoluteDate)
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+public class ObservationSeries {
+
+    /** Store containing the epochs. */
+    private final ObservationStore store;
+
+    /** Observation type. */
+    private final ObservationType type;
+
+    /** Epochs indices. */
+    private final int[] epochs;
+
+    /** Observations values. */
+    private final double[] values;
+
+    /** Loss of lock indicators. */
+    private final byte[] lli;
+
+    /** Signal strengths. */
+    private final byte[] strengths;
+
+    /** Index of first row. */
+    private final int first;
+
+    /** Number of rows. */
+    private final int size;
+
+    /** Simple constructor.
+     * @param store store containing the epochs
+     * @param type observation type
+     * @param epochs epochs indices
+     * @param values observations values
+     * @param lli loss of lock indicators
+     * @param strengths signal strengths
+     * @param first index of first row
+     * @param size number of rows
+     */
+    ObservationSeries(final ObservationStore store, final ObservationType type,
+                      final int[] epochs, final double[] values, final byte[] lli, final byte[] strengths,
+                      final int first, final int size) {
+        this.store     = store;
+        this.type      = type;
+        this.epochs    = epochs;
+        this.values    = values;
+        this.lli       = lli;
+        this.strengths = strengths;
+        this.first     = first;
+        this.size      = size;
+    }
+
+    /** Get the observation type.
+     * @return observation type
+     */
+    public ObservationType getObservationType() {
+        return type;
+    }
+
+    /** Get the number of observations in the series.
+     * @return number of observations in the series
+     */
+    public int size() {
+        return size;
+    }
+
+    /** Get the index of the epoch of an observation in the store.
+     * @param i index of the observation in the series
+     * @return index of the epoch in the store
+     */
+    public int getEpochIndex(final int i) {
+        return epochs[row(i)];
+    }
+
+    /** Get the date of an observation.
+     * @param i index of the observation in the series
+     * @return date of the observation
+     */
+    public AbsoluteDate getDate(final int i) {
+        return store.getEpochDate(epochs[row(i)]);
+    }
+
+    /** Get the value of an observation.
+     * @param i index of the observation in the series
+     * @return value of the observation (NaN if not available)
+     */
+    public double getValue(final int i) {
+        return values[row(i)];
+    }
+
+    /** Get the loss of lock indicator of an observation.
+     * @param i index of the observation in the series
+     * @return loss of lock indicator of the observation
+     * ({@link ObservationStore#ABSENT} if not available)
+     */
+    public int getLossOfLockIndicator(final int i) {
+        return lli[row(i)];
+    }
+
+    /** Get the signal strength of an observation.
+     * @param i index of the observation in the series
+     * @return signal strength of the observation
+     */
+    public int getSignalStrength(final int i) {
+        return strengths[row(i)];
+    }
+
+    /** Get a copy of all the values of the series.
+     * @return copy of the values of the series
+     */
+    public double[] getValues() {
+        return Arrays.copyOfRange(values, first, first + size);
+    }
+
+    /** Get the row of an observation in the underlying arrays.
+     * @param i index of the observation in the series
+     * @return row in the underlying arrays
+     */
+    private int row(final int i) {
+        if (i < 0 || i >= size) {
+            throw new OrekitException(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE, i, 0, size - 1);
+        }
+        return first + i;
+    }
+
+}
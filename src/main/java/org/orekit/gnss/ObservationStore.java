@@ -0,0 +1,454 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.gnss;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.hipparchus.util.FastMath;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.time.AbsoluteDate;
+
+/** Columnar in-memory store for observations from one receiver.
+ * <p>
+ * Instead of one {@link ObservationDataSet} per satellite and epoch, each
+ * holding one {@link ObservationData} per observation type, this store
+ * keeps for each satellite an array of epochs indices and, for each observation
+ * type, primitive arrays of values, loss of lock indicators and signal strengths.
+ * This reduces memory consumption by more than an order of magnitude and allows
+ * fast extraction of {@link ObservationSeries time series} for one satellite,
+ * one signal and one time range.
+ * </p>
+ * <p>
+ * The store implements {@link RinexObservationHandler}, so it can be populated
+ * directly by a {@link RinexObservationLoader} in streaming mode. Observations
+ * data sets compatible with the rest of the library are rebuilt on the fly when
+ * needed.
+ * </p>
+ * <p>
+ * Observations must be added in chronological order. As the loss of lock
+ * indicators and signal strengths are single digits in RINEX files, they
+ * are stored as bytes.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+public class ObservationStore implements RinexObservationHandler {
+
+    /** Loss of lock indicator for observations not available at some epoch. */
+    public static final int ABSENT = -1;
+
+    /** Initial capacity of arrays. */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Epochs dates. */
+    private AbsoluteDate[] dates;
+
+    /** Receiver clock offsets at each epoch. */
+    private double[] clockOffsets;
+
+    /** Headers at each epoch. */
+    private RinexObservationHeader[] headers;
+
+    /** Number of epochs. */
+    private int nbEpochs;
+
+    /** Columns for each satellite. */
+    private final Map<SatelliteSystem, SortedMap<Integer, SatelliteColumns>> satellites;
+
+    /** Simple constructor.
+     */
+    public ObservationStore() {
+        this.dates        = new AbsoluteDate[INITIAL_CAPACITY];
+        this.clockOffsets = new double[INITIAL_CAPACITY];
+        this.headers      = new RinexObservationHeader[INITIAL_CAPACITY];
+        this.nbEpochs     = 0;
+        this.satellites   = new EnumMap<>(SatelliteSystem.class);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void handleEpoch(final List<ObservationDataSet> epoch) {
+        for (final ObservationDataSet observationDataSet : epoch) {
+            add(observationDataSet);
+        }
+    }
+
+    /** Add all observations data sets from a list.
+     * @param observationDataSets observations data sets to add, in chronological order
+     */
+    public void addAll(final List<ObservationDataSet> observationDataSets) {
+        for (final ObservationDataSet observationDataSet : observationDataSets) {
+            add(observationDataSet);
+        }
+    }
+
+    /** Add one observation data set.
+     * <p>
+     * The data set date must be equal to or after the date of the last epoch already stored.
+     * </p>
+     * @param observationDataSet observation data set to add
+     */
+    public void add(final ObservationDataSet observationDataSet) {
+
+        // find the epoch
+        final AbsoluteDate date = observationDataSet.getDate();
+        if (nbEpochs == 0 || date.isAfter(dates[nbEpochs - 1])) {
+            // this is a new epoch
+            if (nbEpochs == dates.length) {
+                dates        = Arrays.copyOf(dates,        2 * nbEpochs);
+                clockOffsets = Arrays.copyOf(clockOffsets, 2 * nbEpochs);
+                headers      = Arrays.copyOf(headers,      2 * nbEpochs);
+            }
+            dates[nbEpochs]        = date;
+            clockOffsets[nbEpochs] = observationDataSet.getRcvrClkOffset();
+            headers[nbEpochs]      = observationDataSet.getHeader();
+            ++nbEpochs;
+        } else if (date.isBefore(dates[nbEpochs - 1])) {
+            throw new OrekitException(OrekitMessages.NON_CHRONOLOGICAL_DATES_FOR_OBSERVATIONS,
+                                      dates[nbEpochs - 1], date, dates[nbEpochs - 1].durationFrom(date));
+        }
+
+        // add the observations to the satellite columns
+        satellites.
+            computeIfAbsent(observationDataSet.getSatelliteSystem(), s -> new TreeMap<>()).
+            computeIfAbsent(observationDataSet.getPrnNumber(), p -> new SatelliteColumns()).
+            add(nbEpochs - 1, observationDataSet.getObservationData());
+
+    }
+
+    /** Get the number of epochs.
+     * @return number of epochs
+     */
+    public int getEpochsNumber() {
+        return nbEpochs;
+    }
+
+    /** Get the date of an epoch.
+     * @param epochIndex index of the epoch
+     * @return date of the epoch
+     */
+    public AbsoluteDate getEpochDate(final int epochIndex) {
+        return dates[epochIndex];
+    }
+
+    /** Get the receiver clock offset at an epoch.
+     * @param epochIndex index of the epoch
+     * @return receiver clock offset at the epoch
+     */
+    public double getRcvrClkOffset(final int epochIndex) {
+        return clockOffsets[epochIndex];
+    }
+
+    /** Get the satellite systems observed.
+     * @return satellite systems observed
+     */
+    public Set<SatelliteSystem> getSatelliteSystems() {
+        return Collections.unmodifiableSet(satellites.keySet());
+    }
+
+    /** Get the PRN numbers of the satellites observed for one system.
+     * @param system satellite system
+     * @return sorted PRN numbers of the satellites observed (empty if system is not observed)
+     */
+    public int[] getPrnNumbers(final SatelliteSystem system) {
+        final SortedMap<Integer, SatelliteColumns> map = satellites.get(system);
+        return map == null ? new int[0] : map.keySet().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /** Get the observation types available for one satellite.
+     * @param system satellite system
+     * @param prnNumber PRN number of the satellite
+     * @return observation types available for the satellite (empty if satellite is not observed)
+     */
+    public List<ObservationType> getObservationTypes(final SatelliteSystem system, final int prnNumber) {
+        final SatelliteColumns columns = getColumns(system, prnNumber);
+        return columns == null ?
+               Collections.emptyList() :
+               Collections.unmodifiableList(new ArrayList<>(columns.columns.keySet()));
+    }
+
+    /** Get the time series of one observation type for one satellite.
+     * <p>
+     * The series contains one entry for each epoch in the time range at which
+     * the satellite was observed. If the observation type was not available at
+     * some of these epochs, the corresponding values are NaN and the loss of
+     * lock indicators are set to {@link #ABSENT}.
+     * </p>
+     * @param system satellite system
+     * @param prnNumber PRN number of the satellite
+     * @param type observation type
+     * @param start start of the time range (included)
+     * @param end end of the time range (included)
+     * @return time series (empty if the satellite or observation type is not available)
+     */
+    public ObservationSeries getSeries(final SatelliteSystem system, final int prnNumber,
+                                       final ObservationType type,
+                                       final AbsoluteDate start, final AbsoluteDate end) {
+        final SatelliteColumns columns = getColumns(system, prnNumber);
+        final Column           column  = columns == null ? null : columns.columns.get(type);
+        if (column == null) {
+            return new ObservationSeries(this, type, new int[0], new double[0], new byte[0], new byte[0], 0, 0);
+        }
+        final int first = columns.firstRow(firstEpoch(start));
+        final int last  = FastMath.max(first, columns.firstRow(lastEpoch(end) + 1));
+        return new ObservationSeries(this, type, columns.epochs, column.values, column.lli, column.strengths,
+                                     first, last - first);
+    }
+
+    /** Get the observations data sets of one epoch.
+     * @param epochIndex index of the epoch
+     * @return observations data sets of the epoch
+     */
+    public List<ObservationDataSet> getEpoch(final int epochIndex) {
+        final List<ObservationDataSet> list = new ArrayList<>();
+        for (final Map.Entry<SatelliteSystem, SortedMap<Integer, SatelliteColumns>> systemEntry : satellites.entrySet()) {
+            for (final Map.Entry<Integer, SatelliteColumns> satelliteEntry : systemEntry.getValue().entrySet()) {
+                final SatelliteColumns columns = satelliteEntry.getValue();
+                final int row = columns.firstRow(epochIndex);
+                if (row < columns.size && columns.epochs[row] == epochIndex) {
+                    list.add(columns.rebuild(systemEntry.getKey(), satelliteEntry.getKey(), row));
+                }
+            }
+        }
+        return list;
+    }
+
+    /** Get the observations data sets for one time range.
+     * @param start start of the time range (included)
+     * @param end end of the time range (included)
+     * @return observations data sets in chronological order
+     */
+    public List<ObservationDataSet> getObservationDataSets(final AbsoluteDate start, final AbsoluteDate end) {
+        final List<ObservationDataSet> list = new ArrayList<>();
+        final int firstEpoch = firstEpoch(start);
+        final int lastEpoch  = lastEpoch(end);
+        for (int epochIndex = firstEpoch; epochIndex <= lastEpoch; ++epochIndex) {
+            list.addAll(getEpoch(epochIndex));
+        }
+        return list;
+    }
+
+    /** Get the observations data sets for one satellite and one time range.
+     * @param system satellite system
+     * @param prnNumber PRN number of the satellite
+     * @param start start of the time range (included)
+     * @param end end of the time range (included)
+     * @return observations data sets in chronological order
+     */
+    public List<ObservationDataSet> getObservationDataSets(final SatelliteSystem system, final int prnNumber,
+                                                           final AbsoluteDate start, final AbsoluteDate end) {
+        final SatelliteColumns columns = getColumns(system, prnNumber);
+        if (columns == null) {
+            return Collections.emptyList();
+        }
+        final int first = columns.firstRow(firstEpoch(start));
+        final int last  = FastMath.max(first, columns.firstRow(lastEpoch(end) + 1));
+        final List<ObservationDataSet> list = new ArrayList<>(last - first);
+        for (int row = first; row < last; ++row) {
+            list.add(columns.rebuild(system, prnNumber, row));
+        }
+        return list;
+    }
+
+    /** Get the columns of one satellite.
+     * @param system satellite system
+     * @param prnNumber PRN number of the satellite
+     * @return columns of the satellite, or null if satellite is not observed
+     */
+    private SatelliteColumns getColumns(final SatelliteSystem system, final int prnNumber) {
+        final SortedMap<Integer, SatelliteColumns> map = satellites.get(system);
+        return map == null ? null : map.get(prnNumber);
+    }
+
+    /** Find the first epoch at or after a date.
+     * @param date date
+     * @return index of the first epoch at or after date (may be {@link #nbEpochs})
+     */
+    private int firstEpoch(final AbsoluteDate date) {
+        int low  = 0;
+        int high = nbEpochs;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (dates[mid].isBefore(date)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** Find the last epoch at or before a date.
+     * @param date date
+     * @return index of the last epoch at or before date (may be -1)
+     */
+    private int lastEpoch(final AbsoluteDate date) {
+        int low  = 0;
+        int high = nbEpochs;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (dates[mid].isAfter(date)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low - 1;
+    }
+
+    /** Columns for one satellite. */
+    private class SatelliteColumns {
+
+        /** Epochs indices of rows. */
+        private int[] epochs;
+
+        /** Columns for each observation type. */
+        private final Map<ObservationType, Column> columns;
+
+        /** Number of rows. */
+        private int size;
+
+        /** Simple constructor.
+         */
+        SatelliteColumns() {
+            this.epochs  = new int[INITIAL_CAPACITY];
+            this.columns = new LinkedHashMap<>();
+            this.size    = 0;
+        }
+
+        /** Add observations.
+         * @param epochIndex index of the epoch
+         * @param observationData observations to add
+         */
+        void add(final int epochIndex, final List<ObservationData> observationData) {
+
+            if (size == 0 || epochs[size - 1] != epochIndex) {
+                // add a new row
+                if (size == epochs.length) {
+                    epochs = Arrays.copyOf(epochs, 2 * size);
+                    for (final Column column : columns.values()) {
+                        column.resize(2 * size);
+                    }
+                }
+                epochs[size] = epochIndex;
+                for (final Column column : columns.values()) {
+                    column.clear(size);
+                }
+                ++size;
+            }
+
+            final int row = size - 1;
+            for (final ObservationData od : observationData) {
+                Column column = columns.get(od.getObservationType());
+                if (column == null) {
+                    // first occurrence of this observation type
+                    column = new Column(epochs.length);
+                    for (int i = 0; i < size; ++i) {
+                        column.clear(i);
+                    }
+                    columns.put(od.getObservationType(), column);
+                }
+                column.values[row]    = od.getValue();
+                column.lli[row]       = (byte) od.getLossOfLockIndicator();
+                column.strengths[row] = (byte) od.getSignalStrength();
+            }
+
+        }
+
+        /** Find the first row at or after an epoch.
+         * @param epochIndex index of the epoch
+         * @return index of the first row at or after epoch (may be {@link #size})
+         */
+        int firstRow(final int epochIndex) {
+            final int index = Arrays.binarySearch(epochs, 0, size, epochIndex);
+            return index >= 0 ? index : -(index + 1);
+        }
+
+        /** Rebuild an observation data set.
+         * @param system satellite system
+         * @param prnNumber PRN number of the satellite
+         * @param row row index
+         * @return rebuilt observation data set
+         */
+        ObservationDataSet rebuild(final SatelliteSystem system, final int prnNumber, final int row) {
+            final List<ObservationData> observationData = new ArrayList<>(columns.size());
+            for (final Map.Entry<ObservationType, Column> entry : columns.entrySet()) {
+                final Column column = entry.getValue();
+                if (column.lli[row] != ABSENT) {
+                    observationData.add(new ObservationData(entry.getKey(), column.values[row],
+                                                            column.lli[row], column.strengths[row]));
+                }
+            }
+            final int epochIndex = epochs[row];
+            return new ObservationDataSet(headers[epochIndex], system, prnNumber, dates[epochIndex],
+                                          clockOffsets[epochIndex], observationData);
+        }
+
+    }
+
+    /** Column for one observation type. */
+    private static class Column {
+
+        /** Observations values. */
+        private double[] values;
+
+        /** Loss of lock indicators. */
+        private byte[] lli;
+
+        /** Signal strengths. */
+        private byte[] strengths;
+
+        /** Simple constructor.
+         * @param capacity initial capacity
+         */
+        Column(final int capacity) {
+            this.values    = new double[capacity];
+            this.lli       = new byte[capacity];
+            this.strengths = new byte[capacity];
+        }
+
+        /** Resize the column.
+         * @param capacity new capacity
+         */
+        void resize(final int capacity) {
+            values    = Arrays.copyOf(values,    capacity);
+            lli       = Arrays.copyOf(lli,       capacity);
+            strengths = Arrays.copyOf(strengths, capacity);
+        }
+
+        /** Mark one row as absent.
+         * @param row row index
+         */
+        void clear(final int row) {
+            values[row]    = Double.NaN;
+            lli[row]       = ABSENT;
+            strengths[row] = 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,41 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.gnss;
+
+import java.util.List;
+
+/** Handler for observations epochs streamed by {@link RinexObservationLoader}.
+ * <p>
+ * The handler is called once for each epoch, as soon as all the observations
+ * of this epoch have been parsed, so files can be processed in one single pass
+ * without accumulating all observations in memory.
+ * </p>
+ * @see RinexObservationLoader#RinexObservationLoader(org.orekit.data.DataSource,
+ * org.orekit.time.TimeScales, RinexObservationHandler)
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+@FunctionalInterface
+public interface RinexObservationHandler {
+
+    /** Handle one epoch.
+     * @param epoch observations data sets sharing the same date (the
+     * list is unmodifiable, but may be kept by the handler)
+     */
+    void handleEpoch(List<ObservationDataSet> epoch);
+
+}
@@ -20,6 +20,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -47,6 +48,16 @@ import org.orekit.time.TimeScales;
  * Supported versions are: 2.00, 2.10, 2.11, 2.12 (unofficial), 2.20 (unofficial),
  * 3.00, 3.01, 3.02, 3.03, and 3.04.
  * </p>
+ * <p>
+ * By default, all observations are accumulated in memory and can be retrieved
+ * afterwards using {@link #getObservationDataSets()}. For large files, a
+ * {@link RinexObservationHandler handler} can be provided at construction,
+ * it will be called as soon as each epoch has been parsed and the observations
+ * will not be accumulated, so memory consumption remains bounded regardless
+ * of the file size. As decompression filters like {@link HatanakaCompressFilter}
+ * or {@link org.orekit.data.GzipFilter GzipFilter} also work line by line,
+ * a compressed file can be processed in one single pass.
+ * </p>
  * @see <a href="ftp://igs.org/pub/data/format/rinex2.txt">rinex 2.0</a>
  * @see <a href="ftp://igs.org/pub/data/format/rinex210.txt">rinex 2.10</a>
  * @see <a href="ftp://igs.org/pub/data/format/rinex211.txt">rinex 2.11</a>
@@ -120,6 +131,11 @@ public class RinexObservationLoader {
     /** Set of time scales. */
     private final TimeScales timeScales;
 
+    /** Handler for parsed epochs.
+     * @since 11.4
+     */
+    private final RinexObservationHandler handler;
+
     /** Simple constructor.
      * <p>
      * This constructor is used when the rinex files are managed by the
@@ -151,6 +167,7 @@ public class RinexObservationLoader {
                        final TimeScales timeScales) {
         observationDataSets = new ArrayList<>();
         this.timeScales = timeScales;
+        this.handler    = observationDataSets::addAll;
         dataProvidersManager.feed(supportedNames, new Parser());
     }
 
@@ -173,12 +190,47 @@ public class RinexObservationLoader {
      * @since 10.1
      */
     public RinexObservationLoader(final DataSource source, final TimeScales timeScales) {
+        this.timeScales     = timeScales;
+        observationDataSets = new ArrayList<>();
+        this.handler        = observationDataSets::addAll;
+        load(source);
+    }
+
+    /**
+     * Streams RINEX from the given source, epoch by epoch.
+     * <p>
+     * Observations are not accumulated, so {@link #getObservationDataSets()}
+     * will return an empty list.
+     * </p>
+     * @param source source for the RINEX data
+     * @param timeScales the set of time scales to use when parsing dates.
+     * @param handler handler called for each parsed epoch
+     * @since 11.4
+     */
+    public RinexObservationLoader(final DataSource source, final TimeScales timeScales,
+                                  final RinexObservationHandler handler) {
+        this.timeScales     = timeScales;
+        observationDataSets = new ArrayList<>();
+        this.handler        = handler;
+        load(source);
+    }
+
+    /** Load data from a source.
+     * @param source source for the RINEX data
+     * @since 11.4
+     */
+    private void load(final DataSource source) {
         try {
-            this.timeScales = timeScales;
-            observationDataSets = new ArrayList<>();
-            try (InputStream         is  = source.getOpener().openStreamOnce();
-                 BufferedInputStream bis = new BufferedInputStream(is)) {
-                new Parser().loadData(bis, source.getName());
+            if (source.getOpener().rawDataIsBinary()) {
+                try (InputStream         is  = source.getOpener().openStreamOnce();
+                     BufferedInputStream bis = new BufferedInputStream(is)) {
+                    new Parser().loadData(bis, source.getName());
+                }
+            } else {
+                // avoid converting characters back to bytes, as decompression filters provide characters
+                try (Reader reader = source.getOpener().openReaderOnce()) {
+                    new Parser().loadData(reader, source.getName());
+                }
             }
         } catch (IOException ioe) {
             throw new OrekitException(ioe, new DummyLocalizable(ioe.getMessage()));
@@ -212,6 +264,11 @@ public class RinexObservationLoader {
         /** current line number. */
         private int lineNumber;
 
+        /** Observations of current epoch.
+         * @since 11.4
+         */
+        private List<ObservationDataSet> epoch;
+
         /** {@inheritDoc} */
         @Override
         public boolean stillAcceptsData() {
@@ -223,12 +280,24 @@ public class RinexObservationLoader {
         @Override
         public void loadData(final InputStream input, final String fileName)
             throws IOException, OrekitException {
+            loadData(new InputStreamReader(input, StandardCharsets.UTF_8), fileName);
+        }
 
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+        /** Load data from a characters stream.
+         * @param input data input reader
+         * @param fileName name of the file (or zip entry)
+         * @exception IOException if data can't be read
+         * @since 11.4
+         */
+        public void loadData(final Reader input, final String fileName)
+            throws IOException {
+
+            try (BufferedReader reader = new BufferedReader(input)) {
 
                 this.name       = fileName;
                 this.line       = null;
                 this.lineNumber = 0;
+                this.epoch      = new ArrayList<>();
 
                 // placeholders for parsed data
                 SatelliteSystem                  satelliteSystem        = null;
@@ -637,7 +706,7 @@ public class RinexObservationLoader {
                                                                           lineNumber, name, line);
                                         }
 
-                                        observationDataSets.add(new ObservationDataSet(rinexHeader, satelliteSystemSat, prnNumber,
+                                        addObservationDataSet(new ObservationDataSet(rinexHeader, satelliteSystemSat, prnNumber,
                                                                                        tObs, rcvrClkOffset, observationData));
 
                                     }
@@ -1064,7 +1133,7 @@ public class RinexObservationLoader {
                                                                                         parseInt(17 + j * 16, 1),
                                                                                         parseInt(18 + j * 16, 1)));
                                             }
-                                            observationDataSets.add(new ObservationDataSet(rinexHeader, satelliteSystemSat, prnNumber,
+                                            addObservationDataSet(new ObservationDataSet(rinexHeader, satelliteSystemSat, prnNumber,
                                                                                            tObs, rcvrClkOffset, observationData));
 
                                         }
@@ -1078,6 +1147,34 @@ public class RinexObservationLoader {
                         //If RINEX Version is neither 2 nor 3
                         throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT, name);
                 }
+
+                // last epoch
+                flushEpoch();
+
+            }
+        }
+
+        /** Add an observation data set to current epoch.
+         * <p>
+         * If the data set belongs to a new epoch, the previous one is flushed first.
+         * </p>
+         * @param observationDataSet observation data set to add
+         * @since 11.4
+         */
+        private void addObservationDataSet(final ObservationDataSet observationDataSet) {
+            if (!epoch.isEmpty() && !epoch.get(0).getDate().equals(observationDataSet.getDate())) {
+                flushEpoch();
+            }
+            epoch.add(observationDataSet);
+        }
+
+        /** Pass the observation data sets of current epoch to the handler.
+         * @since 11.4
+         */
+        private void flushEpoch() {
+            if (!epoch.isEmpty()) {
+                handler.handleEpoch(Collections.unmodifiableList(epoch));
+                epoch = new ArrayList<>();
             }
         }
 
@@ -0,0 +1,697 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.gnss.metric.ntrip;
+
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.InetSocketAddress;
+import java.net.PasswordAuthentication;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hipparchus.stat.descriptive.StreamingStatistics;
+import org.hipparchus.util.FastMath;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.gnss.metric.messages.ParsedMessage;
+import org.orekit.gnss.metric.parser.ByteBufferEncodedMessages;
+import org.orekit.gnss.metric.parser.MessagesParser;
+
+/** Non-blocking monitor for retrieving streamed data from one mount point.
+ * <p>
+ * Instances of this class are driven by a {@link StreamMultiplexer}, which
+ * calls them from a single thread when their channel is ready. Data are
+ * read into a {@link ByteBuffer}, the HTTP response and chunked transfer
+ * encoding are decoded incrementally, and frames are extracted as soon
+ * as they are complete.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+class MultiplexedStream {
+
+    /** Content type for GNSS data. */
+    private static final String GNSS_DATA_CONTENT_TYPE = "gnss/data";
+
+    /** Content type header key. */
+    private static final String CONTENT_TYPE_KEY = "content-type";
+
+    /** Transfer encoding header key. */
+    private static final String TRANSFER_ENCODING_KEY = "transfer-encoding";
+
+    /** Chunked transfer encoding. */
+    private static final String CHUNKED = "chunked";
+
+    /** Status line for NTRIP version 1 responses. */
+    private static final String ICY_OK = "ICY 200";
+
+    /** HTTP status for success. */
+    private static final int HTTP_OK = 200;
+
+    /** HTTP status for unauthorized access. */
+    private static final int HTTP_UNAUTHORIZED = 401;
+
+    /** Size of buffer for reading from network. */
+    private static final int READ_BUFFER_SIZE = 0x1000;
+
+    /** Size of buffer for frames extraction. */
+    private static final int FRAMES_BUFFER_SIZE = 0x4000;
+
+    /** Frame preamble. */
+    private static final int PREAMBLE = 0xD3;
+
+    /** Frame preamble size. */
+    private static final int PREAMBLE_SIZE = 3;
+
+    /** Frame CRC size. */
+    private static final int CRC_SIZE = 3;
+
+    /** Nanoseconds to seconds conversion factor. */
+    private static final double NANO_TO_SECONDS = 1.0e-9;
+
+    /** Decoding states. */
+    private enum State {
+
+        /** Waiting for reconnection. */
+        IDLE,
+
+        /** Connection in progress. */
+        CONNECTING,
+
+        /** Sending request. */
+        REQUESTING,
+
+        /** Reading response status line. */
+        STATUS,
+
+        /** Reading response headers. */
+        HEADERS,
+
+        /** Reading a chunk size line. */
+        CHUNK_SIZE,
+
+        /** Reading chunk data. */
+        CHUNK_DATA,
+
+        /** Reading raw (not chunked) data. */
+        RAW,
+
+        /** Stream stopped. */
+        STOPPED
+
+    }
+
+    /** Associated NTRIP client. */
+    private final NtripClient client;
+
+    /** Mount point providing the stream. */
+    private final String mountPoint;
+
+    /** Messages type of the mount point. */
+    private final Type type;
+
+    /** Indicator for required NMEA. */
+    private final boolean nmeaRequired;
+
+    /** Indicator for ignoring unknown messages. */
+    private final boolean ignoreUnknownMessageTypes;
+
+    /** Delay before we reconnect after connection close. */
+    private final double reconnectDelay;
+
+    /** Multiplication factor for reconnection delay. */
+    private final double reconnectDelayFactor;
+
+    /** Max number of reconnections. */
+    private final int maxRetries;
+
+    /** Timeout for connections and reads (ns). */
+    private final long timeout;
+
+    /** Observers for encoded messages. */
+    private final Map<Integer, List<MessageObserver>> observers;
+
+    /** Last available message for each type. */
+    private final Map<Integer, ParsedMessage> lastMessages;
+
+    /** Buffer for reading from network. */
+    private final ByteBuffer input;
+
+    /** Buffer for frames extraction (always in write mode between calls). */
+    private final ByteBuffer frames;
+
+    /** View of one frame content. */
+    private final ByteBufferEncodedMessages content;
+
+    /** Current line for status, headers and chunk sizes. */
+    private final StringBuilder line;
+
+    /** Latency statistics. */
+    private final StreamingStatistics latency;
+
+    /** Current state. */
+    private State state;
+
+    /** Network channel. */
+    private SocketChannel channel;
+
+    /** Pending request. */
+    private ByteBuffer request;
+
+    /** Authorization header value (null if not needed). */
+    private String authorization;
+
+    /** Indicator for chunked transfer encoding. */
+    private boolean chunked;
+
+    /** Indicator for valid content type. */
+    private boolean gnssData;
+
+    /** Remaining bytes in current chunk. */
+    private int chunkRemaining;
+
+    /** Parser for messages. */
+    private MessagesParser parser;
+
+    /** Number of reconnection attempts without reading any data. */
+    private int nbAttempts;
+
+    /** Current reconnection delay (s). */
+    private double delay;
+
+    /** Deadline for next action (ns), either reconnection or timeout. */
+    private long deadline;
+
+    /** Time of first connection (ns). */
+    private long firstConnection;
+
+    /** Number of bytes received. */
+    private long bytes;
+
+    /** Number of messages parsed. */
+    private long messages;
+
+    /** Number of reconnections. */
+    private int reconnections;
+
+    /** Exception caught during monitoring. */
+    private OrekitException exception;
+
+    /** Build a monitor for streaming data from a mount point.
+     * @param client associated NTRIP client
+     * @param mountPoint mount point providing the stream
+     * @param type messages type of the mount point
+     * @param requiresNMEA if true, the mount point requires a NMEA GGA sentence in the request
+     * @param ignoreUnknownMessageTypes if true, unknown messages types are silently ignored
+     * @param reconnectDelay delay before we reconnect after connection close
+     * @param reconnectDelayFactor factor by which reconnection delay is multiplied after each attempt
+     * @param maxRetries max number of reconnect a attempts without reading any data
+     * @param timeout timeout for connections and reads (ms)
+     */
+    MultiplexedStream(final NtripClient client,
+                      final String mountPoint, final Type type,
+                      final boolean requiresNMEA, final boolean ignoreUnknownMessageTypes,
+                      final double reconnectDelay, final double reconnectDelayFactor,
+                      final int maxRetries, final int timeout) {
+        this.client                    = client;
+        this.mountPoint                = mountPoint;
+        this.type                      = type;
+        this.nmeaRequired              = requiresNMEA;
+        this.ignoreUnknownMessageTypes = ignoreUnknownMessageTypes;
+        this.reconnectDelay            = reconnectDelay;
+        this.reconnectDelayFactor      = reconnectDelayFactor;
+        this.maxRetries                = maxRetries;
+        this.timeout                   = 1000000L * timeout;
+        this.observers                 = new HashMap<>();
+        this.lastMessages              = new HashMap<>();
+        this.input                     = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        this.frames                    = ByteBuffer.allocate(FRAMES_BUFFER_SIZE);
+        this.content                   = new ByteBufferEncodedMessages(frames);
+        this.line                      = new StringBuilder();
+        this.latency                   = new StreamingStatistics();
+        this.state                     = State.IDLE;
+        this.delay                     = reconnectDelay;
+        this.deadline                  = System.nanoTime();
+        this.firstConnection           = -1;
+    }
+
+    /** Get the mount point.
+     * @return mount point providing the stream
+     */
+    public String getMountPoint() {
+        return mountPoint;
+    }
+
+    /** Add an observer for encoded messages.
+     * <p>
+     * If messages of the specified type have already been retrieved from
+     * a stream, the observer will be immediately notified with the last
+     * message as a side effect of being added.
+     * </p>
+     * @param typeCode code for the message type (if set to 0, notification
+     * will be triggered regardless of message type)
+     * @param observer observer for this message type
+     */
+    public void addObserver(final int typeCode, final MessageObserver observer) {
+        synchronized (observers) {
+
+            // register the observer
+            observers.computeIfAbsent(typeCode, c -> new ArrayList<>()).add(observer);
+
+            // if we already have a message of the proper type
+            // immediately notify the new observer about it
+            final ParsedMessage last = lastMessages.get(typeCode);
+            if (last != null) {
+                observer.messageAvailable(mountPoint, last);
+            }
+
+        }
+    }
+
+    /** Retrieve exception caught during monitoring.
+     * @return exception caught
+     */
+    public synchronized OrekitException getException() {
+        return exception;
+    }
+
+    /** Get a snapshot of the stream metrics.
+     * @return stream metrics
+     */
+    public synchronized StreamMetrics getMetrics() {
+        final double elapsed = firstConnection < 0 ?
+                               0.0 : (System.nanoTime() - firstConnection) * NANO_TO_SECONDS;
+        return new StreamMetrics(mountPoint, bytes, messages, reconnections, elapsed, latency.copy());
+    }
+
+    /** Check if the stream is stopped.
+     * @return true if the stream is stopped
+     */
+    boolean isStopped() {
+        return state == State.STOPPED;
+    }
+
+    /** Get the deadline for next action.
+     * @return deadline for next action (ns), either reconnection or timeout
+     */
+    long getDeadline() {
+        return deadline;
+    }
+
+    /** Handle deadline expiration.
+     * @param selector selector to register channel with
+     * @param now current time (ns)
+     */
+    void handleDeadline(final Selector selector, final long now) {
+        if (state == State.STOPPED || now < deadline) {
+            return;
+        }
+        if (state == State.IDLE) {
+            connect(selector, now);
+        } else {
+            // nothing received for too long, try to reconnect
+            scheduleReconnection(now);
+        }
+    }
+
+    /** Handle readiness of the channel.
+     * @param selector selector the channel is registered with
+     * @param key selection key
+     */
+    void handleReady(final Selector selector, final SelectionKey key) {
+        try {
+            if (key.isConnectable()) {
+                if (channel.finishConnect()) {
+                    state = State.REQUESTING;
+                    key.interestOps(SelectionKey.OP_WRITE);
+                }
+            } else if (key.isWritable()) {
+                channel.write(request);
+                if (!request.hasRemaining()) {
+                    state = State.STATUS;
+                    key.interestOps(SelectionKey.OP_READ);
+                }
+            } else if (key.isReadable()) {
+                read(selector);
+            }
+        } catch (IOException ioe) {
+            // this will be handled by reconnection attempt
+            scheduleReconnection(System.nanoTime());
+        } catch (OrekitException oe) {
+            stop(oe);
+        }
+    }
+
+    /** Stop monitoring.
+     * @param oe exception that caused stop (may be null)
+     */
+    synchronized void stop(final OrekitException oe) {
+        exception = oe;
+        close();
+        state = State.STOPPED;
+    }
+
+    /** Open connection to the caster.
+     * @param selector selector to register channel with
+     * @param now current time (ns)
+     */
+    private void connect(final Selector selector, final long now) {
+        try {
+            if (nmeaRequired && client.getGGA() == null) {
+                throw new OrekitException(OrekitMessages.STREAM_REQUIRES_NMEA_FIX, mountPoint);
+            }
+            synchronized (observers) {
+                parser = type.getParser(new ArrayList<>(observers.keySet()));
+            }
+            request = ByteBuffer.wrap(client.createRequest(mountPoint,
+                                                           nmeaRequired ? client.getGGA() : null,
+                                                           authorization).
+                                      getBytes(StandardCharsets.US_ASCII));
+            frames.clear();
+            line.setLength(0);
+            chunked  = false;
+            gnssData = false;
+            channel  = SocketChannel.open();
+            channel.configureBlocking(false);
+            if (channel.connect(new InetSocketAddress(client.getHost(), client.getPort()))) {
+                state = State.REQUESTING;
+                channel.register(selector, SelectionKey.OP_WRITE, this);
+            } else {
+                state = State.CONNECTING;
+                channel.register(selector, SelectionKey.OP_CONNECT, this);
+            }
+            deadline = now + timeout;
+            if (firstConnection < 0) {
+                firstConnection = now;
+            }
+        } catch (IOException ioe) {
+            scheduleReconnection(now);
+        } catch (OrekitException oe) {
+            stop(oe);
+        }
+    }
+
+    /** Close the current connection and schedule a new one.
+     * @param now current time (ns)
+     */
+    private void scheduleReconnection(final long now) {
+        close();
+        if (++nbAttempts >= maxRetries) {
+            // give up on this stream
+            state = State.STOPPED;
+        } else {
+            state    = State.IDLE;
+            deadline = now + (long) FastMath.rint(delay * 1.0e9);
+            delay   *= reconnectDelayFactor;
+            synchronized (this) {
+                ++reconnections;
+            }
+        }
+    }
+
+    /** Close the current connection.
+     */
+    private void close() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ioe) {
+                // ignored, we drop the channel anyway
+            }
+            channel = null;
+        }
+    }
+
+    /** Read available data.
+     * @param selector selector the channel is registered with
+     * @throws IOException if data cannot be read
+     */
+    private void read(final Selector selector) throws IOException {
+
+        input.clear();
+        final int r = channel.read(input);
+        final long now = System.nanoTime();
+        if (r < 0) {
+            // connection closed by caster
+            scheduleReconnection(now);
+            return;
+        }
+
+        // we have read something, reset reconnection attempts counters
+        nbAttempts = 0;
+        delay      = reconnectDelay;
+        deadline   = now + timeout;
+        synchronized (this) {
+            bytes += r;
+        }
+
+        input.flip();
+        while (input.hasRemaining() && isReading()) {
+            switch (state) {
+                case STATUS :
+                case HEADERS :
+                case CHUNK_SIZE :
+                    if (readLine()) {
+                        processLine(selector, now);
+                    }
+                    break;
+                case CHUNK_DATA : {
+                    final int n = transfer(chunkRemaining);
+                    chunkRemaining -= n;
+                    if (chunkRemaining == 0) {
+                        state = State.CHUNK_SIZE;
+                    }
+                    extractFrames(now);
+                    break;
+                }
+                default : // RAW
+                    transfer(input.remaining());
+                    extractFrames(now);
+            }
+        }
+
+    }
+
+    /** Check if the stream is currently reading data from the caster.
+     * @return true if the stream is currently reading data from the caster
+     */
+    private boolean isReading() {
+        return state == State.STATUS     || state == State.HEADERS ||
+               state == State.CHUNK_SIZE || state == State.CHUNK_DATA ||
+               state == State.RAW;
+    }
+
+    /** Accumulate characters until end of line.
+     * @return true if a complete line is available
+     */
+    private boolean readLine() {
+        while (input.hasRemaining()) {
+            final char c = (char) (input.get() & 0xFF);
+            if (c == '\n') {
+                return true;
+            } else if (c != '\r') {
+                line.append(c);
+            }
+        }
+        return false;
+    }
+
+    /** Process a complete line.
+     * @param selector selector the channel is registered with
+     * @param now current time (ns)
+     */
+    private void processLine(final Selector selector, final long now) {
+
+        final String current = line.toString().trim();
+        line.setLength(0);
+
+        if (state == State.STATUS) {
+            if (current.startsWith(ICY_OK)) {
+                // NTRIP version 1 response, data follow immediately
+                gnssData = true;
+                state    = State.RAW;
+                return;
+            }
+            final String[] fields = current.split("\\s+", 3);
+            final int status = fields.length > 1 ? parseInt(fields[1], 10) : -1;
+            if (status == HTTP_UNAUTHORIZED) {
+                if (authorization == null) {
+                    final PasswordAuthentication pa =
+                                    Authenticator.requestPasswordAuthentication(client.getHost(), null, client.getPort(),
+                                                                                "http", mountPoint, "basic");
+                    if (pa != null) {
+                        // retry immediately with credentials
+                        final String credentials = pa.getUserName() + ":" + new String(pa.getPassword());
+                        authorization = "Basic " +
+                                        Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+                        close();
+                        connect(selector, now);
+                        return;
+                    }
+                }
+                throw new OrekitException(OrekitMessages.FAILED_AUTHENTICATION, mountPoint);
+            } else if (status != HTTP_OK) {
+                throw new OrekitException(OrekitMessages.CONNECTION_ERROR, client.getHost(),
+                                          fields.length > 2 ? fields[2] : current);
+            }
+            state = State.HEADERS;
+        } else if (state == State.HEADERS) {
+            if (current.isEmpty()) {
+                // end of headers
+                if (!gnssData) {
+                    throw new OrekitException(OrekitMessages.UNEXPECTED_CONTENT_TYPE, (Object) null);
+                }
+                state = chunked ? State.CHUNK_SIZE : State.RAW;
+            } else {
+                final int colon = current.indexOf(':');
+                if (colon > 0) {
+                    final String key   = current.substring(0, colon).trim().toLowerCase(Locale.US);
+                    final String value = current.substring(colon + 1).trim();
+                    if (CONTENT_TYPE_KEY.equals(key)) {
+                        if (!GNSS_DATA_CONTENT_TYPE.equals(value)) {
+                            throw new OrekitException(OrekitMessages.UNEXPECTED_CONTENT_TYPE, value);
+                        }
+                        gnssData = true;
+                    } else if (TRANSFER_ENCODING_KEY.equals(key)) {
+                        chunked = CHUNKED.equalsIgnoreCase(value);
+                    }
+                }
+            }
+        } else if (!current.isEmpty()) {
+            // chunk size, possibly followed by extensions
+            final int semicolon = current.indexOf(';');
+            chunkRemaining = parseInt(semicolon < 0 ? current : current.substring(0, semicolon).trim(), 16);
+            if (chunkRemaining == 0) {
+                // last chunk, the caster ended the stream
+                scheduleReconnection(now);
+            } else {
+                state = State.CHUNK_DATA;
+            }
+        }
+
+    }
+
+    /** Parse an integer from the response.
+     * @param field field to parse
+     * @param radix radix to use
+     * @return parsed integer
+     */
+    private int parseInt(final String field, final int radix) {
+        try {
+            return Integer.parseInt(field, radix);
+        } catch (NumberFormatException nfe) {
+            throw new OrekitException(nfe, OrekitMessages.CANNOT_PARSE_GNSS_DATA, client.getHost());
+        }
+    }
+
+    /** Transfer data from input buffer to frames buffer.
+     * @param max maximum number of bytes to transfer
+     * @return number of bytes transferred
+     */
+    private int transfer(final int max) {
+        final int n = FastMath.min(max, FastMath.min(input.remaining(), frames.remaining()));
+        final int limit = input.limit();
+        input.limit(input.position() + n);
+        frames.put(input);
+        input.limit(limit);
+        return n;
+    }
+
+    /** Extract complete frames.
+     * @param received time at which the data were received (ns)
+     */
+    private void extractFrames(final long received) {
+
+        frames.flip();
+        while (frames.remaining() >= PREAMBLE_SIZE) {
+            final int start = frames.position();
+            if ((frames.get(start) & 0xFF) != PREAMBLE) {
+                // we are out of synch with respect to frame structure
+                // drop the unknown byte
+                frames.position(start + 1);
+            } else {
+                final int size = (frames.get(start + 1) & 0x03) << 8 | (frames.get(start + 2) & 0xFF);
+                if (frames.remaining() < PREAMBLE_SIZE + size + CRC_SIZE) {
+                    // the frame is not complete, we need more data
+                    break;
+                }
+                int crc = 0;
+                for (int i = 0; i < PREAMBLE_SIZE + size; ++i) {
+                    crc = StreamMonitor.updateCRC(crc, frames.get(start + i) & 0xFF);
+                }
+                final int end = start + PREAMBLE_SIZE + size;
+                if (crc == ((frames.get(end) & 0xFF) << 16 | (frames.get(end + 1) & 0xFF) << 8 | (frames.get(end + 2) & 0xFF))) {
+                    // we have a complete and consistent frame
+                    // we can extract the message it contains
+                    content.reset(frames, start + PREAMBLE_SIZE, end);
+                    final ParsedMessage message = parser.parse(content, ignoreUnknownMessageTypes);
+                    if (message != null) {
+                        storeAndNotify(message);
+                    }
+                    synchronized (this) {
+                        ++messages;
+                        latency.addValue((System.nanoTime() - received) * NANO_TO_SECONDS);
+                    }
+                    frames.position(end + CRC_SIZE);
+                } else {
+                    // CRC is not consistent, we are probably not really synched
+                    // and the preamble byte was just a random byte
+                    // we drop this single byte and continue looking for sync
+                    frames.position(start + 1);
+                }
+            }
+        }
+        frames.compact();
+
+    }
+
+    /** Store a parsed encoded message and notify observers.
+     * @param message parsed message
+     */
+    private void storeAndNotify(final ParsedMessage message) {
+        synchronized (observers) {
+
+            for (int typeCode : Arrays.asList(0, message.getTypeCode())) {
+
+                // store message
+                lastMessages.put(typeCode, message);
+
+                // notify observers
+                final List<MessageObserver> list = observers.get(typeCode);
+                if (list != null) {
+                    for (final MessageObserver observer : list) {
+                        // notify observer
+                        observer.messageAvailable(mountPoint, message);
+                    }
+                }
+
+            }
+
+        }
+    }
+
+}
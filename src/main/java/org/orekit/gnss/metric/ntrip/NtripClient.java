@@ -97,6 +97,18 @@ public class NtripClient {
     /** Flags header key. */
     private static final String FLAGS_HEADER_KEY = "Ntrip-Flags";
 
+    /** GGA header key. */
+    private static final String GGA_HEADER_KEY = "Ntrip-GGA";
+
+    /** Authorization header key. */
+    private static final String AUTHORIZATION_HEADER_KEY = "Authorization";
+
+    /** Separator between header keys and values. */
+    private static final String HEADER_SEPARATOR = ": ";
+
+    /** Line terminator for requests. */
+    private static final String CRLF = "\r\n";
+
     /** Content type for source table. */
     private static final String SOURCETABLE_CONTENT_TYPE = "gnss/sourcetable";
 
@@ -139,6 +151,15 @@ public class NtripClient {
     /** Executor for stream monitoring tasks. */
     private ExecutorService executorService;
 
+    /** Multiplexed streams. */
+    private final Map<String, MultiplexedStream> multiplexedStreams;
+
+    /** Multiplexer for streams sharing a single thread. */
+    private StreamMultiplexer multiplexer;
+
+    /** Executor for the multiplexer. */
+    private ExecutorService multiplexerService;
+
     /** Build a client for NTRIP.
      * <p>
      * The default configuration uses default timeout, default reconnection
@@ -153,6 +174,7 @@ public class NtripClient {
         this.port         = port;
         this.observers    = new ArrayList<>();
         this.monitors     = new HashMap<>();
+        this.multiplexedStreams = new HashMap<>();
         setTimeout(DEFAULT_TIMEOUT);
         setReconnectParameters(DEFAULT_RECONNECT_DELAY,
                                DEFAULT_RECONNECT_DELAY_FACTOR,
@@ -161,6 +183,8 @@ public class NtripClient {
         this.gga             = new AtomicReference<String>(null);
         this.sourceTable     = null;
         this.executorService = null;
+        this.multiplexer     = null;
+        this.multiplexerService = null;
     }
 
     /** Get the caster host.
@@ -310,6 +334,11 @@ public class NtripClient {
                 entry.getValue().addObserver(typeCode, observer);
             }
         }
+        for (Map.Entry<String, MultiplexedStream> entry : multiplexedStreams.entrySet()) {
+            if (mountPoint == null || mountPoint.equals(entry.getKey())) {
+                entry.getValue().addObserver(typeCode, observer);
+            }
+        }
 
     }
 
@@ -405,7 +434,7 @@ public class NtripClient {
         }
 
         // safety check
-        if (monitors.containsKey(mountPoint)) {
+        if (monitors.containsKey(mountPoint) || multiplexedStreams.containsKey(mountPoint)) {
             throw new OrekitException(OrekitMessages.MOUNPOINT_ALREADY_CONNECTED, mountPoint);
         }
 
@@ -427,6 +456,81 @@ public class NtripClient {
 
     }
 
+    /** Connect to a mount point and start streaming data from it in multiplexed mode.
+     * <p>
+     * This method is similar to {@link #startStreaming(String, org.orekit.gnss.metric.ntrip.Type,
+     * boolean, boolean) startStreaming}, but instead of setting up one dedicated thread
+     * blocked on each mount point connection, all the mount points started with this method
+     * share a single thread that uses non-blocking channels. This allows to monitor
+     * hundreds of mount points without hundreds of threads. {@link MessageObserver Observers}
+     * are notified from this shared thread, so they should return quickly.
+     * </p>
+     * <p>
+     * Data are read into byte buffers, and HTTP responses (including chunked transfer encoding
+     * used by NTRIP version 2) and frames are decoded incrementally. Throughput and latency
+     * can be monitored using {@link #getStreamMetrics(String)}.
+     * </p>
+     * <p>
+     * In multiplexed mode, connections are always direct, the {@link #getProxy() proxy}
+     * is ignored. If the caster requires authentication, credentials are requested once
+     * from the {@link Authenticator#setDefault(Authenticator) default authenticator}.
+     * </p>
+     * <p>
+     * This method must be called once for each stream to monitor.
+     * </p>
+     * @param mountPoint mount point providing the stream
+     * @param type messages type of the mount point
+     * @param requiresNMEA if true, the mount point requires a NMEA GGA sentence in the request
+     * @param ignoreUnknownMessageTypes if true, unknown messages types are silently ignored
+     * @since 11.4
+     */
+    public void startMultiplexedStreaming(final String mountPoint, final org.orekit.gnss.metric.ntrip.Type type,
+                                          final boolean requiresNMEA, final boolean ignoreUnknownMessageTypes) {
+
+        if (multiplexer == null) {
+            // forget about streams from a previous (stopped) multiplexer
+            multiplexedStreams.clear();
+            // lazy creation of multiplexer, with one single thread for all data streams
+            multiplexer        = new StreamMultiplexer();
+            multiplexerService = Executors.newSingleThreadExecutor();
+            multiplexerService.execute(multiplexer);
+        }
+
+        // safety check
+        if (monitors.containsKey(mountPoint) || multiplexedStreams.containsKey(mountPoint)) {
+            throw new OrekitException(OrekitMessages.MOUNPOINT_ALREADY_CONNECTED, mountPoint);
+        }
+
+        // create the stream
+        final MultiplexedStream stream = new MultiplexedStream(this, mountPoint, type, requiresNMEA, ignoreUnknownMessageTypes,
+                                                               reconnectDelay, reconnectDelayFactor, maxRetries, timeout);
+        multiplexedStreams.put(mountPoint, stream);
+
+        // set up the already known observers
+        for (final ObserverHolder observerHolder : observers) {
+            if (observerHolder.mountPoint == null ||
+                observerHolder.mountPoint.equals(mountPoint)) {
+                stream.addObserver(observerHolder.typeCode, observerHolder.observer);
+            }
+        }
+
+        // start streaming data
+        multiplexer.addStream(stream);
+
+    }
+
+    /** Get the metrics of a stream started in multiplexed mode.
+     * @param mountPoint mount point providing the stream
+     * @return snapshot of stream metrics, or null if the mount point was not
+     * started using {@link #startMultiplexedStreaming(String, org.orekit.gnss.metric.ntrip.Type,
+     * boolean, boolean) startMultiplexedStreaming}
+     * @since 11.4
+     */
+    public StreamMetrics getStreamMetrics(final String mountPoint) {
+        final MultiplexedStream stream = multiplexedStreams.get(mountPoint);
+        return stream == null ? null : stream.getMetrics();
+    }
+
     /** Check if any of the streaming thread has thrown an exception.
      * <p>
      * If a streaming thread has thrown an exception, it will be rethrown here
@@ -440,12 +544,23 @@ public class NtripClient {
                 throw exception;
             }
         }
+        for (final  Map.Entry<String, MultiplexedStream> entry : multiplexedStreams.entrySet()) {
+            final OrekitException exception = entry.getValue().getException();
+            if (exception != null) {
+                throw exception;
+            }
+        }
     }
 
     /** Stop streaming data from all connected mount points.
      * <p>
      * If an exception was encountered during data streaming, it will be rethrown here
      * </p>
+     * <p>
+     * The {@link #getStreamMetrics(String) metrics} of streams started in multiplexed
+     * mode remain available after this method returns, until multiplexed streaming
+     * is started again.
+     * </p>
      * @param time timeout for waiting underlying threads termination (ms)
      */
     public void stopStreaming(final int time) {
@@ -455,14 +570,28 @@ public class NtripClient {
             entry.getValue().stopMonitoring();
         }
 
+        if (multiplexer != null) {
+            multiplexer.stopMonitoring();
+            multiplexerService.shutdown();
+        }
+
         try {
             // wait for proper ending
-            executorService.awaitTermination(time, TimeUnit.MILLISECONDS);
+            if (executorService != null) {
+                executorService.awaitTermination(time, TimeUnit.MILLISECONDS);
+            }
+            if (multiplexerService != null) {
+                multiplexerService.awaitTermination(time, TimeUnit.MILLISECONDS);
+            }
         } catch (InterruptedException ie) {
             // Restore interrupted state...
             Thread.currentThread().interrupt();
         }
 
+        // the multiplexer thread has exited, a new one will be needed for restarting
+        multiplexer        = null;
+        multiplexerService = null;
+
         checkException();
 
     }
@@ -492,6 +621,34 @@ public class NtripClient {
 
     }
 
+    /** Create a request for a mount point.
+     * <p>
+     * This method is used for non-blocking connections, it creates the
+     * same request as {@link #connect(String)}.
+     * </p>
+     * @param mountPoint mount point
+     * @param ggaSentence NMEA GGA sentence (null if not needed)
+     * @param authorization authorization header value (null if not needed)
+     * @return complete request, including headers and final empty line
+     * @since 11.4
+     */
+    String createRequest(final String mountPoint, final String ggaSentence, final String authorization) {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("GET /").append(mountPoint).append(" HTTP/1.1").append(CRLF);
+        builder.append(HOST_HEADER_KEY).append(HEADER_SEPARATOR).append(host).append(CRLF);
+        builder.append(VERSION_HEADER_KEY).append(HEADER_SEPARATOR).append(VERSION_HEADER_VALUE).append(CRLF);
+        builder.append(USER_AGENT_HEADER_KEY).append(HEADER_SEPARATOR).append(USER_AGENT_HEADER_VALUE).append(CRLF);
+        builder.append(CONNECTION_HEADER_KEY).append(HEADER_SEPARATOR).append(CONNECTION_HEADER_VALUE).append(CRLF);
+        if (ggaSentence != null) {
+            builder.append(GGA_HEADER_KEY).append(HEADER_SEPARATOR).append(ggaSentence).append(CRLF);
+        }
+        if (authorization != null) {
+            builder.append(AUTHORIZATION_HEADER_KEY).append(HEADER_SEPARATOR).append(authorization).append(CRLF);
+        }
+        builder.append(CRLF);
+        return builder.toString();
+    }
+
     /** Get an header from a response.
      * @param connection connection to analyze
      * @param key header key
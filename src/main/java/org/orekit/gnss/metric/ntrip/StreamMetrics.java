@@ -0,0 +1,120 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.gnss.metric.ntrip;
+
+import org.hipparchus.stat.descriptive.StreamingStatistics;
+
+/** Snapshot of throughput and latency metrics for one multiplexed stream.
+ * @see NtripClient#startMultiplexedStreaming(String, Type, boolean, boolean)
+ * @see NtripClient#getStreamMetrics(String)
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+public class StreamMetrics {
+
+    /** Mount point providing the stream. */
+    private final String mountPoint;
+
+    /** Number of bytes received. */
+    private final long bytes;
+
+    /** Number of messages parsed. */
+    private final long messages;
+
+    /** Number of reconnections. */
+    private final int reconnections;
+
+    /** Time elapsed since first connection (s). */
+    private final double elapsed;
+
+    /** Latency statistics (s). */
+    private final StreamingStatistics latency;
+
+    /** Simple constructor.
+     * @param mountPoint mount point providing the stream
+     * @param bytes number of bytes received
+     * @param messages number of messages parsed
+     * @param reconnections number of reconnections
+     * @param elapsed time elapsed since first connection (s)
+     * @param latency latency statistics (s)
+     */
+    StreamMetrics(final String mountPoint, final long bytes, final long messages,
+                  final int reconnections, final double elapsed,
+                  final StreamingStatistics latency) {
+        this.mountPoint    = mountPoint;
+        this.bytes         = bytes;
+        this.messages      = messages;
+        this.reconnections = reconnections;
+        this.elapsed       = elapsed;
+        this.latency       = latency;
+    }
+
+    /** Get the mount point providing the stream.
+     * @return mount point providing the stream
+     */
+    public String getMountPoint() {
+        return mountPoint;
+    }
+
+    /** Get the number of bytes received.
+     * @return number of bytes received, including HTTP headers and chunks framing
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /** Get the number of messages parsed.
+     * @return number of messages parsed
+     */
+    public long getMessages() {
+        return messages;
+    }
+
+    /** Get the number of reconnections.
+     * @return number of reconnections
+     */
+    public int getReconnections() {
+        return reconnections;
+    }
+
+    /** Get the time elapsed since first connection.
+     * @return time elapsed since first connection (s)
+     */
+    public double getElapsed() {
+        return elapsed;
+    }
+
+    /** Get the throughput.
+     * @return average number of bytes received per second since first connection
+     */
+    public double getThroughput() {
+        return elapsed > 0 ? bytes / elapsed : 0.0;
+    }
+
+    /** Get the latency statistics.
+     * <p>
+     * Latency is the time elapsed between reception of the last bytes
+     * of a frame from the network and the end of observers notification
+     * for the message it contains.
+     * </p>
+     * @return latency statistics (s)
+     */
+    public StreamingStatistics getLatency() {
+        return latency.copy();
+    }
+
+}
@@ -434,11 +434,21 @@ public class StreamMonitor extends AbstractEncodedMessages implements Runnable {
     private int computeCRC(final int length) {
         int crc = 0;
         for (int i = 0; i < length; ++i) {
-            crc = ((crc << 8) ^ CRC_LOOKUP[peekByte(i) ^ (crc >>> 16)]) & (HIGH - 1);
+            crc = updateCRC(crc, peekByte(i));
         }
         return crc;
     }
 
+    /** Update QualCom CRC with one byte.
+     * @param crc current CRC
+     * @param b byte to add (as an int between 0 and 255)
+     * @return updated CRC
+     * @since 11.4
+     */
+    static int updateCRC(final int crc, final int b) {
+        return ((crc << 8) ^ CRC_LOOKUP[b ^ (crc >>> 16)]) & (HIGH - 1);
+    }
+
     private List<Integer> extractUsedMessages() {
         synchronized (observers) {
 
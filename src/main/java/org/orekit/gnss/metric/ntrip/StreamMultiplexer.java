@@ -0,0 +1,150 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.gnss.metric.ntrip;
+
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hipparchus.exception.DummyLocalizable;
+import org.hipparchus.util.FastMath;
+import org.orekit.errors.OrekitException;
+
+/** Multiplexer driving many {@link MultiplexedStream streams} from one thread.
+ * <p>
+ * All streams share a single {@link Selector}, so the number of threads
+ * does not depend on the number of monitored mount points.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+class StreamMultiplexer implements Runnable {
+
+    /** Maximum waiting time when no deadline is pending (ms). */
+    private static final long MAX_WAIT = 1000L;
+
+    /** Nanoseconds per millisecond. */
+    private static final long NANOS_PER_MILLI = 1000000L;
+
+    /** Selector for all streams channels. */
+    private final Selector selector;
+
+    /** Streams added but not yet handled by the selector thread. */
+    private final Queue<MultiplexedStream> pending;
+
+    /** Streams handled by the selector thread. */
+    private final List<MultiplexedStream> streams;
+
+    /** Stop flag. */
+    private final AtomicBoolean stop;
+
+    /** Simple constructor.
+     */
+    StreamMultiplexer() {
+        try {
+            this.selector = Selector.open();
+        } catch (IOException ioe) {
+            throw new OrekitException(ioe, new DummyLocalizable(ioe.getMessage()));
+        }
+        this.pending = new ConcurrentLinkedQueue<>();
+        this.streams = new ArrayList<>();
+        this.stop    = new AtomicBoolean(false);
+    }
+
+    /** Add a stream.
+     * <p>
+     * This method can be called from any thread.
+     * </p>
+     * @param stream stream to add
+     */
+    void addStream(final MultiplexedStream stream) {
+        pending.add(stream);
+        selector.wakeup();
+    }
+
+    /** Stop monitoring all streams.
+     * <p>
+     * This method can be called from any thread.
+     * </p>
+     */
+    void stopMonitoring() {
+        stop.set(true);
+        selector.wakeup();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void run() {
+        try {
+            while (!stop.get()) {
+
+                // take new streams into account
+                for (MultiplexedStream stream = pending.poll(); stream != null; stream = pending.poll()) {
+                    streams.add(stream);
+                }
+
+                // handle expired deadlines (connections, reconnections and timeouts)
+                final long now = System.nanoTime();
+                long wait = MAX_WAIT;
+                for (final MultiplexedStream stream : streams) {
+                    stream.handleDeadline(selector, now);
+                    if (!stream.isStopped()) {
+                        final long remaining = (stream.getDeadline() - now) / NANOS_PER_MILLI;
+                        wait = FastMath.max(1L, FastMath.min(wait, remaining));
+                    }
+                }
+
+                // wait for channels readiness
+                selector.select(wait);
+                final Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+                while (iterator.hasNext()) {
+                    final SelectionKey key = iterator.next();
+                    iterator.remove();
+                    if (key.isValid()) {
+                        ((MultiplexedStream) key.attachment()).handleReady(selector, key);
+                    }
+                }
+
+            }
+        } catch (IOException ioe) {
+            final OrekitException oe = new OrekitException(ioe, new DummyLocalizable(ioe.getMessage()));
+            for (final MultiplexedStream stream : streams) {
+                if (!stream.isStopped()) {
+                    stream.stop(oe);
+                }
+            }
+        } finally {
+            for (final MultiplexedStream stream : streams) {
+                if (!stream.isStopped()) {
+                    stream.stop(null);
+                }
+            }
+            try {
+                selector.close();
+            } catch (IOException ioe) {
+                // ignored, we are closing anyway
+            }
+        }
+    }
+
+}
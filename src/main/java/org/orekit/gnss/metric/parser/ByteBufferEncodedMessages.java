@@ -0,0 +1,152 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.gnss.metric.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.hipparchus.util.FastMath;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+
+/** Encoded messages as a region of a {@link ByteBuffer}.
+ * <p>
+ * The buffer may be a heap or a direct buffer, its content is not copied.
+ * Bits are extracted from a 64 bits cache, which is refilled with a full
+ * big-endian word whenever at least 8 bytes remain, so most extractions
+ * do not involve any per-byte processing. The same instance can be
+ * {@link #reset(ByteBuffer, int, int) reset} to another region, allowing
+ * to decode a stream of frames without allocating anything.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+public class ByteBufferEncodedMessages implements EncodedMessage {
+
+    /** Number of bits in a long. */
+    private static final int LONG_BITS = Long.SIZE;
+
+    /** Number of bytes in a long. */
+    private static final int LONG_BYTES = Long.BYTES;
+
+    /** Big-endian view of the buffer containing the message. */
+    private ByteBuffer buffer;
+
+    /** Index of first message byte in buffer. */
+    private int first;
+
+    /** Index after last message byte in buffer. */
+    private int end;
+
+    /** Index of next byte to load in cache. */
+    private int next;
+
+    /** Cached bits, left-aligned. */
+    private long cache;
+
+    /** Number of valid bits in cache. */
+    private int cached;
+
+    /** Build encoded messages from the remaining bytes of a buffer.
+     * <p>
+     * The message spans from the buffer position (included) to its limit (excluded).
+     * The buffer position, limit and byte order are not modified.
+     * </p>
+     * @param buffer buffer containing the message
+     */
+    public ByteBufferEncodedMessages(final ByteBuffer buffer) {
+        reset(buffer, buffer.position(), buffer.limit());
+    }
+
+    /** Reset the instance to decode a new region.
+     * <p>
+     * The buffer position, limit and byte order are not modified.
+     * </p>
+     * @param newBuffer buffer containing the message
+     * @param start index of first message byte in buffer
+     * @param stop index after last message byte in buffer
+     */
+    public void reset(final ByteBuffer newBuffer, final int start, final int stop) {
+        if (newBuffer != buffer) {
+            // we need our own view to set the byte order without affecting caller
+            this.buffer = newBuffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        }
+        this.first = start;
+        this.end   = stop;
+        start();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        this.next   = first;
+        this.cache  = 0l;
+        this.cached = 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long extractBits(final int n) {
+
+        // safety check
+        if (n > 63) {
+            throw new OrekitException(OrekitMessages.TOO_LARGE_DATA_TYPE, n);
+        }
+
+        // bits gathering loop
+        long value  = 0l;
+        int  needed = n;
+        while (needed > 0) {
+
+            if (cached == 0) {
+                refill();
+                if (cached == 0) {
+                    // end was unexpected
+                    throw new OrekitException(OrekitMessages.END_OF_ENCODED_MESSAGE);
+                }
+            }
+
+            final int nbBits = FastMath.min(cached, needed);
+            value   = (value << nbBits) | (cache >>> (LONG_BITS - nbBits));
+            cache <<= nbBits;
+            cached -= nbBits;
+            needed -= nbBits;
+
+        }
+
+        return value;
+
+    }
+
+    /** Refill the empty cache.
+     */
+    private void refill() {
+        if (end - next >= LONG_BYTES) {
+            // load a complete word at once
+            cache  = buffer.getLong(next);
+            cached = LONG_BITS;
+            next  += LONG_BYTES;
+        } else {
+            // load the last bytes
+            while (next < end) {
+                cache  |= (buffer.get(next++) & 0xFFl) << (LONG_BITS - 8 - cached);
+                cached += 8;
+            }
+        }
+    }
+
+}
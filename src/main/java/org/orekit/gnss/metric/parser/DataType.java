@@ -16,351 +16,247 @@
  */
 package org.orekit.gnss.metric.parser;
 
-import java.util.function.Function;
-
 /** Enum containing all low level data types that can be parsed
  * to build a message.
+ * <p>
+ * Each data type is described by a pre-computed layout (number of bits and
+ * encoding), so decoding a value is a single bits extraction followed by
+ * a few arithmetic operations, without any intermediate object.
+ * </p>
+ * <p>
+ * For two's complement signed data types, the most negative value of the type
+ * (for example -2<sup>13</sup> for {@link #INT_14}) is reserved to mean "no data".
+ * This special value is mapped to null by {@link #decode(EncodedMessage)} and to
+ * NaN by {@link #doubleValue(EncodedMessage)} and {@link #floatValue(EncodedMessage)},
+ * which should be used for these data types, whereas {@link #longValue(EncodedMessage)}
+ * and {@link #intValue(EncodedMessage)} return it unchanged.
+ * </p>
  * @author Luc Maisonobe
  * @since 11.0
  */
 enum DataType {
 
     /** 1 bit. */
-    BIT_1(m -> m.extractBits(1)),
+    BIT_1(1, Encoding.UNSIGNED),
 
     /** 2 bits. */
-    BIT_2(m -> m.extractBits(2)),
+    BIT_2(2, Encoding.UNSIGNED),
 
     /** 3 bits. */
-    BIT_3(m -> m.extractBits(3)),
+    BIT_3(3, Encoding.UNSIGNED),
 
     /** 4 bits. */
-    BIT_4(m -> m.extractBits(4)),
+    BIT_4(4, Encoding.UNSIGNED),
 
     /** 6 bits. */
-    BIT_6(m -> m.extractBits(6)),
+    BIT_6(6, Encoding.UNSIGNED),
 
     /** 7 bits. */
-    BIT_7(m -> m.extractBits(7)),
+    BIT_7(7, Encoding.UNSIGNED),
 
     /** 8 bits. */
-    BIT_8(m -> m.extractBits(8)),
+    BIT_8(8, Encoding.UNSIGNED),
 
     /** 10 bits. */
-    BIT_10(m -> m.extractBits(10)),
+    BIT_10(10, Encoding.UNSIGNED),
 
     /** 12 bits. */
-    BIT_12(m -> m.extractBits(12)),
+    BIT_12(12, Encoding.UNSIGNED),
 
     /** 24 bits. */
-    BIT_24(m -> m.extractBits(24)),
+    BIT_24(24, Encoding.UNSIGNED),
 
     /** 32 bits. */
-    BIT_32(m -> m.extractBits(32)),
+    BIT_32(32, Encoding.UNSIGNED),
 
     /** 6 bits signed integer. */
-    INT_6(m -> {
-        final long msb = 0x20l;
-        final long signed = (m.extractBits(6) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_6(6, Encoding.TWOS_COMPLEMENT),
 
     /** 8 bits signed integer. */
-    INT_8(m -> {
-        final long msb = 0x80l;
-        final long signed = (m.extractBits(8) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_8(8, Encoding.TWOS_COMPLEMENT),
 
     /** 9 bits signed integer. */
-    INT_9(m -> {
-        final long msb = 0x100l;
-        final long signed = (m.extractBits(9) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_9(9, Encoding.TWOS_COMPLEMENT),
 
     /** 10 bits signed integer. */
-    INT_10(m -> {
-        final long msb = 0x200l;
-        final long signed = (m.extractBits(10) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_10(10, Encoding.TWOS_COMPLEMENT),
 
     /** 11 bits signed integer. */
-    INT_11(m -> {
-        final long msb = 0x400l;
-        final long signed = (m.extractBits(11) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_11(11, Encoding.TWOS_COMPLEMENT),
 
     /** 14 bits signed integer. */
-    INT_14(m -> {
-        final long msb = 0x2000l;
-        final long signed = (m.extractBits(14) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_14(14, Encoding.TWOS_COMPLEMENT),
 
     /** 15 bits signed integer. */
-    INT_15(m -> {
-        final long msb = 0x4000l;
-        final long signed = (m.extractBits(15) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_15(15, Encoding.TWOS_COMPLEMENT),
 
     /** 16 bits signed integer. */
-    INT_16(m -> {
-        final long msb    = 0x8000l;
-        final long signed = (m.extractBits(16) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_16(16, Encoding.TWOS_COMPLEMENT),
 
     /** 17 bits signed integer. */
-    INT_17(m -> {
-        final long msb    = 0x10000l;
-        final long signed = (m.extractBits(17) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_17(17, Encoding.TWOS_COMPLEMENT),
 
     /** 18 bits signed integer. */
-    INT_18(m -> {
-        final long msb    = 0x20000l;
-        final long signed = (m.extractBits(18) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_18(18, Encoding.TWOS_COMPLEMENT),
 
     /** 19 bits signed integer. */
-    INT_19(m -> {
-        final long msb    = 0x40000l;
-        final long signed = (m.extractBits(19) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_19(19, Encoding.TWOS_COMPLEMENT),
 
     /** 20 bits signed integer. */
-    INT_20(m -> {
-        final long msb    = 0x80000l;
-        final long signed = (m.extractBits(20) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_20(20, Encoding.TWOS_COMPLEMENT),
 
     /** 21 bits signed integer. */
-    INT_21(m -> {
-        final long msb    = 0x100000l;
-        final long signed = (m.extractBits(21) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_21(21, Encoding.TWOS_COMPLEMENT),
 
     /** 22 bits signed integer. */
-    INT_22(m -> {
-        final long msb    = 0x200000l;
-        final long signed = (m.extractBits(22) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_22(22, Encoding.TWOS_COMPLEMENT),
 
     /** 23 bits signed integer. */
-    INT_23(m -> {
-        final long msb    = 0x400000l;
-        final long signed = (m.extractBits(23) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_23(23, Encoding.TWOS_COMPLEMENT),
 
     /** 24 bits signed integer. */
-    INT_24(m -> {
-        final long msb    = 0x800000l;
-        final long signed = (m.extractBits(24) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_24(24, Encoding.TWOS_COMPLEMENT),
 
     /** 25 bits signed integer. */
-    INT_25(m -> {
-        final long msb    = 0x1000000l;
-        final long signed = (m.extractBits(25) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_25(25, Encoding.TWOS_COMPLEMENT),
 
     /** 26 bits signed integer. */
-    INT_26(m -> {
-        final long msb    = 0x2000000l;
-        final long signed = (m.extractBits(26) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_26(26, Encoding.TWOS_COMPLEMENT),
 
     /** 27 bits signed integer. */
-    INT_27(m -> {
-        final long msb    = 0x4000000l;
-        final long signed = (m.extractBits(27) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_27(27, Encoding.TWOS_COMPLEMENT),
 
     /** 30 bits signed integer. */
-    INT_30(m -> {
-        final long msb    = 0x20000000l;
-        final long signed = (m.extractBits(30) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_30(30, Encoding.TWOS_COMPLEMENT),
 
     /** 31 bits signed integer. */
-    INT_31(m -> {
-        final long msb    = 0x40000000l;
-        final long signed = (m.extractBits(31) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_31(31, Encoding.TWOS_COMPLEMENT),
 
     /** 32 bits signed integer. */
-    INT_32(m -> {
-        final long msb    = 0x80000000l;
-        final long signed = (m.extractBits(32) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_32(32, Encoding.TWOS_COMPLEMENT),
 
     /** 34 bits signed integer. */
-    INT_34(m -> {
-        final long msb    = 0x200000000l;
-        final long signed = (m.extractBits(34) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_34(34, Encoding.TWOS_COMPLEMENT),
 
     /** 35 bits signed integer. */
-    INT_35(m -> {
-        final long msb    = 0x400000000l;
-        final long signed = (m.extractBits(35) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_35(35, Encoding.TWOS_COMPLEMENT),
 
     /** 38 bits signed integer. */
-    INT_38(m -> {
-        final long msb = 0x2000000000l;
-        final long signed = (m.extractBits(38) ^ msb) - msb;
-        return signed == -msb ? null : signed; // return null for the special value meaning no data
-    }),
+    INT_38(38, Encoding.TWOS_COMPLEMENT),
 
     /** 2 bits unsigned integer. */
-    U_INT_2(m -> m.extractBits(2)),
+    U_INT_2(2, Encoding.UNSIGNED),
 
     /** 3 bits unsigned integer. */
-    U_INT_3(m -> m.extractBits(3)),
+    U_INT_3(3, Encoding.UNSIGNED),
 
     /** 4 bits unsigned integer. */
-    U_INT_4(m -> m.extractBits(4)),
+    U_INT_4(4, Encoding.UNSIGNED),
 
     /** 5 bits unsigned integer. */
-    U_INT_5(m -> m.extractBits(5)),
+    U_INT_5(5, Encoding.UNSIGNED),
 
     /** 6 bits unsigned integer. */
-    U_INT_6(m -> m.extractBits(6)),
+    U_INT_6(6, Encoding.UNSIGNED),
 
     /** 7 bits unsigned integer. */
-    U_INT_7(m -> m.extractBits(7)),
+    U_INT_7(7, Encoding.UNSIGNED),
 
     /** 8 bits unsigned integer. */
-    U_INT_8(m -> m.extractBits(8)),
+    U_INT_8(8, Encoding.UNSIGNED),
 
     /** 9 bits unsigned integer. */
-    U_INT_9(m -> m.extractBits(9)),
+    U_INT_9(9, Encoding.UNSIGNED),
 
     /** 10 bits unsigned integer. */
-    U_INT_10(m -> m.extractBits(10)),
+    U_INT_10(10, Encoding.UNSIGNED),
 
     /** 11 bits unsigned integer. */
-    U_INT_11(m -> m.extractBits(11)),
+    U_INT_11(11, Encoding.UNSIGNED),
 
     /** 12 bits unsigned integer. */
-    U_INT_12(m -> m.extractBits(12)),
+    U_INT_12(12, Encoding.UNSIGNED),
 
     /** 13 bits unsigned integer. */
-    U_INT_13(m -> m.extractBits(13)),
+    U_INT_13(13, Encoding.UNSIGNED),
 
     /** 14 bits unsigned integer. */
-    U_INT_14(m -> m.extractBits(14)),
+    U_INT_14(14, Encoding.UNSIGNED),
 
     /** 16 bits unsigned integer. */
-    U_INT_16(m -> m.extractBits(16)),
+    U_INT_16(16, Encoding.UNSIGNED),
 
     /** 17 bits unsigned integer. */
-    U_INT_17(m -> m.extractBits(17)),
+    U_INT_17(17, Encoding.UNSIGNED),
 
     /** 18 bits unsigned integer. */
-    U_INT_18(m -> m.extractBits(18)),
+    U_INT_18(18, Encoding.UNSIGNED),
 
     /** 20 bits unsigned integer. */
-    U_INT_20(m -> m.extractBits(20)),
+    U_INT_20(20, Encoding.UNSIGNED),
 
     /** 23 bits unsigned integer. */
-    U_INT_23(m -> m.extractBits(23)),
+    U_INT_23(23, Encoding.UNSIGNED),
 
     /** 24 bits unsigned integer. */
-    U_INT_24(m -> m.extractBits(24)),
+    U_INT_24(24, Encoding.UNSIGNED),
 
     /** 25 bits unsigned integer. */
-    U_INT_25(m -> m.extractBits(25)),
+    U_INT_25(25, Encoding.UNSIGNED),
 
     /** 26 bits unsigned integer. */
-    U_INT_26(m -> m.extractBits(26)),
+    U_INT_26(26, Encoding.UNSIGNED),
 
     /** 27 bits unsigned integer. */
-    U_INT_27(m -> m.extractBits(27)),
+    U_INT_27(27, Encoding.UNSIGNED),
 
     /** 30 bits unsigned integer. */
-    U_INT_30(m -> m.extractBits(30)),
+    U_INT_30(30, Encoding.UNSIGNED),
 
     /** 32 bits unsigned integer. */
-    U_INT_32(m -> m.extractBits(32)),
+    U_INT_32(32, Encoding.UNSIGNED),
 
     /** 35 bits unsigned integer. */
-    U_INT_35(m -> m.extractBits(35)),
+    U_INT_35(35, Encoding.UNSIGNED),
 
     /** 36 bits unsigned integer. */
-    U_INT_36(m -> m.extractBits(36)),
+    U_INT_36(36, Encoding.UNSIGNED),
 
     /** 5 bits sign-magnitude integer. */
-    INT_S_5(m -> {
-        final long data = m.extractBits(5);
-        final long mask = -(data >>> 4); // this mask allows avoiding a conditional below
-        return (~mask & data) | (mask & (16l - data));
-    }),
+    INT_S_5(5, Encoding.SIGN_MAGNITUDE),
 
     /** 11 bits sign-magnitude integer. */
-    INT_S_11(m -> {
-        final long data = m.extractBits(11);
-        final long mask = -(data >>> 10); // this mask allows avoiding a conditional below
-        return (~mask & data) | (mask & (1024l - data));
-    }),
+    INT_S_11(11, Encoding.SIGN_MAGNITUDE),
 
     /** 22 bits sign-magnitude integer. */
-    INT_S_22(m -> {
-        final long data = m.extractBits(22);
-        final long mask = -(data >>> 21); // this mask allows avoiding a conditional below
-        return (~mask & data) | (mask & (2097152l - data));
-    }),
+    INT_S_22(22, Encoding.SIGN_MAGNITUDE),
 
     /** 24 bits sign-magnitude integer. */
-    INT_S_24(m -> {
-        final long data = m.extractBits(24);
-        final long mask = -(data >>> 23); // this mask allows avoiding a conditional below
-        return (~mask & data) | (mask & (8388608l - data));
-    }),
+    INT_S_24(24, Encoding.SIGN_MAGNITUDE),
 
     /** 27 bits sign-magnitude integer. */
-    INT_S_27(m -> {
-        final long data = m.extractBits(27);
-        final long mask = -(data >>> 26); // this mask allows avoiding a conditional below
-        return (~mask & data) | (mask & (67108864l - data));
-    }),
+    INT_S_27(27, Encoding.SIGN_MAGNITUDE),
 
     /** 32 bits sign-magnitude integer. */
-    INT_S_32(m -> {
-        final long data = m.extractBits(32);
-        final long mask = -(data >>> 31); // this mask allows avoiding a conditional below
-        return (~mask & data) | (mask & (2147483648l - data));
-    });
+    INT_S_32(32, Encoding.SIGN_MAGNITUDE);
+
+    /** Number of bits. */
+    private final int bits;
 
-    /** Decoding function. */
-    private final Function<EncodedMessage, Long> decoder;
+    /** Encoding of the bits. */
+    private final Encoding encoding;
+
+    /** Most significant bit (sign bit for signed data types). */
+    private final long msb;
 
     /** Simple constructor.
-     * @param decoder decoding function for the data type
+     * @param bits number of bits
+     * @param encoding encoding of the bits
      */
-    DataType(final Function<EncodedMessage, Long> decoder) {
-        this.decoder = decoder;
+    DataType(final int bits, final Encoding encoding) {
+        this.bits     = bits;
+        this.encoding = encoding;
+        this.msb      = 1l << (bits - 1);
     }
 
     /** Decode a piece of data extracted from an encoded message.
@@ -368,7 +264,79 @@ enum DataType {
      * @return data decoded as a Long object, or null if data not available
      */
     Long decode(final EncodedMessage message) {
-        return decoder.apply(message);
+        final long value = longValue(message);
+        return (encoding == Encoding.TWOS_COMPLEMENT && value == -msb) ? null : value;
+    }
+
+    /** Decode a piece of data extracted from an encoded message as a primitive long.
+     * <p>
+     * For two's complement signed data types, the special value meaning "no data"
+     * is returned as the most negative value of the type.
+     * </p>
+     * @param message encoded message providing the bits to decode
+     * @return decoded data
+     * @since 11.4
+     */
+    long longValue(final EncodedMessage message) {
+        final long data = message.extractBits(bits);
+        switch (encoding) {
+            case TWOS_COMPLEMENT :
+                return (data ^ msb) - msb;
+            case SIGN_MAGNITUDE : {
+                final long mask = -(data >>> (bits - 1)); // this mask allows avoiding a conditional below
+                return (~mask & data) | (mask & (msb - data));
+            }
+            default :
+                return data;
+        }
+    }
+
+    /** Decode a piece of data extracted from an encoded message as a primitive double.
+     * @param message encoded message providing the bits to decode
+     * @return decoded data, or {@link Double#NaN NaN} if data not available
+     * @since 11.4
+     */
+    double doubleValue(final EncodedMessage message) {
+        final long value = longValue(message);
+        return (encoding == Encoding.TWOS_COMPLEMENT && value == -msb) ? Double.NaN : value;
+    }
+
+    /** Decode a piece of data extracted from an encoded message as a primitive float.
+     * <p>
+     * This method is intended for fields scaled by powers of 2, which are
+     * computed in single precision.
+     * </p>
+     * @param message encoded message providing the bits to decode
+     * @return decoded data, or {@link Float#NaN NaN} if data not available
+     * @see #doubleValue(EncodedMessage)
+     * @since 11.4
+     */
+    float floatValue(final EncodedMessage message) {
+        return (float) doubleValue(message);
+    }
+
+    /** Decode a piece of data extracted from an encoded message as a primitive int.
+     * @param message encoded message providing the bits to decode
+     * @return decoded data
+     * @see #longValue(EncodedMessage)
+     * @since 11.4
+     */
+    int intValue(final EncodedMessage message) {
+        return (int) longValue(message);
+    }
+
+    /** Encodings for data types. */
+    private enum Encoding {
+
+        /** Unsigned integer or bits field. */
+        UNSIGNED,
+
+        /** Two's complement signed integer. */
+        TWOS_COMPLEMENT,
+
+        /** Sign-magnitude integer. */
+        SIGN_MAGNITUDE
+
     }
 
 }
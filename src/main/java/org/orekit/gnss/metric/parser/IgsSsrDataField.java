@@ -32,7 +32,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_3.decode(message).intValue();
+            return DataType.U_INT_3.intValue(message);
         }
     },
 
@@ -41,7 +41,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public String stringValue(final EncodedMessage message, final int n) {
-            return String.format(Locale.US, "%3s", DataType.U_INT_8.decode(message).intValue()).trim();
+            return String.format(Locale.US, "%3s", DataType.U_INT_8.intValue(message)).trim();
         }
     },
 
@@ -50,7 +50,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_20.decode(message).intValue();
+            return DataType.U_INT_20.intValue(message);
         }
     },
 
@@ -59,7 +59,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            switch (DataType.BIT_4.decode(message).byteValue()) {
+            switch ((byte) DataType.BIT_4.intValue(message)) {
                 case 0  : return 1;
                 case 1  : return 2;
                 case 2  : return 5;
@@ -85,7 +85,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_1.decode(message).intValue();
+            return DataType.BIT_1.intValue(message);
         }
     },
 
@@ -94,7 +94,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_1.decode(message).intValue();
+            return DataType.BIT_1.intValue(message);
         }
     },
 
@@ -103,7 +103,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_4.decode(message).intValue();
+            return DataType.U_INT_4.intValue(message);
         }
     },
 
@@ -112,7 +112,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_16.decode(message).intValue();
+            return DataType.U_INT_16.intValue(message);
         }
     },
 
@@ -121,7 +121,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_4.decode(message).intValue();
+            return DataType.U_INT_4.intValue(message);
         }
     },
 
@@ -130,7 +130,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_6.decode(message).intValue();
+            return DataType.U_INT_6.intValue(message);
         }
     },
 
@@ -139,7 +139,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_6.decode(message).intValue();
+            return DataType.U_INT_6.intValue(message);
         }
     },
 
@@ -148,7 +148,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_8.decode(message).intValue();
+            return DataType.BIT_8.intValue(message);
         }
     },
 
@@ -157,7 +157,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.MM.toSI(DataType.INT_22.decode(message).intValue() * 0.1);
+            return Units.MM.toSI(DataType.INT_22.doubleValue(message) * 0.1);
         }
     },
 
@@ -166,7 +166,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.MM.toSI(DataType.INT_20.decode(message).intValue() * 0.4);
+            return Units.MM.toSI(DataType.INT_20.doubleValue(message) * 0.4);
         }
     },
 
@@ -175,7 +175,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.MM.toSI(DataType.INT_20.decode(message).intValue() * 0.4);
+            return Units.MM.toSI(DataType.INT_20.doubleValue(message) * 0.4);
         }
     },
 
@@ -184,7 +184,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.MM_PER_S.toSI(DataType.INT_21.decode(message).intValue() * 0.001);
+            return Units.MM_PER_S.toSI(DataType.INT_21.doubleValue(message) * 0.001);
         }
     },
 
@@ -193,7 +193,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.MM_PER_S.toSI(DataType.INT_19.decode(message).intValue() * 0.004);
+            return Units.MM_PER_S.toSI(DataType.INT_19.doubleValue(message) * 0.004);
         }
     },
 
@@ -202,7 +202,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.MM_PER_S.toSI(DataType.INT_19.decode(message).intValue() * 0.004);
+            return Units.MM_PER_S.toSI(DataType.INT_19.doubleValue(message) * 0.004);
         }
     },
 
@@ -211,7 +211,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.MM.toSI(DataType.INT_22.decode(message).intValue() * 0.1);
+            return Units.MM.toSI(DataType.INT_22.doubleValue(message) * 0.1);
         }
     },
 
@@ -220,7 +220,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.MM_PER_S.toSI(DataType.INT_21.decode(message).intValue() * 0.001);
+            return Units.MM_PER_S.toSI(DataType.INT_21.doubleValue(message) * 0.001);
         }
     },
 
@@ -229,7 +229,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.MM_PER_S2.toSI(DataType.INT_27.decode(message).intValue() * 0.00002);
+            return Units.MM_PER_S2.toSI(DataType.INT_27.doubleValue(message) * 0.00002);
         }
     },
 
@@ -238,7 +238,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.MM.toSI(DataType.INT_22.decode(message).intValue() * 0.1);
+            return Units.MM.toSI(DataType.INT_22.doubleValue(message) * 0.1);
         }
     },
 
@@ -247,7 +247,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_5.decode(message).intValue();
+            return DataType.U_INT_5.intValue(message);
         }
     },
 
@@ -256,7 +256,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_5.decode(message).intValue();
+            return DataType.U_INT_5.intValue(message);
         }
     },
 
@@ -265,7 +265,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return DataType.INT_14.decode(message).intValue() * 0.01;
+            return DataType.INT_14.doubleValue(message) * 0.01;
         }
     },
 
@@ -274,7 +274,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(DataType.U_INT_9.decode(message).intValue() / 256.0);
+            return Units.SEMI_CIRCLE.toSI(DataType.U_INT_9.intValue(message) / 256.0);
         }
     },
 
@@ -283,7 +283,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(DataType.INT_8.decode(message).intValue() / 8192.0);
+            return Units.SEMI_CIRCLE.toSI(DataType.INT_8.doubleValue(message) / 8192.0);
         }
     },
 
@@ -292,7 +292,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return DataType.INT_20.decode(message).intValue() * 0.0001;
+            return DataType.INT_20.doubleValue(message) * 0.0001;
         }
     },
 
@@ -301,7 +301,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public boolean booleanValue(final EncodedMessage message) {
-            return DataType.BIT_1.decode(message) > 0;
+            return DataType.BIT_1.longValue(message) > 0;
         }
     },
 
@@ -310,7 +310,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_2.decode(message).intValue();
+            return DataType.BIT_2.intValue(message);
         }
     },
 
@@ -319,7 +319,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_4.decode(message).intValue();
+            return DataType.U_INT_4.intValue(message);
         }
     },
 
@@ -328,7 +328,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public boolean booleanValue(final EncodedMessage message) {
-            return DataType.BIT_1.decode(message) > 0;
+            return DataType.BIT_1.longValue(message) > 0;
         }
     },
 
@@ -337,7 +337,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public boolean booleanValue(final EncodedMessage message) {
-            return DataType.BIT_1.decode(message) > 0;
+            return DataType.BIT_1.longValue(message) > 0;
         }
     },
 
@@ -346,7 +346,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_6.decode(message).intValue();
+            return DataType.BIT_6.intValue(message);
         }
     },
 
@@ -356,7 +356,7 @@ public enum IgsSsrDataField implements DataField {
         @Override
         public int intValue(final EncodedMessage message) {
             // The parsed number is between 0 and 3. So, we need to add 1.
-            return DataType.U_INT_2.decode(message).intValue() + 1;
+            return DataType.U_INT_2.intValue(message) + 1;
         }
     },
 
@@ -366,7 +366,7 @@ public enum IgsSsrDataField implements DataField {
         @Override
         public double doubleValue(final EncodedMessage message) {
             // 10 km resolution
-            return Unit.KILOMETRE.toSI(DataType.U_INT_8.decode(message).intValue() * 10.0);
+            return Unit.KILOMETRE.toSI(DataType.U_INT_8.intValue(message) * 10.0);
         }
     },
 
@@ -376,7 +376,7 @@ public enum IgsSsrDataField implements DataField {
         @Override
         public int intValue(final EncodedMessage message) {
             // The parsed number is between 0 and 15. So, we need to add 1.
-            return DataType.U_INT_4.decode(message).intValue() + 1;
+            return DataType.U_INT_4.intValue(message) + 1;
         }
     },
 
@@ -386,7 +386,7 @@ public enum IgsSsrDataField implements DataField {
         @Override
         public int intValue(final EncodedMessage message) {
             // The parsed number is between 0 and 15. So, we need to add 1.
-            return DataType.U_INT_4.decode(message).intValue() + 1;
+            return DataType.U_INT_4.intValue(message) + 1;
         }
     },
 
@@ -395,7 +395,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return DataType.INT_16.decode(message).intValue() * 0.005;
+            return DataType.INT_16.doubleValue(message) * 0.005;
         }
     },
 
@@ -404,7 +404,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return DataType.INT_16.decode(message).intValue() * 0.005;
+            return DataType.INT_16.doubleValue(message) * 0.005;
         }
     },
 
@@ -413,7 +413,7 @@ public enum IgsSsrDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return DataType.U_INT_9.decode(message).intValue() * 0.05;
+            return DataType.U_INT_9.intValue(message) * 0.05;
         }
     };
 
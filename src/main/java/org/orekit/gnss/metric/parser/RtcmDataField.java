@@ -33,7 +33,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public String stringValue(final EncodedMessage message, final int n) {
-            return String.format(Locale.US, "%4s", DataType.U_INT_12.decode(message).intValue()).trim();
+            return String.format(Locale.US, "%4s", DataType.U_INT_12.intValue(message)).trim();
         }
     },
 
@@ -42,7 +42,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_6.decode(message).intValue();
+            return DataType.U_INT_6.intValue(message);
         }
     },
 
@@ -51,7 +51,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_6.decode(message).intValue();
+            return DataType.U_INT_6.intValue(message);
         }
     },
 
@@ -60,7 +60,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            final int id = DataType.U_INT_5.decode(message).intValue();
+            final int id = DataType.U_INT_5.intValue(message);
             return id - 7;
         }
     },
@@ -70,7 +70,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_8.decode(message).intValue();
+            return DataType.BIT_8.intValue(message);
         }
     },
 
@@ -79,7 +79,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_10.decode(message).intValue();
+            return DataType.U_INT_10.intValue(message);
         }
     },
 
@@ -88,7 +88,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_4.decode(message).intValue();
+            return DataType.U_INT_4.intValue(message);
         }
     },
 
@@ -97,7 +97,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_2.decode(message).intValue();
+            return DataType.BIT_2.intValue(message);
         }
     },
 
@@ -106,7 +106,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_14.decode(message).intValue(), -43));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_14.floatValue(message), -43));
         }
     },
 
@@ -115,7 +115,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return DataType.U_INT_16.decode(message).intValue() * 16.0;
+            return DataType.U_INT_16.intValue(message) * 16.0;
         }
     },
 
@@ -124,7 +124,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_8.decode(message).intValue(), -55);
+            return FastMath.scalb(DataType.INT_8.floatValue(message), -55);
         }
     },
 
@@ -133,7 +133,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_16.decode(message).intValue(), -43);
+            return FastMath.scalb(DataType.INT_16.floatValue(message), -43);
         }
     },
 
@@ -142,7 +142,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_22.decode(message).intValue(), -31);
+            return FastMath.scalb(DataType.INT_22.floatValue(message), -31);
         }
     },
 
@@ -151,7 +151,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_10.decode(message).intValue();
+            return DataType.U_INT_10.intValue(message);
         }
     },
 
@@ -160,7 +160,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_16.decode(message).intValue(), -5);
+            return FastMath.scalb(DataType.INT_16.floatValue(message), -5);
         }
     },
 
@@ -169,7 +169,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_16.decode(message).intValue(), -43));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_16.floatValue(message), -43));
         }
     },
 
@@ -178,7 +178,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.decode(message).intValue(), -31));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.floatValue(message), -31));
         }
     },
 
@@ -187,7 +187,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_16.decode(message).intValue(), -29);
+            return FastMath.scalb(DataType.INT_16.floatValue(message), -29);
         }
     },
 
@@ -196,7 +196,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.U_INT_32.decode(message).longValue(), -33);
+            return FastMath.scalb(DataType.U_INT_32.longValue(message), -33);
         }
     },
 
@@ -205,7 +205,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_16.decode(message).intValue(), -29);
+            return FastMath.scalb(DataType.INT_16.floatValue(message), -29);
         }
     },
 
@@ -214,7 +214,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.U_INT_32.decode(message).longValue(), -19);
+            return FastMath.scalb(DataType.U_INT_32.longValue(message), -19);
         }
     },
 
@@ -223,7 +223,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return DataType.U_INT_16.decode(message).intValue() * 16.0;
+            return DataType.U_INT_16.intValue(message) * 16.0;
         }
     },
 
@@ -232,7 +232,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_16.decode(message).intValue(), -29);
+            return FastMath.scalb(DataType.INT_16.floatValue(message), -29);
         }
     },
 
@@ -241,7 +241,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.decode(message).intValue(), -31));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.floatValue(message), -31));
         }
     },
 
@@ -250,7 +250,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_16.decode(message).intValue(), -29);
+            return FastMath.scalb(DataType.INT_16.floatValue(message), -29);
         }
     },
 
@@ -259,7 +259,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.decode(message).intValue(), -31));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.floatValue(message), -31));
         }
     },
 
@@ -268,7 +268,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_16.decode(message).intValue(), -5);
+            return FastMath.scalb(DataType.INT_16.floatValue(message), -5);
         }
     },
 
@@ -277,7 +277,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.decode(message).intValue(), -31));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.floatValue(message), -31));
         }
     },
 
@@ -286,7 +286,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_24.decode(message).intValue(), -43));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_24.floatValue(message), -43));
         }
     },
 
@@ -295,7 +295,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_8.decode(message).intValue(), -31);
+            return FastMath.scalb(DataType.INT_8.floatValue(message), -31);
         }
     },
 
@@ -304,7 +304,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_6.decode(message).intValue();
+            return DataType.U_INT_6.intValue(message);
         }
     },
 
@@ -313,7 +313,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public boolean booleanValue(final EncodedMessage message) {
-            return DataType.BIT_1.decode(message) == 0;
+            return DataType.BIT_1.longValue(message) == 0;
         }
     },
 
@@ -322,7 +322,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_1.decode(message).intValue();
+            return DataType.BIT_1.intValue(message);
         }
     },
 
@@ -331,7 +331,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public boolean booleanValue(final EncodedMessage message) {
-            return DataType.BIT_1.decode(message) > 0;
+            return DataType.BIT_1.longValue(message) > 0;
         }
     },
 
@@ -341,7 +341,7 @@ public enum RtcmDataField implements DataField {
         @Override
         public int intValue(final EncodedMessage message) {
             // Word P1 indicates a time interval (in sec) between two adjacent values of tb parameter
-            switch (DataType.BIT_2.decode(message).intValue()) {
+            switch (DataType.BIT_2.intValue(message)) {
                 case 0  : return 0;
                 case 1  : return 1800;
                 case 2  : return 2700;
@@ -355,9 +355,9 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            final int    hours    = DataType.U_INT_5.decode(message).intValue();
-            final int    minutes  = DataType.U_INT_6.decode(message).intValue();
-            final double secondes = DataType.BIT_1.decode(message).intValue() * 30.0;
+            final int    hours    = DataType.U_INT_5.intValue(message);
+            final int    minutes  = DataType.U_INT_6.intValue(message);
+            final double secondes = DataType.BIT_1.intValue(message) * 30.0;
             return hours * 3600.0 + minutes * 60.0 + secondes;
         }
     },
@@ -367,7 +367,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_1.decode(message).intValue();
+            return DataType.BIT_1.intValue(message);
         }
     },
 
@@ -376,7 +376,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_1.decode(message).intValue();
+            return DataType.BIT_1.intValue(message);
         }
     },
 
@@ -385,7 +385,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Unit.MINUTE.toSI(DataType.U_INT_7.decode(message).intValue() * 15.0);
+            return Unit.MINUTE.toSI(DataType.U_INT_7.intValue(message) * 15.0);
         }
     },
 
@@ -394,7 +394,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.KM_PER_S.toSI(FastMath.scalb(DataType.INT_S_24.decode(message).intValue(), -20));
+            return Units.KM_PER_S.toSI(FastMath.scalb(DataType.INT_S_24.intValue(message), -20));
         }
     },
 
@@ -403,7 +403,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Unit.KILOMETRE.toSI(FastMath.scalb(DataType.INT_S_27.decode(message).intValue(), -11));
+            return Unit.KILOMETRE.toSI(FastMath.scalb(DataType.INT_S_27.intValue(message), -11));
         }
     },
 
@@ -412,7 +412,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.KM_PER_S2.toSI(FastMath.scalb(DataType.INT_S_5.decode(message).intValue(), -30));
+            return Units.KM_PER_S2.toSI(FastMath.scalb(DataType.INT_S_5.intValue(message), -30));
         }
     },
 
@@ -421,7 +421,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.KM_PER_S.toSI(FastMath.scalb(DataType.INT_S_24.decode(message).intValue(), -20));
+            return Units.KM_PER_S.toSI(FastMath.scalb(DataType.INT_S_24.intValue(message), -20));
         }
     },
 
@@ -430,7 +430,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Unit.KILOMETRE.toSI(FastMath.scalb(DataType.INT_S_27.decode(message).intValue(), -11));
+            return Unit.KILOMETRE.toSI(FastMath.scalb(DataType.INT_S_27.intValue(message), -11));
         }
     },
 
@@ -439,7 +439,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.KM_PER_S2.toSI(FastMath.scalb(DataType.INT_S_5.decode(message).intValue(), -30));
+            return Units.KM_PER_S2.toSI(FastMath.scalb(DataType.INT_S_5.intValue(message), -30));
         }
     },
 
@@ -448,7 +448,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.KM_PER_S.toSI(FastMath.scalb(DataType.INT_S_24.decode(message).intValue(), -20));
+            return Units.KM_PER_S.toSI(FastMath.scalb(DataType.INT_S_24.intValue(message), -20));
         }
     },
 
@@ -457,7 +457,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Unit.KILOMETRE.toSI(FastMath.scalb(DataType.INT_S_27.decode(message).intValue(), -11));
+            return Unit.KILOMETRE.toSI(FastMath.scalb(DataType.INT_S_27.intValue(message), -11));
         }
     },
 
@@ -466,7 +466,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.KM_PER_S2.toSI(FastMath.scalb(DataType.INT_S_5.decode(message).intValue(), -30));
+            return Units.KM_PER_S2.toSI(FastMath.scalb(DataType.INT_S_5.intValue(message), -30));
         }
     },
 
@@ -476,7 +476,7 @@ public enum RtcmDataField implements DataField {
         @Override
         public int intValue(final EncodedMessage message) {
             // Flag indicating a number of satellites for which almanac is transmitted within given frame
-            if (DataType.BIT_1.decode(message) == 0) {
+            if (DataType.BIT_1.longValue(message) == 0) {
                 return 4;
             } else {
                 return 5;
@@ -489,7 +489,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_S_11.decode(message).intValue(), -40);
+            return FastMath.scalb(DataType.INT_S_11.intValue(message), -40);
         }
     },
 
@@ -498,7 +498,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_2.decode(message).intValue();
+            return DataType.BIT_2.intValue(message);
         }
     },
 
@@ -507,7 +507,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_1.decode(message).intValue();
+            return DataType.BIT_1.intValue(message);
         }
     },
 
@@ -516,7 +516,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_S_22.decode(message).intValue(), -30);
+            return FastMath.scalb(DataType.INT_S_22.intValue(message), -30);
         }
     },
 
@@ -525,7 +525,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_S_5.decode(message).intValue(), -30);
+            return FastMath.scalb(DataType.INT_S_5.intValue(message), -30);
         }
     },
 
@@ -534,7 +534,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_5.decode(message).intValue();
+            return DataType.U_INT_5.intValue(message);
         }
     },
 
@@ -543,7 +543,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_1.decode(message).intValue();
+            return DataType.BIT_1.intValue(message);
         }
     },
 
@@ -552,7 +552,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_4.decode(message).intValue();
+            return DataType.U_INT_4.intValue(message);
         }
     },
 
@@ -561,7 +561,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_11.decode(message).intValue();
+            return DataType.U_INT_11.intValue(message);
         }
     },
 
@@ -570,7 +570,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_2.decode(message).intValue();
+            return DataType.BIT_2.intValue(message);
         }
     },
 
@@ -579,7 +579,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public boolean booleanValue(final EncodedMessage message) {
-            return DataType.BIT_1.decode(message) > 0;
+            return DataType.BIT_1.longValue(message) > 0;
         }
     },
 
@@ -588,7 +588,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_11.decode(message).intValue();
+            return DataType.U_INT_11.intValue(message);
         }
     },
 
@@ -597,7 +597,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_S_32.decode(message).intValue(), -31);
+            return FastMath.scalb(DataType.INT_S_32.intValue(message), -31);
         }
     },
 
@@ -606,7 +606,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_5.decode(message).intValue();
+            return DataType.U_INT_5.intValue(message);
         }
     },
 
@@ -615,7 +615,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_S_22.decode(message).intValue(), -31);
+            return FastMath.scalb(DataType.INT_S_22.intValue(message), -31);
         }
     },
 
@@ -624,7 +624,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_1.decode(message).intValue();
+            return DataType.BIT_1.intValue(message);
         }
     },
 
@@ -633,7 +633,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_1.decode(message).intValue();
+            return DataType.BIT_1.intValue(message);
         }
     },
 
@@ -642,7 +642,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_6.decode(message).intValue();
+            return DataType.U_INT_6.intValue(message);
         }
     },
 
@@ -651,7 +651,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_12.decode(message).intValue();
+            return DataType.U_INT_12.intValue(message);
         }
     },
 
@@ -660,7 +660,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_10.decode(message).intValue();
+            return DataType.U_INT_10.intValue(message);
         }
     },
 
@@ -669,7 +669,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_8.decode(message).intValue();
+            return DataType.BIT_8.intValue(message);
         }
     },
 
@@ -678,7 +678,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_14.decode(message).intValue(), -43));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_14.floatValue(message), -43));
         }
     },
 
@@ -687,7 +687,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return DataType.U_INT_14.decode(message).intValue() * 60.0;
+            return DataType.U_INT_14.intValue(message) * 60.0;
         }
     },
 
@@ -696,7 +696,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_6.decode(message).intValue(), -59);
+            return FastMath.scalb(DataType.INT_6.floatValue(message), -59);
         }
     },
 
@@ -705,7 +705,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_21.decode(message).intValue(), -46);
+            return FastMath.scalb(DataType.INT_21.floatValue(message), -46);
         }
     },
 
@@ -714,7 +714,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_31.decode(message).intValue(), -34);
+            return FastMath.scalb(DataType.INT_31.floatValue(message), -34);
         }
     },
 
@@ -723,7 +723,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_16.decode(message).intValue(), -5);
+            return FastMath.scalb(DataType.INT_16.floatValue(message), -5);
         }
     },
 
@@ -732,7 +732,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_16.decode(message).intValue(), -43));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_16.floatValue(message), -43));
         }
     },
 
@@ -741,7 +741,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.decode(message).intValue(), -31));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.floatValue(message), -31));
         }
     },
 
@@ -750,7 +750,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_16.decode(message).intValue(), -29);
+            return FastMath.scalb(DataType.INT_16.floatValue(message), -29);
         }
     },
 
@@ -759,7 +759,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.U_INT_32.decode(message).doubleValue(), -33);
+            return FastMath.scalb((double) DataType.U_INT_32.longValue(message), -33);
         }
     },
 
@@ -768,7 +768,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_16.decode(message).intValue(), -29);
+            return FastMath.scalb(DataType.INT_16.floatValue(message), -29);
         }
     },
 
@@ -777,7 +777,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.U_INT_32.decode(message).doubleValue(), -19);
+            return FastMath.scalb((double) DataType.U_INT_32.longValue(message), -19);
         }
     },
 
@@ -786,7 +786,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return DataType.U_INT_14.decode(message).intValue() * 60.0;
+            return DataType.U_INT_14.intValue(message) * 60.0;
         }
     },
 
@@ -795,7 +795,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_16.decode(message).intValue(), -29);
+            return FastMath.scalb(DataType.INT_16.floatValue(message), -29);
         }
     },
 
@@ -804,7 +804,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.decode(message).intValue(), -31));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.floatValue(message), -31));
         }
     },
 
@@ -813,7 +813,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_16.decode(message).intValue(), -29);
+            return FastMath.scalb(DataType.INT_16.floatValue(message), -29);
         }
     },
 
@@ -822,7 +822,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.decode(message).intValue(), -31));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.floatValue(message), -31));
         }
     },
 
@@ -831,7 +831,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_16.decode(message).intValue(), -5);
+            return FastMath.scalb(DataType.INT_16.floatValue(message), -5);
         }
     },
 
@@ -840,7 +840,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.decode(message).intValue(), -31));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.floatValue(message), -31));
         }
     },
 
@@ -849,7 +849,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_24.decode(message).intValue(), -43));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_24.floatValue(message), -43));
         }
     },
 
@@ -858,7 +858,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_10.decode(message).intValue(), -32);
+            return FastMath.scalb(DataType.INT_10.floatValue(message), -32);
         }
     },
 
@@ -867,7 +867,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_10.decode(message).intValue(), -32);
+            return FastMath.scalb(DataType.INT_10.floatValue(message), -32);
         }
     },
 
@@ -876,7 +876,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_2.decode(message).intValue();
+            return DataType.BIT_2.intValue(message);
         }
     },
 
@@ -885,7 +885,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_1.decode(message).intValue();
+            return DataType.BIT_1.intValue(message);
         }
     },
 
@@ -894,7 +894,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_2.decode(message).intValue();
+            return DataType.BIT_2.intValue(message);
         }
     },
 
@@ -903,7 +903,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_1.decode(message).intValue();
+            return DataType.BIT_1.intValue(message);
         }
     },
 
@@ -913,7 +913,7 @@ public enum RtcmDataField implements DataField {
         @Override
         public int intValue(final EncodedMessage message) {
             // 1 refers to satellite 193, 2 refers to satellite 194, etc.
-            return DataType.U_INT_4.decode(message).intValue() + 192;
+            return DataType.U_INT_4.intValue(message) + 192;
         }
     },
 
@@ -922,7 +922,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return DataType.U_INT_16.decode(message).intValue() * 16.0;
+            return DataType.U_INT_16.intValue(message) * 16.0;
         }
     },
 
@@ -931,7 +931,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_8.decode(message).intValue(), -55);
+            return FastMath.scalb(DataType.INT_8.floatValue(message), -55);
         }
     },
 
@@ -940,7 +940,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_16.decode(message).intValue(), -43);
+            return FastMath.scalb(DataType.INT_16.floatValue(message), -43);
         }
     },
 
@@ -949,7 +949,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_22.decode(message).intValue(), -31);
+            return FastMath.scalb(DataType.INT_22.floatValue(message), -31);
         }
     },
 
@@ -958,7 +958,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_8.decode(message).intValue();
+            return DataType.U_INT_8.intValue(message);
         }
     },
 
@@ -967,7 +967,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_16.decode(message).intValue(), -5);
+            return FastMath.scalb(DataType.INT_16.floatValue(message), -5);
         }
     },
 
@@ -976,7 +976,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_16.decode(message).intValue(), -43));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_16.floatValue(message), -43));
         }
     },
 
@@ -985,7 +985,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.decode(message).intValue(), -31));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.floatValue(message), -31));
         }
     },
 
@@ -994,7 +994,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_16.decode(message).intValue(), -29);
+            return FastMath.scalb(DataType.INT_16.floatValue(message), -29);
         }
     },
 
@@ -1003,7 +1003,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.U_INT_32.decode(message).doubleValue(), -33);
+            return FastMath.scalb((double) DataType.U_INT_32.longValue(message), -33);
         }
     },
 
@@ -1012,7 +1012,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_16.decode(message).intValue(), -29);
+            return FastMath.scalb(DataType.INT_16.floatValue(message), -29);
         }
     },
 
@@ -1021,7 +1021,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.U_INT_32.decode(message).doubleValue(), -19);
+            return FastMath.scalb((double) DataType.U_INT_32.longValue(message), -19);
         }
     },
 
@@ -1030,7 +1030,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return DataType.U_INT_16.decode(message).intValue() * 16.0;
+            return DataType.U_INT_16.intValue(message) * 16.0;
         }
     },
 
@@ -1039,7 +1039,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_16.decode(message).intValue(), -29);
+            return FastMath.scalb(DataType.INT_16.floatValue(message), -29);
         }
     },
 
@@ -1048,7 +1048,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.decode(message).intValue(), -31));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.floatValue(message), -31));
         }
     },
 
@@ -1057,7 +1057,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_16.decode(message).intValue(), -29);
+            return FastMath.scalb(DataType.INT_16.floatValue(message), -29);
         }
     },
 
@@ -1066,7 +1066,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.decode(message).intValue(), -31));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.floatValue(message), -31));
         }
     },
 
@@ -1075,7 +1075,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_16.decode(message).intValue(), -5);
+            return FastMath.scalb(DataType.INT_16.floatValue(message), -5);
         }
     },
 
@@ -1084,7 +1084,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.decode(message).intValue(), -31));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.floatValue(message), -31));
         }
     },
 
@@ -1093,7 +1093,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_24.decode(message).intValue(), -43));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_24.floatValue(message), -43));
         }
     },
 
@@ -1102,7 +1102,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_14.decode(message).intValue(), -43));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_14.floatValue(message), -43));
         }
     },
 
@@ -1111,7 +1111,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_2.decode(message).intValue();
+            return DataType.BIT_2.intValue(message);
         }
     },
 
@@ -1120,7 +1120,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_10.decode(message).intValue();
+            return DataType.U_INT_10.intValue(message);
         }
     },
 
@@ -1129,7 +1129,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_4.decode(message).intValue();
+            return DataType.U_INT_4.intValue(message);
         }
     },
 
@@ -1138,7 +1138,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_6.decode(message).intValue();
+            return DataType.U_INT_6.intValue(message);
         }
     },
 
@@ -1147,7 +1147,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_8.decode(message).intValue(), -31);
+            return FastMath.scalb(DataType.INT_8.floatValue(message), -31);
         }
     },
 
@@ -1156,7 +1156,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_10.decode(message).intValue();
+            return DataType.U_INT_10.intValue(message);
         }
     },
 
@@ -1165,7 +1165,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_1.decode(message).intValue();
+            return DataType.BIT_1.intValue(message);
         }
     },
 
@@ -1174,7 +1174,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_6.decode(message).intValue();
+            return DataType.U_INT_6.intValue(message);
         }
     },
 
@@ -1183,7 +1183,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_13.decode(message).intValue();
+            return DataType.U_INT_13.intValue(message);
         }
     },
 
@@ -1192,7 +1192,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_4.decode(message).intValue();
+            return DataType.BIT_4.intValue(message);
         }
     },
 
@@ -1201,7 +1201,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_14.decode(message).intValue(), -43));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_14.floatValue(message), -43));
         }
     },
 
@@ -1210,7 +1210,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_5.decode(message).intValue();
+            return DataType.U_INT_5.intValue(message);
         }
     },
 
@@ -1219,7 +1219,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return DataType.U_INT_17.decode(message).intValue() * 8.0;
+            return DataType.U_INT_17.intValue(message) * 8.0;
         }
     },
 
@@ -1228,7 +1228,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_11.decode(message).intValue(), -66);
+            return FastMath.scalb(DataType.INT_11.floatValue(message), -66);
         }
     },
 
@@ -1237,7 +1237,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_22.decode(message).intValue(), -50);
+            return FastMath.scalb(DataType.INT_22.floatValue(message), -50);
         }
     },
 
@@ -1246,7 +1246,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_24.decode(message).intValue(), -33);
+            return FastMath.scalb(DataType.INT_24.floatValue(message), -33);
         }
     },
 
@@ -1255,7 +1255,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.U_INT_5.decode(message).intValue();
+            return DataType.U_INT_5.intValue(message);
         }
     },
 
@@ -1264,7 +1264,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_18.decode(message).intValue(), -6);
+            return FastMath.scalb(DataType.INT_18.floatValue(message), -6);
         }
     },
 
@@ -1273,7 +1273,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_16.decode(message).intValue(), -43));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_16.floatValue(message), -43));
         }
     },
 
@@ -1282,7 +1282,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.decode(message).intValue(), -31));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.floatValue(message), -31));
         }
     },
 
@@ -1291,7 +1291,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_18.decode(message).intValue(), -31);
+            return FastMath.scalb(DataType.INT_18.floatValue(message), -31);
         }
     },
 
@@ -1300,7 +1300,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.U_INT_32.decode(message).doubleValue(), -33);
+            return FastMath.scalb((double) DataType.U_INT_32.longValue(message), -33);
         }
     },
 
@@ -1309,7 +1309,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_18.decode(message).intValue(), -31);
+            return FastMath.scalb(DataType.INT_18.floatValue(message), -31);
         }
     },
 
@@ -1318,7 +1318,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.U_INT_32.decode(message).doubleValue(), -19);
+            return FastMath.scalb((double) DataType.U_INT_32.longValue(message), -19);
         }
     },
 
@@ -1327,7 +1327,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return DataType.U_INT_17.decode(message).intValue() * 8.0;
+            return DataType.U_INT_17.intValue(message) * 8.0;
         }
     },
 
@@ -1336,7 +1336,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_18.decode(message).intValue(), -31);
+            return FastMath.scalb(DataType.INT_18.floatValue(message), -31);
         }
     },
 
@@ -1345,7 +1345,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.decode(message).intValue(), -31));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.floatValue(message), -31));
         }
     },
 
@@ -1354,7 +1354,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_18.decode(message).intValue(), -31);
+            return FastMath.scalb(DataType.INT_18.floatValue(message), -31);
         }
     },
 
@@ -1363,7 +1363,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.decode(message).intValue(), -31));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.floatValue(message), -31));
         }
     },
 
@@ -1372,7 +1372,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return FastMath.scalb(DataType.INT_18.decode(message).intValue(), -6);
+            return FastMath.scalb(DataType.INT_18.floatValue(message), -6);
         }
     },
 
@@ -1381,7 +1381,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.decode(message).intValue(), -31));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_32.floatValue(message), -31));
         }
     },
 
@@ -1390,7 +1390,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_24.decode(message).intValue(), -43));
+            return Units.SEMI_CIRCLE.toSI(FastMath.scalb(DataType.INT_24.floatValue(message), -43));
         }
     },
 
@@ -1399,7 +1399,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.NS.toSI(DataType.INT_10.decode(message).intValue() * 0.1);
+            return Units.NS.toSI(DataType.INT_10.doubleValue(message) * 0.1);
         }
     },
 
@@ -1408,7 +1408,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public double doubleValue(final EncodedMessage message) {
-            return Units.NS.toSI(DataType.INT_10.decode(message).intValue() * 0.1);
+            return Units.NS.toSI(DataType.INT_10.doubleValue(message) * 0.1);
         }
     },
 
@@ -1417,7 +1417,7 @@ public enum RtcmDataField implements DataField {
         /** {@inheritDoc} */
         @Override
         public int intValue(final EncodedMessage message) {
-            return DataType.BIT_1.decode(message).intValue();
+            return DataType.BIT_1.intValue(message);
         }
     };
 
@@ -0,0 +1,496 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.gnss.navigation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.orekit.annotation.DefaultDataContext;
+import org.orekit.data.DataContext;
+import org.orekit.frames.Frame;
+import org.orekit.frames.Frames;
+import org.orekit.gnss.SatelliteSystem;
+import org.orekit.propagation.analytical.gnss.GNSSPropagator;
+import org.orekit.propagation.analytical.gnss.GNSSPropagatorBuilder;
+import org.orekit.propagation.analytical.gnss.data.AbstractNavigationMessage;
+import org.orekit.propagation.analytical.gnss.data.GNSSOrbitalElements;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.ConcurrencyUtils;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+import org.orekit.utils.PVCoordinates;
+
+/**
+ * Constellation-level evaluation of broadcast ephemerides.
+ * <p>
+ * This class indexes the navigation messages of a {@link RinexNavigation} file
+ * by satellite and reference date, selects for each satellite and each date
+ * the message with the closest reference date, and evaluates satellites positions
+ * in Earth frame and clock offsets directly into primitive arrays, without building
+ * any {@link org.orekit.propagation.SpacecraftState SpacecraftState}. Satellites
+ * can be processed concurrently by an {@link #withExecutor(ExecutorService) executor}.
+ * </p>
+ * <p>
+ * GPS, Galileo, Beidou, QZSS and IRNSS messages are supported. GLONASS and SBAS
+ * messages, which contain positions, velocities and accelerations that must be
+ * numerically integrated, are ignored.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+public class BroadcastEphemerides {
+
+    /** Default maximum distance between evaluation date and message reference date for GPS (s). */
+    public static final double DEFAULT_GPS_MAX_AGE = 7200.0;
+
+    /** Default maximum distance between evaluation date and message reference date for Galileo (s). */
+    public static final double DEFAULT_GALILEO_MAX_AGE = 14400.0;
+
+    /** Default maximum distance between evaluation date and message reference date for Beidou (s). */
+    public static final double DEFAULT_BEIDOU_MAX_AGE = 21600.0;
+
+    /** Default maximum distance between evaluation date and message reference date for QZSS (s). */
+    public static final double DEFAULT_QZSS_MAX_AGE = 7200.0;
+
+    /** Default maximum distance between evaluation date and message reference date for IRNSS (s). */
+    public static final double DEFAULT_IRNSS_MAX_AGE = 7200.0;
+
+    /** Earth frame in which positions are evaluated. */
+    private final Frame ecef;
+
+    /** Satellites ephemerides, sorted by identifier. */
+    private final List<SatelliteEphemerides> satellites;
+
+    /** Maximum distance between evaluation date and message reference date, per system. */
+    private final Map<SatelliteSystem, Double> maxAges;
+
+    /** Executor for concurrent processing of satellites (null for sequential processing). */
+    private final ExecutorService executor;
+
+    /** Simple constructor.
+     * <p>
+     * This constructor uses the {@link DataContext#getDefault() default data context}.
+     * </p>
+     * @param navigation navigation messages
+     * @see #BroadcastEphemerides(RinexNavigation, Frames)
+     */
+    @DefaultDataContext
+    public BroadcastEphemerides(final RinexNavigation navigation) {
+        this(navigation, DataContext.getDefault().getFrames());
+    }
+
+    /** Simple constructor.
+     * <p>
+     * Positions are evaluated in the Earth frame used by default by {@link GNSSPropagatorBuilder},
+     * i.e. ITRF with IERS 2010 conventions and simple EOP.
+     * </p>
+     * @param navigation navigation messages
+     * @param frames set of frames to use
+     */
+    public BroadcastEphemerides(final RinexNavigation navigation, final Frames frames) {
+
+        final Map<String, SatelliteEphemerides> map = new TreeMap<>();
+        index(map, navigation.getGPSNavigationMessages(),     SatelliteSystem.GPS,     frames);
+        index(map, navigation.getGalileoNavigationMessages(), SatelliteSystem.GALILEO, frames);
+        index(map, navigation.getBeidouNavigationMessages(),  SatelliteSystem.BEIDOU,  frames);
+        index(map, navigation.getQZSSNavigationMessages(),    SatelliteSystem.QZSS,    frames);
+        index(map, navigation.getIRNSSNavigationMessages(),   SatelliteSystem.IRNSS,   frames);
+
+        final Map<SatelliteSystem, Double> defaultMaxAges = new EnumMap<>(SatelliteSystem.class);
+        defaultMaxAges.put(SatelliteSystem.GPS,     DEFAULT_GPS_MAX_AGE);
+        defaultMaxAges.put(SatelliteSystem.GALILEO, DEFAULT_GALILEO_MAX_AGE);
+        defaultMaxAges.put(SatelliteSystem.BEIDOU,  DEFAULT_BEIDOU_MAX_AGE);
+        defaultMaxAges.put(SatelliteSystem.QZSS,    DEFAULT_QZSS_MAX_AGE);
+        defaultMaxAges.put(SatelliteSystem.IRNSS,   DEFAULT_IRNSS_MAX_AGE);
+
+        this.ecef       = frames.getITRF(IERSConventions.IERS_2010, true);
+        this.satellites = Collections.unmodifiableList(new ArrayList<>(map.values()));
+        this.maxAges    = defaultMaxAges;
+        this.executor   = null;
+
+    }
+
+    /** Private constructor for updating configuration.
+     * @param ecef Earth frame in which positions are evaluated
+     * @param satellites satellites ephemerides
+     * @param maxAges maximum distance between evaluation date and message reference date, per system
+     * @param executor executor for concurrent processing of satellites (null for sequential processing)
+     */
+    private BroadcastEphemerides(final Frame ecef, final List<SatelliteEphemerides> satellites,
+                                 final Map<SatelliteSystem, Double> maxAges, final ExecutorService executor) {
+        this.ecef       = ecef;
+        this.satellites = satellites;
+        this.maxAges    = maxAges;
+        this.executor   = executor;
+    }
+
+    /** Set the maximum distance between evaluation date and message reference date for one system.
+     * @param system satellite system
+     * @param maxAge maximum distance between evaluation date and message reference date (s)
+     * @return a new instance with updated configuration (the instance is not changed)
+     */
+    public BroadcastEphemerides withMaxAge(final SatelliteSystem system, final double maxAge) {
+        final Map<SatelliteSystem, Double> newMaxAges = new EnumMap<>(maxAges);
+        newMaxAges.put(system, maxAge);
+        return new BroadcastEphemerides(ecef, satellites, newMaxAges, executor);
+    }
+
+    /** Set the executor for concurrent processing of satellites.
+     * <p>The executor is not shut down by this class.</p>
+     * @param newExecutor executor to use (null for sequential processing)
+     * @return a new instance with updated configuration (the instance is not changed)
+     */
+    public BroadcastEphemerides withExecutor(final ExecutorService newExecutor) {
+        return new BroadcastEphemerides(ecef, satellites, maxAges, newExecutor);
+    }
+
+    /** Get the maximum distance between evaluation date and message reference date for one system.
+     * @param system satellite system
+     * @return maximum distance between evaluation date and message reference date (s)
+     */
+    public double getMaxAge(final SatelliteSystem system) {
+        return maxAges.get(system);
+    }
+
+    /** Get the executor.
+     * @return executor (null for sequential processing)
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /** Get the Earth frame in which positions are evaluated.
+     * @return Earth frame in which positions are evaluated
+     */
+    public Frame getFrame() {
+        return ecef;
+    }
+
+    /** Get the satellites identifiers.
+     * @return satellites identifiers (satellite system key followed by
+     * two digits PRN number, as in {@link RinexNavigation}), sorted
+     */
+    public List<String> getSatellites() {
+        final List<String> ids = new ArrayList<>(satellites.size());
+        for (final SatelliteEphemerides satellite : satellites) {
+            ids.add(satellite.id);
+        }
+        return ids;
+    }
+
+    /** Select the navigation message to use for one satellite at one date.
+     * @param satelliteIndex index of the satellite in {@link #getSatellites()}
+     * @param date evaluation date
+     * @return message with reference date closest to evaluation date,
+     * or null if no message is closer than the maximum age
+     */
+    public AbstractNavigationMessage select(final int satelliteIndex, final AbsoluteDate date) {
+        final SatelliteEphemerides satellite = satellites.get(satelliteIndex);
+        final int index = satellite.select(date, maxAges.get(satellite.system));
+        return index < 0 ? null : satellite.messages[index];
+    }
+
+    /** Evaluate positions and clock offsets of all satellites at several dates.
+     * <p>
+     * If no message is available for some satellite at some date, the corresponding
+     * positions and clock offsets are set to NaN.
+     * </p>
+     * @param dates evaluation dates
+     * @return evaluated positions and clock offsets
+     */
+    public Samples evaluate(final List<AbsoluteDate> dates) {
+
+        final int      nbDates   = dates.size();
+        final double[] positions = new double[3 * satellites.size() * nbDates];
+        final double[] clocks    = new double[satellites.size() * nbDates];
+
+        if (executor == null) {
+            for (int s = 0; s < satellites.size(); ++s) {
+                evaluate(s, dates, positions, clocks);
+            }
+        } else {
+            final List<Future<?>> futures = new ArrayList<>(satellites.size());
+            for (int s = 0; s < satellites.size(); ++s) {
+                final int satelliteIndex = s;
+                futures.add(executor.submit(() -> evaluate(satelliteIndex, dates, positions, clocks)));
+            }
+            try {
+                for (final Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException | ExecutionException e) {
+                throw ConcurrencyUtils.cancelAndConvert(futures, e);
+            }
+        }
+
+        return new Samples(getSatellites(), dates, positions, clocks);
+
+    }
+
+    /** Evaluate positions and clock offsets of one satellite at several dates.
+     * @param satelliteIndex index of the satellite
+     * @param dates evaluation dates
+     * @param positions placeholder for positions
+     * @param clocks placeholder for clock offsets
+     */
+    private void evaluate(final int satelliteIndex, final List<AbsoluteDate> dates,
+                          final double[] positions, final double[] clocks) {
+        final SatelliteEphemerides satellite = satellites.get(satelliteIndex);
+        final double maxAge = maxAges.get(satellite.system);
+        for (int d = 0; d < dates.size(); ++d) {
+            final int k = satelliteIndex * dates.size() + d;
+            final AbsoluteDate date = dates.get(d);
+            final int index = satellite.select(date, maxAge);
+            if (index < 0) {
+                positions[3 * k]     = Double.NaN;
+                positions[3 * k + 1] = Double.NaN;
+                positions[3 * k + 2] = Double.NaN;
+                clocks[k]            = Double.NaN;
+            } else {
+                final PVCoordinates pv = satellite.propagators[index].propagateInEcef(date);
+                positions[3 * k]     = pv.getPosition().getX();
+                positions[3 * k + 1] = pv.getPosition().getY();
+                positions[3 * k + 2] = pv.getPosition().getZ();
+                clocks[k]            = clockOffset(satellite.messages[index], date, pv);
+            }
+        }
+    }
+
+    /** Compute clock offset.
+     * @param message navigation message
+     * @param date evaluation date
+     * @param pv satellite position-velocity
+     * @return clock offset, including relativistic effect (s)
+     */
+    private static double clockOffset(final AbstractNavigationMessage message, final AbsoluteDate date,
+                                      final PVCoordinates pv) {
+
+        // time from clock reference epoch, taking week roll over into account
+        final double cycleDuration = message.getCycleDuration();
+        final AbsoluteDate toc = message.getEpochToc() == null ? message.getDate() : message.getEpochToc();
+        double dt = date.durationFrom(toc);
+        while (dt > 0.5 * cycleDuration) {
+            dt -= cycleDuration;
+        }
+        while (dt < -0.5 * cycleDuration) {
+            dt += cycleDuration;
+        }
+
+        // polynomial clock model
+        final double dtSat = message.getAf0() + dt * (message.getAf1() + dt * message.getAf2());
+
+        // relativistic effect due to eccentricity (p.v is the same in inertial and Earth frames)
+        final double dtRel = -2 * Vector3D.dotProduct(pv.getPosition(), pv.getVelocity()) /
+                             (Constants.SPEED_OF_LIGHT * Constants.SPEED_OF_LIGHT);
+
+        return dtSat + dtRel;
+
+    }
+
+    /** Index the messages of one satellite system.
+     * @param <T> type of the navigation messages
+     * @param map map where to put satellites ephemerides
+     * @param messages navigation messages, per satellite
+     * @param system satellite system
+     * @param frames set of frames to use
+     */
+    private static <T extends AbstractNavigationMessage & GNSSOrbitalElements>
+        void index(final Map<String, SatelliteEphemerides> map, final Map<String, List<T>> messages,
+                   final SatelliteSystem system, final Frames frames) {
+        for (final Map.Entry<String, List<T>> entry : messages.entrySet()) {
+            final List<T> sorted = new ArrayList<>(entry.getValue());
+            sorted.sort((m1, m2) -> m1.getDate().compareTo(m2.getDate()));
+            final AbstractNavigationMessage[] array       = new AbstractNavigationMessage[sorted.size()];
+            final GNSSPropagator[]            propagators = new GNSSPropagator[sorted.size()];
+            for (int i = 0; i < array.length; ++i) {
+                array[i]       = sorted.get(i);
+                propagators[i] = new GNSSPropagatorBuilder(sorted.get(i), frames).build();
+            }
+            map.put(entry.getKey(), new SatelliteEphemerides(entry.getKey(), system, array, propagators));
+        }
+    }
+
+    /** Ephemerides of one satellite. */
+    private static class SatelliteEphemerides {
+
+        /** Satellite identifier. */
+        private final String id;
+
+        /** Satellite system. */
+        private final SatelliteSystem system;
+
+        /** Navigation messages, sorted by reference date. */
+        private final AbstractNavigationMessage[] messages;
+
+        /** Propagators for each message. */
+        private final GNSSPropagator[] propagators;
+
+        /** Simple constructor.
+         * @param id satellite identifier
+         * @param system satellite system
+         * @param messages navigation messages, sorted by reference date
+         * @param propagators propagators for each message
+         */
+        SatelliteEphemerides(final String id, final SatelliteSystem system,
+                             final AbstractNavigationMessage[] messages, final GNSSPropagator[] propagators) {
+            this.id          = id;
+            this.system      = system;
+            this.messages    = messages;
+            this.propagators = propagators;
+        }
+
+        /** Select the message closest to a date.
+         * <p>
+         * If several messages are at the same distance, the last one in the file is selected.
+         * </p>
+         * @param date evaluation date
+         * @param maxAge maximum distance between evaluation date and message reference date
+         * @return index of selected message, or -1 if no message is close enough
+         */
+        int select(final AbsoluteDate date, final double maxAge) {
+
+            // find the first message with reference date strictly after evaluation date
+            int low  = 0;
+            int high = messages.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (messages[mid].getDate().isAfter(date)) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+
+            // compare with the last message at or before evaluation date
+            int    selected = -1;
+            double distance = maxAge;
+            if (low > 0) {
+                final double before = date.durationFrom(messages[low - 1].getDate());
+                if (before <= distance) {
+                    selected = low - 1;
+                    distance = before;
+                }
+            }
+            if (low < messages.length) {
+                final double after = messages[low].getDate().durationFrom(date);
+                if (after < distance) {
+                    selected = low;
+                }
+            }
+
+            return selected;
+
+        }
+
+    }
+
+    /** Positions and clock offsets of all satellites at several dates. */
+    public static class Samples {
+
+        /** Satellites identifiers. */
+        private final List<String> satellites;
+
+        /** Evaluation dates. */
+        private final List<AbsoluteDate> dates;
+
+        /** Positions. */
+        private final double[] positions;
+
+        /** Clock offsets. */
+        private final double[] clocks;
+
+        /** Simple constructor.
+         * @param satellites satellites identifiers
+         * @param dates evaluation dates
+         * @param positions positions
+         * @param clocks clock offsets
+         */
+        private Samples(final List<String> satellites, final List<AbsoluteDate> dates,
+                        final double[] positions, final double[] clocks) {
+            this.satellites = satellites;
+            this.dates      = dates;
+            this.positions  = positions;
+            this.clocks     = clocks;
+        }
+
+        /** Get the satellites identifiers.
+         * @return satellites identifiers
+         */
+        public List<String> getSatellites() {
+            return satellites;
+        }
+
+        /** Get the evaluation dates.
+         * @return evaluation dates
+         */
+        public List<AbsoluteDate> getDates() {
+            return dates;
+        }
+
+        /** Get the position of one satellite at one date.
+         * @param satelliteIndex index of the satellite
+         * @param dateIndex index of the date
+         * @return position in Earth frame (NaN if no message was available)
+         */
+        public Vector3D getPosition(final int satelliteIndex, final int dateIndex) {
+            final int k = 3 * (satelliteIndex * dates.size() + dateIndex);
+            return new Vector3D(positions[k], positions[k + 1], positions[k + 2]);
+        }
+
+        /** Get the clock offset of one satellite at one date.
+         * @param satelliteIndex index of the satellite
+         * @param dateIndex index of the date
+         * @return clock offset, including relativistic effect (s) (NaN if no message was available)
+         */
+        public double getClockOffset(final int satelliteIndex, final int dateIndex) {
+            return clocks[satelliteIndex * dates.size() + dateIndex];
+        }
+
+        /** Get the raw positions array.
+         * <p>
+         * The x, y and z coordinates of satellite s at date d are at
+         * indices 3 (s n<sub>d</sub> + d), 3 (s n<sub>d</sub> + d) + 1 and 3 (s n<sub>d</sub> + d) + 2,
+         * where n<sub>d</sub> is the number of dates.
+         * </p>
+         * @return raw positions array (not a copy)
+         */
+        public double[] getPositions() {
+            return positions;
+        }
+
+        /** Get the raw clock offsets array.
+         * <p>
+         * The clock offset of satellite s at date d is at index
+         * s n<sub>d</sub> + d, where n<sub>d</sub> is the number of dates.
+         * </p>
+         * @return raw clock offsets array (not a copy)
+         */
+        public double[] getClockOffsets() {
+            return clocks;
+        }
+
+    }
+
+}
@@ -21,10 +21,7 @@ import org.hipparchus.CalculusFieldElement;
 import org.hipparchus.util.FastMath;
 import org.hipparchus.util.FieldSinCos;
 import org.hipparchus.util.MathArrays;
-import org.hipparchus.util.SinCos;
-import org.orekit.time.DateComponents;
 import org.orekit.time.DateTimeComponents;
-import org.orekit.time.TimeComponents;
 
 /**
  * This class perfoms the computation of the parameters used by the NeQuick model.
@@ -88,6 +85,22 @@ class FieldNeQuickParameters <T extends CalculusFieldElement<T>> {
     FieldNeQuickParameters(final Field<T> field, final DateTimeComponents dateTime, final double[][][] f2,
                            final double[][][] fm3, final T latitude, final T longitude,
                            final double[] alpha, final double[][] modipGrip) {
+        this(field, new NeQuickEpoch(dateTime, f2, fm3), latitude, longitude, alpha, modipGrip);
+    }
+
+    /**
+     * Build a new instance.
+     * @param field field of the elements
+     * @param epoch date-dependent coefficients
+     * @param latitude latitude of a point along the integration path, in radians
+     * @param longitude longitude of a point along the integration path, in radians
+     * @param alpha effective ionisation level coefficients
+     * @param modipGrip modip grid
+     * @since 11.4
+     */
+    FieldNeQuickParameters(final Field<T> field, final NeQuickEpoch epoch,
+                           final T latitude, final T longitude,
+                           final double[] alpha, final double[][] modipGrip) {
 
         // Zero
         final T zero = field.getZero();
@@ -98,43 +111,22 @@ class FieldNeQuickParameters <T extends CalculusFieldElement<T>> {
         final T az = computeAz(modip, alpha);
         // Effective sunspot number (Eq. 19)
         final T azr = FastMath.sqrt(az.subtract(63.7).multiply(1123.6).add(167273.0)).subtract(408.99);
-        // Date and Time components
-        final DateComponents date = dateTime.getDate();
-        final TimeComponents time = dateTime.getTime();
-        // Hours
-        final double hours  = time.getSecondsInUTCDay() / 3600.0;
+        // Month
+        final int month = epoch.getMonth();
         // Effective solar zenith angle in radians
-        final T xeff = computeEffectiveSolarAngle(date.getMonth(), hours, latitude, longitude);
-
-        // Coefficients for F2 layer parameters
-        // Compute the array of interpolated coefficients for foF2 (Eq. 44)
-        final T[][] af2 = MathArrays.buildArray(field, 76, 13);
-        for (int j = 0; j < 76; j++) {
-            for (int k = 0; k < 13; k++ ) {
-                af2[j][k] = azr.multiply(0.01).negate().add(1.0).multiply(f2[0][j][k]).add(azr.multiply(0.01).multiply(f2[1][j][k]));
-            }
-        }
-
-        // Compute the array of interpolated coefficients for M(3000)F2 (Eq. 46)
-        final T[][] am3 = MathArrays.buildArray(field, 49, 9);
-        for (int j = 0; j < 49; j++) {
-            for (int k = 0; k < 9; k++ ) {
-                am3[j][k] = azr.multiply(0.01).negate().add(1.0).multiply(fm3[0][j][k]).add(azr.multiply(0.01).multiply(fm3[1][j][k]));
-            }
-        }
+        final T xeff = computeEffectiveSolarAngle(epoch, latitude, longitude);
 
         // E layer maximum density height in km (Eq. 78)
         this.hmE = field.getZero().add(120.0);
         // E layer critical frequency in MHz
-        final T foE = computefoE(date.getMonth(), az, xeff, latitude);
+        final T foE = computefoE(month, az, xeff, latitude);
         // E layer maximum density in 10^11 m-3 (Eq. 36)
         final T nmE = foE.multiply(foE).multiply(0.124);
 
-        // Time argument (Eq. 49)
-        final double t = FastMath.toRadians(15 * hours) - FastMath.PI;
         // Compute Fourier time series for foF2 and M(3000)F2
-        final T[] cf2 = computeCF2(field, af2, t);
-        final T[] cm3 = computeCm3(field, am3, t);
+        // (the series are linear in azr, so they are interpolated from precomputed ones)
+        final T[] cf2 = epoch.computeCF2(field, azr);
+        final T[] cm3 = epoch.computeCm3(field, azr);
         // F2 layer critical frequency in MHz
         final T foF2 = computefoF2(field, modip, cf2, latitude, longitude);
         // Maximum Usable Frequency factor
@@ -169,7 +161,7 @@ class FieldNeQuickParameters <T extends CalculusFieldElement<T>> {
         this.amplitudes = computeLayerAmplitudes(field, nmE, nmF1, foF1);
 
         // Topside thickness parameter
-        this.h0 = computeH0(field, date.getMonth(), azr);
+        this.h0 = computeH0(field, month, azr);
     }
 
     /**
@@ -361,30 +353,21 @@ class FieldNeQuickParameters <T extends CalculusFieldElement<T>> {
      * The effective solar zenith angle is compute as a function of the
      * solar zenith angle and the solar zenith angle at day night transition.
      * </p>
-     * @param month current month of the year
-     * @param hours universal time (hours)
+     * @param epoch date-dependent coefficients
      * @param latitude in radians
      * @param longitude in radians
      * @return the effective solar zenith angle, radians
      */
-    private T computeEffectiveSolarAngle(final int month,
-                                         final double hours,
+    private T computeEffectiveSolarAngle(final NeQuickEpoch epoch,
                                          final T latitude,
                                          final T longitude) {
         // Zero
         final T zero = latitude.getField().getZero();
         // Local time (Eq.4)
-        final T lt = longitude.divide(FastMath.toRadians(15.0)).add(hours);
-        // Day of year at the middle of the month (Eq. 20)
-        final double dy = 30.5 * month - 15.0;
-        // Time (Eq. 21)
-        final double t = dy + (18 - hours) / 24;
-        // Arguments am and al (Eq. 22 and 23)
-        final double am = FastMath.toRadians(0.9856 * t - 3.289);
-        final double al = am + FastMath.toRadians(1.916 * FastMath.sin(am) + 0.020 * FastMath.sin(2.0 * am) + 282.634);
-        // Sine and cosine of solar declination (Eq. 24 and 25)
-        final double sDec = 0.39782 * FastMath.sin(al);
-        final double cDec = FastMath.sqrt(1. - sDec * sDec);
+        final T lt = longitude.divide(FastMath.toRadians(15.0)).add(epoch.getHours());
+        // Sine and cosine of solar declination (Eq. 20 to 25)
+        final double sDec = epoch.getSinDeclination();
+        final double cDec = epoch.getCosDeclination();
         // Solar zenith angle, deg (Eq. 26 and 27)
         final FieldSinCos<T> scLat   = FastMath.sinCos(latitude);
         final T coef    = lt.negate().add(12.0).multiply(FastMath.PI / 12);
@@ -456,48 +439,6 @@ class FieldNeQuickParameters <T extends CalculusFieldElement<T>> {
         return height;
     }
 
-    /**
-     * Computes cf2 coefficients.
-     * @param field field of the elements
-     * @param af2 interpolated coefficients for foF2
-     * @param t time argument
-     * @return the cf2 coefficients array
-     */
-    private T[] computeCF2(final Field<T> field, final T[][] af2, final double t) {
-        // Eq. 50
-        final T[] cf2 = MathArrays.buildArray(field, 76);
-        for (int i = 0; i < cf2.length; i++) {
-            T sum = field.getZero();
-            for (int k = 0; k < 6; k++) {
-                final SinCos sc = FastMath.sinCos((k + 1) * t);
-                sum = sum.add(af2[i][2 * k + 1].multiply(sc.sin()).add(af2[i][2 * (k + 1)].multiply(sc.cos())));
-            }
-            cf2[i] = af2[i][0].add(sum);
-        }
-        return cf2;
-    }
-
-    /**
-     * Computes Cm3 coefficients.
-     * @param field field of the elements
-     * @param am3 interpolated coefficients for foF2
-     * @param t time argument
-     * @return the Cm3 coefficients array
-     */
-    private T[] computeCm3(final Field<T> field, final T[][] am3, final double t) {
-        // Eq. 51
-        final T[] cm3 = MathArrays.buildArray(field, 49);
-        for (int i = 0; i < cm3.length; i++) {
-            T sum = field.getZero();
-            for (int k = 0; k < 4; k++) {
-                final SinCos sc = FastMath.sinCos((k + 1) * t);
-                sum = sum.add(am3[i][2 * k + 1].multiply(sc.sin()).add(am3[i][2 * (k + 1)].multiply(sc.cos())));
-            }
-            cm3[i] = am3[i][0].add(sum);
-        }
-        return cm3;
-    }
-
     /**
      * This method computes the F2 layer critical frequency.
      * @param field field of the elements
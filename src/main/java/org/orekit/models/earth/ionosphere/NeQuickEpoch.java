@@ -0,0 +1,254 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.models.earth.ionosphere;
+
+import org.hipparchus.CalculusFieldElement;
+import org.hipparchus.Field;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathArrays;
+import org.hipparchus.util.SinCos;
+import org.orekit.time.DateTimeComponents;
+
+/**
+ * Date-dependent coefficients of the NeQuick model.
+ * <p>
+ * The foF2 and M(3000)F2 coefficients depend on date, on location and on the
+ * effective sunspot number, which itself depends on location. As the interpolation
+ * between the low and high solar activity CCIR maps (Eq. 44 and 46) is linear, the
+ * Fourier time series (Eq. 50 and 51) can be evaluated once per epoch for both
+ * maps, and only the final linear combination depends on location. This class
+ * holds these per-epoch series, together with the solar declination.
+ * </p>
+ * <p>
+ * Instances are immutable, so they can be shared among threads.
+ * </p>
+ * @see "European Union (2016). European GNSS (Galileo) Open Service-Ionospheric Correction
+ *       Algorithm for Galileo Single Frequency Users. 1.2."
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+class NeQuickEpoch {
+
+    /** Number of cf2 coefficients. */
+    private static final int NB_CF2 = 76;
+
+    /** Number of cm3 coefficients. */
+    private static final int NB_CM3 = 49;
+
+    /** Date and time components. */
+    private final DateTimeComponents dateTime;
+
+    /** Universal time (hours). */
+    private final double hours;
+
+    /** F2 coefficients for the month (kept for reuse when only time changes). */
+    private final double[][][] f2;
+
+    /** Fm3 coefficients for the month (kept for reuse when only time changes). */
+    private final double[][][] fm3;
+
+    /** Fourier time series for foF2, for low and high solar activity. */
+    private final double[][] cf2;
+
+    /** Fourier time series for M(3000)F2, for low and high solar activity. */
+    private final double[][] cm3;
+
+    /** Sine of solar declination. */
+    private final double sDec;
+
+    /** Cosine of solar declination. */
+    private final double cDec;
+
+    /** Simple constructor.
+     * @param dateTime date and time components
+     * @param f2 F2 coefficients used by the F2 layer
+     * @param fm3 Fm3 coefficients used by the F2 layer
+     */
+    NeQuickEpoch(final DateTimeComponents dateTime, final double[][][] f2, final double[][][] fm3) {
+
+        this.dateTime = dateTime;
+        this.hours    = dateTime.getTime().getSecondsInUTCDay() / 3600.0;
+        this.f2       = f2;
+        this.fm3      = fm3;
+
+        // Time argument (Eq. 49)
+        final double t = FastMath.toRadians(15 * hours) - FastMath.PI;
+        final SinCos[] sc = new SinCos[6];
+        for (int k = 0; k < sc.length; k++) {
+            sc[k] = FastMath.sinCos((k + 1) * t);
+        }
+
+        // Fourier time series for both solar activity levels (Eq. 50 and 51)
+        this.cf2 = new double[2][];
+        this.cm3 = new double[2][];
+        for (int level = 0; level < 2; ++level) {
+            cf2[level] = fourier(f2[level], NB_CF2, 6, sc);
+            cm3[level] = fourier(fm3[level], NB_CM3, 4, sc);
+        }
+
+        // Day of year at the middle of the month (Eq. 20)
+        final double dy = 30.5 * getMonth() - 15.0;
+        // Time (Eq. 21)
+        final double td = dy + (18 - hours) / 24;
+        // Arguments am and al (Eq. 22 and 23)
+        final double am = FastMath.toRadians(0.9856 * td - 3.289);
+        final double al = am + FastMath.toRadians(1.916 * FastMath.sin(am) + 0.020 * FastMath.sin(2.0 * am) + 282.634);
+        // Sine and cosine of solar declination (Eq. 24 and 25)
+        this.sDec = 0.39782 * FastMath.sin(al);
+        this.cDec = FastMath.sqrt(1. - sDec * sDec);
+
+    }
+
+    /** Get the date and time components.
+     * @return date and time components
+     */
+    DateTimeComponents getDateTime() {
+        return dateTime;
+    }
+
+    /** Get the month.
+     * @return month
+     */
+    int getMonth() {
+        return dateTime.getDate().getMonth();
+    }
+
+    /** Get universal time.
+     * @return universal time (hours)
+     */
+    double getHours() {
+        return hours;
+    }
+
+    /** Get the F2 coefficients for the month.
+     * @return F2 coefficients for the month
+     */
+    double[][][] getF2() {
+        return f2;
+    }
+
+    /** Get the Fm3 coefficients for the month.
+     * @return Fm3 coefficients for the month
+     */
+    double[][][] getFm3() {
+        return fm3;
+    }
+
+    /** Get the sine of solar declination.
+     * @return sine of solar declination
+     */
+    double getSinDeclination() {
+        return sDec;
+    }
+
+    /** Get the cosine of solar declination.
+     * @return cosine of solar declination
+     */
+    double getCosDeclination() {
+        return cDec;
+    }
+
+    /** Compute the cf2 coefficients (Eq. 44 and 50).
+     * @param azr effective sunspot number
+     * @return the cf2 coefficients array
+     */
+    double[] computeCF2(final double azr) {
+        return interpolate(cf2, azr);
+    }
+
+    /** Compute the Cm3 coefficients (Eq. 46 and 51).
+     * @param azr effective sunspot number
+     * @return the Cm3 coefficients array
+     */
+    double[] computeCm3(final double azr) {
+        return interpolate(cm3, azr);
+    }
+
+    /** Compute the cf2 coefficients (Eq. 44 and 50).
+     * @param <T> type of the field elements
+     * @param field field of the elements
+     * @param azr effective sunspot number
+     * @return the cf2 coefficients array
+     */
+    <T extends CalculusFieldElement<T>> T[] computeCF2(final Field<T> field, final T azr) {
+        return interpolate(field, cf2, azr);
+    }
+
+    /** Compute the Cm3 coefficients (Eq. 46 and 51).
+     * @param <T> type of the field elements
+     * @param field field of the elements
+     * @param azr effective sunspot number
+     * @return the Cm3 coefficients array
+     */
+    <T extends CalculusFieldElement<T>> T[] computeCm3(final Field<T> field, final T azr) {
+        return interpolate(field, cm3, azr);
+    }
+
+    /** Evaluate Fourier time series.
+     * @param coefficients coefficients for one solar activity level
+     * @param nb number of series
+     * @param order order of the series
+     * @param sc sine and cosine of multiples of time argument
+     * @return Fourier time series
+     */
+    private static double[] fourier(final double[][] coefficients, final int nb, final int order, final SinCos[] sc) {
+        final double[] series = new double[nb];
+        for (int i = 0; i < nb; i++) {
+            double sum = 0.0;
+            for (int k = 0; k < order; k++) {
+                sum += coefficients[i][2 * k + 1] * sc[k].sin() + coefficients[i][2 * (k + 1)] * sc[k].cos();
+            }
+            series[i] = coefficients[i][0] + sum;
+        }
+        return series;
+    }
+
+    /** Interpolate between low and high solar activity series.
+     * @param series series for low and high solar activity
+     * @param azr effective sunspot number
+     * @return interpolated series
+     */
+    private static double[] interpolate(final double[][] series, final double azr) {
+        final double high = azr * 0.01;
+        final double low  = 1.0 - high;
+        final double[] interpolated = new double[series[0].length];
+        for (int i = 0; i < interpolated.length; i++) {
+            interpolated[i] = series[0][i] * low + series[1][i] * high;
+        }
+        return interpolated;
+    }
+
+    /** Interpolate between low and high solar activity series.
+     * @param <T> type of the field elements
+     * @param field field of the elements
+     * @param series series for low and high solar activity
+     * @param azr effective sunspot number
+     * @return interpolated series
+     */
+    private static <T extends CalculusFieldElement<T>> T[] interpolate(final Field<T> field,
+                                                                       final double[][] series,
+                                                                       final T azr) {
+        final T high = azr.multiply(0.01);
+        final T low  = high.negate().add(1.0);
+        final T[] interpolated = MathArrays.buildArray(field, series[0].length);
+        for (int i = 0; i < interpolated.length; i++) {
+            interpolated[i] = low.multiply(series[0][i]).add(high.multiply(series[1][i]));
+        }
+        return interpolated;
+    }
+
+}
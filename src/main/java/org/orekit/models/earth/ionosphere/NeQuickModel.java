@@ -27,6 +27,7 @@ import java.util.regex.Pattern;
 
 import org.hipparchus.CalculusFieldElement;
 import org.hipparchus.Field;
+import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.util.FastMath;
 import org.hipparchus.util.FieldSinCos;
 import org.hipparchus.util.MathArrays;
@@ -89,14 +90,14 @@ public class NeQuickModel implements IonosphericModel {
     /** MODIP grid. */
     private final double[][] stModip;
 
-    /** Month used for loading CCIR coefficients. */
-    private int month;
-
-    /** F2 coefficients used by the F2 layer. */
-    private double[][][] f2;
-
-    /** Fm3 coefficients used by the F2 layer. */
-    private double[][][] fm3;
+    /** Date-dependent coefficients for the last evaluation epoch.
+     * <p>
+     * The epoch is immutable and published atomically, so the model
+     * can be shared among threads.
+     * </p>
+     * @since 11.4
+     */
+    private transient volatile NeQuickEpoch epoch;
 
     /** UTC time scale. */
     private final TimeScale utc;
@@ -123,9 +124,7 @@ public class NeQuickModel implements IonosphericModel {
     public NeQuickModel(final double[] alpha,
                         final TimeScale utc) {
         // F2 layer values
-        this.month = 0;
-        this.f2    = null;
-        this.fm3   = null;
+        this.epoch = null;
         // Read modip grid
         final MODIPLoader parser = new MODIPLoader();
         parser.loadMODIPGrid();
@@ -198,13 +197,51 @@ public class NeQuickModel implements IonosphericModel {
      */
     public double stec(final AbsoluteDate date, final GeodeticPoint recP, final GeodeticPoint satP) {
 
+        return stec(getEpoch(date.getComponents(utc)), recP, satP);
+    }
+
+    /**
+     * This method allows the computation of the Stant Total Electron Content (STEC)
+     * for many rays at the same date.
+     * <p>
+     * The date-dependent coefficients of the model are computed only once
+     * and shared by all rays, which is much faster than calling {@link
+     * #stec(AbsoluteDate, GeodeticPoint, GeodeticPoint)} for each ray, for
+     * example when processing all satellites in view of a network of stations.
+     * </p>
+     * @param date current date
+     * @param recP receivers positions
+     * @param satP satellites positions (must have the same length as {@code recP})
+     * @return the STEC in TECUnits for each ray
+     * @since 11.4
+     */
+    public double[] stec(final AbsoluteDate date, final GeodeticPoint[] recP, final GeodeticPoint[] satP) {
+
+        if (recP.length != satP.length) {
+            throw new OrekitException(LocalizedCoreFormats.DIMENSIONS_MISMATCH, satP.length, recP.length);
+        }
+
+        final NeQuickEpoch current = getEpoch(date.getComponents(utc));
+        final double[] stec = new double[recP.length];
+        for (int i = 0; i < stec.length; ++i) {
+            stec[i] = stec(current, recP[i], satP[i]);
+        }
+        return stec;
+
+    }
+
+    /**
+     * This method allows the computation of the Stant Total Electron Content (STEC).
+     * @param current date-dependent coefficients
+     * @param recP receiver position
+     * @param satP satellite position
+     * @return the STEC in TECUnits
+     */
+    private double stec(final NeQuickEpoch current, final GeodeticPoint recP, final GeodeticPoint satP) {
+
         // Ray-perigee parameters
         final Ray ray = new Ray(recP, satP);
 
-        // Load the correct CCIR file
-        final DateTimeComponents dateTime = date.getComponents(utc);
-        loadsIfNeeded(dateTime.getDate());
-
         // Tolerance for the integration accuracy. Defined inside the reference document, section 2.5.8.1.
         final double h1 = recP.getAltitude();
         final double tolerance;
@@ -217,17 +254,17 @@ public class NeQuickModel implements IonosphericModel {
         // Integration
         int n = 8;
         final Segment seg1 = new Segment(n, ray);
-        double gn1 = stecIntegration(seg1, dateTime);
+        double gn1 = stecIntegration(seg1, current);
         n *= 2;
         final Segment seg2 = new Segment(n, ray);
-        double gn2 = stecIntegration(seg2, dateTime);
+        double gn2 = stecIntegration(seg2, current);
 
         int count = 1;
         while (FastMath.abs(gn2 - gn1) > tolerance * FastMath.abs(gn1) && count < 20) {
             gn1 = gn2;
             n *= 2;
             final Segment seg = new Segment(n, ray);
-            gn2 = stecIntegration(seg, dateTime);
+            gn2 = stecIntegration(seg, current);
             count += 1;
         }
 
@@ -263,8 +300,7 @@ public class NeQuickModel implements IonosphericModel {
         final FieldRay<T> ray = new FieldRay<>(field, recP, satP);
 
         // Load the correct CCIR file
-        final DateTimeComponents dateTime = date.getComponents(utc);
-        loadsIfNeeded(dateTime.getDate());
+        final NeQuickEpoch current = getEpoch(date.getComponents(utc));
 
         // Tolerance for the integration accuracy. Defined inside the reference document, section 2.5.8.1.
         final T h1 = recP.getAltitude();
@@ -278,17 +314,17 @@ public class NeQuickModel implements IonosphericModel {
         // Integration
         int n = 8;
         final FieldSegment<T> seg1 = new FieldSegment<>(field, n, ray);
-        T gn1 = stecIntegration(field, seg1, dateTime);
+        T gn1 = stecIntegration(field, seg1, current);
         n *= 2;
         final FieldSegment<T> seg2 = new FieldSegment<>(field, n, ray);
-        T gn2 = stecIntegration(field, seg2, dateTime);
+        T gn2 = stecIntegration(field, seg2, current);
 
         int count = 1;
         while (FastMath.abs(gn2.subtract(gn1)).getReal() > FastMath.abs(gn1).multiply(tolerance).getReal() && count < 20) {
             gn1 = gn2;
             n *= 2;
             final FieldSegment<T> seg = new FieldSegment<>(field, n, ray);
-            gn2 = stecIntegration(field, seg, dateTime);
+            gn2 = stecIntegration(field, seg, current);
             count += 1;
         }
 
@@ -304,10 +340,10 @@ public class NeQuickModel implements IonosphericModel {
     /**
      * This method perfoms the STEC integration.
      * @param seg coordinates along the integration path
-     * @param dateTime current date and time componentns
+     * @param current date-dependent coefficients
      * @return result of the integration
      */
-    private double stecIntegration(final Segment seg, final DateTimeComponents dateTime) {
+    private double stecIntegration(final Segment seg, final NeQuickEpoch current) {
         // Integration points
         final double[] heightS    = seg.getHeights();
         final double[] latitudeS  = seg.getLatitudes();
@@ -316,7 +352,7 @@ public class NeQuickModel implements IonosphericModel {
         // Compute electron density
         double density = 0.0;
         for (int i = 0; i < heightS.length; i++) {
-            final NeQuickParameters parameters = new NeQuickParameters(dateTime, f2, fm3,
+            final NeQuickParameters parameters = new NeQuickParameters(current,
                                                                        latitudeS[i], longitudeS[i],
                                                                        alpha, stModip);
             density += electronDensity(heightS[i], parameters);
@@ -330,12 +366,12 @@ public class NeQuickModel implements IonosphericModel {
      * @param <T> type of the elements
      * @param field field of the elements
      * @param seg coordinates along the integration path
-     * @param dateTime current date and time componentns
+     * @param current date-dependent coefficients
      * @return result of the integration
      */
     private <T extends CalculusFieldElement<T>> T stecIntegration(final Field<T> field,
                                                               final FieldSegment<T> seg,
-                                                              final DateTimeComponents dateTime) {
+                                                              final NeQuickEpoch current) {
         // Integration points
         final T[] heightS    = seg.getHeights();
         final T[] latitudeS  = seg.getLatitudes();
@@ -344,7 +380,7 @@ public class NeQuickModel implements IonosphericModel {
         // Compute electron density
         T density = field.getZero();
         for (int i = 0; i < heightS.length; i++) {
-            final FieldNeQuickParameters<T> parameters = new FieldNeQuickParameters<>(field, dateTime, f2, fm3,
+            final FieldNeQuickParameters<T> parameters = new FieldNeQuickParameters<>(field, current,
                                                                                       latitudeS[i], longitudeS[i],
                                                                                       alpha, stModip);
             density = density.add(electronDensity(field, heightS[i], parameters));
@@ -607,26 +643,38 @@ public class NeQuickModel implements IonosphericModel {
     }
 
     /**
-     * Lazy loading of CCIR data.
-     * @param date current date components
+     * Get the date-dependent coefficients, with lazy loading of CCIR data.
+     * <p>
+     * The coefficients are cached and reused as long as the date does not change.
+     * CCIR data are reloaded only when the month changes. As epochs are immutable
+     * and published atomically, concurrent calls at different dates may recompute
+     * some coefficients but always use consistent ones.
+     * </p>
+     * @param dateTime current date and time components
+     * @return date-dependent coefficients
      */
-    private void loadsIfNeeded(final DateComponents date) {
+    private NeQuickEpoch getEpoch(final DateTimeComponents dateTime) {
 
-        // Current month
-        final int currentMonth = date.getMonth();
-
-        // Check if date have changed or if f2 and fm3 arrays are null
-        if (currentMonth != month || f2 == null || fm3 == null) {
-            this.month = currentMonth;
+        final NeQuickEpoch cached = epoch;
+        if (cached != null && cached.getDateTime().equals(dateTime)) {
+            // the cached coefficients can be used as is
+            return cached;
+        }
 
+        final NeQuickEpoch current;
+        if (cached != null && cached.getMonth() == dateTime.getDate().getMonth()) {
+            // same month, we can reuse the CCIR data
+            current = new NeQuickEpoch(dateTime, cached.getF2(), cached.getFm3());
+        } else {
             // Read file
             final CCIRLoader loader = new CCIRLoader();
-            loader.loadCCIRCoefficients(date);
-
-            // Update arrays
-            this.f2 = loader.getF2();
-            this.fm3 = loader.getFm3();
+            loader.loadCCIRCoefficients(dateTime.getDate());
+            current = new NeQuickEpoch(dateTime, loader.getF2(), loader.getFm3());
         }
+
+        epoch = current;
+        return current;
+
     }
 
     /**
@@ -19,9 +19,7 @@ package org.orekit.models.earth.ionosphere;
 import org.hipparchus.util.FastMath;
 import org.hipparchus.util.MathArrays;
 import org.hipparchus.util.SinCos;
-import org.orekit.time.DateComponents;
 import org.orekit.time.DateTimeComponents;
-import org.orekit.time.TimeComponents;
 
 /**
  * This class perfoms the computation of the parameters used by the NeQuick model.
@@ -84,6 +82,20 @@ class NeQuickParameters {
     NeQuickParameters(final DateTimeComponents dateTime, final double[][][] f2,
                       final double[][][] fm3, final double latitude, final double longitude,
                       final double[] alpha, final double[][] modipGrip) {
+        this(new NeQuickEpoch(dateTime, f2, fm3), latitude, longitude, alpha, modipGrip);
+    }
+
+    /**
+     * Build a new instance.
+     * @param epoch date-dependent coefficients
+     * @param latitude latitude of a point along the integration path, in radians
+     * @param longitude longitude of a point along the integration path, in radians
+     * @param alpha effective ionisation level coefficients
+     * @param modipGrip modip grid
+     * @since 11.4
+     */
+    NeQuickParameters(final NeQuickEpoch epoch, final double latitude, final double longitude,
+                      final double[] alpha, final double[][] modipGrip) {
 
         // MODIP in degrees
         final double modip = computeMODIP(latitude, longitude, modipGrip);
@@ -91,43 +103,22 @@ class NeQuickParameters {
         final double az = computeAz(modip, alpha);
         // Effective sunspot number (Eq. 19)
         final double azr = FastMath.sqrt(167273.0 + (az - 63.7) * 1123.6) - 408.99;
-        // Date and Time components
-        final DateComponents date = dateTime.getDate();
-        final TimeComponents time = dateTime.getTime();
-        // Hours
-        final double hours  = time.getSecondsInUTCDay() / 3600.0;
+        // Month
+        final int month = epoch.getMonth();
         // Effective solar zenith angle in radians
-        final double xeff = computeEffectiveSolarAngle(date.getMonth(), hours, latitude, longitude);
-
-        // Coefficients for F2 layer parameters
-        // Compute the array of interpolated coefficients for foF2 (Eq. 44)
-        final double[][] af2 = new double[76][13];
-        for (int j = 0; j < 76; j++) {
-            for (int k = 0; k < 13; k++ ) {
-                af2[j][k] = f2[0][j][k] * (1.0 - (azr * 0.01)) + f2[1][j][k] * (azr * 0.01);
-            }
-        }
-
-        // Compute the array of interpolated coefficients for M(3000)F2 (Eq. 46)
-        final  double[][] am3 = new double[49][9];
-        for (int j = 0; j < 49; j++) {
-            for (int k = 0; k < 9; k++ ) {
-                am3[j][k] = fm3[0][j][k] * (1.0 - (azr * 0.01)) + fm3[1][j][k] * (azr * 0.01);
-            }
-        }
+        final double xeff = computeEffectiveSolarAngle(epoch, latitude, longitude);
 
         // E layer maximum density height in km (Eq. 78)
         this.hmE = 120.0;
         // E layer critical frequency in MHz
-        final double foE = computefoE(date.getMonth(), az, xeff, latitude);
+        final double foE = computefoE(month, az, xeff, latitude);
         // E layer maximum density in 10^11 m-3 (Eq. 36)
         final double nmE = 0.124 * foE * foE;
 
-        // Time argument (Eq. 49)
-        final double t = FastMath.toRadians(15 * hours) - FastMath.PI;
         // Compute Fourier time series for foF2 and M(3000)F2
-        final double[] cf2 = computeCF2(af2, t);
-        final double[] cm3 = computeCm3(am3, t);
+        // (the series are linear in azr, so they are interpolated from precomputed ones)
+        final double[] cf2 = epoch.computeCF2(azr);
+        final double[] cm3 = epoch.computeCm3(azr);
         // F2 layer critical frequency in MHz
         final double foF2 = computefoF2(modip, cf2, latitude, longitude);
         // Maximum Usable Frequency factor
@@ -162,7 +153,7 @@ class NeQuickParameters {
         this.amplitudes = computeLayerAmplitudes(nmE, nmF1, foF1);
 
         // Topside thickness parameter
-        this.h0 = computeH0(date.getMonth(), azr);
+        this.h0 = computeH0(month, azr);
     }
 
     /**
@@ -343,28 +334,19 @@ class NeQuickParameters {
      * The effective solar zenith angle is compute as a function of the
      * solar zenith angle and the solar zenith angle at day night transition.
      * </p>
-     * @param month current month of the year
-     * @param hours universal time (hours)
+     * @param epoch date-dependent coefficients
      * @param latitude in radians
      * @param longitude in radians
      * @return the effective solar zenith angle, radians
      */
-    private double computeEffectiveSolarAngle(final int month,
-                                              final double hours,
+    private double computeEffectiveSolarAngle(final NeQuickEpoch epoch,
                                               final double latitude,
                                               final double longitude) {
         // Local time (Eq.4)
-        final double lt = hours + longitude / FastMath.toRadians(15.0);
-        // Day of year at the middle of the month (Eq. 20)
-        final double dy = 30.5 * month - 15.0;
-        // Time (Eq. 21)
-        final double t = dy + (18 - hours) / 24;
-        // Arguments am and al (Eq. 22 and 23)
-        final double am = FastMath.toRadians(0.9856 * t - 3.289);
-        final double al = am + FastMath.toRadians(1.916 * FastMath.sin(am) + 0.020 * FastMath.sin(2.0 * am) + 282.634);
-        // Sine and cosine of solar declination (Eq. 24 and 25)
-        final double sDec = 0.39782 * FastMath.sin(al);
-        final double cDec = FastMath.sqrt(1. - sDec * sDec);
+        final double lt = epoch.getHours() + longitude / FastMath.toRadians(15.0);
+        // Sine and cosine of solar declination (Eq. 20 to 25)
+        final double sDec = epoch.getSinDeclination();
+        final double cDec = epoch.getCosDeclination();
         // Solar zenith angle, deg (Eq. 26 and 27)
         final SinCos scLat   = FastMath.sinCos(latitude);
         final double coef    = (FastMath.PI / 12) * (12 - lt);
@@ -433,46 +415,6 @@ class NeQuickParameters {
         return height;
     }
 
-    /**
-     * Computes cf2 coefficients.
-     * @param af2 interpolated coefficients for foF2
-     * @param t time argument
-     * @return the cf2 coefficients array
-     */
-    private double[] computeCF2(final double[][] af2, final double t) {
-        // Eq. 50
-        final double[] cf2 = new double[76];
-        for (int i = 0; i < cf2.length; i++) {
-            double sum = 0.0;
-            for (int k = 0; k < 6; k++) {
-                final SinCos sc = FastMath.sinCos((k + 1) * t);
-                sum += af2[i][2 * k + 1] * sc.sin() + af2[i][2 * (k + 1)] * sc.cos();
-            }
-            cf2[i] = af2[i][0] + sum;
-        }
-        return cf2;
-    }
-
-    /**
-     * Computes Cm3 coefficients.
-     * @param am3 interpolated coefficients for foF2
-     * @param t time argument
-     * @return the Cm3 coefficients array
-     */
-    private double[] computeCm3(final double[][] am3, final double t) {
-        // Eq. 51
-        final double[] cm3 = new double[49];
-        for (int i = 0; i < cm3.length; i++) {
-            double sum = 0.0;
-            for (int k = 0; k < 4; k++) {
-                final SinCos sc = FastMath.sinCos((k + 1) * t);
-                sum += am3[i][2 * k + 1] * sc.sin() + am3[i][2 * (k + 1)] * sc.cos();
-            }
-            cm3[i] = am3[i][0] + sum;
-        }
-        return cm3;
-    }
-
     /**
      * This method computes the F2 layer critical frequency.
      * @param modip modified DIP latitude, in degrees
@@ -68,6 +68,30 @@ public interface DiscreteTroposphericModel extends ParametersDriversProvider {
      */
     <T extends CalculusFieldElement<T>> T pathDelay(T elevation, FieldGeodeticPoint<T> point, T[] parameters, FieldAbsoluteDate<T> date);
 
+    /** Calculates the tropospheric path delays for the signal paths from a ground
+     * station to several satellites at the same date.
+     * <p>
+     * The default implementation simply calls {@link #pathDelay(double, GeodeticPoint,
+     * double[], AbsoluteDate)} for each elevation. Implementations for which the station
+     * and date dependent part of the computation (zenith delays, mapping functions
+     * coefficients) is expensive should override it so this part is computed only once.
+     * </p>
+     * @param elevations the elevations of the satellites, in radians
+     * @param point station location
+     * @param parameters tropospheric model parameters
+     * @param date current date
+     * @return the path delays due to the troposphere in m, for each elevation
+     * @since 11.4
+     */
+    default double[] pathDelay(final double[] elevations, final GeodeticPoint point,
+                               final double[] parameters, final AbsoluteDate date) {
+        final double[] delays = new double[elevations.length];
+        for (int i = 0; i < elevations.length; ++i) {
+            delays[i] = pathDelay(elevations[i], point, parameters, date);
+        }
+        return delays;
+    }
+
     /** Get tropospheric model parameters.
      * @return tropospheric model parameters
      */
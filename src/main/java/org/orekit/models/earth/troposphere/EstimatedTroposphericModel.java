@@ -115,6 +115,31 @@ public class EstimatedTroposphericModel implements DiscreteTroposphericModel {
         return mf[0] * zhd + mf[1] * (ztd - zhd);
     }
 
+    /** {@inheritDoc}
+     * <p>
+     * The zenith delays and the station and date dependent mapping functions
+     * coefficients are computed only once for all elevations.
+     * </p>
+     * @since 11.4
+     */
+    @Override
+    public double[] pathDelay(final double[] elevations, final GeodeticPoint point,
+                              final double[] parameters, final AbsoluteDate date) {
+        // Use an empirical model for tropospheric zenith hydro-static delay : Saastamoinen model
+        final SaastamoinenModel saastamoinen = new SaastamoinenModel(t0, p0, 0.0);
+        // Zenith delays. elevation = pi/2 because we compute the delay in the zenith direction
+        final double zhd = saastamoinen.pathDelay(0.5 * FastMath.PI, point, parameters, date);
+        final double ztd = parameters[0];
+        // Mapping functions
+        final double[][] mf = model.mappingFactors(elevations, point, date);
+        // Total delays
+        final double[] delays = new double[elevations.length];
+        for (int i = 0; i < delays.length; ++i) {
+            delays[i] = mf[i][0] * zhd + mf[i][1] * (ztd - zhd);
+        }
+        return delays;
+    }
+
     /** {@inheritDoc} */
     @Override
     public <T extends CalculusFieldElement<T>> T pathDelay(final T elevation, final FieldGeodeticPoint<T> point,
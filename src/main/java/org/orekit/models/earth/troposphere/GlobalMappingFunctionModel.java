@@ -59,9 +59,17 @@ public class GlobalMappingFunctionModel implements MappingFunction {
     /** Multiplication factor for mapping function coefficients. */
     private static final double FACTOR = 1.0e-5;
 
+    /** Number of stations locations for which spherical harmonics expansions are cached. */
+    private static final int CACHE_SIZE = 32;
+
     /** UTC time scale. */
     private final TimeScale utc;
 
+    /** Cache for spherical harmonics expansions at stations locations.
+     * @since 11.4
+     */
+    private final StationCoefficientsCache cache;
+
     /** Build a new instance.
      *
      * <p>This constructor uses the {@link DataContext#getDefault() default data context}.
@@ -79,26 +87,79 @@ public class GlobalMappingFunctionModel implements MappingFunction {
      */
     public GlobalMappingFunctionModel(final TimeScale utc) {
         this.utc = utc;
+        this.cache = new StationCoefficientsCache(CACHE_SIZE);
     }
 
     /** {@inheritDoc} */
     @Override
     public double[] mappingFactors(final double elevation, final GeodeticPoint point,
                                    final AbsoluteDate date) {
+        return mappingFactors(elevation, point, computeCoefficients(point, date));
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The station and date dependent coefficients are computed only once for all elevations.
+     * </p>
+     * @since 11.4
+     */
+    @Override
+    public double[][] mappingFactors(final double[] elevations, final GeodeticPoint point,
+                                     final AbsoluteDate date) {
+        final double[] coefficients = computeCoefficients(point, date);
+        final double[][] factors = new double[elevations.length][];
+        for (int i = 0; i < elevations.length; ++i) {
+            factors[i] = mappingFactors(elevations[i], point, coefficients);
+        }
+        return factors;
+    }
+
+    /** Compute the hydrostatic and wet mapping functions.
+     * @param elevation the elevation of the satellite, in radians
+     * @param point station location
+     * @param coefficients coefficients a<sub>h</sub>, a<sub>w</sub> and c<sub>h</sub>
+     * @return a two components array containing the hydrostatic and wet mapping functions
+     */
+    private double[] mappingFactors(final double elevation, final GeodeticPoint point,
+                                    final double[] coefficients) {
+
+        // bh constant (Boehm, J et al, 2006) | HYDROSTATIC PART
+        final double bh  = 0.0029;
+
+        // bw and cw constants (Boehm, J et al, 2006) | WET PART
+        final double bw = 0.00146;
+        final double cw = 0.04391;
+
+        final double[] function = new double[2];
+        function[0] = TroposphericModelUtils.mappingFunction(coefficients[0], bh, coefficients[2], elevation);
+        function[1] = TroposphericModelUtils.mappingFunction(coefficients[1], bw, cw, elevation);
+
+        // Apply height correction
+        final double correction = TroposphericModelUtils.computeHeightCorrection(elevation, point.getAltitude());
+        function[0] = function[0] + correction;
+
+        return function;
+    }
+
+    /** Compute the mapping functions coefficients at station location and date.
+     * @param point station location
+     * @param date current date
+     * @return coefficients a<sub>h</sub>, a<sub>w</sub> and c<sub>h</sub>
+     */
+    private double[] computeCoefficients(final GeodeticPoint point, final AbsoluteDate date) {
+
         // Day of year computation
         final DateTimeComponents dtc = date.getComponents(utc);
         final int dofyear = dtc.getDate().getDayOfYear();
 
-        // bh and ch constants (Boehm, J et al, 2006) | HYDROSTATIC PART
-        final double bh  = 0.0029;
+        // ch constants (Boehm, J et al, 2006) | HYDROSTATIC PART
         final double c0h = 0.062;
         final double c10h;
         final double c11h;
         final double psi;
 
-        // Latitude and longitude of the station
+        // Latitude of the station
         final double latitude  = point.getLatitude();
-        final double longitude = point.getLongitude();
 
         if (FastMath.sin(latitude) > 0) {
             // northern hemisphere case
@@ -120,9 +181,28 @@ public class GlobalMappingFunctionModel implements MappingFunction {
         final double coef = ((dofyear + 1 - t0) / 365.25) * 2 * FastMath.PI + psi;
         final double ch = c0h + ((FastMath.cos(coef) + 1) * (c11h / 2.0) + c10h) * (1.0 - FastMath.cos(latitude));
 
-        // bw and cw constants (Boehm, J et al, 2006) | WET PART
-        final double bw = 0.00146;
-        final double cw = 0.04391;
+        // Spherical harmonics expansions at station location
+        final double[] h = cache.getCoefficients(point, GlobalMappingFunctionModel::computeHarmonics);
+
+        // Eq. 2 (Ref 1)
+        final double ah = h[0] + h[1] * FastMath.cos(coef - psi);
+        final double aw = h[2] + h[3] * FastMath.cos(coef - psi);
+
+        return new double[] {
+            ah, aw, ch
+        };
+
+    }
+
+    /** Compute the spherical harmonics expansions at station location.
+     * @param point station location
+     * @return mean and amplitude of a<sub>h</sub>, mean and amplitude of a<sub>w</sub>
+     */
+    private static double[] computeHarmonics(final GeodeticPoint point) {
+
+        // Latitude and longitude of the station
+        final double latitude  = point.getLatitude();
+        final double longitude = point.getLongitude();
 
         // Compute coefficients ah and aw with spherical harmonics Eq. 3 (Ref 1)
 
@@ -158,19 +238,10 @@ public class GlobalMappingFunctionModel implements MappingFunction {
             }
         }
 
-        // Eq. 2 (Ref 1)
-        final double ah = a0Hydro + amplHydro * FastMath.cos(coef - psi);
-        final double aw = a0Wet + amplWet * FastMath.cos(coef - psi);
-
-        final double[] function = new double[2];
-        function[0] = TroposphericModelUtils.mappingFunction(ah, bh, ch, elevation);
-        function[1] = TroposphericModelUtils.mappingFunction(aw, bw, cw, elevation);
-
-        // Apply height correction
-        final double correction = TroposphericModelUtils.computeHeightCorrection(elevation, point.getAltitude());
-        function[0] = function[0] + correction;
+        return new double[] {
+            a0Hydro, amplHydro, a0Wet, amplWet
+        };
 
-        return function;
     }
 
     /** {@inheritDoc} */
@@ -54,4 +54,27 @@ public interface MappingFunction {
      */
     <T extends CalculusFieldElement<T>> T[] mappingFactors(T elevation, FieldGeodeticPoint<T> point, FieldAbsoluteDate<T> date);
 
+    /** This method allows the computation of the hydrostatic and
+     * wet mapping functions for several satellites seen by one station at the same date.
+     * <p>
+     * The default implementation simply calls {@link #mappingFactors(double, GeodeticPoint,
+     * AbsoluteDate)} for each elevation. Implementations for which the station and date
+     * dependent part of the computation is expensive should override it so this part
+     * is computed only once.
+     * </p>
+     * @param elevations the elevations of the satellites, in radians
+     * @param point station location
+     * @param date current date
+     * @return one two components array containing the hydrostatic and wet mapping functions
+     * for each elevation
+     * @since 11.4
+     */
+    default double[][] mappingFactors(final double[] elevations, final GeodeticPoint point, final AbsoluteDate date) {
+        final double[][] factors = new double[elevations.length][];
+        for (int i = 0; i < elevations.length; ++i) {
+            factors[i] = mappingFactors(elevations[i], point, date);
+        }
+        return factors;
+    }
+
 }
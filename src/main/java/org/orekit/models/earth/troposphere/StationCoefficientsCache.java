@@ -0,0 +1,111 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.models.earth.troposphere;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+import org.hipparchus.util.FastMath;
+import org.orekit.bodies.GeodeticPoint;
+
+/** Small cache for station-dependent coefficients of empirical tropospheric models.
+ * <p>
+ * Empirical models like {@link ViennaThreeModel} or {@link GlobalMappingFunctionModel}
+ * evaluate spherical harmonics expansions that depend only on station latitude and
+ * longitude. When measurements from a network of stations are processed, the same
+ * expansions are evaluated for all satellites seen by each station at each epoch.
+ * This cache keeps the last few expansions so they are computed only once per station
+ * location.
+ * </p>
+ * <p>
+ * The cache is bounded and entries are replaced in round-robin order. Entries are
+ * immutable and stored atomically, so the cache can be shared among threads.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+class StationCoefficientsCache {
+
+    /** Cached entries. */
+    private final AtomicReferenceArray<Entry> entries;
+
+    /** Index of next entry to replace. */
+    private final AtomicInteger next;
+
+    /** Simple constructor.
+     * @param size maximum number of cached station locations
+     */
+    StationCoefficientsCache(final int size) {
+        this.entries = new AtomicReferenceArray<>(size);
+        this.next    = new AtomicInteger(0);
+    }
+
+    /** Get the coefficients for a station location.
+     * <p>
+     * The returned array is shared among all callers and must not be modified.
+     * </p>
+     * @param point station location
+     * @param computer function computing the coefficients if they are not cached
+     * @return coefficients for the station location
+     */
+    double[] getCoefficients(final GeodeticPoint point, final Function<GeodeticPoint, double[]> computer) {
+
+        final double latitude  = point.getLatitude();
+        final double longitude = point.getLongitude();
+
+        // look for an already computed entry
+        for (int i = 0; i < entries.length(); ++i) {
+            final Entry entry = entries.get(i);
+            if (entry != null && entry.latitude == latitude && entry.longitude == longitude) {
+                return entry.coefficients;
+            }
+        }
+
+        // compute and store a new entry
+        final Entry entry = new Entry(latitude, longitude, computer.apply(point));
+        entries.set(FastMath.floorMod(next.getAndIncrement(), entries.length()), entry);
+        return entry.coefficients;
+
+    }
+
+    /** Cache entry. */
+    private static class Entry {
+
+        /** Station latitude. */
+        private final double latitude;
+
+        /** Station longitude. */
+        private final double longitude;
+
+        /** Coefficients. */
+        private final double[] coefficients;
+
+        /** Simple constructor.
+         * @param latitude station latitude
+         * @param longitude station longitude
+         * @param coefficients coefficients
+         */
+        Entry(final double latitude, final double longitude, final double[] coefficients) {
+            this.latitude     = latitude;
+            this.longitude    = longitude;
+            this.coefficients = coefficients;
+        }
+
+    }
+
+}
@@ -58,6 +58,9 @@ import org.orekit.utils.ParameterDriver;
  */
 public class ViennaThreeModel implements DiscreteTroposphericModel, MappingFunction {
 
+    /** Number of stations locations for which spherical harmonics expansions are cached. */
+    private static final int CACHE_SIZE = 32;
+
     /** The a coefficient for the computation of the wet and hydrostatic mapping functions.*/
     private final double[] coefficientsA;
 
@@ -67,6 +70,11 @@ public class ViennaThreeModel implements DiscreteTroposphericModel, MappingFunct
     /** UTC time scale. */
     private final TimeScale utc;
 
+    /** Cache for spherical harmonics expansions at stations locations.
+     * @since 11.4
+     */
+    private final StationCoefficientsCache cache;
+
     /** Build a new instance.
      *
      * <p>This constructor uses the {@link DataContext#getDefault() default data context}.
@@ -93,16 +101,80 @@ public class ViennaThreeModel implements DiscreteTroposphericModel, MappingFunct
         this.coefficientsA = coefficientA.clone();
         this.zenithDelay   = zenithDelay.clone();
         this.utc           = utc;
+        this.cache         = new StationCoefficientsCache(CACHE_SIZE);
     }
 
     /** {@inheritDoc} */
     @Override
     public double[] mappingFactors(final double elevation, final GeodeticPoint point,
                                    final AbsoluteDate date) {
+        return mappingFactors(elevation, computeCoefficients(point, date));
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The station and date dependent coefficients are computed only once for all elevations.
+     * </p>
+     * @since 11.4
+     */
+    @Override
+    public double[][] mappingFactors(final double[] elevations, final GeodeticPoint point,
+                                     final AbsoluteDate date) {
+        final double[] coefficients = computeCoefficients(point, date);
+        final double[][] factors = new double[elevations.length][];
+        for (int i = 0; i < elevations.length; ++i) {
+            factors[i] = mappingFactors(elevations[i], coefficients);
+        }
+        return factors;
+    }
+
+    /** Compute the hydrostatic and wet mapping functions.
+     * @param elevation the elevation of the satellite, in radians
+     * @param coefficients coefficients b<sub>h</sub>, b<sub>w</sub>, c<sub>h</sub> and c<sub>w</sub>
+     * @return a two components array containing the hydrostatic and wet mapping functions
+     */
+    private double[] mappingFactors(final double elevation, final double[] coefficients) {
+        // Compute Mapping Function Eq. 4
+        final double[] function = new double[2];
+        function[0] = TroposphericModelUtils.mappingFunction(coefficientsA[0], coefficients[0], coefficients[2], elevation);
+        function[1] = TroposphericModelUtils.mappingFunction(coefficientsA[1], coefficients[1], coefficients[3], elevation);
+        return function;
+    }
+
+    /** Compute the mapping functions coefficients at station location and date.
+     * @param point station location
+     * @param date current date
+     * @return coefficients b<sub>h</sub>, b<sub>w</sub>, c<sub>h</sub> and c<sub>w</sub>
+     */
+    private double[] computeCoefficients(final GeodeticPoint point, final AbsoluteDate date) {
+
         // Day of year computation
         final DateTimeComponents dtc = date.getComponents(utc);
         final int dofyear = dtc.getDate().getDayOfYear();
 
+        // Spherical harmonics expansions at station location
+        final double[] h = cache.getCoefficients(point, ViennaThreeModel::computeHarmonics);
+
+        // Eq. 6
+        final double[] coefficients = new double[4];
+        for (int c = 0; c < coefficients.length; ++c) {
+            coefficients[c] = computeSeasonalFit(dofyear, h[c], h[4 + c], h[12 + c], h[8 + c], h[16 + c]);
+        }
+        return coefficients;
+
+    }
+
+    /** Compute the spherical harmonics expansions at station location.
+     * <p>
+     * The expansions are stored by groups of four (b<sub>h</sub>, b<sub>w</sub>,
+     * c<sub>h</sub>, c<sub>w</sub>), for the mean value A0, the annual amplitudes
+     * A1 and B1 and the semi-annual amplitudes A2 and B2, in this order.
+     * </p>
+     * @param point station location
+     * @return spherical harmonics expansions
+     */
+    private static double[] computeHarmonics(final GeodeticPoint point) {
+
         // Compute Legendre Polynomials Pnm(cos(0.5 * pi - phi))
         final int degree = 12;
         final int order  = 12;
@@ -166,18 +238,14 @@ public class ViennaThreeModel implements DiscreteTroposphericModel, MappingFunct
             }
         }
 
-        // Eq. 6
-        final double bh = computeSeasonalFit(dofyear, a0Bh, a1Bh, a2Bh, b1Bh, b2Bh);
-        final double bw = computeSeasonalFit(dofyear, a0Bw, a1Bw, a2Bw, b1Bw, b2Bw);
-        final double ch = computeSeasonalFit(dofyear, a0Ch, a1Ch, a2Ch, b1Ch, b2Ch);
-        final double cw = computeSeasonalFit(dofyear, a0Cw, a1Cw, a2Cw, b1Cw, b2Cw);
-
-        // Compute Mapping Function Eq. 4
-        final double[] function = new double[2];
-        function[0] = TroposphericModelUtils.mappingFunction(coefficientsA[0], bh, ch, elevation);
-        function[1] = TroposphericModelUtils.mappingFunction(coefficientsA[1], bw, cw, elevation);
+        return new double[] {
+            a0Bh, a0Bw, a0Ch, a0Cw,
+            a1Bh, a1Bw, a1Ch, a1Cw,
+            b1Bh, b1Bw, b1Ch, b1Cw,
+            a2Bh, a2Bw, a2Ch, a2Cw,
+            b2Bh, b2Bw, b2Ch, b2Cw
+        };
 
-        return function;
     }
 
     /** {@inheritDoc} */
@@ -280,6 +348,28 @@ public class ViennaThreeModel implements DiscreteTroposphericModel, MappingFunct
         return delays[0] * mappingFunction[0] + delays[1] * mappingFunction[1];
     }
 
+    /** {@inheritDoc}
+     * <p>
+     * The zenith delays and the station and date dependent mapping functions
+     * coefficients are computed only once for all elevations.
+     * </p>
+     * @since 11.4
+     */
+    @Override
+    public double[] pathDelay(final double[] elevations, final GeodeticPoint point,
+                              final double[] parameters, final AbsoluteDate date) {
+        // zenith delay
+        final double[] delays = computeZenithDelay(point, parameters, date);
+        // mapping functions
+        final double[][] mappingFunctions = mappingFactors(elevations, point, date);
+        // Tropospheric path delays
+        final double[] pathDelays = new double[elevations.length];
+        for (int i = 0; i < pathDelays.length; ++i) {
+            pathDelays[i] = delays[0] * mappingFunctions[i][0] + delays[1] * mappingFunctions[i][1];
+        }
+        return pathDelays;
+    }
+
     /** {@inheritDoc} */
     @Override
     public <T extends CalculusFieldElement<T>> T pathDelay(final T elevation, final FieldGeodeticPoint<T> point,
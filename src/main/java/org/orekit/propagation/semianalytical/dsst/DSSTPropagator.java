@@ -23,6 +23,9 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
 
 import org.hipparchus.linear.RealMatrix;
 import org.hipparchus.ode.ODEIntegrator;
@@ -162,6 +165,9 @@ public class DSSTPropagator extends AbstractIntegratedPropagator {
     /** Generator for the interpolation grid. */
     private InterpolationGrid interpolationgrid;
 
+    /** Pool for concurrent evaluation of force models (null for sequential evaluation). */
+    private transient ForkJoinPool forceModelsPool;
+
     /** Create a new instance of DSSTPropagator.
      *  <p>
      *  After creation, there are no perturbing forces at all.
@@ -495,6 +501,41 @@ public class DSSTPropagator extends AbstractIntegratedPropagator {
         interpolationgrid = new MaxGapInterpolationGrid(maxGap);
     }
 
+    /** Set the pool to use for evaluating force models concurrently.
+     * <p>
+     * By default, force models are evaluated sequentially. When a pool is set,
+     * the mean elements rates of all force models are computed concurrently
+     * at each integrator evaluation, and the short periodic coefficients
+     * of all force models are updated concurrently at each step, for all
+     * interpolation grid nodes of the step. The contributions are always
+     * summed in the force models order, so results are exactly the same as
+     * with sequential evaluation.
+     * </p>
+     * <p>
+     * This is mainly useful when several costly force models are used, for
+     * example a high degree {@link
+     * org.orekit.propagation.semianalytical.dsst.forces.DSSTTesseral tesseral}
+     * field together with third bodies and Gaussian contributions. Force models
+     * must not share mutable state, which is the case of all force models
+     * provided by Orekit as long as they are not shared between propagators
+     * running concurrently.
+     * </p>
+     * @param pool pool to use for concurrent evaluation, or null for sequential evaluation
+     * @since 11.4
+     */
+    public void setForceModelsPool(final ForkJoinPool pool) {
+        this.forceModelsPool = pool;
+    }
+
+    /** Get the pool used for evaluating force models concurrently.
+     * @return pool used for concurrent evaluation, or null for sequential evaluation
+     * @see #setForceModelsPool(ForkJoinPool)
+     * @since 11.4
+     */
+    public ForkJoinPool getForceModelsPool() {
+        return forceModelsPool;
+    }
+
     /** Add a force model to the global perturbation model.
      *  <p>
      *  If this method is not called at all,
@@ -755,9 +796,10 @@ public class DSSTPropagator extends AbstractIntegratedPropagator {
         if (type == PropagationType.OSCULATING) {
             final ShortPeriodicsHandler spHandler = new ShortPeriodicsHandler(forceModels);
             // Compute short periodic coefficients for this point
-            for (DSSTForceModel forceModel : forceModels) {
+            evaluateForceModels(forceModels, forceModel -> {
                 forceModel.updateShortPeriodTerms(forceModel.getParameters(), initialState);
-            }
+                return null;
+            });
             final Collection<ODEStepHandler> stepHandlers = new ArrayList<ODEStepHandler>();
             stepHandlers.add(spHandler);
             final ODEIntegrator integrator = getIntegrator();
@@ -1148,8 +1190,13 @@ public class DSSTPropagator extends AbstractIntegratedPropagator {
             final AuxiliaryElements auxiliaryElements = new AuxiliaryElements(state.getOrbit(), I);
 
             // compute the contributions of all perturbing forces
-            for (final DSSTForceModel forceModel : forceModels) {
-                final double[] daidt = elementRates(forceModel, state, auxiliaryElements, forceModel.getParameters());
+            final List<double[]> rates =
+                            evaluateForceModels(forceModels,
+                                                forceModel -> elementRates(forceModel, state, auxiliaryElements,
+                                                                           forceModel.getParameters()));
+
+            // sum the contributions, always in the same order
+            for (final double[] daidt : rates) {
                 for (int i = 0; i < daidt.length; i++) {
                     yDot[i] += daidt[i];
                 }
@@ -1175,6 +1222,43 @@ public class DSSTPropagator extends AbstractIntegratedPropagator {
 
     }
 
+    /** Evaluate a function on all force models.
+     * <p>
+     * The evaluations are performed concurrently if a {@link
+     * #setForceModelsPool(ForkJoinPool) pool} has been set, and sequentially
+     * otherwise.
+     * </p>
+     * @param models force models to evaluate
+     * @param evaluator function to evaluate on each force model
+     * @param <T> type of the evaluation results
+     * @return evaluation results, in the same order as the force models
+     */
+    private <T> List<T> evaluateForceModels(final List<DSSTForceModel> models,
+                                            final Function<DSSTForceModel, T> evaluator) {
+
+        final List<T> results = new ArrayList<>(models.size());
+        final ForkJoinPool pool = forceModelsPool;
+
+        if (pool == null || models.size() < 2) {
+            // sequential evaluation
+            for (final DSSTForceModel model : models) {
+                results.add(evaluator.apply(model));
+            }
+        } else {
+            // concurrent evaluation
+            final List<ForkJoinTask<T>> tasks = new ArrayList<>(models.size());
+            for (final DSSTForceModel model : models) {
+                tasks.add(pool.submit(() -> evaluator.apply(model)));
+            }
+            for (final ForkJoinTask<T> task : tasks) {
+                results.add(task.join());
+            }
+        }
+
+        return results;
+
+    }
+
     /** Estimate tolerance vectors for an AdaptativeStepsizeIntegrator.
      *  <p>
      *  The errors are estimated from partial derivatives properties of orbits,
@@ -1268,9 +1352,10 @@ public class DSSTPropagator extends AbstractIntegratedPropagator {
             }
 
             // Computate short periodic coefficients for this step
-            for (DSSTForceModel forceModel : forceModels) {
+            evaluateForceModels(forceModels, forceModel -> {
                 forceModel.updateShortPeriodTerms(forceModel.getParameters(), meanStates);
-            }
+                return null;
+            });
 
         }
     }
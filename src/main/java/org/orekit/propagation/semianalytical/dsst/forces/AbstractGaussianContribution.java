@@ -18,6 +18,7 @@ package org.orekit.propagation.semianalytical.dsst.forces;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -146,6 +147,15 @@ public abstract class AbstractGaussianContribution implements DSSTForceModel {
     /** Flag for Gauss order computation. */
     private boolean isDirty;
 
+    /** Adaptive integrator. */
+    private final AdaptiveQuadrature adaptiveIntegrator;
+
+    /** Flag for adaptive quadrature. */
+    private boolean adaptive;
+
+    /** Number of points used by the last quadrature. */
+    private int lastQuadratureOrder;
+
     /** Attitude provider. */
     private AttitudeProvider attitudeProvider;
 
@@ -181,10 +191,61 @@ public abstract class AbstractGaussianContribution implements DSSTForceModel {
         this.threshold = threshold;
         this.integrator = new GaussQuadrature(GAUSS_ORDER[MAX_ORDER_RANK]);
         this.isDirty = true;
+        this.adaptiveIntegrator = new AdaptiveQuadrature();
+        this.adaptive = false;
+        this.lastQuadratureOrder = GAUSS_ORDER[MAX_ORDER_RANK];
 
         gaussianFieldSPCoefs = new HashMap<>();
     }
 
+    /** Set the quadrature mode.
+     * <p>
+     * By default, a Gauss quadrature is used. Its order is selected once
+     * from the mean elements rates at the first step and then used for all
+     * integrals, including the ones for the short periodic coefficients.
+     * </p>
+     * <p>
+     * In adaptive mode, a sequence of nested Clenshaw-Curtis rules is used,
+     * each rule reusing all the evaluations of the underlying force model
+     * performed by the lower order rules. The order is increased at each
+     * integral until the difference between the last two rules is below the
+     * threshold set at construction, so near-circular orbits or smooth forces
+     * need far fewer force model evaluations. The short periodic coefficients
+     * for all j indices are computed together from the same force model evaluations.
+     * </p>
+     * <p>
+     * Adaptive mode applies only to the regular (i.e. non-field) computation,
+     * the field computation always uses Gauss quadrature.
+     * </p>
+     * @param useAdaptive if true, use adaptive quadrature
+     * @since 11.4
+     */
+    public void setAdaptiveQuadrature(final boolean useAdaptive) {
+        this.adaptive = useAdaptive;
+    }
+
+    /** Check if adaptive quadrature is used.
+     * @return true if adaptive quadrature is used
+     * @see #setAdaptiveQuadrature(boolean)
+     * @since 11.4
+     */
+    public boolean isAdaptiveQuadrature() {
+        return adaptive;
+    }
+
+    /** Get the number of points used by the last regular quadrature.
+     * <p>
+     * In adaptive mode, this is the order selected for the last integral,
+     * which is either the mean elements rates integral or the short periodic
+     * coefficients integral. Otherwise, it is the order of the Gauss quadrature.
+     * </p>
+     * @return number of points used by the last quadrature
+     * @since 11.4
+     */
+    public int getLastQuadratureOrder() {
+        return lastQuadratureOrder;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void init(final SpacecraftState initialState, final AbsoluteDate target) {
@@ -296,7 +357,9 @@ public abstract class AbstractGaussianContribution implements DSSTForceModel {
         // Computes the limits for the integral
         final double[] ll = getLLimits(state, auxiliaryElements);
         // Computes integrated mean element rates if Llow < Lhigh
-        if (ll[0] < ll[1]) {
+        if (ll[0] < ll[1] && adaptive) {
+            meanElementRate = getAdaptiveMeanElementRate(state, ll[0], ll[1], context, parameters);
+        } else if (ll[0] < ll[1]) {
             meanElementRate = getMeanElementRate(state, integrator, ll[0], ll[1], context, parameters);
             if (isDirty) {
                 boolean next = true;
@@ -310,6 +373,7 @@ public abstract class AbstractGaussianContribution implements DSSTForceModel {
                 }
                 isDirty = false;
             }
+            lastQuadratureOrder = integrator.numberOfPoints;
         }
         return meanElementRate;
     }
@@ -396,6 +460,40 @@ public abstract class AbstractGaussianContribution implements DSSTForceModel {
         return meanElementRate;
     }
 
+    /**
+     * Computes the mean equinoctial elements rates da<sub>i</sub> / dt using adaptive quadrature.
+     *
+     * @param state      current state
+     * @param low        lower bound of the integral interval
+     * @param high       upper bound of the integral interval
+     * @param context    container for attributes
+     * @param parameters values of the force model parameters
+     * @return the mean element rates
+     */
+    private double[] getAdaptiveMeanElementRate(final SpacecraftState state, final double low, final double high,
+                                                final AbstractGaussianContributionContext context,
+                                                final double[] parameters) {
+
+        // Auxiliary elements related to the current orbit
+        final AuxiliaryElements auxiliaryElements = context.getAuxiliaryElements();
+
+        // Constant multiplier for integral, also used to weight the error estimate
+        final double coef = 1. / (2. * FastMath.PI * auxiliaryElements.getB());
+        final double[] scale = new double[6];
+        Arrays.fill(scale, coef);
+        scale[0] = coef / auxiliaryElements.getSma();
+
+        final double[] meanElementRate = adaptiveIntegrator.integrate(new IntegrableFunction(state, true, 0, parameters),
+                                                                      low, high, scale, threshold);
+        lastQuadratureOrder = adaptiveIntegrator.getLastNumberOfPoints();
+
+        // Corrects mean element rates
+        for (int i = 0; i < 6; i++) {
+            meanElementRate[i] *= coef;
+        }
+        return meanElementRate;
+    }
+
     /**
      * Computes the mean equinoctial elements rates da<sub>i</sub> / dt.
      *
@@ -1534,6 +1632,206 @@ public abstract class AbstractGaussianContribution implements DSSTForceModel {
 
     }
 
+    /** Function computing the short periodic integrands for all j indices at once.
+     * <p>
+     * The underlying force model is evaluated only once per point, the
+     * cos(jL) and sin(jL) factors being applied afterwards for all j.
+     * </p>
+     * @since 11.4
+     */
+    private static class HarmonicsFunction implements UnivariateVectorFunction {
+
+        /** Underlying function, for j = 0. */
+        private final UnivariateVectorFunction base;
+
+        /** Maximum value for j. */
+        private final int jMax;
+
+        /** Simple constructor.
+         * @param base underlying function, for j = 0
+         * @param jMax maximum value for j
+         */
+        HarmonicsFunction(final UnivariateVectorFunction base, final int jMax) {
+            this.base = base;
+            this.jMax = jMax;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public double[] value(final double x) {
+
+            // for j = 0, the first 6 components are the derivatives of the elements by the speed
+            final double[] deriv = base.value(x);
+
+            final double[] val = new double[12 * (jMax + 1)];
+            for (int j = 0; j <= jMax; j++) {
+                final SinCos scjL = FastMath.sinCos(j * x);
+                for (int i = 0; i < 6; i++) {
+                    val[12 * j + i]     = scjL.cos() * deriv[i];
+                    val[12 * j + i + 6] = scjL.sin() * deriv[i];
+                }
+            }
+            return val;
+
+        }
+
+    }
+
+    /**
+     * Class used to {@link #integrate(UnivariateVectorFunction, double, double, double[], double)
+     * integrate} a {@link org.hipparchus.analysis.UnivariateVectorFunction
+     * function} of the orbital elements using nested Clenshaw-Curtis rules.
+     * <p>
+     * The nodes of each rule are a subset of the nodes of the next rule,
+     * so increasing the order reuses all the previous function evaluations.
+     * The difference between two successive rules is used as the error estimate.
+     * </p>
+     * @since 11.4
+     */
+    protected static class AdaptiveQuadrature {
+
+        /** Number of intervals for the lowest order rule. */
+        private static final int MIN_INTERVALS = 8;
+
+        /** Number of intervals for the highest order rule. */
+        private static final int MAX_INTERVALS = 64;
+
+        /** Nodes of the highest order rule on [-1, 1]. */
+        private static final double[] NODES;
+
+        /** Weights of the nested rules on [-1, 1], lowest order first. */
+        private static final double[][] WEIGHTS;
+
+        static {
+            NODES = new double[MAX_INTERVALS + 1];
+            for (int k = 0; k <= MAX_INTERVALS; ++k) {
+                NODES[k] = FastMath.cos(k * FastMath.PI / MAX_INTERVALS);
+            }
+            final List<double[]> weights = new ArrayList<>();
+            for (int n = MIN_INTERVALS; n <= MAX_INTERVALS; n *= 2) {
+                weights.add(computeWeights(n));
+            }
+            WEIGHTS = weights.toArray(new double[weights.size()][]);
+        }
+
+        /** Number of points used by the last integration. */
+        private int lastNumberOfPoints;
+
+        /** Simple constructor.
+         */
+        AdaptiveQuadrature() {
+            this.lastNumberOfPoints = 0;
+        }
+
+        /** Get the number of points used by the last integration.
+         * @return number of points used by the last integration
+         */
+        public int getLastNumberOfPoints() {
+            return lastNumberOfPoints;
+        }
+
+        /**
+         * Integrates a given function on the given interval.
+         * <p>
+         * The order is increased until the weighted difference between
+         * two successive rules is below the tolerance, or the highest
+         * order is reached.
+         * </p>
+         * @param f          Function to integrate.
+         * @param lowerBound Lower bound of the integration interval.
+         * @param upperBound Upper bound of the integration interval.
+         * @param scale      Scaling factors for the components, used for the error estimate.
+         * @param tolerance  Tolerance on the maximum scaled error.
+         * @return the integral of the function.
+         */
+        public double[] integrate(final UnivariateVectorFunction f, final double lowerBound, final double upperBound,
+                                  final double[] scale, final double tolerance) {
+
+            final double half = 0.5 * (upperBound - lowerBound);
+            final double mid  = 0.5 * (upperBound + lowerBound);
+
+            // function values, indexed as the nodes of the highest order rule
+            final double[][] values = new double[MAX_INTERVALS + 1][];
+
+            // lowest order rule
+            int stride = MAX_INTERVALS / MIN_INTERVALS;
+            for (int k = 0; k <= MAX_INTERVALS; k += stride) {
+                values[k] = f.value(mid + half * NODES[k]);
+            }
+            double[] previous = combine(values, stride, WEIGHTS[0], half);
+
+            for (int level = 1; level < WEIGHTS.length; ++level) {
+
+                // the new rule only needs evaluations at the midpoints of the previous one
+                final int newStride = stride / 2;
+                for (int k = newStride; k < MAX_INTERVALS; k += stride) {
+                    values[k] = f.value(mid + half * NODES[k]);
+                }
+                stride = newStride;
+                final double[] current = combine(values, stride, WEIGHTS[level], half);
+
+                // error estimate
+                double error = 0;
+                for (int i = 0; i < current.length; ++i) {
+                    error = FastMath.max(error, FastMath.abs(current[i] - previous[i]) * scale[i]);
+                }
+                previous = current;
+                if (error <= tolerance) {
+                    break;
+                }
+
+            }
+
+            lastNumberOfPoints = MAX_INTERVALS / stride + 1;
+            return previous;
+
+        }
+
+        /** Combine function values with the weights of one rule.
+         * @param values function values, indexed as the nodes of the highest order rule
+         * @param stride stride between the nodes of the rule in the values array
+         * @param weights weights of the rule on [-1, 1]
+         * @param half half length of the integration interval
+         * @return the integral of the function
+         */
+        private static double[] combine(final double[][] values, final int stride,
+                                        final double[] weights, final double half) {
+            final double[] s = new double[values[0].length];
+            final double[] c = new double[s.length];
+            for (int k = 0; k < weights.length; ++k) {
+                final double[] v = values[k * stride];
+                final double   w = half * weights[k];
+                for (int j = 0; j < s.length; ++j) {
+                    // compensated summation
+                    final double y = w * v[j] - c[j];
+                    final double t = s[j] + y;
+                    c[j] = (t - s[j]) - y;
+                    s[j] = t;
+                }
+            }
+            return s;
+        }
+
+        /** Compute the weights of a Clenshaw-Curtis rule on [-1, 1].
+         * @param n number of intervals (must be even)
+         * @return weights for nodes cos(kπ/n), 0 ≤ k ≤ n
+         */
+        private static double[] computeWeights(final int n) {
+            final double[] w = new double[n + 1];
+            for (int k = 0; k <= n; ++k) {
+                double sum = 0;
+                for (int j = 1; j <= n / 2; ++j) {
+                    final double b = 2 * j == n ? 1.0 : 2.0;
+                    sum += b * FastMath.cos(2 * j * k * FastMath.PI / n) / (4 * j * j - 1);
+                }
+                final double c = (k == 0 || k == n) ? 1.0 : 2.0;
+                w[k] = c * (1 - sum) / n;
+            }
+            return w;
+        }
+
+    }
+
     /**
      * Compute the C<sub>i</sub><sup>j</sup> and the S<sub>i</sub><sup>j</sup>
      * coefficients.
@@ -1614,7 +1912,29 @@ public abstract class AbstractGaussianContribution implements DSSTForceModel {
             // Computes the limits for the integral
             final double[] ll = getLLimits(state, auxiliaryElements);
             // Computes integrated mean element rates if Llow < Lhigh
-            if (ll[0] < ll[1]) {
+            if (ll[0] < ll[1] && adaptive) {
+                // Compute 1 / PI
+                final double ooPI = 1 / FastMath.PI;
+
+                // integrate all values of j at once, sharing the force model evaluations
+                final double[] scale = new double[12 * (jMax + 1)];
+                Arrays.fill(scale, ooPI);
+                for (int k = 0; k < scale.length; k += 6) {
+                    scale[k] = ooPI / auxiliaryElements.getSma();
+                }
+                final double[] allCoefficients =
+                        adaptiveIntegrator.integrate(new HarmonicsFunction(new IntegrableFunction(state, false, 0, parameters), jMax),
+                                                     ll[0], ll[1], scale, threshold);
+                lastQuadratureOrder = adaptiveIntegrator.getLastNumberOfPoints();
+
+                // divide by PI and set the values for the coefficients
+                for (int j = 0; j <= jMax; j++) {
+                    for (int i = 0; i < 6; i++) {
+                        cCoef[j][i] = ooPI * allCoefficients[12 * j + i];
+                        sCoef[j][i] = ooPI * allCoefficients[12 * j + i + 6];
+                    }
+                }
+            } else if (ll[0] < ll[1]) {
                 // Compute 1 / PI
                 final double ooPI = 1 / FastMath.PI;
 
@@ -0,0 +1,362 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.semianalytical.dsst.forces;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hipparchus.CalculusFieldElement;
+import org.hipparchus.Field;
+import org.orekit.attitudes.AttitudeProvider;
+import org.orekit.orbits.Orbit;
+import org.orekit.propagation.FieldSpacecraftState;
+import org.orekit.propagation.PropagationType;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.events.EventDetector;
+import org.orekit.propagation.events.FieldEventDetector;
+import org.orekit.propagation.semianalytical.dsst.utilities.AuxiliaryElements;
+import org.orekit.propagation.semianalytical.dsst.utilities.FieldAuxiliaryElements;
+import org.orekit.propagation.semianalytical.dsst.utilities.ShortPeriodicsArchive;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.FieldAbsoluteDate;
+import org.orekit.utils.ParameterDriver;
+
+/** Force model wrapper reusing short periodic contributions from an archive.
+ * <p>
+ * This wrapper delegates everything to an underlying force model, except
+ * the evaluation of the short periodic contributions. When a contribution
+ * is needed, it is first looked up in a {@link ShortPeriodicsArchive}. Only
+ * if no archived contribution is close enough is it computed by the underlying
+ * force model, and then archived for later reuse.
+ * </p>
+ * <p>
+ * Computing the short periodic coefficients at interpolation grid nodes is
+ * the most costly part for the underlying force model, so this computation
+ * is deferred until a contribution is really needed and not found in the
+ * archive. The deferred updates are kept for each interpolation window, and
+ * only the one covering the date of a missing contribution is performed,
+ * so contributions can also be evaluated after propagation, for example from
+ * an ephemeris. When the same archive is used by all iterations of an orbit
+ * determination, the coefficients are therefore computed only as long as the
+ * estimated orbit changes significantly between iterations.
+ * </p>
+ * <p>
+ * Contributions are archived under a key combining a name and the {@link
+ * ShortPeriodTerms#getCoefficientsKeyPrefix() coefficients key prefix}. As
+ * the prefix does not identify the force model configuration (for example
+ * zonal models with different degrees share the same prefix), the name must
+ * be unique for each configuration. By default, a unique name is generated
+ * for each wrapper instance, so contributions are reused only by the same
+ * wrapper, for example by all iterations of an orbit determination using the
+ * same propagator builder. An explicit name can be used to reuse contributions
+ * across wrapper instances, for example with an archive saved by a previous run.
+ * </p>
+ * <p>
+ * The archive is used only for the regular (i.e. non-field) short periodic
+ * terms, field short periodic terms, as used for partial derivatives, are
+ * always computed by the underlying force model.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+public class ArchivingDSSTForceModel implements DSSTForceModel {
+
+    /** Counter for generated names. */
+    private static final AtomicLong COUNTER = new AtomicLong();
+
+    /** Underlying force model. */
+    private final DSSTForceModel model;
+
+    /** Archive of short periodic contributions. */
+    private final ShortPeriodicsArchive archive;
+
+    /** Name identifying the force model configuration in the archive. */
+    private final String name;
+
+    /** Deferred updates of short periodic terms, indexed by interpolation window earliest date. */
+    private final NavigableMap<AbsoluteDate, DeferredUpdate> updates;
+
+    /** Force model parameters used for the last update. */
+    private double[] lastParameters;
+
+    /** Simple constructor.
+     * <p>
+     * A unique name is generated, so the archived contributions will be reused
+     * only by this wrapper.
+     * </p>
+     * @param model underlying force model
+     * @param archive archive of short periodic contributions (may be shared among several models)
+     */
+    public ArchivingDSSTForceModel(final DSSTForceModel model, final ShortPeriodicsArchive archive) {
+        this(model, archive, "archiving-" + COUNTER.incrementAndGet() + "-");
+    }
+
+    /** Simple constructor.
+     * @param model underlying force model
+     * @param archive archive of short periodic contributions (may be shared among several models)
+     * @param name name identifying the force model configuration in the archive, it must
+     * be used only by wrappers around identically configured force models
+     */
+    public ArchivingDSSTForceModel(final DSSTForceModel model, final ShortPeriodicsArchive archive,
+                                   final String name) {
+        this.model          = model;
+        this.archive        = archive;
+        this.name           = name;
+        this.updates        = new TreeMap<>();
+        this.lastParameters = new double[0];
+    }
+
+    /** Get the underlying force model.
+     * @return underlying force model
+     */
+    public DSSTForceModel getModel() {
+        return model;
+    }
+
+    /** Get the archive of short periodic contributions.
+     * @return archive of short periodic contributions
+     */
+    public ShortPeriodicsArchive getArchive() {
+        return archive;
+    }
+
+    /** Get the name identifying the force model configuration in the archive.
+     * @return name identifying the force model configuration in the archive
+     */
+    public String getName() {
+        return name;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void init(final SpacecraftState initialState, final AbsoluteDate target) {
+        model.init(initialState, target);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends CalculusFieldElement<T>> void init(final FieldSpacecraftState<T> initialState,
+                                                         final FieldAbsoluteDate<T> target) {
+        model.init(initialState, target);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ShortPeriodTerms> initializeShortPeriodTerms(final AuxiliaryElements auxiliaryElements,
+                                                             final PropagationType type,
+                                                             final double[] parameters) {
+        updates.clear();
+        lastParameters = parameters.clone();
+        final List<ShortPeriodTerms> terms = new ArrayList<>();
+        for (final ShortPeriodTerms underlying : model.initializeShortPeriodTerms(auxiliaryElements, type, parameters)) {
+            terms.add(new ArchivedShortPeriodTerms(underlying));
+        }
+        return terms;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends CalculusFieldElement<T>> List<FieldShortPeriodTerms<T>>
+        initializeShortPeriodTerms(final FieldAuxiliaryElements<T> auxiliaryElements,
+                                   final PropagationType type, final T[] parameters) {
+        return model.initializeShortPeriodTerms(auxiliaryElements, type, parameters);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] getMeanElementRate(final SpacecraftState state,
+                                       final AuxiliaryElements auxiliaryElements,
+                                       final double[] parameters) {
+        return model.getMeanElementRate(state, auxiliaryElements, parameters);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends CalculusFieldElement<T>> T[] getMeanElementRate(final FieldSpacecraftState<T> state,
+                                                                      final FieldAuxiliaryElements<T> auxiliaryElements,
+                                                                      final T[] parameters) {
+        return model.getMeanElementRate(state, auxiliaryElements, parameters);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public EventDetector[] getEventsDetectors() {
+        return model.getEventsDetectors();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends CalculusFieldElement<T>> FieldEventDetector<T>[] getFieldEventsDetectors(final Field<T> field) {
+        return model.getFieldEventsDetectors(field);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void registerAttitudeProvider(final AttitudeProvider provider) {
+        model.registerAttitudeProvider(provider);
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The update is deferred until a short periodic contribution
+     * within the interpolation window is not found in the archive.
+     * </p>
+     */
+    @Override
+    public void updateShortPeriodTerms(final double[] parameters, final SpacecraftState... meanStates) {
+        lastParameters = parameters.clone();
+        final DeferredUpdate update = new DeferredUpdate(lastParameters, meanStates.clone());
+        updates.put(update.earliest, update);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends CalculusFieldElement<T>> void updateShortPeriodTerms(final T[] parameters,
+                                                                           final FieldSpacecraftState<T>... meanStates) {
+        model.updateShortPeriodTerms(parameters, meanStates);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ParameterDriver> getParametersDrivers() {
+        return model.getParametersDrivers();
+    }
+
+    /** Select the deferred update whose interpolation window covers a date.
+     * @param date date to check
+     * @return deferred update covering the date, or null if date is outside of all interpolation windows
+     */
+    private DeferredUpdate select(final AbsoluteDate date) {
+        final Map.Entry<AbsoluteDate, DeferredUpdate> entry = updates.floorEntry(date);
+        return (entry == null || date.compareTo(entry.getValue().latest) > 0) ? null : entry.getValue();
+    }
+
+    /** Ensure the underlying force model has been updated for a date.
+     * <p>
+     * If the date is covered by an interpolation window, only the update for
+     * this window is performed (if not already done). Otherwise, as the underlying
+     * model will extrapolate its closest coefficients, all updates not already
+     * done are performed.
+     * </p>
+     * @param update deferred update covering the date (may be null)
+     */
+    private void performUpdate(final DeferredUpdate update) {
+        if (update != null) {
+            update.perform();
+        } else {
+            for (final DeferredUpdate u : updates.values()) {
+                u.perform();
+            }
+        }
+    }
+
+    /** Deferred update of short periodic terms. */
+    private class DeferredUpdate {
+
+        /** Force model parameters. */
+        private final double[] parameters;
+
+        /** Earliest date of the interpolation window. */
+        private final AbsoluteDate earliest;
+
+        /** Latest date of the interpolation window. */
+        private final AbsoluteDate latest;
+
+        /** Mean states (null once the update has been performed). */
+        private SpacecraftState[] meanStates;
+
+        /** Simple constructor.
+         * @param parameters force model parameters
+         * @param meanStates mean states
+         */
+        DeferredUpdate(final double[] parameters, final SpacecraftState[] meanStates) {
+            final AbsoluteDate first = meanStates[0].getDate();
+            final AbsoluteDate last  = meanStates[meanStates.length - 1].getDate();
+            this.parameters = parameters;
+            this.earliest   = first.compareTo(last) <= 0 ? first : last;
+            this.latest     = first.compareTo(last) <= 0 ? last : first;
+            this.meanStates = meanStates;
+        }
+
+        /** Perform the update on the underlying force model, if not already done.
+         */
+        void perform() {
+            if (meanStates != null) {
+                model.updateShortPeriodTerms(parameters, meanStates);
+                meanStates = null;
+            }
+        }
+
+    }
+
+    /** Short periodic terms using the archive. */
+    private class ArchivedShortPeriodTerms implements ShortPeriodTerms {
+
+        /** Underlying short periodic terms. */
+        private final ShortPeriodTerms underlying;
+
+        /** Simple constructor.
+         * @param underlying underlying short periodic terms
+         */
+        ArchivedShortPeriodTerms(final ShortPeriodTerms underlying) {
+            this.underlying = underlying;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public double[] value(final Orbit meanOrbit) {
+
+            final String         key        = name + getCoefficientsKeyPrefix();
+            final DeferredUpdate update     = select(meanOrbit.getDate());
+            final double[]       parameters = update == null ? lastParameters : update.parameters;
+
+            // look for an archived contribution
+            final double[] archived = archive.value(key, meanOrbit, parameters);
+            if (archived != null) {
+                return archived;
+            }
+
+            // compute the contribution from the underlying short periodic terms
+            performUpdate(update);
+            final double[] value = underlying.value(meanOrbit);
+            archive.store(key, meanOrbit, parameters, value);
+            return value;
+
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String getCoefficientsKeyPrefix() {
+            return underlying.getCoefficientsKeyPrefix();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Map<String, double[]> getCoefficients(final AbsoluteDate date, final Set<String> selected) {
+            performUpdate(select(date));
+            return underlying.getCoefficients(date, selected);
+        }
+
+    }
+
+}
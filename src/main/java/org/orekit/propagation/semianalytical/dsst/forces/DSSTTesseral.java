@@ -327,6 +327,9 @@ public class DSSTTesseral implements DSSTForceModel {
                                              final PropagationType type,
                                              final double[] parameters) {
 
+        // publish shared coefficients tables once, so they are read without locks during propagation
+        precomputeTables();
+
         // Initializes specific parameters.
         final DSSTTesseralContext context = initializeStep(auxiliaryElements, parameters);
 
@@ -369,6 +372,9 @@ public class DSSTTesseral implements DSSTForceModel {
         // Field used by default
         final Field<T> field = auxiliaryElements.getDate().getField();
 
+        // publish shared coefficients tables once, so they are read without locks during propagation
+        precomputeTables();
+
         // Initializes specific parameters.
         final FieldDSSTTesseralContext<T> context = initializeStep(auxiliaryElements, parameters);
 
@@ -405,6 +411,17 @@ public class DSSTTesseral implements DSSTForceModel {
 
     }
 
+    /** Precompute the shared coefficients tables up to the potential degree.
+     * <p>
+     * The tables are computed lazily anyway, precomputing them once before
+     * propagation ensures they are only read, without locks, during propagation.
+     * </p>
+     */
+    private void precomputeTables() {
+        GammaMnsFunction.precomputeRatios(maxDegree);
+        CoefficientsFactory.computeVns(maxDegree + 1);
+    }
+
     /**
      * Get the maximum power of the eccentricity to use in summation over s.
      * @param e eccentricity
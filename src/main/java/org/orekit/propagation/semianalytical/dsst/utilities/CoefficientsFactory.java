@@ -33,18 +33,32 @@ import org.orekit.errors.OrekitMessages;
  */
 public class CoefficientsFactory {
 
-    /** Internal storage of the polynomial values. Reused for further computation. */
-    private static TreeMap<NSKey, Double> VNS = new TreeMap<NSKey, Double>();
+    /** Internal storage of the polynomial values. Reused for further computation.
+     * <p>
+     * The map is never modified once published, it is replaced by a larger one when needed.
+     * </p>
+     */
+    private static volatile TreeMap<NSKey, Double> VNS;
 
-    /** Last computed order for V<sub>ns</sub> coefficients. */
-    private static int         LAST_VNS_ORDER = 2;
+    /** V<sub>ns</sub> coefficients as a triangular array indexed as [n][s] with 0 ≤ s ≤ n.
+     * <p>
+     * The array is never modified once published, it is replaced by a larger one when needed.
+     * </p>
+     * @since 11.4
+     */
+    private static volatile double[][] VNS_TABLE;
 
     /** Static initialization for the V<sub>ns</sub> coefficient. */
     static {
         // Initialization
-        VNS.put(new NSKey(0, 0), 1.);
-        VNS.put(new NSKey(1, 0), 0.);
-        VNS.put(new NSKey(1, 1), 0.5);
+        final TreeMap<NSKey, Double> map = new TreeMap<NSKey, Double>();
+        map.put(new NSKey(0, 0), 1.);
+        map.put(new NSKey(1, 0), 0.);
+        map.put(new NSKey(1, 1), 0.5);
+        VNS       = map;
+        VNS_TABLE = new double[][] {
+            { 1. }, { 0., 0.5 }
+        };
     }
 
     /** Private constructor as the class is a utility class.
@@ -203,34 +217,56 @@ public class CoefficientsFactory {
     }
 
     /** Compute the V<sub>n,s</sub> coefficients from 2.8.2-(1)(2).
+     * <p>
+     * The coefficients are shared and computed lazily. Calling this method
+     * once at start-up with the maximum order that will be used ensures that
+     * all further accesses to the coefficients, including from {@link
+     * #getVmns(int, int, int)}, will be performed without any locking.
+     * </p>
      * @param order Order of the computation. Computation will be done from 0 to order -1
-     * @return Map of the V<sub>n, s</sub> coefficients
+     * @return Map of the V<sub>n, s</sub> coefficients (this map must not be modified)
      */
     public static TreeMap<NSKey, Double> computeVns(final int order) {
+        if (order > VNS_TABLE.length) {
+            growVns(order);
+        }
+        return VNS;
+    }
+
+    /** Extend the V<sub>n,s</sub> coefficients.
+     * @param order Order of the computation. Computation will be done from 0 to order -1
+     */
+    private static synchronized void growVns(final int order) {
+
+        final double[][] previous = VNS_TABLE;
+        if (order <= previous.length) {
+            // another thread has already extended the coefficients
+            return;
+        }
 
-        if (order > LAST_VNS_ORDER) {
-            // Compute coefficient
-            // Need previous computation as recurrence relation is done at s + 1 and n + 2
-            final int min = (LAST_VNS_ORDER - 2 < 0) ? 0 : (LAST_VNS_ORDER - 2);
-            for (int n = min; n < order; n++) {
-                for (int s = 0; s < n + 1; s++) {
-                    if ((n - s) % 2 != 0) {
-                        VNS.put(new NSKey(n, s), 0.);
-                    } else {
-                        // s = n
-                        if (n == s && (s + 1) < order) {
-                            VNS.put(new NSKey(s + 1, s + 1), VNS.get(new NSKey(s, s)) / (2 * s + 2.));
-                        }
-                        // otherwise
-                        if ((n + 2) < order) {
-                            VNS.put(new NSKey(n + 2, s), VNS.get(new NSKey(n, s)) * (-n + s - 1.) / (n + s + 2.));
-                        }
-                    }
+        // Compute coefficient
+        // Need previous computation as recurrence relation is done at s - 1 and n - 2
+        final double[][] table = new double[order][];
+        System.arraycopy(previous, 0, table, 0, previous.length);
+        final TreeMap<NSKey, Double> map = new TreeMap<NSKey, Double>(VNS);
+        for (int n = previous.length; n < order; n++) {
+            table[n] = new double[n + 1];
+            for (int s = 0; s < n + 1; s++) {
+                if ((n - s) % 2 != 0) {
+                    table[n][s] = 0.;
+                } else if (n == s) {
+                    table[n][s] = table[s - 1][s - 1] / (2 * (s - 1) + 2.);
+                } else {
+                    table[n][s] = table[n - 2][s] * (-(n - 2) + s - 1.) / ((n - 2) + s + 2.);
                 }
+                map.put(new NSKey(n, s), table[n][s]);
             }
-            LAST_VNS_ORDER = order;
         }
-        return VNS;
+
+        // publish the map before the table, as the table is checked first
+        VNS       = map;
+        VNS_TABLE = table;
+
     }
 
     /** Get the V<sub>n,s</sub><sup>m</sup> coefficient from V<sub>n,s</sub>.
@@ -251,15 +287,16 @@ public class CoefficientsFactory {
         // If (n - s) is odd, the Vmsn coefficient is null
         if ((n - s) % 2 == 0) {
             // Update the Vns coefficient
-            if ((n + 1) > LAST_VNS_ORDER) {
-                computeVns(n + 1);
+            if ((n + 1) > VNS_TABLE.length) {
+                growVns(n + 1);
             }
+            final double[][] vns = VNS_TABLE;
             if (s >= 0) {
-                result = fns  * VNS.get(new NSKey(n, s)) / fnm;
+                result = fns  * vns[n][s] / fnm;
             } else {
                 // If s < 0 : Vmn-s = (-1)^(-s) Vmns
                 final int mops = (s % 2 == 0) ? 1 : -1;
-                result = mops * fns * VNS.get(new NSKey(n, -s)) / fnm;
+                result = mops * fns * vns[n][-s] / fnm;
             }
         }
         return result;
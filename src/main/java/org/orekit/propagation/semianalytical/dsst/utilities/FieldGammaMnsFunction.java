@@ -27,8 +27,12 @@ import org.hipparchus.util.MathArrays;
 /** Compute the &Gamma;<sup>m</sup><sub>n,s</sub>(γ) function from equation 2.7.1-(13). */
 public class FieldGammaMnsFunction <T extends CalculusFieldElement<T>> {
 
-    /** Factorial ratios. */
-    private static double[] PRECOMPUTED_RATIOS;
+    /** Factorial ratios.
+     * <p>
+     * The array is never modified once published, it is replaced by a larger one when needed.
+     * </p>
+     */
+    private static volatile double[] PRECOMPUTED_RATIOS;
 
     /** Field element. */
     private final Field<T> field;
@@ -54,7 +58,7 @@ public class FieldGammaMnsFunction <T extends CalculusFieldElement<T>> {
     public FieldGammaMnsFunction(final int nMax, final T gamma, final int I, final Field<T> field) {
         this.field = field;
         final T zero = field.getZero();
-        final int size = (nMax + 1) * (nMax + 2) * (4 * nMax + 3) / 6;
+        final int size = size(nMax);
         this.values = MathArrays.buildArray(field, size);
         this.ratios = getRatios(nMax, size);
         Arrays.fill(values, zero.add(Double.NaN));
@@ -62,6 +66,29 @@ public class FieldGammaMnsFunction <T extends CalculusFieldElement<T>> {
         this.I      = I;
     }
 
+    /** Precompute the factorial ratios up to a maximum degree.
+     * <p>
+     * The factorial ratios are shared by all instances and computed lazily
+     * when an instance needs a larger degree than all previous ones. Calling
+     * this method once at start-up with the maximum degree that will be used
+     * ensures that all instances will read the shared ratios without any locking,
+     * which avoids contention when many threads build instances concurrently.
+     * </p>
+     * @param nMax max value for n
+     * @since 11.4
+     */
+    public static void precomputeRatios(final int nMax) {
+        getRatios(nMax, size(nMax));
+    }
+
+    /** Compute the array size.
+     *  @param nMax max value for n
+     *  @return size of the arrays
+     */
+    private static int size(final int nMax) {
+        return (nMax + 1) * (nMax + 2) * (4 * nMax + 3) / 6;
+    }
+
     /** Compute the array index.
      *  @param m m
      *  @param n n
@@ -80,7 +107,14 @@ public class FieldGammaMnsFunction <T extends CalculusFieldElement<T>> {
      * @return factorial ratios
      */
     private static double[] getRatios(final int nMax, final int size) {
-        synchronized (GammaMnsFunction.class) {
+
+        // lock-free fast path, used as soon as a large enough array has been published
+        final double[] published = PRECOMPUTED_RATIOS;
+        if (published != null && published.length >= size) {
+            return published;
+        }
+
+        synchronized (FieldGammaMnsFunction.class) {
             if (PRECOMPUTED_RATIOS == null || PRECOMPUTED_RATIOS.length < size) {
                 // we need to compute a larger reference array
 
@@ -104,11 +138,14 @@ public class FieldGammaMnsFunction <T extends CalculusFieldElement<T>> {
                 }
 
                 // convert to double
-                PRECOMPUTED_RATIOS = new double[size];
+                final double[] converted = new double[size];
                 for (int i = 0; i < bF.length; ++i) {
-                    PRECOMPUTED_RATIOS[i] = bF[i].doubleValue();
+                    converted[i] = bF[i].doubleValue();
                 }
 
+                // publish the complete array
+                PRECOMPUTED_RATIOS = converted;
+
             }
             return PRECOMPUTED_RATIOS;
         }
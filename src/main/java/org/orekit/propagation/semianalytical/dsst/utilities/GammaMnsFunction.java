@@ -27,8 +27,12 @@ import org.hipparchus.util.FastMath;
  */
 public class GammaMnsFunction {
 
-    /** Factorial ratios. */
-    private static double[] PRECOMPUTED_RATIOS;
+    /** Factorial ratios.
+     * <p>
+     * The array is never modified once published, it is replaced by a larger one when needed.
+     * </p>
+     */
+    private static volatile double[] PRECOMPUTED_RATIOS;
 
     /** Factorial ratios. */
     private final double[] ratios;
@@ -48,7 +52,7 @@ public class GammaMnsFunction {
      *  @param I retrograde factor
      */
     public GammaMnsFunction(final int nMax, final double gamma, final int I) {
-        final int size = (nMax + 1) * (nMax + 2) * (4 * nMax + 3) / 6;
+        final int size = size(nMax);
         this.values = new double[size];
         this.ratios = getRatios(nMax, size);
         Arrays.fill(values, Double.NaN);
@@ -56,6 +60,29 @@ public class GammaMnsFunction {
         this.I      = I;
     }
 
+    /** Precompute the factorial ratios up to a maximum degree.
+     * <p>
+     * The factorial ratios are shared by all instances and computed lazily
+     * when an instance needs a larger degree than all previous ones. Calling
+     * this method once at start-up with the maximum degree that will be used
+     * ensures that all instances will read the shared ratios without any locking,
+     * which avoids contention when many threads build instances concurrently.
+     * </p>
+     * @param nMax max value for n
+     * @since 11.4
+     */
+    public static void precomputeRatios(final int nMax) {
+        getRatios(nMax, size(nMax));
+    }
+
+    /** Compute the array size.
+     *  @param nMax max value for n
+     *  @return size of the arrays
+     */
+    private static int size(final int nMax) {
+        return (nMax + 1) * (nMax + 2) * (4 * nMax + 3) / 6;
+    }
+
     /** Compute the array index.
      *  @param m m
      *  @param n n
@@ -74,6 +101,13 @@ public class GammaMnsFunction {
      * @return factorial ratios
      */
     private static double[] getRatios(final int nMax, final int size) {
+
+        // lock-free fast path, used as soon as a large enough array has been published
+        final double[] published = PRECOMPUTED_RATIOS;
+        if (published != null && published.length >= size) {
+            return published;
+        }
+
         synchronized (GammaMnsFunction.class) {
             if (PRECOMPUTED_RATIOS == null || PRECOMPUTED_RATIOS.length < size) {
                 // we need to compute a larger reference array
@@ -98,11 +132,14 @@ public class GammaMnsFunction {
                 }
 
                 // convert to double
-                PRECOMPUTED_RATIOS = new double[size];
+                final double[] converted = new double[size];
                 for (int i = 0; i < bF.length; ++i) {
-                    PRECOMPUTED_RATIOS[i] = bF[i].doubleValue();
+                    converted[i] = bF[i].doubleValue();
                 }
 
+                // publish the complete array
+                PRECOMPUTED_RATIOS = converted;
+
             }
             return PRECOMPUTED_RATIOS;
         }
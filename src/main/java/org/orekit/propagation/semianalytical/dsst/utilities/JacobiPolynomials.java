@@ -16,15 +16,12 @@
  */
 package org.orekit.propagation.semianalytical.dsst.utilities;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.hipparchus.CalculusFieldElement;
 import org.hipparchus.analysis.differentiation.FieldGradient;
 import org.hipparchus.analysis.differentiation.Gradient;
-import org.hipparchus.analysis.polynomials.PolynomialFunction;
 import org.hipparchus.analysis.polynomials.PolynomialsUtils;
 
 /** Provider of the Jacobi polynomials P<sub>l</sub><sup>v,w</sup>.
@@ -39,9 +36,15 @@ import org.hipparchus.analysis.polynomials.PolynomialsUtils;
  */
 public class JacobiPolynomials {
 
-    /** Storage map. */
-    private static final Map<JacobiKey, List<PolynomialFunction>> MAP =
-            new HashMap<JacobiPolynomials.JacobiKey, List<PolynomialFunction>>();
+    /** Storage map.
+     * <p>
+     * For each exponents pair, the map contains the coefficients of the polynomials,
+     * indexed by degree first and by power second. The arrays are never modified
+     * once stored in the map, they are replaced by larger ones when higher degrees
+     * are needed, so they can be read without locking.
+     * </p>
+     */
+    private static final ConcurrentMap<JacobiKey, double[][]> MAP = new ConcurrentHashMap<>();
 
     /** Private constructor as class is a utility. */
     private JacobiPolynomials() {
@@ -60,32 +63,14 @@ public class JacobiPolynomials {
      */
     public static Gradient getValue(final int l, final int v, final int w, final Gradient gamma) {
 
-        final List<PolynomialFunction> polyList;
-        synchronized (MAP) {
-
-            final JacobiKey key = new JacobiKey(v, w);
-
-            // Check the existence of the corresponding key in the map.
-            if (!MAP.containsKey(key)) {
-                MAP.put(key, new ArrayList<PolynomialFunction>());
-            }
-
-            polyList = MAP.get(key);
-
-        }
+        final double[] coefficients = getCoefficients(l, v, w);
 
-        final PolynomialFunction polynomial;
-        synchronized (polyList) {
-            // If the l-th degree polynomial has not been computed yet, the polynomials
-            // up to this degree are computed.
-            for (int degree = polyList.size(); degree <= l; degree++) {
-                polyList.add(degree, PolynomialsUtils.createJacobiPolynomial(degree, v, w));
-            }
-            polynomial = polyList.get(l);
+        // compute value and derivative using Horner scheme
+        Gradient value = gamma.getField().getZero().add(coefficients[coefficients.length - 1]);
+        for (int k = coefficients.length - 2; k >= 0; --k) {
+            value = value.multiply(gamma).add(coefficients[k]);
         }
-
-        // compute value and derivative
-        return polynomial.value(gamma);
+        return value;
 
     }
 
@@ -104,32 +89,51 @@ public class JacobiPolynomials {
     public static <T extends CalculusFieldElement<T>> FieldGradient<T> getValue(final int l, final int v, final int w,
                                                                             final FieldGradient<T> gamma) {
 
-        final List<PolynomialFunction> polyList;
-        synchronized (MAP) {
+        final double[] coefficients = getCoefficients(l, v, w);
 
-            final JacobiKey key = new JacobiKey(v, w);
+        // compute value and derivative using Horner scheme
+        FieldGradient<T> value = gamma.getField().getZero().add(coefficients[coefficients.length - 1]);
+        for (int k = coefficients.length - 2; k >= 0; --k) {
+            value = value.multiply(gamma).add(coefficients[k]);
+        }
+        return value;
 
-            // Check the existence of the corresponding key in the map.
-            if (!MAP.containsKey(key)) {
-                MAP.put(key, new ArrayList<PolynomialFunction>());
-            }
+    }
 
-            polyList = MAP.get(key);
+    /** Get the coefficients of the Jacobi polynomial P<sub>l</sub><sup>v,w</sup>.
+     * @param l degree of the polynomial
+     * @param v v value
+     * @param w w value
+     * @return coefficients of the Jacobi polynomial P<sub>l</sub><sup>v,w</sup>, by increasing powers
+     * (the array is shared and must not be modified)
+     */
+    private static double[] getCoefficients(final int l, final int v, final int w) {
 
-        }
+        final JacobiKey key = new JacobiKey(v, w);
 
-        final PolynomialFunction polynomial;
-        synchronized (polyList) {
-            // If the l-th degree polynomial has not been computed yet, the polynomials
-            // up to this degree are computed.
-            for (int degree = polyList.size(); degree <= l; degree++) {
-                polyList.add(degree, PolynomialsUtils.createJacobiPolynomial(degree, v, w));
-            }
-            polynomial = polyList.get(l);
+        // lock-free fast path, used as soon as the polynomial has been published
+        final double[][] published = MAP.get(key);
+        if (published != null && published.length > l) {
+            return published[l];
         }
 
-        // compute value and derivative
-        return polynomial.value(gamma);
+        // if the l-th degree polynomial has not been computed yet,
+        // the polynomials up to this degree are computed
+        return MAP.compute(key, (k, existing) -> {
+            final int known = existing == null ? 0 : existing.length;
+            if (known > l) {
+                // another thread has already extended the array
+                return existing;
+            }
+            final double[][] extended = new double[l + 1][];
+            if (existing != null) {
+                System.arraycopy(existing, 0, extended, 0, known);
+            }
+            for (int degree = known; degree <= l; degree++) {
+                extended[degree] = PolynomialsUtils.createJacobiPolynomial(degree, v, w).getCoefficients();
+            }
+            return extended;
+        })[l];
 
     }
 
@@ -0,0 +1,239 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.semianalytical.dsst.utilities;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+import org.orekit.orbits.Orbit;
+import org.orekit.time.AbsoluteDate;
+
+/** Archive of short periodic contributions, reusable across DSST propagations.
+ * <p>
+ * In orbit determination, successive iterations propagate orbits that are
+ * very close to each other and evaluate the short periodic contributions
+ * at the same dates (the measurements dates). This archive stores the
+ * contributions of each force model, identified by its {@link
+ * org.orekit.propagation.semianalytical.dsst.forces.ShortPeriodTerms#getCoefficientsKeyPrefix()
+ * coefficients key prefix}, together with the mean elements and force model
+ * parameters they were computed with. A contribution can then be reused as is
+ * for any mean orbit at the same date in the neighborhood of the archived one.
+ * </p>
+ * <p>
+ * The date must match exactly, as some short periodic terms (tesseral, third
+ * bodies) depend on the date itself and not only on the mean elements. The
+ * neighborhood is defined by an elements tolerance. The elements distance is
+ * the maximum of the relative semi-major axis difference, the absolute differences
+ * of eccentricity and inclination vectors components, and the absolute mean longitude
+ * argument difference. The force model parameters must be exactly the same. The
+ * archive must be used only for mean orbits defined in the same frame.
+ * </p>
+ * <p>
+ * No correction is applied to reused contributions, so the error is of the order
+ * of the elements tolerance multiplied by the sensitivity of the short periodic
+ * terms with respect to mean elements (which includes the dependency of the short
+ * periodic coefficients themselves on the mean elements). As the amplitude of
+ * the short periodic terms is at most about 10<sup>-3</sup> in relative terms,
+ * the tolerance should be small, typically 10<sup>-9</sup> or below, so the
+ * position error remains at millimeter level or below. With such tolerances,
+ * contributions are reused only in the last iterations of an orbit determination,
+ * when the estimated orbit barely changes anymore.
+ * </p>
+ * <p>
+ * This class is thread-safe, so an archive can be shared by propagators running
+ * concurrently. It is also serializable, so it can be saved and reloaded later on.
+ * </p>
+ * @see org.orekit.propagation.semianalytical.dsst.forces.ArchivingDSSTForceModel
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+public class ShortPeriodicsArchive implements Serializable {
+
+    /** Serializable UID. */
+    private static final long serialVersionUID = 20221020L;
+
+    /** Number of mean elements. */
+    private static final int N = 6;
+
+    /** Tolerance on mean elements. */
+    private final double elementsTolerance;
+
+    /** Archived entries, per force model key. */
+    private final ConcurrentMap<String, ConcurrentSkipListMap<AbsoluteDate, Entry[]>> entries;
+
+    /** Simple constructor.
+     * @param elementsTolerance tolerance on mean elements (see class documentation)
+     */
+    public ShortPeriodicsArchive(final double elementsTolerance) {
+        this.elementsTolerance = elementsTolerance;
+        this.entries           = new ConcurrentHashMap<>();
+    }
+
+    /** Get the tolerance on mean elements.
+     * @return tolerance on mean elements
+     */
+    public double getElementsTolerance() {
+        return elementsTolerance;
+    }
+
+    /** Get the number of archived entries.
+     * @return number of archived entries
+     */
+    public int size() {
+        int size = 0;
+        for (final ConcurrentSkipListMap<AbsoluteDate, Entry[]> map : entries.values()) {
+            for (final Entry[] atDate : map.values()) {
+                size += atDate.length;
+            }
+        }
+        return size;
+    }
+
+    /** Remove all entries.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /** Get an archived contribution.
+     * @param key force model key
+     * @param meanOrbit mean orbit to which the short period contribution applies
+     * @param parameters values of the force model parameters
+     * @return archived contribution, or null if no entry at the same date
+     * is close enough to the specified mean orbit
+     */
+    public double[] value(final String key, final Orbit meanOrbit, final double[] parameters) {
+
+        final ConcurrentSkipListMap<AbsoluteDate, Entry[]> map = entries.get(key);
+        if (map == null) {
+            return null;
+        }
+
+        // only entries at the exact same date can be used
+        final Entry[] atDate = map.get(meanOrbit.getDate());
+        if (atDate == null) {
+            return null;
+        }
+
+        // look for the closest entry in the neighborhood
+        final double[] elements = getElements(meanOrbit);
+        Entry  best         = null;
+        double bestDistance = Double.POSITIVE_INFINITY;
+        for (final Entry entry : atDate) {
+            if (Arrays.equals(entry.parameters, parameters)) {
+                final double distance = entry.distance(elements);
+                if (distance <= elementsTolerance && distance < bestDistance) {
+                    best         = entry;
+                    bestDistance = distance;
+                }
+            }
+        }
+
+        return best == null ? null : best.value.clone();
+
+    }
+
+    /** Archive a contribution.
+     * <p>
+     * If an entry at the same date with the same parameters is already archived
+     * within the elements tolerance, it is replaced by the new contribution.
+     * </p>
+     * @param key force model key
+     * @param meanOrbit mean orbit to which the short period contribution applies
+     * @param parameters values of the force model parameters
+     * @param value short period contribution
+     */
+    public void store(final String key, final Orbit meanOrbit, final double[] parameters,
+                      final double[] value) {
+        final Entry entry = new Entry(getElements(meanOrbit), parameters.clone(), value.clone());
+        entries.computeIfAbsent(key, k -> new ConcurrentSkipListMap<>()).
+            merge(meanOrbit.getDate(), new Entry[] { entry }, (existing, added) -> {
+                for (int i = 0; i < existing.length; ++i) {
+                    if (Arrays.equals(existing[i].parameters, added[0].parameters) &&
+                        existing[i].distance(added[0].elements) <= elementsTolerance) {
+                        // replace the matching entry
+                        final Entry[] replaced = existing.clone();
+                        replaced[i] = added[0];
+                        return replaced;
+                    }
+                }
+                final Entry[] merged = Arrays.copyOf(existing, existing.length + 1);
+                merged[existing.length] = added[0];
+                return merged;
+            });
+    }
+
+    /** Get the mean elements of an orbit.
+     * @param meanOrbit mean orbit
+     * @return mean elements (a, e<sub>x</sub>, e<sub>y</sub>, h<sub>x</sub>, h<sub>y</sub>, λ<sub>M</sub>)
+     */
+    private static double[] getElements(final Orbit meanOrbit) {
+        return new double[] {
+            meanOrbit.getA(),
+            meanOrbit.getEquinoctialEx(), meanOrbit.getEquinoctialEy(),
+            meanOrbit.getHx(), meanOrbit.getHy(),
+            meanOrbit.getLM()
+        };
+    }
+
+    /** Archived entry. */
+    private static class Entry implements Serializable {
+
+        /** Serializable UID. */
+        private static final long serialVersionUID = 20221020L;
+
+        /** Mean elements. */
+        private final double[] elements;
+
+        /** Force model parameters. */
+        private final double[] parameters;
+
+        /** Short period contribution. */
+        private final double[] value;
+
+        /** Simple constructor.
+         * @param elements mean elements
+         * @param parameters force model parameters
+         * @param value short period contribution
+         */
+        Entry(final double[] elements, final double[] parameters, final double[] value) {
+            this.elements   = elements;
+            this.parameters = parameters;
+            this.value      = value;
+        }
+
+        /** Compute the distance to other mean elements.
+         * @param other other mean elements
+         * @return distance to other elements
+         */
+        double distance(final double[] other) {
+            double distance = FastMath.abs(other[0] - elements[0]) / elements[0];
+            for (int j = 1; j < N - 1; ++j) {
+                distance = FastMath.max(distance, FastMath.abs(other[j] - elements[j]));
+            }
+            final double deltaLambda = MathUtils.normalizeAngle(other[N - 1], elements[N - 1]) - elements[N - 1];
+            return FastMath.max(distance, FastMath.abs(deltaLambda));
+        }
+
+    }
+
+}
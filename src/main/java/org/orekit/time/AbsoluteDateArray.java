@@ -0,0 +1,311 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.time;
+
+import java.util.Collection;
+
+import org.hipparchus.util.FastMath;
+
+/** Primitive representation of a sequence of {@link AbsoluteDate dates}.
+ * <p>
+ * {@link AbsoluteDate} instances are small objects holding an integer
+ * number of seconds and a fractional offset. Storing millions of them
+ * (for example in a long ephemeris or a measurements set) wastes memory
+ * in object headers and makes binary searches jump all over the heap.
+ * This class stores the same information in two parallel primitive arrays,
+ * with the same accuracy as the {@link AbsoluteDate} class, and converts
+ * to {@link AbsoluteDate} only when a date is explicitly requested.
+ * </p>
+ * <p>
+ * Instances of this class are immutable, hence thread-safe. The dates are
+ * stored in the order they were provided, so search methods like {@link
+ * #binarySearch(AbsoluteDate)} or {@link #floorIndex(AbsoluteDate)} are
+ * meaningful only for {@link #isSorted() sorted} arrays.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+public class AbsoluteDateArray {
+
+    /** Reference epochs in seconds from 2000-01-01T12:00:00 TAI. */
+    private final long[] epochs;
+
+    /** Offsets from the reference epochs in seconds. */
+    private final double[] offsets;
+
+    /** Build an array from time-stamped elements.
+     * @param timeStamped time-stamped elements (their dates will be copied
+     * in the iteration order of the collection)
+     */
+    public AbsoluteDateArray(final Collection<? extends TimeStamped> timeStamped) {
+        this.epochs  = new long[timeStamped.size()];
+        this.offsets = new double[timeStamped.size()];
+        int i = 0;
+        for (final TimeStamped ts : timeStamped) {
+            final AbsoluteDate date = ts.getDate();
+            epochs[i]  = date.getEpoch();
+            offsets[i] = date.getOffset();
+            ++i;
+        }
+    }
+
+    /** Build an array from dates.
+     * @param dates dates to copy
+     */
+    public AbsoluteDateArray(final AbsoluteDate[] dates) {
+        this.epochs  = new long[dates.length];
+        this.offsets = new double[dates.length];
+        for (int i = 0; i < dates.length; ++i) {
+            epochs[i]  = dates[i].getEpoch();
+            offsets[i] = dates[i].getOffset();
+        }
+    }
+
+    /** Build an array from a reference date and durations.
+     * <p>
+     * This constructor is the reverse of the {@link #durationsFrom(AbsoluteDate)}
+     * method.
+     * </p>
+     * @param reference reference date
+     * @param durations physically elapsed durations from the reference date
+     * @see #durationsFrom(AbsoluteDate)
+     */
+    public AbsoluteDateArray(final AbsoluteDate reference, final double[] durations) {
+        this.epochs  = new long[durations.length];
+        this.offsets = new double[durations.length];
+        for (int i = 0; i < durations.length; ++i) {
+            store(i, reference.getEpoch(), reference.getOffset(), durations[i]);
+        }
+    }
+
+    /** Private constructor for shifted copies.
+     * @param size number of dates
+     */
+    private AbsoluteDateArray(final int size) {
+        this.epochs  = new long[size];
+        this.offsets = new double[size];
+    }
+
+    /** Get the number of dates in the array.
+     * @return number of dates in the array
+     */
+    public int size() {
+        return epochs.length;
+    }
+
+    /** Get one date.
+     * <p>
+     * This method creates a new {@link AbsoluteDate} instance at each call.
+     * </p>
+     * @param index index of the date
+     * @return date at specified index
+     */
+    public AbsoluteDate getDate(final int index) {
+        return new AbsoluteDate(epochs[index], offsets[index]);
+    }
+
+    /** Get all dates.
+     * @return new array containing all dates
+     */
+    public AbsoluteDate[] toDates() {
+        final AbsoluteDate[] dates = new AbsoluteDate[epochs.length];
+        for (int i = 0; i < dates.length; ++i) {
+            dates[i] = getDate(i);
+        }
+        return dates;
+    }
+
+    /** Compute the physically elapsed duration between one date of the array and an instant.
+     * @param index index of the date in the array
+     * @param instant instant to subtract from the date at specified index
+     * @return offset in seconds between the two instants (positive
+     * if the date at specified index is posterior to the argument)
+     * @see AbsoluteDate#durationFrom(AbsoluteDate)
+     */
+    public double durationFrom(final int index, final AbsoluteDate instant) {
+        return (epochs[index] - instant.getEpoch()) + (offsets[index] - instant.getOffset());
+    }
+
+    /** Compute the physically elapsed duration between two dates of the array.
+     * @param index index of the first date in the array
+     * @param instantIndex index of the date to subtract from the first date
+     * @return offset in seconds between the two instants (positive
+     * if the date at {@code index} is posterior to the date at {@code instantIndex})
+     */
+    public double durationFrom(final int index, final int instantIndex) {
+        return (epochs[index] - epochs[instantIndex]) + (offsets[index] - offsets[instantIndex]);
+    }
+
+    /** Compute the physically elapsed durations between all dates of the array and an instant.
+     * <p>
+     * This method is the reverse of the {@link #AbsoluteDateArray(AbsoluteDate, double[])}
+     * constructor.
+     * </p>
+     * @param instant instant to subtract from all dates
+     * @return offsets in seconds between the dates and the instant
+     */
+    public double[] durationsFrom(final AbsoluteDate instant) {
+        final double[] durations = new double[epochs.length];
+        for (int i = 0; i < durations.length; ++i) {
+            durations[i] = durationFrom(i, instant);
+        }
+        return durations;
+    }
+
+    /** Compute the physically elapsed durations between consecutive dates.
+     * @return array of size {@code size() - 1} (or empty if array is empty)
+     * whose element {@code i} is the duration between date {@code i + 1}
+     * and date {@code i}
+     */
+    public double[] steps() {
+        final double[] steps = new double[FastMath.max(0, epochs.length - 1)];
+        for (int i = 0; i < steps.length; ++i) {
+            steps[i] = durationFrom(i + 1, i);
+        }
+        return steps;
+    }
+
+    /** Get a shifted copy of the array.
+     * @param dt time shift in seconds
+     * @return a new array, with all dates shifted with respect to instance (which is immutable)
+     * @see AbsoluteDate#shiftedBy(double)
+     */
+    public AbsoluteDateArray shiftedBy(final double dt) {
+        final AbsoluteDateArray shifted = new AbsoluteDateArray(epochs.length);
+        for (int i = 0; i < epochs.length; ++i) {
+            shifted.store(i, epochs[i], offsets[i], dt);
+        }
+        return shifted;
+    }
+
+    /** Compare one date of the array with another date.
+     * @param index index of the date in the array
+     * @param date other date to compare the date at specified index to
+     * @return a negative integer, zero, or a positive integer as the date
+     * at specified index is before, simultaneous, or after the specified date.
+     * @see AbsoluteDate#compareTo(AbsoluteDate)
+     */
+    public int compareTo(final int index, final AbsoluteDate date) {
+        final double duration = durationFrom(index, date);
+        if (!Double.isNaN(duration)) {
+            return Double.compare(duration, 0.0);
+        }
+        // both dates are infinity or one is NaN or both are NaN
+        return Double.compare(offsets[index], date.getOffset());
+    }
+
+    /** Check if dates are sorted in non-decreasing chronological order.
+     * @return true if dates are sorted in non-decreasing chronological order
+     */
+    public boolean isSorted() {
+        for (int i = 1; i < epochs.length; ++i) {
+            final double duration = durationFrom(i, i - 1);
+            if (duration < 0 || Double.isNaN(duration) && offsets[i] < offsets[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Search a date in the array.
+     * <p>
+     * The array must be {@link #isSorted() sorted}, otherwise the result is undefined.
+     * </p>
+     * @param date date to search for
+     * @return index of the date, if it is present in the array;
+     * otherwise {@code (-(insertion point) - 1)}, with the same
+     * semantics as {@link java.util.Arrays#binarySearch(long[], long)}
+     */
+    public int binarySearch(final AbsoluteDate date) {
+        int low  = 0;
+        int high = epochs.length - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int cmp = compareTo(mid, date);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /** Find the index of the last date at or before a specified date.
+     * <p>
+     * The array must be {@link #isSorted() sorted}, otherwise the result is undefined.
+     * </p>
+     * @param date date to search for
+     * @return index of the last date at or before {@code date}, or
+     * -1 if {@code date} is before the first date of the array
+     */
+    public int floorIndex(final AbsoluteDate date) {
+        int low  = 0;
+        int high = epochs.length;
+        while (low < high) {
+            // invariant: dates before low are at or before date, dates at and after high are after date
+            final int mid = (low + high) >>> 1;
+            if (compareTo(mid, date) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    /** Store a shifted date.
+     * <p>
+     * This method implements the same normalization as the
+     * {@link AbsoluteDate#AbsoluteDate(AbsoluteDate, double)} constructor
+     * without allocating any intermediate object.
+     * </p>
+     * @param index index at which date should be stored
+     * @param epoch reference epoch of the date to shift
+     * @param offset offset of the date to shift
+     * @param dt time shift in seconds
+     */
+    private void store(final int index, final long epoch, final double offset, final double dt) {
+
+        // 2Sum for high precision
+        final double sum      = offset + dt;
+        final double aPrime   = sum - dt;
+        final double bPrime   = sum - aPrime;
+        final double residual = (offset - aPrime) + (dt - bPrime);
+
+        if (Double.isInfinite(sum)) {
+            offsets[index] = sum;
+            epochs[index]  = (sum < 0) ? Long.MIN_VALUE : Long.MAX_VALUE;
+        } else {
+            final long   dl            = (long) FastMath.floor(sum);
+            final double regularOffset = (sum - dl) + residual;
+            if (regularOffset >= 0) {
+                // regular case, the offset is between 0.0 and 1.0
+                offsets[index] = regularOffset;
+                epochs[index]  = epoch + dl;
+            } else {
+                // very rare case, the offset is just before a whole second
+                offsets[index] = 1.0 + regularOffset;
+                epochs[index]  = epoch + dl - 1;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,75 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.utils;
+
+import java.util.Collection;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.orekit.errors.OrekitException;
+
+/** Utility functions for tasks run in parallel.
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+public class ConcurrencyUtils {
+
+    /** Private constructor for a utility class.
+     */
+    private ConcurrencyUtils() {
+        // nothing to do
+    }
+
+    /** Convert an exception caught while waiting for futures.
+     * <p>
+     * All futures are cancelled. If the exception is an {@link InterruptedException},
+     * the interrupted status of the current thread is restored. If the cause of the
+     * exception is an {@link OrekitException}, it is returned as is, otherwise the
+     * cause is wrapped.
+     * </p>
+     * <p>
+     * The method returns the exception rather than throwing it, so callers can
+     * use {@code throw ConcurrencyUtils.cancelAndConvert(futures, e);}.
+     * </p>
+     * @param futures futures to cancel
+     * @param exception exception caught while calling {@link Future#get()}
+     * (either {@link InterruptedException} or {@link ExecutionException})
+     * @return exception to throw
+     */
+    public static OrekitException cancelAndConvert(final Collection<? extends Future<?>> futures,
+                                                   final Exception exception) {
+
+        for (final Future<?> future : futures) {
+            future.cancel(true);
+        }
+
+        if (exception instanceof InterruptedException) {
+            // preserve interrupted status
+            Thread.currentThread().interrupt();
+        }
+
+        if (exception.getCause() instanceof OrekitException) {
+            // unwrap the original exception
+            return (OrekitException) exception.getCause();
+        }
+        return new OrekitException(exception.getCause() == null ? exception : exception.getCause(),
+                                   LocalizedCoreFormats.SIMPLE_MESSAGE, exception.getLocalizedMessage());
+
+    }
+
+}
@@ -17,6 +17,7 @@
 package org.orekit.utils;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -259,6 +260,37 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
 
     }
 
+    /** Invalidate the cached entries in a time range.
+     * <p>
+     * All slots containing entries within the time range are dropped,
+     * so their entries will be generated again on next access. Slots
+     * that do not overlap the range are preserved.
+     * </p>
+     * @param start start of the time range
+     * @param end end of the time range
+     * @return number of dropped slots
+     * @since 11.4
+     */
+    public int invalidate(final AbsoluteDate start, final AbsoluteDate end) {
+
+        lock.writeLock().lock();
+        try {
+            int dropped = 0;
+            for (final Iterator<Slot> iterator = slots.iterator(); iterator.hasNext();) {
+                final Slot slot = iterator.next();
+                if (slot.getLatest().getDate().compareTo(start) >= 0 &&
+                    slot.getEarliest().getDate().compareTo(end) <= 0) {
+                    iterator.remove();
+                    ++dropped;
+                }
+            }
+            return dropped;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+    }
+
     /** Get the fixed size of the arrays to be returned by {@link #getNeighbors(AbsoluteDate)}.
      * @return size of the array
      */
@@ -0,0 +1,182 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.AbsoluteDateArray;
+import org.orekit.utils.TimeSpanMap.Span;
+import org.orekit.utils.TimeSpanMap.Transition;
+
+/** Frozen version of {@link TimeSpanMap} optimized for concurrent lookups.
+ * <p>
+ * {@link TimeSpanMap} is thread-safe because all its methods are synchronized,
+ * which is needed as the map can be updated at any time and as lookups update
+ * an internal reference to the last accessed span. When the map is shared
+ * among many threads, for example in multi-threaded orbit determination,
+ * each lookup therefore involves acquiring a monitor.
+ * </p>
+ * <p>
+ * This class is built from a snapshot of a {@link TimeSpanMap} and cannot
+ * be modified afterwards. The transition dates are stored in a primitive
+ * {@link AbsoluteDateArray} and lookups are performed using a binary search,
+ * without any locking and without any mutable state. The complexity is
+ * therefore O(log(n)) for all calls, regardless of the calls order.
+ * </p>
+ * <p>
+ * The {@link Span spans} and {@link Transition transitions} returned by
+ * this class belong to a private copy of the original map, so they are not
+ * affected by further changes to the original map.
+ * </p>
+ * @param <T> Type of the data.
+ * @author Luc Maisonobe
+ * @since 11.4
+ */
+public class ImmutableTimeSpanMap<T> {
+
+    /** Transitions dates. */
+    private final AbsoluteDateArray dates;
+
+    /** Time spans, in chronological order. */
+    private final List<Span<T>> spans;
+
+    /** Build a frozen snapshot of a time span map.
+     * <p>
+     * The snapshot is consistent even if the original map is
+     * updated concurrently by other threads.
+     * </p>
+     * @param map time span map to freeze
+     */
+    public ImmutableTimeSpanMap(final TimeSpanMap<T> map) {
+
+        // extracting the full range creates an independent map atomically
+        final TimeSpanMap<T> copy = map.extractRange(AbsoluteDate.PAST_INFINITY, AbsoluteDate.FUTURE_INFINITY);
+
+        final List<Transition<T>> transitions = new ArrayList<>(copy.getSpansNumber() - 1);
+        this.spans = new ArrayList<>(copy.getSpansNumber());
+        for (Span<T> span = copy.getFirstSpan(); span != null; span = span.next()) {
+            spans.add(span);
+            if (span.getEndTransition() != null) {
+                transitions.add(span.getEndTransition());
+            }
+        }
+        this.dates = new AbsoluteDateArray(transitions);
+
+    }
+
+    /** Get the number of spans.
+     * <p>
+     * The number of spans is always at least 1. The number of transitions
+     * is always 1 less than the number of spans.
+     * </p>
+     * @return number of spans
+     */
+    public int getSpansNumber() {
+        return spans.size();
+    }
+
+    /** Get the entry valid at a specified date.
+     * <p>
+     * The complexity is O(log(n)) and no locking is involved.
+     * </p>
+     * @param date date at which the entry must be valid
+     * @return valid entry at specified date
+     * @see #getSpan(AbsoluteDate)
+     */
+    public T get(final AbsoluteDate date) {
+        return getSpan(date).getData();
+    }
+
+    /** Get the time span containing a specified date.
+     * <p>
+     * The complexity is O(log(n)) and no locking is involved.
+     * </p>
+     * @param date date belonging to the desired time span
+     * @return time span containing the specified date
+     */
+    public Span<T> getSpan(final AbsoluteDate date) {
+        // a transition date belongs to the span after the transition
+        return spans.get(dates.floorIndex(date) + 1);
+    }
+
+    /** Get the first (earliest) transition.
+     * @return first (earliest) transition, or null if there are no transitions
+     */
+    public Transition<T> getFirstTransition() {
+        return getFirstSpan().getEndTransition();
+    }
+
+    /** Get the last (latest) transition.
+     * @return last (latest) transition, or null if there are no transitions
+     */
+    public Transition<T> getLastTransition() {
+        return getLastSpan().getStartTransition();
+    }
+
+    /** Get the first (earliest) span.
+     * @return first (earliest) span
+     */
+    public Span<T> getFirstSpan() {
+        return spans.get(0);
+    }
+
+    /** Get the last (latest) span.
+     * @return last (latest) span
+     */
+    public Span<T> getLastSpan() {
+        return spans.get(spans.size() - 1);
+    }
+
+    /** Get the transitions dates.
+     * @return transitions dates, in chronological order
+     */
+    public AbsoluteDateArray getTransitionsDates() {
+        return dates;
+    }
+
+    /** Create a mutable copy of the instance.
+     * @return a new independent mutable map, with the same spans as the instance
+     */
+    public TimeSpanMap<T> toTimeSpanMap() {
+        Span<T> span = getFirstSpan();
+        final TimeSpanMap<T> map = new TimeSpanMap<>(span.getData());
+        while (span.getEndTransition() != null) {
+            span = span.next();
+            map.addValidAfter(span.getData(), span.getStartTransition().getDate(), false);
+        }
+        return map;
+    }
+
+    /**
+     * Performs an action for each non-null element of map.
+     * <p>
+     * The action is performed chronologically.
+     * </p>
+     * @param action action to perform on the non-null elements
+     */
+    public void forEach(final Consumer<T> action) {
+        for (final Span<T> span : spans) {
+            if (span.getData() != null) {
+                action.accept(span.getData());
+            }
+        }
+    }
+
+}
@@ -29,6 +29,7 @@ import org.orekit.errors.OrekitIllegalStateException;
 import org.orekit.errors.OrekitMessages;
 import org.orekit.errors.TimeStampedCacheException;
 import org.orekit.time.AbsoluteDate;
+import org.orekit.time.AbsoluteDateArray;
 import org.orekit.time.ChronologicalComparator;
 import org.orekit.time.TimeStamped;
 
@@ -63,6 +64,11 @@ public class ImmutableTimeStampedCache<T extends TimeStamped>
      */
     private final List<T> data;
 
+    /**
+     * primitive copy of the dates of {@link #data}, used for fast searches.
+     */
+    private final AbsoluteDateArray dates;
+
     /**
      * the size list to return from {@link #getNeighbors(AbsoluteDate)}.
      */
@@ -98,6 +104,7 @@ public class ImmutableTimeStampedCache<T extends TimeStamped>
         // sort and copy data first
         this.data = new ArrayList<T>(data);
         Collections.sort(this.data, CMP);
+        this.dates = new AbsoluteDateArray(this.data);
     }
 
     /**
@@ -105,6 +112,7 @@ public class ImmutableTimeStampedCache<T extends TimeStamped>
      */
     private ImmutableTimeStampedCache() {
         this.data = null;
+        this.dates = null;
         this.neighborsSize = 0;
     }
 
@@ -145,14 +153,11 @@ public class ImmutableTimeStampedCache<T extends TimeStamped>
      *         {@code t} is after the last entry.
      */
     private int findIndex(final AbsoluteDate t) {
-        // Guaranteed log(n) time
-        int i = Collections.binarySearch(this.data, t, CMP);
-        if (i == -this.data.size() - 1) {
+        // Guaranteed log(n) time, without dereferencing the data
+        final int i = dates.floorIndex(t);
+        if (i == this.data.size() - 1 && dates.compareTo(i, t) < 0) {
             // beyond last entry
-            i = this.data.size();
-        } else if (i < 0) {
-            // did not find exact match, but contained in data interval
-            i = -i - 2;
+            return this.data.size();
         }
         return i;
     }
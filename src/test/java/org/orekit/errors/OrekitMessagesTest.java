@@ -30,7 +30,7 @@ public class OrekitMessagesTest {
 
     @Test
     public void testMessageNumber() {
-        Assertions.assertEquals(258, OrekitMessages.values().length);
+        Assertions.assertEquals(262, OrekitMessages.values().length);
     }
 
     @Test
@@ -0,0 +1,200 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.leastsquares;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.linear.QRDecomposer;
+import org.hipparchus.optim.nonlinear.vector.leastsquares.GaussNewtonOptimizer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.estimation.Context;
+import org.orekit.estimation.EstimationTestUtils;
+import org.orekit.estimation.measurements.ObservedMeasurement;
+import org.orekit.estimation.measurements.RangeMeasurementCreator;
+import org.orekit.orbits.Orbit;
+import org.orekit.orbits.OrbitType;
+import org.orekit.orbits.PositionAngle;
+import org.orekit.propagation.Propagator;
+import org.orekit.propagation.conversion.NumericalPropagatorBuilder;
+import org.orekit.utils.ParameterDriver;
+import org.orekit.utils.ParameterDriversList;
+
+public class BatchLSCheckpointTest {
+
+    @TempDir
+    public Path temporaryFolderPath;
+
+    @Test
+    public void testResume() {
+
+        // reference estimation, without interruption
+        final BatchLSEstimator reference = createEstimator();
+        final Orbit expected = reference.estimate()[0].getInitialState().getOrbit();
+
+        // interrupted estimation
+        final Path checkpoint = temporaryFolderPath.resolve("checkpoint.bin");
+        final BatchLSEstimator interrupted = createEstimator();
+        interrupted.setCheckpoint(checkpoint);
+        Assertions.assertEquals(checkpoint, interrupted.getCheckpoint());
+        interrupted.setMaxIterations(2);
+        try {
+            interrupted.estimate();
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            // expected, the estimation did not converge in 2 iterations
+        }
+        Assertions.assertTrue(Files.exists(checkpoint));
+        Assertions.assertFalse(Files.exists(temporaryFolderPath.resolve("checkpoint.bin.tmp")));
+        final BatchLSCheckpoint saved = BatchLSCheckpoint.load(checkpoint);
+        Assertions.assertEquals(2, saved.getIterations());
+        Assertions.assertEquals(2, saved.getEvaluations());
+        Assertions.assertEquals(6, saved.getNames().length);
+        Assertions.assertFalse(saved.isFinal());
+        Assertions.assertTrue(saved.getRMS() > 0);
+
+        // resumed estimation
+        final BatchLSEstimator resumed = createEstimator();
+        resumed.setCheckpoint(checkpoint);
+        final Orbit found = resumed.estimate()[0].getInitialState().getOrbit();
+        Assertions.assertTrue(resumed.getIterationsCount() > saved.getIterations());
+        final BatchLSCheckpoint completed = BatchLSCheckpoint.load(checkpoint);
+        Assertions.assertEquals(resumed.getIterationsCount(), completed.getIterations());
+        Assertions.assertTrue(completed.isFinal());
+        Assertions.assertEquals(0.0,
+                                Vector3D.distance(expected.getPVCoordinates().getPosition(),
+                                                  found.getPVCoordinates().getPosition()),
+                                1.0e-6);
+
+        // a completed checkpoint is not used to resume
+        final BatchLSEstimator restarted = createEstimator();
+        restarted.setCheckpoint(checkpoint);
+        restarted.estimate();
+        Assertions.assertEquals(reference.getIterationsCount(), restarted.getIterationsCount());
+        Assertions.assertEquals(reference.getEvaluationsCount(), restarted.getEvaluationsCount());
+        Assertions.assertTrue(BatchLSCheckpoint.load(checkpoint).isFinal());
+
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final BatchLSCheckpoint original =
+                        new BatchLSCheckpoint(new String[] { "a", "Cr" }, new double[] { 7.0e6, 1.5 },
+                                              3, 5, 0.25, 12.5, 1.75, true);
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        original.write(bos);
+        // header, two parameters, statistics and completion flag
+        Assertions.assertEquals(5 + 4 + 2 * 8 + 3 + 4 + 4 + 4 + 3 * 8 + 1, bos.size());
+        final BatchLSCheckpoint rebuilt = BatchLSCheckpoint.read(new ByteArrayInputStream(bos.toByteArray()), "dummy");
+        Assertions.assertArrayEquals(original.getNames(), rebuilt.getNames());
+        Assertions.assertArrayEquals(original.getValues(), rebuilt.getValues(), 0.0);
+        Assertions.assertEquals(3, rebuilt.getIterations());
+        Assertions.assertEquals(5, rebuilt.getEvaluations());
+        Assertions.assertEquals(0.25, rebuilt.getRMS(), 0.0);
+        Assertions.assertEquals(12.5, rebuilt.getChiSquare(), 0.0);
+        Assertions.assertEquals(1.75, rebuilt.getCost(), 0.0);
+        Assertions.assertTrue(rebuilt.isFinal());
+    }
+
+    @Test
+    public void testWrongFormat() {
+        try {
+            BatchLSCheckpoint.read(new ByteArrayInputStream(new byte[] { 0, 1, 2, 3, 4, 5 }), "dummy");
+            Assertions.fail("an exception should have been thrown");
+        } catch (IOException ioe) {
+            Assertions.fail(ioe.getLocalizedMessage());
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNSUPPORTED_FILE_FORMAT, oe.getSpecifier());
+            Assertions.assertEquals("dummy", oe.getParts()[0]);
+        }
+    }
+
+    @Test
+    public void testIncompatible() {
+        final BatchLSCheckpoint checkpoint =
+                        new BatchLSCheckpoint(new String[] { "a" }, new double[] { 7.0e6 },
+                                              1, 1, 0.0, 0.0, 0.0, false);
+        final ParameterDriversList drivers = createEstimator().getOrbitalParametersDrivers(true);
+        try {
+            checkpoint.restore(drivers.getDrivers());
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.INCOMPATIBLE_CHECKPOINT, oe.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testUnknownParameter() {
+        final ParameterDriversList drivers = createEstimator().getOrbitalParametersDrivers(true);
+        final String[] names  = new String[drivers.getNbParams() + 1];
+        final double[] values = new double[names.length];
+        for (int i = 0; i < drivers.getNbParams(); ++i) {
+            names[i]  = drivers.getDrivers().get(i).getName();
+            values[i] = drivers.getDrivers().get(i).getValue();
+        }
+        names[names.length - 1] = "unknown";
+        final BatchLSCheckpoint checkpoint =
+                        new BatchLSCheckpoint(names, values, 1, 1, 0.0, 0.0, 0.0, false);
+        try {
+            checkpoint.restore(drivers.getDrivers());
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNKNOWN_CHECKPOINT_PARAMETER, oe.getSpecifier());
+            Assertions.assertEquals("unknown", oe.getParts()[0]);
+        }
+    }
+
+    private BatchLSEstimator createEstimator() {
+        final NumericalPropagatorBuilder builder =
+                        context.createBuilder(OrbitType.KEPLERIAN, PositionAngle.TRUE, true, 1.0e-6, 60.0, 1.0);
+        final BatchLSEstimator estimator =
+                        new BatchLSEstimator(new GaussNewtonOptimizer(new QRDecomposer(1.0e-11), false), builder);
+        for (final ObservedMeasurement<?> measurement : measurements) {
+            estimator.addMeasurement(measurement);
+        }
+        estimator.setParametersConvergenceThreshold(1.0e-2);
+        estimator.setMaxIterations(10);
+        estimator.setMaxEvaluations(20);
+        final ParameterDriver aDriver = estimator.getOrbitalParametersDrivers(true).getDrivers().get(0);
+        aDriver.setValue(aDriver.getValue() + 1500.0);
+        return estimator;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        context = EstimationTestUtils.eccentricContext("regular-data:potential:tides");
+        final NumericalPropagatorBuilder builder =
+                        context.createBuilder(OrbitType.KEPLERIAN, PositionAngle.TRUE, true, 1.0e-6, 60.0, 1.0);
+        final Propagator propagator = EstimationTestUtils.createPropagator(context.initialOrbit, builder);
+        measurements = EstimationTestUtils.createMeasurements(propagator, new RangeMeasurementCreator(context),
+                                                              1.0, 3.0, 300.0);
+    }
+
+    private Context context;
+    private List<ObservedMeasurement<?>> measurements;
+
+}
@@ -0,0 +1,146 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.leastsquares;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.linear.QRDecomposer;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.optim.nonlinear.vector.leastsquares.GaussNewtonOptimizer;
+import org.hipparchus.optim.nonlinear.vector.leastsquares.LeastSquaresOptimizer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.orekit.estimation.Context;
+import org.orekit.estimation.EstimationTestUtils;
+import org.orekit.estimation.measurements.GroundStation;
+import org.orekit.estimation.measurements.ObservableSatellite;
+import org.orekit.estimation.measurements.ObservedMeasurement;
+import org.orekit.estimation.measurements.Range;
+import org.orekit.estimation.measurements.RangeMeasurementCreator;
+import org.orekit.orbits.CartesianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.orbits.OrbitType;
+import org.orekit.orbits.PositionAngle;
+import org.orekit.propagation.Propagator;
+import org.orekit.propagation.conversion.NumericalPropagatorBuilder;
+import org.orekit.utils.ParameterDriver;
+import org.orekit.utils.TimeStampedPVCoordinates;
+
+public class SparseGaussNewtonOptimizerTest {
+
+    @Test
+    public void testLocalAndGlobalParameters() {
+
+        final Solution dense  = solve(new GaussNewtonOptimizer(new QRDecomposer(1.0e-11), false));
+        final Solution sparse = solve(new SparseGaussNewtonOptimizer());
+
+        // the Jacobian has one local block per satellite, the station offset is global
+        Assertions.assertTrue(sparse.jacobian instanceof SparseJacobianMatrix);
+        final List<int[]> blocks = ((SparseJacobianMatrix) sparse.jacobian).getLocalBlocks();
+        Assertions.assertEquals(2, blocks.size());
+        Assertions.assertArrayEquals(new int[] { 0, 1, 2, 3, 4,  5 }, blocks.get(0));
+        Assertions.assertArrayEquals(new int[] { 6, 7, 8, 9, 10, 11 }, blocks.get(1));
+        Assertions.assertFalse(dense.jacobian instanceof SparseJacobianMatrix);
+
+        // both optimizers converge to the same solution
+        Assertions.assertEquals(dense.iterations, sparse.iterations);
+        for (int i = 0; i < dense.orbits.length; ++i) {
+            Assertions.assertEquals(0.0,
+                                    Vector3D.distance(dense.orbits[i].getPVCoordinates().getPosition(),
+                                                      sparse.orbits[i].getPVCoordinates().getPosition()),
+                                    1.0e-6);
+        }
+        Assertions.assertEquals(dense.offset, sparse.offset, 1.0e-7);
+        Assertions.assertEquals(0.0,
+                                dense.covariance.subtract(sparse.covariance).getNorm1() / dense.covariance.getNorm1(),
+                                2.0e-6);
+
+    }
+
+    private Solution solve(final LeastSquaresOptimizer optimizer) {
+
+        final Context context = EstimationTestUtils.eccentricContext("regular-data:potential:tides");
+        final NumericalPropagatorBuilder builder0 =
+                        context.createBuilder(OrbitType.CARTESIAN, PositionAngle.TRUE, true, 1.0e-6, 60.0, 1.0e-3);
+        final NumericalPropagatorBuilder builder1 =
+                        context.createBuilder(OrbitType.CARTESIAN, PositionAngle.TRUE, true, 1.0e-6, 60.0, 1.0e-3);
+
+        // second satellite on a slightly different orbit
+        final TimeStampedPVCoordinates original = context.initialOrbit.getPVCoordinates();
+        final Orbit closeOrbit = new CartesianOrbit(new TimeStampedPVCoordinates(context.initialOrbit.getDate(),
+                                                                                 original.getPosition().add(new Vector3D(1000, 2000, 3000)),
+                                                                                 original.getVelocity().add(new Vector3D(-0.03, 0.01, 0.02))),
+                                                    context.initialOrbit.getFrame(),
+                                                    context.initialOrbit.getMu());
+
+        // ground ranges for both satellites, from the same stations
+        final List<ObservedMeasurement<?>> measurements =
+                        EstimationTestUtils.createMeasurements(EstimationTestUtils.createPropagator(context.initialOrbit, builder0),
+                                                               new RangeMeasurementCreator(context),
+                                                               1.0, 3.0, 300.0);
+        final ObservableSatellite satellite1 = new ObservableSatellite(1);
+        for (final ObservedMeasurement<?> m : EstimationTestUtils.createMeasurements(EstimationTestUtils.createPropagator(closeOrbit, builder1),
+                                                                                     new RangeMeasurementCreator(context),
+                                                                                     1.0, 3.0, 300.0)) {
+            final Range range = (Range) m;
+            measurements.add(new Range(range.getStation(), range.isTwoWay(), range.getDate(),
+                                       range.getObservedValue()[0], range.getTheoreticalStandardDeviation()[0],
+                                       range.getBaseWeight()[0], satellite1));
+        }
+
+        // a station position offset is shared by both satellites
+        final GroundStation station = context.stations.get(0);
+        station.getEastOffsetDriver().setSelected(true);
+
+        final BatchLSEstimator estimator = new BatchLSEstimator(optimizer, builder0, builder1);
+        for (final ObservedMeasurement<?> measurement : measurements) {
+            estimator.addMeasurement(measurement);
+        }
+        estimator.setParametersConvergenceThreshold(1.0e-3);
+        estimator.setMaxIterations(20);
+        estimator.setMaxEvaluations(20);
+
+        final List<ParameterDriver> drivers = new ArrayList<>(estimator.getOrbitalParametersDrivers(true).getDrivers());
+        drivers.get(0).setValue(drivers.get(0).getValue() + 12.0);
+        drivers.get(7).setValue(drivers.get(7).getValue() - 25.0);
+
+        final Solution solution = new Solution();
+        solution.orbits     = new Orbit[2];
+        final Propagator[] propagators = estimator.estimate();
+        for (int i = 0; i < propagators.length; ++i) {
+            solution.orbits[i] = propagators[i].getInitialState().getOrbit();
+        }
+        solution.iterations = estimator.getIterationsCount();
+        solution.offset     = station.getEastOffsetDriver().getValue();
+        solution.covariance = estimator.getPhysicalCovariances(1.0e-10);
+        solution.jacobian   = estimator.getOptimum().getJacobian();
+        station.getEastOffsetDriver().setSelected(false);
+        return solution;
+
+    }
+
+    private static class Solution {
+        Orbit[]    orbits;
+        int        iterations;
+        double     offset;
+        RealMatrix covariance;
+        RealMatrix jacobian;
+    }
+
+}
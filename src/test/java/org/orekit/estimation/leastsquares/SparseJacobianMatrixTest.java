@@ -0,0 +1,116 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.leastsquares;
+
+import java.util.List;
+
+import org.hipparchus.linear.ArrayRealVector;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.linear.RealVector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SparseJacobianMatrixTest {
+
+    @Test
+    public void testEntries() {
+        final SparseJacobianMatrix m = new SparseJacobianMatrix(3, 20);
+        Assertions.assertEquals(3, m.getRowDimension());
+        Assertions.assertEquals(20, m.getColumnDimension());
+        Assertions.assertEquals(0, m.getNonZeros());
+        m.setEntry(1, 4, 0.0);
+        Assertions.assertEquals(0, m.getNonZeros());
+        for (int j = 0; j < 20; ++j) {
+            m.setEntry(1, j, j + 1.0);
+        }
+        m.addToEntry(1, 3, 0.5);
+        m.addToEntry(2, 3, 0.25);
+        m.multiplyEntry(1, 5, 2.0);
+        m.multiplyEntry(0, 5, 2.0);
+        Assertions.assertEquals(21, m.getNonZeros());
+        Assertions.assertEquals(4.5,  m.getEntry(1, 3), 1.0e-15);
+        Assertions.assertEquals(0.25, m.getEntry(2, 3), 1.0e-15);
+        Assertions.assertEquals(12.0, m.getEntry(1, 5), 1.0e-15);
+        Assertions.assertEquals(0.0,  m.getEntry(0, 5), 1.0e-15);
+        Assertions.assertEquals(SparseJacobianMatrix.SHARED, m.getOwner(1));
+        m.setOwner(1, 3);
+        Assertions.assertEquals(3, m.getOwner(1));
+
+        final SparseJacobianMatrix copy = m.copy();
+        m.clear();
+        Assertions.assertEquals(0, m.getNonZeros());
+        Assertions.assertEquals(0.0, m.getEntry(1, 3), 1.0e-15);
+        Assertions.assertEquals(SparseJacobianMatrix.SHARED, m.getOwner(1));
+        Assertions.assertEquals(21, copy.getNonZeros());
+        Assertions.assertEquals(4.5, copy.getEntry(1, 3), 1.0e-15);
+        Assertions.assertEquals(3, copy.getOwner(1));
+        Assertions.assertEquals(0, copy.createMatrix(2, 2).getNonZeros());
+    }
+
+    @Test
+    public void testLocalBlocks() {
+        // columns 0-1 belong to satellite 1, columns 2-3 to satellite 0,
+        // column 4 is shared, column 5 is not used at all
+        final SparseJacobianMatrix m = createMatrix();
+        final List<int[]> blocks = m.getLocalBlocks();
+        Assertions.assertEquals(2, blocks.size());
+        Assertions.assertArrayEquals(new int[] { 2, 3 }, blocks.get(0));
+        Assertions.assertArrayEquals(new int[] { 0, 1 }, blocks.get(1));
+
+        // a shared measurement couples everything
+        m.setOwner(0, SparseJacobianMatrix.SHARED);
+        Assertions.assertEquals(1, m.getLocalBlocks().size());
+        m.setOwner(2, SparseJacobianMatrix.SHARED);
+        Assertions.assertTrue(m.getLocalBlocks().isEmpty());
+    }
+
+    @Test
+    public void testProducts() {
+        final SparseJacobianMatrix sparse = createMatrix();
+        final RealMatrix           dense  = MatrixUtils.createRealMatrix(sparse.getData());
+        Assertions.assertEquals(0.0,
+                                sparse.transposeMultiply(sparse).subtract(dense.transposeMultiply(dense)).getNorm1(),
+                                1.0e-15);
+        Assertions.assertEquals(0.0,
+                                sparse.transposeMultiply(dense).subtract(dense.transposeMultiply(dense)).getNorm1(),
+                                1.0e-15);
+        final RealVector r = new ArrayRealVector(new double[] { 1.0, -2.0, 0.5, 3.0 });
+        Assertions.assertEquals(0.0, sparse.preMultiply(r).subtract(dense.preMultiply(r)).getNorm(), 1.0e-15);
+        final RealVector x = new ArrayRealVector(new double[] { 1.0, -2.0, 0.5, 3.0, 0.25, 7.0 });
+        Assertions.assertEquals(0.0, sparse.operate(x).subtract(dense.operate(x)).getNorm(), 1.0e-15);
+    }
+
+    private SparseJacobianMatrix createMatrix() {
+        final SparseJacobianMatrix m = new SparseJacobianMatrix(4, 6);
+        m.setEntry(0, 0, 1.5);
+        m.setEntry(0, 1, -2.0);
+        m.setEntry(0, 4, 0.5);
+        m.setOwner(0, 1);
+        m.setEntry(1, 2, 3.0);
+        m.setEntry(1, 4, 1.0);
+        m.setOwner(1, 0);
+        m.setEntry(2, 3, -1.0);
+        m.setEntry(2, 2, 0.25);
+        m.setOwner(2, 0);
+        m.setEntry(3, 1, 2.5);
+        m.setEntry(3, 4, -0.75);
+        m.setOwner(3, 1);
+        return m;
+    }
+
+}
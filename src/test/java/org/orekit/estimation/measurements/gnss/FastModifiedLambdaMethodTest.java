@@ -0,0 +1,196 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.measurements.gnss;
+
+import org.hipparchus.linear.CholeskyDecomposition;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.QRDecomposer;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FastModifiedLambdaMethodTest {
+
+    @Test
+    public void testJoostenTiberiusFAQ() {
+        // this test corresponds to the "LAMBDA: FAQs" paper by Peter Joosten and Christian Tiberius
+
+        final double[] floatAmbiguities = new double[] {
+            5.450, 3.100, 2.970
+        };
+        final int[] indirection = new int[] { 0, 1, 2 };
+        final RealMatrix covariance = MatrixUtils.createRealMatrix(new double[][] {
+            { 6.290, 5.978, 0.544 },
+            { 5.978, 6.292, 2.340 },
+            { 0.544, 2.340, 6.288 }
+        });
+
+        final FastModifiedLambdaMethod solver = new FastModifiedLambdaMethod();
+        IntegerLeastSquareSolution[] solutions = solver.solveILS(2, floatAmbiguities, indirection, covariance);
+
+        Assertions.assertEquals(2, solutions.length);
+        Assertions.assertEquals(3, solver.getFixedNumber());
+        Assertions.assertEquals(0.2183310953369383, solutions[0].getSquaredDistance(), 1.0e-15);
+        Assertions.assertEquals(5l, solutions[0].getSolution()[0]);
+        Assertions.assertEquals(3l, solutions[0].getSolution()[1]);
+        Assertions.assertEquals(4l, solutions[0].getSolution()[2]);
+        Assertions.assertEquals(0.3072725757902666, solutions[1].getSquaredDistance(), 1.0e-12);
+        Assertions.assertEquals(6l, solutions[1].getSolution()[0]);
+        Assertions.assertEquals(4l, solutions[1].getSolution()[1]);
+        Assertions.assertEquals(4l, solutions[1].getSolution()[2]);
+
+        // allocation-free accessors
+        final double[] a = new double[3];
+        solver.getSolution(1, a);
+        Assertions.assertEquals(6.0, a[0], 1.0e-15);
+        Assertions.assertEquals(4.0, a[1], 1.0e-15);
+        Assertions.assertEquals(4.0, a[2], 1.0e-15);
+        Assertions.assertEquals(0.3072725757902666, solver.getSquaredDistance(1), 1.0e-12);
+
+    }
+
+    @Test
+    public void testSameResultsAsModifiedLambda() {
+        // a single instance is used for all problems, to check work arrays reuse
+        final FastModifiedLambdaMethod fast = new FastModifiedLambdaMethod();
+        final RandomGenerator random = new Well19937a(0x2f4e8b1b9c6a1d57l);
+        for (int k = 0; k < 200; ++k) {
+            final int        n           = 2 + random.nextInt(119);
+            final int        nbSol       = 1 + random.nextInt(4);
+            final RealMatrix covariance  = createRandomCovariance(n, 0.05, random);
+            final int[]      indirection = createRandomIndirectionArray(n, random);
+            final double[]   floatAmbiguities = createRandomFloatAmbiguities(filterCovariance(covariance, indirection), random);
+
+            final IntegerLeastSquareSolution[] reference =
+                            new ModifiedLambdaMethod().solveILS(nbSol, floatAmbiguities, indirection, covariance);
+            final IntegerLeastSquareSolution[] solutions =
+                            fast.solveILS(nbSol, floatAmbiguities, indirection, covariance);
+
+            Assertions.assertEquals(reference.length, solutions.length);
+            for (int i = 0; i < reference.length; ++i) {
+                Assertions.assertArrayEquals(reference[i].getSolution(), solutions[i].getSolution());
+                Assertions.assertEquals(reference[i].getSquaredDistance(), solutions[i].getSquaredDistance(),
+                                        1.0e-12 * reference[i].getSquaredDistance());
+            }
+        }
+    }
+
+    @Test
+    public void testPartialAmbiguityResolution() {
+        final FastModifiedLambdaMethod solver = new FastModifiedLambdaMethod();
+        final RandomGenerator random = new Well19937a(0x5d1e3a7f6b2c9e41l);
+        int nbPartial = 0;
+        for (int k = 0; k < 100; ++k) {
+            final int        n           = 2 + random.nextInt(30);
+            final RealMatrix covariance  = createRandomCovariance(n, 0.1, random);
+            final int[]      indirection = createRandomIndirectionArray(n, random);
+            final double[]   floatAmbiguities = createRandomFloatAmbiguities(filterCovariance(covariance, indirection), random);
+            final RealMatrix invCov      = new QRDecomposer(1.0e-15).
+                                           decompose(filterCovariance(covariance, indirection)).
+                                           getInverse();
+
+            // full resolution
+            Assertions.assertEquals(1, solver.solvePartial(1, 0.0, floatAmbiguities, indirection, covariance));
+            Assertions.assertEquals(indirection.length, solver.getFixedNumber());
+
+            // impossible success rate
+            Assertions.assertEquals(0, solver.solvePartial(1, 1.5, floatAmbiguities, indirection, covariance));
+            Assertions.assertEquals(0, solver.getFixedNumber());
+
+            // partial resolution
+            final int nbFound = solver.solvePartial(2, 0.999, floatAmbiguities, indirection, covariance);
+            if (solver.getFixedNumber() > 0) {
+                Assertions.assertEquals(2, nbFound);
+                Assertions.assertTrue(solver.getSuccessRate() >= 0.999);
+                if (solver.getFixedNumber() < indirection.length) {
+                    ++nbPartial;
+                }
+
+                // conditioned ambiguities minimize the distance to float solution
+                // among all ambiguities sharing the same fixed decorrelated subset,
+                // this minimum is the distance of the fixed subset
+                final double[] a = new double[indirection.length];
+                for (int s = 0; s < nbFound; ++s) {
+                    solver.getSolution(s, a);
+                    final RealMatrix delta = MatrixUtils.createColumnRealMatrix(a).
+                                             subtract(MatrixUtils.createColumnRealMatrix(floatAmbiguities));
+                    final double squaredNorm = delta.transposeMultiply(invCov).multiply(delta).getEntry(0, 0);
+                    Assertions.assertEquals(squaredNorm, solver.getSquaredDistance(s), 1.0e-8 * squaredNorm);
+                }
+            }
+
+        }
+        Assertions.assertTrue(nbPartial > 10);
+    }
+
+    private double[] createRandomFloatAmbiguities(final RealMatrix covariance, final RandomGenerator random) {
+        // integer ambiguities with correlated noise consistent with covariance
+        final int n = covariance.getRowDimension();
+        final double[] noise = new double[n];
+        for (int i = 0; i < n; ++i) {
+            noise[i] = random.nextGaussian();
+        }
+        final double[] floatAmbiguities = new CholeskyDecomposition(covariance).getL().operate(noise);
+        for (int i = 0; i < n; ++i) {
+            floatAmbiguities[i] += FastMath.rint(100 * random.nextDouble() - 50.0);
+        }
+        return floatAmbiguities;
+    }
+
+    private RealMatrix createRandomCovariance(final int n, final double scale, final RandomGenerator random) {
+        // strongly correlated but not too ill-conditioned covariance, as in real ambiguity problems
+        final RealMatrix matrix = MatrixUtils.createRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                matrix.setEntry(i, j, 2 * random.nextDouble() - 1);
+            }
+        }
+        return matrix.transposeMultiply(matrix).scalarMultiply(1.0 / n).
+               add(MatrixUtils.createRealIdentityMatrix(n).scalarMultiply(0.05)).
+               scalarMultiply(scale);
+    }
+
+    private int[] createRandomIndirectionArray(final int n, final RandomGenerator random) {
+        final int[] all = new int[n];
+        for (int i = 0; i < all.length; ++i) {
+            all[i] = i;
+        }
+        for (int i = n - 1; i > 0; --i) {
+            final int j   = random.nextInt(i + 1);
+            final int tmp = all[i];
+            all[i] = all[j];
+            all[j] = tmp;
+        }
+        final int[] selected = new int[FastMath.max(2, 1 + random.nextInt(n))];
+        System.arraycopy(all, 0, selected, 0, selected.length);
+        return selected;
+    }
+
+    private RealMatrix filterCovariance(final RealMatrix covariance, int[] indirection) {
+        final RealMatrix filtered = MatrixUtils.createRealMatrix(indirection.length, indirection.length);
+        for (int i = 0; i < indirection.length; ++i) {
+            for (int j = 0; j < indirection.length; ++j) {
+                filtered.setEntry(i, j, covariance.getEntry(indirection[i], indirection[j]));
+            }
+        }
+        return filtered;
+    }
+
+}
@@ -20,6 +20,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.orekit.Utils;
+import org.orekit.data.DataContext;
 import org.orekit.data.DataFilter;
 import org.orekit.data.DataSource;
 import org.orekit.data.GzipFilter;
@@ -35,6 +36,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -158,6 +160,42 @@ public class GeometryFreeCycleSlipDetectorTest {
         Assertions.assertEquals(0.0, trueDate.durationFrom(computedDate),  1e-9);
    }
 
+    @Test
+    public void testStreaming() throws URISyntaxException, IOException {
+        final String inputPath = GeometryFreeCycleSlipDetectorTest.class.getClassLoader().getResource("gnss/cycleSlip/WithCycleSlip.16o").toURI().getPath();
+        final File input  = new File(inputPath);
+        String fileName = "WithCycleSlip.16o";
+        final DataSource nd = new DataSource(fileName,
+                                             () -> new FileInputStream(new File(input.getParentFile(), fileName)));
+
+        // reference batch detection
+        final List<CycleSlipDetectorResults> batch =
+                        new GeometryFreeCycleSlipDetector(31, 31.0, 9).
+                        detect(new RinexObservationLoader(nd).getObservationDataSets());
+
+        // streaming detection, fed directly by the loader
+        final GeometryFreeCycleSlipDetector streaming = new GeometryFreeCycleSlipDetector(31, 31.0, 9);
+        final List<AbsoluteDate> notified = new ArrayList<>();
+        streaming.addHandler((results, frequency, date) -> {
+            Assertions.assertEquals(Frequency.G01, frequency);
+            Assertions.assertEquals(0.0, results.getEndDate(frequency).durationFrom(date), 1.0e-15);
+            notified.add(date);
+        });
+        new RinexObservationLoader(nd, DataContext.getDefault().getTimeScales(), streaming);
+
+        final List<CycleSlipDetectorResults> streamed = streaming.getCurrentResults();
+        Assertions.assertEquals(batch.size(), streamed.size());
+        for (int i = 0; i < batch.size(); ++i) {
+            Assertions.assertEquals(batch.get(i).getSatelliteName(), streamed.get(i).getSatelliteName());
+            Assertions.assertEquals(batch.get(i).getCycleSlipMap(), streamed.get(i).getCycleSlipMap());
+            Assertions.assertEquals(batch.get(i).getEndDate(Frequency.G01), streamed.get(i).getEndDate(Frequency.G01));
+        }
+        Assertions.assertEquals(1, notified.size());
+        Assertions.assertEquals(0.0,
+                                notified.get(0).durationFrom(new AbsoluteDate(2016, 02, 13, 1, 59, 43, TimeScalesFactory.getUTC())),
+                                1.0e-9);
+    }
+
     private int getPrn(final CycleSlipDetectorResults d) {
 
         if(d.getSatelliteName().substring(6).compareTo("1")==0) {return 1;};
@@ -0,0 +1,234 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.sequential;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.linear.RealVector;
+import org.hipparchus.util.MerweUnscentedTransform;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.estimation.Context;
+import org.orekit.estimation.EstimationTestUtils;
+import org.orekit.estimation.measurements.ObservableSatellite;
+import org.orekit.estimation.measurements.ObservedMeasurement;
+import org.orekit.estimation.measurements.PVMeasurementCreator;
+import org.orekit.orbits.KeplerianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.orbits.OrbitType;
+import org.orekit.orbits.PositionAngle;
+import org.orekit.propagation.Propagator;
+import org.orekit.propagation.conversion.NumericalPropagatorBuilder;
+
+public class FleetKalmanEstimatorTest {
+
+    @Test
+    public void testIndependentFilters() {
+
+        // measurements for two satellites, merged in a single time-ordered stream
+        final List<ObservedMeasurement<?>> measurementsA = createMeasurements(orbitA);
+        final List<ObservedMeasurement<?>> measurementsB = createMeasurements(orbitB);
+        final List<ObservedMeasurement<?>> merged = new ArrayList<>(measurementsA);
+        merged.addAll(measurementsB);
+        merged.sort(Comparator.comparing(ObservedMeasurement::getDate));
+        final ObservableSatellite satA = measurementsA.get(0).getSatellites().get(0);
+        final ObservableSatellite satB = measurementsB.get(0).getSatellites().get(0);
+
+        // reference: separate filters, run one after the other
+        final KalmanEstimator referenceA = createExtendedFilter(orbitA);
+        referenceA.processMeasurements(measurementsA);
+        final UnscentedKalmanEstimator referenceB = createUnscentedFilter(orbitB);
+        referenceB.processMeasurements(measurementsB);
+
+        // fleet, processing the merged stream in two chunks
+        final FleetKalmanEstimator fleet = new FleetKalmanEstimator(executor);
+        final KalmanEstimator filterA = createExtendedFilter(orbitA);
+        final UnscentedKalmanEstimator filterB = createUnscentedFilter(orbitB);
+        fleet.addEstimator(satA, filterA);
+        fleet.addEstimator(satB, filterB);
+        Assertions.assertSame(filterA, fleet.getEstimator(satA));
+        Assertions.assertSame(filterB, fleet.getEstimator(satB));
+        Assertions.assertNull(fleet.getEstimator(new ObservableSatellite(0)));
+
+        final int half = merged.size() / 2;
+        final Map<ObservableSatellite, Propagator[]> first  = fleet.processMeasurements(merged.subList(0, half));
+        Assertions.assertEquals(2, first.size());
+        final Map<ObservableSatellite, Propagator[]> second = fleet.processMeasurements(merged.subList(half, merged.size()));
+        Assertions.assertEquals(2, second.size());
+        Assertions.assertEquals(measurementsA.size(), filterA.getCurrentMeasurementNumber());
+        Assertions.assertEquals(measurementsB.size(), filterB.getCurrentMeasurementNumber());
+        Assertions.assertEquals(measurementsA.get(measurementsA.size() - 1).getDate(),
+                                second.get(satA)[0].getInitialState().getDate());
+
+        // independent filters give exactly the same results as separate runs
+        checkSame(referenceA, filterA);
+        checkSame(referenceB, filterB);
+
+    }
+
+    @Test
+    public void testUnknownSatellite() {
+        final List<ObservedMeasurement<?>> measurementsA = createMeasurements(orbitA);
+        final List<ObservedMeasurement<?>> measurementsB = createMeasurements(orbitB);
+        final FleetKalmanEstimator fleet = new FleetKalmanEstimator(executor);
+        final KalmanEstimator filterA = createExtendedFilter(orbitA);
+        fleet.addEstimator(measurementsA.get(0).getSatellites().get(0), filterA);
+        final List<ObservedMeasurement<?>> merged = new ArrayList<>(measurementsA);
+        merged.addAll(measurementsB);
+        try {
+            fleet.processMeasurements(merged);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.MEASUREMENT_NOT_DISPATCHABLE, oe.getSpecifier());
+            Assertions.assertEquals(measurementsB.get(0).getDate(), oe.getParts()[0]);
+        }
+        // no measurements at all have been processed
+        Assertions.assertEquals(0, filterA.getCurrentMeasurementNumber());
+    }
+
+    @Test
+    public void testSameFilterSeveralSatellites() {
+
+        final List<ObservedMeasurement<?>> measurementsA = createMeasurements(orbitA);
+        final List<ObservedMeasurement<?>> measurementsB = createMeasurements(orbitB);
+        final List<ObservedMeasurement<?>> merged = new ArrayList<>(measurementsA);
+        merged.addAll(measurementsB);
+        merged.sort(Comparator.comparing(ObservedMeasurement::getDate));
+        final ObservableSatellite satA = measurementsA.get(0).getSatellites().get(0);
+        final ObservableSatellite satB = measurementsB.get(0).getSatellites().get(0);
+
+        final KalmanEstimator reference = createExtendedFilter(orbitA);
+        reference.processMeasurements(merged);
+
+        // the same filter registered twice is not run concurrently with itself
+        final FleetKalmanEstimator fleet = new FleetKalmanEstimator(executor);
+        final KalmanEstimator filter = createExtendedFilter(orbitA);
+        fleet.addEstimator(satA, filter);
+        fleet.addEstimator(satB, filter);
+        final Map<ObservableSatellite, Propagator[]> propagators = fleet.processMeasurements(merged);
+        Assertions.assertEquals(2, propagators.size());
+        Assertions.assertSame(propagators.get(satA), propagators.get(satB));
+        Assertions.assertEquals(merged.size(), filter.getCurrentMeasurementNumber());
+        checkSame(reference, filter);
+
+    }
+
+    @Test
+    public void testGroupSimultaneous() {
+
+        // each measurement is duplicated, so simultaneous measurements can be grouped
+        final List<ObservedMeasurement<?>> measurements = new ArrayList<>();
+        for (final ObservedMeasurement<?> measurement : createMeasurements(orbitA)) {
+            measurements.add(measurement);
+            measurements.add(measurement);
+        }
+        final ObservableSatellite satA = measurements.get(0).getSatellites().get(0);
+
+        final KalmanEstimator reference = createGroupingFilter(orbitA);
+        reference.processMeasurements(measurements);
+        Assertions.assertEquals(measurements.size() / 2, reference.getCurrentMeasurementNumber());
+
+        // the fleet honors the filter setting
+        final FleetKalmanEstimator fleet = new FleetKalmanEstimator(executor);
+        final KalmanEstimator filter = createGroupingFilter(orbitA);
+        fleet.addEstimator(satA, filter);
+        fleet.processMeasurements(measurements);
+        Assertions.assertEquals(measurements.size() / 2, filter.getCurrentMeasurementNumber());
+        checkSame(reference, filter);
+
+    }
+
+    private List<ObservedMeasurement<?>> createMeasurements(final Orbit orbit) {
+        final Propagator propagator = EstimationTestUtils.createPropagator(orbit, createBuilder(orbit));
+        return EstimationTestUtils.createMeasurements(propagator, new PVMeasurementCreator(), 0.0, 1.0, 300.0);
+    }
+
+    private NumericalPropagatorBuilder createBuilder(final Orbit orbit) {
+        final NumericalPropagatorBuilder builder =
+                        context.createBuilder(OrbitType.CARTESIAN, PositionAngle.TRUE, true, 1.e-6, 60., 1.);
+        builder.resetOrbit(orbit);
+        return builder;
+    }
+
+    private KalmanEstimator createExtendedFilter(final Orbit orbit) {
+        return new KalmanEstimatorBuilder().
+                        addPropagationConfiguration(createBuilder(orbit), new ConstantProcessNoise(initialP, q)).
+                        build();
+    }
+
+    private KalmanEstimator createGroupingFilter(final Orbit orbit) {
+        return new KalmanEstimatorBuilder().
+                        addPropagationConfiguration(createBuilder(orbit), new ConstantProcessNoise(initialP, q)).
+                        groupSimultaneousMeasurements(true).
+                        build();
+    }
+
+    private UnscentedKalmanEstimator createUnscentedFilter(final Orbit orbit) {
+        return new UnscentedKalmanEstimatorBuilder().
+                        addPropagationConfiguration(createBuilder(orbit), new ConstantProcessNoise(initialP, q)).
+                        unscentedTransformProvider(new MerweUnscentedTransform(6)).
+                        build();
+    }
+
+    private void checkSame(final AbstractKalmanEstimator reference, final AbstractKalmanEstimator estimator) {
+        final RealVector referenceState = reference.getPhysicalEstimatedState();
+        final RealVector state          = estimator.getPhysicalEstimatedState();
+        Assertions.assertEquals(0.0, referenceState.subtract(state).getNorm(), 1.0e-15);
+        final RealMatrix referenceCovariance = reference.getPhysicalEstimatedCovarianceMatrix();
+        final RealMatrix covariance          = estimator.getPhysicalEstimatedCovarianceMatrix();
+        Assertions.assertEquals(0.0, referenceCovariance.subtract(covariance).getFrobeniusNorm(), 1.0e-15);
+    }
+
+    @BeforeEach
+    public void setUp() {
+        context  = EstimationTestUtils.eccentricContext("regular-data:potential:tides");
+        orbitA   = context.initialOrbit;
+        orbitB   = new KeplerianOrbit(orbitA.getA() + 20000.0, 0.01, 1.2, 0.5, 1.0, 2.0, PositionAngle.TRUE,
+                                      orbitA.getFrame(), orbitA.getDate(), orbitA.getMu());
+        initialP = MatrixUtils.createRealDiagonalMatrix(new double [] {
+            1e-2, 1e-2, 1e-2, 1e-5, 1e-5, 1e-5
+        });
+        q        = MatrixUtils.createRealDiagonalMatrix(new double [] {
+            1.e-8, 1.e-8, 1.e-8, 1.e-8, 1.e-8, 1.e-8
+        });
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private Context context;
+    private Orbit orbitA;
+    private Orbit orbitB;
+    private RealMatrix initialP;
+    private RealMatrix q;
+    private ExecutorService executor;
+
+}
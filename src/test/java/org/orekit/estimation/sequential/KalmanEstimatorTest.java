@@ -21,8 +21,12 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.filtering.kalman.ProcessEstimate;
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
 import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.QRDecomposer;
 import org.hipparchus.linear.RealMatrix;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -225,6 +229,141 @@ public class KalmanEstimatorTest {
                                            expectedSigmasVel, sigmaVelEps);
     }
 
+    /**
+     * Perfect range measurements with a biased start, using square root covariance
+     * Keplerian formalism
+     */
+    @Test
+    public void testKeplerianRangeSquareRoot() {
+
+        // Create context
+        Context context = EstimationTestUtils.eccentricContext("regular-data:potential:tides");
+        final NumericalPropagatorBuilder propagatorBuilder =
+                        context.createBuilder(OrbitType.KEPLERIAN, PositionAngle.TRUE, true, 1.e-6, 60., 1.);
+        final List<ObservedMeasurement<?>> measurements =
+                        EstimationTestUtils.createMeasurements(EstimationTestUtils.createPropagator(context.initialOrbit,
+                                                                                                    propagatorBuilder),
+                                                               new RangeMeasurementCreator(context),
+                                                               1.0, 4.0, 60.0);
+        final Orbit refOrbit = propagatorBuilder.
+                        buildPropagator(propagatorBuilder.getSelectedNormalizedParameters()).
+                        propagate(measurements.get(measurements.size()-1).getDate()).getOrbit();
+
+        // Change semi-major axis of 1.2m as in the batch test
+        ParameterDriver aDriver = propagatorBuilder.getOrbitalParametersDrivers().getDrivers().get(0);
+        aDriver.setValue(aDriver.getValue() + 1.2);
+        aDriver.setReferenceDate(AbsoluteDate.GALILEO_EPOCH);
+
+        // same configuration as testKeplerianRange, except for covariance representation
+        final RealMatrix cartesianP = MatrixUtils.createRealDiagonalMatrix(new double [] {
+            100., 100., 100., 1e-2, 1e-2, 1e-2
+        });
+        final Orbit initialOrbit = OrbitType.KEPLERIAN.convertType(context.initialOrbit);
+        final double[][] dYdC = new double[6][6];
+        initialOrbit.getJacobianWrtCartesian(PositionAngle.TRUE, dYdC);
+        final RealMatrix Jac = MatrixUtils.createRealMatrix(dYdC);
+        final RealMatrix initialP = Jac.multiply(cartesianP.multiply(Jac.transpose()));
+        final KalmanEstimator kalman = new KalmanEstimatorBuilder().
+                        addPropagationConfiguration(propagatorBuilder,
+                                                    new ConstantProcessNoise(initialP, MatrixUtils.createRealMatrix(6, 6))).
+                        squareRootCovariance(true).
+                        build();
+
+        // results are the same as with the regular covariance representation
+        EstimationTestUtils.checkKalmanFit(context, kalman, measurements,
+                                           refOrbit, PositionAngle.TRUE,
+                                           0., 1.77e-4,
+                                           0., 7.93e-8,
+                                           new double[] {0.742488, 0.281914, 0.563213}, 1e-6,
+                                           new double[] {2.206636e-4, 1.306656e-4, 1.293981e-4}, 1e-10);
+    }
+
+    @Test
+    public void testSquareRootThreshold() {
+
+        // covariance with a round-off level negative diagonal element
+        final ProcessEstimate initial =
+                        new ProcessEstimate(0.0, MatrixUtils.createRealVector(2),
+                                            MatrixUtils.createRealDiagonalMatrix(new double[] { 1.0, -1.0e-18 }));
+
+        // the default threshold ignores it
+        final SquareRootExtendedKalmanFilter<MeasurementDecorator> filter =
+                        new SquareRootExtendedKalmanFilter<>(new QRDecomposer(1.0e-15), null, initial);
+        Assertions.assertSame(initial, filter.getCorrected());
+
+        // a null threshold rejects it
+        try {
+            new SquareRootExtendedKalmanFilter<MeasurementDecorator>(new QRDecomposer(1.0e-15), null, initial, 0.0);
+            Assertions.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            Assertions.assertEquals(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX, miae.getSpecifier());
+        }
+
+    }
+
+    /**
+     * Perfect simultaneous position and PV measurements, grouping simultaneous measurements
+     * Keplerian formalism
+     */
+    @Test
+    public void testGroupSimultaneousMeasurements() {
+
+        Context context = EstimationTestUtils.eccentricContext("regular-data:potential:tides");
+        final NumericalPropagatorBuilder propagatorBuilder =
+                        context.createBuilder(OrbitType.KEPLERIAN, PositionAngle.TRUE, true, 1.e-6, 60., 1.);
+        final List<ObservedMeasurement<?>> measurements = new ArrayList<>();
+        measurements.addAll(EstimationTestUtils.createMeasurements(EstimationTestUtils.createPropagator(context.initialOrbit,
+                                                                                                        propagatorBuilder),
+                                                                   new PVMeasurementCreator(),
+                                                                   0.0, 3.0, 300.0));
+        measurements.addAll(EstimationTestUtils.createMeasurements(EstimationTestUtils.createPropagator(context.initialOrbit,
+                                                                                                        propagatorBuilder),
+                                                                   new PositionMeasurementCreator(),
+                                                                   0.0, 3.0, 300.0));
+        measurements.sort(Comparator.naturalOrder());
+        final int epochs = measurements.size() / 2;
+
+        final RealMatrix initialP = MatrixUtils.createRealDiagonalMatrix(new double [] {
+            1e-2, 1e-2, 1e-2, 1e-5, 1e-5, 1e-5
+        });
+        final RealMatrix Q = MatrixUtils.createRealDiagonalMatrix(new double [] {
+            1.e-8, 1.e-8, 1.e-8, 1.e-8, 1.e-8, 1.e-8
+        });
+
+        for (final boolean squareRoot : new boolean[] { false, true }) {
+
+            final KalmanEstimator sequential = new KalmanEstimatorBuilder().
+                            addPropagationConfiguration(propagatorBuilder.copy(), new ConstantProcessNoise(initialP, Q)).
+                            squareRootCovariance(squareRoot).
+                            build();
+            final int[] sequentialSteps = new int[1];
+            sequential.setObserver(estimation -> ++sequentialSteps[0]);
+            final Propagator[] sequentialEstimated = sequential.processMeasurements(measurements);
+            Assertions.assertEquals(measurements.size(), sequentialSteps[0]);
+
+            final KalmanEstimator grouped = new KalmanEstimatorBuilder().
+                            addPropagationConfiguration(propagatorBuilder.copy(), new ConstantProcessNoise(initialP, Q)).
+                            squareRootCovariance(squareRoot).
+                            groupSimultaneousMeasurements(true).
+                            build();
+            final int[] groupedSteps = new int[1];
+            grouped.setObserver(estimation -> ++groupedSteps[0]);
+            final Propagator[] groupedEstimated = grouped.processMeasurements(measurements);
+            Assertions.assertEquals(epochs, groupedSteps[0]);
+
+            // stacked updates and sequential updates are equivalent, up to linearization
+            // (covariances differ slightly as process noise is added at each sequential step)
+            final Vector3D pS = sequentialEstimated[0].getInitialState().getPVCoordinates().getPosition();
+            final Vector3D pG = groupedEstimated[0].getInitialState().getPVCoordinates().getPosition();
+            Assertions.assertEquals(0.0, Vector3D.distance(pS, pG), 3.0e-9);
+            final RealMatrix cS = sequential.getPhysicalEstimatedCovarianceMatrix();
+            final RealMatrix cG = grouped.getPhysicalEstimatedCovarianceMatrix();
+            Assertions.assertEquals(0.0, cS.subtract(cG).getNorm1() / cS.getNorm1(), 3.0e-3);
+
+        }
+
+    }
+
     /**
      * Perfect range measurements with a biased start and an on-board antenna range offset
      * Keplerian formalism
@@ -0,0 +1,230 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.sequential;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.stat.descriptive.StreamingStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.estimation.Context;
+import org.orekit.estimation.EstimationTestUtils;
+import org.orekit.estimation.measurements.ObservedMeasurement;
+import org.orekit.estimation.measurements.PVMeasurementCreator;
+import org.orekit.orbits.OrbitType;
+import org.orekit.orbits.PositionAngle;
+import org.orekit.propagation.Propagator;
+import org.orekit.propagation.conversion.NumericalPropagatorBuilder;
+
+public class StreamingKalmanEstimatorTest {
+
+    @Test
+    public void testOutOfOrder() throws InterruptedException {
+
+        // reference estimation, with sorted measurements
+        final KalmanEstimator reference = createFilter();
+        reference.processMeasurements(measurements);
+
+        // shuffle measurements within a 60s window
+        final List<ObservedMeasurement<?>> shuffled = new ArrayList<>(measurements);
+        for (int i = 0; i + 1 < shuffled.size(); i += 2) {
+            Collections.swap(shuffled, i, i + 1);
+        }
+
+        final KalmanEstimator filter = createFilter();
+        final StreamingKalmanEstimator streaming = new StreamingKalmanEstimator(filter, executor, 120.0, 4);
+        Assertions.assertEquals(120.0, streaming.getReorderWindow(), 1.0e-15);
+        Assertions.assertEquals(4, streaming.getCapacity());
+        final AtomicInteger notified = new AtomicInteger();
+        streaming.setObserver((measurement, latency) -> {
+            Assertions.assertTrue(latency >= 0);
+            notified.incrementAndGet();
+        });
+        for (final ObservedMeasurement<?> measurement : shuffled) {
+            Assertions.assertTrue(streaming.submit(measurement));
+            Assertions.assertTrue(streaming.getBuffered() <= 4);
+        }
+        final Propagator[] propagators = streaming.close();
+        Assertions.assertSame(propagators, streaming.getEstimatedPropagators());
+        Assertions.assertEquals(measurements.get(measurements.size() - 1).getDate(),
+                                propagators[0].getInitialState().getDate());
+
+        Assertions.assertEquals(0, streaming.getBuffered());
+        Assertions.assertEquals(0, streaming.getDiscarded());
+        Assertions.assertEquals(measurements.size(), notified.get());
+        final StreamingStatistics latency = streaming.getLatencyStatistics();
+        Assertions.assertEquals(measurements.size(), latency.getN());
+        Assertions.assertTrue(latency.getMin() >= 0);
+
+        // the filter saw the measurements in chronological order
+        Assertions.assertEquals(measurements.size(), filter.getCurrentMeasurementNumber());
+        Assertions.assertEquals(0.0,
+                                reference.getPhysicalEstimatedState().
+                                subtract(filter.getPhysicalEstimatedState()).getNorm(),
+                                1.0e-15);
+
+    }
+
+    @Test
+    public void testLateMeasurement() throws InterruptedException {
+
+        final StreamingKalmanEstimator streaming = new StreamingKalmanEstimator(createFilter(), executor, 0.0, 4);
+        final List<ObservedMeasurement<?>> discarded = new ArrayList<>();
+        streaming.setObserver(new StreamingObserver() {
+            public void measurementProcessed(final ObservedMeasurement<?> measurement, final double latency) {
+            }
+            public void measurementDiscarded(final ObservedMeasurement<?> measurement) {
+                discarded.add(measurement);
+            }
+        });
+
+        // with a zero reorder window, measurements are released immediately
+        Assertions.assertTrue(streaming.submit(measurements.get(1)));
+        while (streaming.getBuffered() > 0) {
+            Thread.sleep(1);
+        }
+        Assertions.assertFalse(streaming.submit(measurements.get(0)));
+        Assertions.assertTrue(streaming.submit(measurements.get(2)));
+        streaming.close();
+
+        Assertions.assertEquals(1, streaming.getDiscarded());
+        Assertions.assertEquals(1, discarded.size());
+        Assertions.assertSame(measurements.get(0), discarded.get(0));
+        Assertions.assertEquals(2, streaming.getLatencyStatistics().getN());
+
+    }
+
+    @Test
+    public void testFullBuffer() throws InterruptedException {
+
+        // with a huge reorder window, measurements are released only because the buffer is full
+        final KalmanEstimator filter = createFilter();
+        final StreamingKalmanEstimator streaming = new StreamingKalmanEstimator(filter, executor, 1.0e6, 2);
+        final AtomicInteger processed = new AtomicInteger();
+        streaming.setObserver((measurement, latency) -> processed.incrementAndGet());
+
+        // blocking submissions on a full buffer must return without closing the stream
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+            for (int i = 0; i < 5; ++i) {
+                Assertions.assertTrue(streaming.submit(measurements.get(i)));
+                Assertions.assertTrue(streaming.getBuffered() <= 2);
+            }
+            while (processed.get() < 3) {
+                Thread.sleep(1);
+            }
+        });
+        Assertions.assertEquals(0, streaming.getDiscarded());
+
+        streaming.close();
+        Assertions.assertEquals(5, processed.get());
+        Assertions.assertEquals(5, filter.getCurrentMeasurementNumber());
+
+        try {
+            streaming.submit(measurements.get(5));
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.MEASUREMENTS_STREAM_CLOSED, oe.getSpecifier());
+        }
+
+    }
+
+    @Test
+    public void testEmptyStream() throws InterruptedException {
+        final StreamingKalmanEstimator streaming = new StreamingKalmanEstimator(createFilter(), executor, 60.0, 2);
+        Assertions.assertNull(streaming.close());
+        Assertions.assertEquals(0, streaming.getLatencyStatistics().getN());
+    }
+
+    @Test
+    public void testWrongCapacity() {
+        try {
+            new StreamingKalmanEstimator(createFilter(), executor, 60.0, 0);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+            Assertions.assertEquals(0, ((Integer) oe.getParts()[0]).intValue());
+        }
+    }
+
+    @Test
+    public void testWorkerFailure() throws InterruptedException {
+        final StreamingKalmanEstimator streaming = new StreamingKalmanEstimator(createFilter(), executor, 0.0, 4);
+        final IllegalStateException failure = new IllegalStateException("dummy");
+        streaming.setObserver((measurement, latency) -> {
+            throw failure;
+        });
+        Assertions.assertTrue(streaming.submit(measurements.get(0)));
+        try {
+            streaming.close();
+            Assertions.fail("an exception should have been thrown");
+        } catch (IllegalStateException ise) {
+            Assertions.assertSame(failure, ise);
+        }
+        try {
+            streaming.submit(measurements.get(1));
+            Assertions.fail("an exception should have been thrown");
+        } catch (IllegalStateException ise) {
+            Assertions.assertSame(failure, ise);
+        }
+    }
+
+    private KalmanEstimator createFilter() {
+        final NumericalPropagatorBuilder propagatorBuilder =
+                        context.createBuilder(OrbitType.CARTESIAN, PositionAngle.TRUE, true, 1.e-6, 60., 1.);
+        final RealMatrix initialP = MatrixUtils.createRealDiagonalMatrix(new double [] {
+            1e-2, 1e-2, 1e-2, 1e-5, 1e-5, 1e-5
+        });
+        final RealMatrix q = MatrixUtils.createRealDiagonalMatrix(new double [] {
+            1.e-8, 1.e-8, 1.e-8, 1.e-8, 1.e-8, 1.e-8
+        });
+        return new KalmanEstimatorBuilder().
+                        addPropagationConfiguration(propagatorBuilder, new ConstantProcessNoise(initialP, q)).
+                        build();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        context = EstimationTestUtils.eccentricContext("regular-data:potential:tides");
+        final NumericalPropagatorBuilder propagatorBuilder =
+                        context.createBuilder(OrbitType.CARTESIAN, PositionAngle.TRUE, true, 1.e-6, 60., 1.);
+        final Propagator propagator = EstimationTestUtils.createPropagator(context.initialOrbit, propagatorBuilder);
+        measurements = EstimationTestUtils.createMeasurements(propagator, new PVMeasurementCreator(), 0.0, 0.5, 60.0);
+        executor     = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private Context context;
+    private List<ObservedMeasurement<?>> measurements;
+    private ExecutorService executor;
+
+}
@@ -18,10 +18,13 @@ package org.orekit.estimation.sequential;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
 import org.hipparchus.linear.MatrixUtils;
 import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.linear.RealVector;
 import org.hipparchus.util.MerweUnscentedTransform;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -845,6 +848,78 @@ public class UnscentedKalmanEstimatorTest {
 
     }
 
+    @Test
+    public void testSigmaPointsExecutorAndLinearization() {
+
+        // Create context
+        Context context = UnscentedEstimationTestUtils.eccentricContext("regular-data:potential:tides");
+
+        // Create perfect range measurements
+        final NumericalPropagatorBuilder measurementsBuilder =
+                        context.createBuilder(OrbitType.CARTESIAN, PositionAngle.TRUE, true, 1.e-6, 60., 1.);
+        final Propagator propagator = UnscentedEstimationTestUtils.createPropagator(context.initialOrbit,
+                                                                                    measurementsBuilder);
+        final List<ObservedMeasurement<?>> measurements =
+                UnscentedEstimationTestUtils.createMeasurements(propagator,
+                                                               new RangeMeasurementCreator(context),
+                                                               0.0, 1.0, 60.0);
+
+        // reference filter, propagating sigma points in lockstep
+        final UnscentedKalmanEstimator reference = createRangeFilter(context, null, 0.0);
+        reference.processMeasurements(measurements);
+
+        // concurrent propagation of sigma points
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final UnscentedKalmanEstimator concurrent = createRangeFilter(context, executor, 0.0);
+        try {
+            concurrent.processMeasurements(measurements);
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(measurements.size(), concurrent.getCurrentMeasurementNumber());
+        checkSameEstimation(reference, concurrent, 0.0, 0.0, 0.0);
+
+        // linearized sigma points around a single reference trajectory
+        final UnscentedKalmanEstimator linearized = createRangeFilter(context, null, 300.0);
+        linearized.processMeasurements(measurements);
+        Assertions.assertEquals(measurements.size(), linearized.getCurrentMeasurementNumber());
+        checkSameEstimation(reference, linearized, 1.0e-7, 1.0e-10, 1.0e-6);
+
+    }
+
+    private UnscentedKalmanEstimator createRangeFilter(final Context context, final ExecutorService executor,
+                                                       final double threshold) {
+        final NumericalPropagatorBuilder propagatorBuilder =
+                        context.createBuilder(OrbitType.CARTESIAN, PositionAngle.TRUE, true, 1.e-6, 60., 1.);
+        final RealMatrix initialP = MatrixUtils.createRealDiagonalMatrix(new double[] {
+            1.0e-2, 1.0e-2, 1.0e-2, 1.0e-8, 1.0e-8, 1.0e-8
+        });
+        final RealMatrix Q = MatrixUtils.createRealMatrix(6, 6);
+        return new UnscentedKalmanEstimatorBuilder().
+                        addPropagationConfiguration(propagatorBuilder, new ConstantProcessNoise(initialP, Q)).
+                        unscentedTransformProvider(new MerweUnscentedTransform(6)).
+                        sigmaPointsExecutor(executor).
+                        linearizationThreshold(threshold).
+                        build();
+    }
+
+    private void checkSameEstimation(final UnscentedKalmanEstimator reference, final UnscentedKalmanEstimator other,
+                                     final double posTolerance, final double velTolerance,
+                                     final double relativeCovarianceTolerance) {
+        final RealVector referenceState = reference.getPhysicalEstimatedState();
+        final RealVector otherState     = other.getPhysicalEstimatedState();
+        for (int i = 0; i < 6; ++i) {
+            Assertions.assertEquals(referenceState.getEntry(i), otherState.getEntry(i),
+                                    i < 3 ? posTolerance : velTolerance);
+        }
+        final RealMatrix referenceCovariance = reference.getPhysicalEstimatedCovarianceMatrix();
+        final RealMatrix otherCovariance     = other.getPhysicalEstimatedCovarianceMatrix();
+        for (int i = 0; i < 6; ++i) {
+            Assertions.assertEquals(referenceCovariance.getEntry(i, i), otherCovariance.getEntry(i, i),
+                                    relativeCovarianceTolerance * referenceCovariance.getEntry(i, i));
+        }
+    }
+
     private static class DummyException extends OrekitException {
         private static final long serialVersionUID = 1L;
         public DummyException() {
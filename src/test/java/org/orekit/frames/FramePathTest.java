@@ -0,0 +1,116 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.frames;
+
+import org.hipparchus.geometry.euclidean.threed.Rotation;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.Decimal64;
+import org.hipparchus.util.Decimal64Field;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.bodies.GeodeticPoint;
+import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.FieldAbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+
+public class FramePathTest {
+
+    @Test
+    public void testSameAsFrame() {
+        final Frame itrf    = FramesFactory.getITRF(IERSConventions.IERS_2010, false);
+        final Frame eme2000 = FramesFactory.getEME2000();
+        final Frame teme    = FramesFactory.getTEME();
+        final Frame topo    = new TopocentricFrame(new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS,
+                                                                        Constants.WGS84_EARTH_FLATTENING,
+                                                                        itrf),
+                                                   new GeodeticPoint(0.5, 0.25, 150.0), "topo");
+        final AbsoluteDate t0 = new AbsoluteDate(2003, 6, 1, TimeScalesFactory.getUTC());
+        final Vector3D position = new Vector3D(7.0e6, 1.0e6, -2.0e6);
+
+        for (final Frame[] pair : new Frame[][] {
+            { topo, eme2000 }, { eme2000, topo }, { itrf, topo }, { topo, itrf }, { teme, topo }, { itrf, itrf }
+        }) {
+            final FramePath path = pair[0].getPathTo(pair[1]);
+            Assertions.assertSame(pair[0], path.getSource());
+            Assertions.assertSame(pair[1], path.getDestination());
+            for (double dt = 0; dt < 86400.0; dt += 1234.5) {
+                final AbsoluteDate date = t0.shiftedBy(dt);
+
+                final Transform reference = pair[0].getTransformTo(pair[1], date);
+                final Transform transform = path.getTransform(date);
+                Assertions.assertEquals(0.0,
+                                        Vector3D.distance(reference.getTranslation(), transform.getTranslation()),
+                                        1.0e-15);
+                Assertions.assertEquals(0.0, Rotation.distance(reference.getRotation(), transform.getRotation()), 1.0e-15);
+                Assertions.assertEquals(0.0, Vector3D.distance(reference.getVelocity(), transform.getVelocity()), 1.0e-15);
+
+                final StaticTransform staticReference = pair[0].getStaticTransformTo(pair[1], date);
+                final StaticTransform staticTransform = path.getStaticTransform(date);
+                if (pair[0] != pair[1]) {
+                    Assertions.assertEquals(date, staticTransform.getDate());
+                }
+                Assertions.assertEquals(0.0,
+                                        Vector3D.distance(staticReference.getTranslation(), staticTransform.getTranslation()),
+                                        2.0e-9);
+                Assertions.assertEquals(0.0,
+                                        Rotation.distance(staticReference.getRotation(), staticTransform.getRotation()),
+                                        1.0e-15);
+                Assertions.assertEquals(0.0,
+                                        Vector3D.distance(staticReference.transformPosition(position),
+                                                          path.transformPosition(date, position)),
+                                        1.0e-7);
+
+                final FieldAbsoluteDate<Decimal64> fieldDate = new FieldAbsoluteDate<>(Decimal64Field.getInstance(), date);
+                final FieldTransform<Decimal64> fieldReference = pair[0].getTransformTo(pair[1], fieldDate);
+                final FieldTransform<Decimal64> fieldTransform = path.getTransform(fieldDate);
+                Assertions.assertEquals(0.0,
+                                        Vector3D.distance(fieldReference.getTranslation().toVector3D(),
+                                                          fieldTransform.getTranslation().toVector3D()),
+                                        1.0e-15);
+                Assertions.assertEquals(0.0,
+                                        Rotation.distance(fieldReference.getRotation().toRotation(),
+                                                          fieldTransform.getRotation().toRotation()),
+                                        1.0e-15);
+
+            }
+        }
+
+    }
+
+    @Test
+    public void testSameFrame() {
+        final Frame gcrf = FramesFactory.getGCRF();
+        final FramePath path = new FramePath(gcrf, gcrf);
+        Assertions.assertSame(Transform.IDENTITY, path.getTransform(AbsoluteDate.J2000_EPOCH));
+        final Vector3D p = new Vector3D(1.0, 2.0, 3.0);
+        Assertions.assertEquals(0.0, Vector3D.distance(p, path.transformPosition(AbsoluteDate.J2000_EPOCH, p)), 1.0e-15);
+        Assertions.assertEquals(0.0,
+                                Vector3D.distance(p, path.getStaticTransform(AbsoluteDate.J2000_EPOCH).transformPosition(p)),
+                                1.0e-15);
+    }
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("compressed-data");
+    }
+
+}
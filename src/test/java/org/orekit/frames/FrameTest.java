@@ -32,7 +32,10 @@ import org.orekit.time.TimeScalesFactory;
 import org.orekit.utils.Constants;
 import org.orekit.utils.IERSConventions;
 import org.orekit.utils.PVCoordinates;
+import org.orekit.utils.TimeStampedPVCoordinates;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 public class FrameTest {
@@ -233,6 +236,48 @@ public class FrameTest {
 
     }
 
+    @Test
+    public void testBatchTransforms() {
+        final Frame itrf = FramesFactory.getITRF(IERSConventions.IERS_2010, false);
+        final Frame eme2000 = FramesFactory.getEME2000();
+        final Frame topo = new TopocentricFrame(new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS,
+                                                                     Constants.WGS84_EARTH_FLATTENING,
+                                                                     itrf),
+                                                new GeodeticPoint(0.5, 0.25, 150.0), "topo");
+        final AbsoluteDate t0 = new AbsoluteDate(2003, 6, 1, TimeScalesFactory.getUTC());
+        final List<AbsoluteDate> dates = new ArrayList<>();
+        final List<TimeStampedPVCoordinates> pv = new ArrayList<>();
+        for (double dt = 0; dt < 86400.0; dt += 97.0) {
+            final AbsoluteDate date = t0.shiftedBy(dt);
+            dates.add(date);
+            pv.add(new TimeStampedPVCoordinates(date,
+                                                new Vector3D(7.0e6, 1.0e6 * FastMath.sin(dt), -2.0e6),
+                                                new Vector3D(10.0, 7500.0, 1.0e3 * FastMath.cos(dt))));
+        }
+
+        for (final Frame[] pair : new Frame[][] {
+            { topo, eme2000 }, { eme2000, topo }, { itrf, topo }, { topo, itrf }, { itrf, itrf }
+        }) {
+            final List<Transform> transforms = pair[0].getTransformsTo(pair[1], dates);
+            final List<TimeStampedPVCoordinates> converted = pair[0].transformPVCoordinates(pair[1], pv);
+            Assertions.assertEquals(dates.size(), transforms.size());
+            Assertions.assertEquals(dates.size(), converted.size());
+            for (int i = 0; i < dates.size(); ++i) {
+                final Transform reference = pair[0].getTransformTo(pair[1], dates.get(i));
+                Assertions.assertEquals(0.0,
+                                        Vector3D.distance(reference.getTranslation(), transforms.get(i).getTranslation()),
+                                        1.0e-15);
+                Assertions.assertEquals(0.0,
+                                        Rotation.distance(reference.getRotation(), transforms.get(i).getRotation()),
+                                        1.0e-15);
+                final PVCoordinates expected = reference.transformPVCoordinates(pv.get(i));
+                Assertions.assertEquals(0.0, Vector3D.distance(expected.getPosition(), converted.get(i).getPosition()), 1.0e-15);
+                Assertions.assertEquals(0.0, Vector3D.distance(expected.getVelocity(), converted.get(i).getVelocity()), 1.0e-15);
+            }
+        }
+
+    }
+
     private Transform randomTransform(Random random) {
         Transform transform = Transform.IDENTITY;
         for (int i = random.nextInt(10); i > 0; --i) {
@@ -0,0 +1,142 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.frames;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hipparchus.geometry.euclidean.threed.Rotation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.data.DataContext;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScales;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+
+public class UpdatableEOPHistoryTest {
+
+    @Test
+    public void testAppend() {
+
+        final EOPHistory reference = FramesFactory.getEOPHistory(IERSConventions.IERS_2010, true);
+        final List<EOPEntry> all   = reference.getEntries();
+        final int split            = all.size() / 2;
+        final UpdatableEOPHistory updatable =
+                        new UpdatableEOPHistory(IERSConventions.IERS_2010, all.subList(0, split), true,
+                                                DataContext.getDefault().getTimeScales());
+        final AbsoluteDate late = all.get(split + 10).getDate().shiftedBy(3600.0);
+        Assertions.assertEquals(all.get(split - 1).getDate(), updatable.getEndDate());
+        Assertions.assertEquals(0.0, updatable.getUT1MinusUTC(late), 1.0e-15);
+
+        final List<AbsoluteDate> notified = new ArrayList<>();
+        updatable.addListener((start, end) -> {
+            notified.add(start);
+            notified.add(end);
+        });
+        updatable.update(all.subList(split, all.size()));
+
+        Assertions.assertEquals(all.size(), updatable.getEntries().size());
+        Assertions.assertEquals(reference.getEndDate(), updatable.getEndDate());
+        Assertions.assertEquals(reference.getUT1MinusUTC(late), updatable.getUT1MinusUTC(late), 1.0e-15);
+        Assertions.assertEquals(2, notified.size());
+        Assertions.assertEquals(all.get(split - EOPHistory.INTERPOLATION_POINTS).getDate(), notified.get(0));
+        Assertions.assertEquals(reference.getEndDate(), notified.get(1));
+
+        // empty updates are ignored
+        updatable.update(Collections.emptyList());
+        Assertions.assertEquals(2, notified.size());
+
+    }
+
+    @Test
+    public void testReplace() {
+
+        final EOPHistory reference = FramesFactory.getEOPHistory(IERSConventions.IERS_2010, true);
+        final List<EOPEntry> all   = reference.getEntries();
+        final UpdatableEOPHistory updatable =
+                        new UpdatableEOPHistory(IERSConventions.IERS_2010, all, true,
+                                                DataContext.getDefault().getTimeScales());
+
+        final EOPEntry old = all.get(all.size() / 2);
+        final EOPEntry modified = new EOPEntry(old.getMjd(), old.getUT1MinusUTC() + 0.001, old.getLOD(),
+                                               old.getX(), old.getY(), old.getDdPsi(), old.getDdEps(),
+                                               old.getDx(), old.getDy(), old.getITRFType(), old.getDate());
+        updatable.update(Collections.singletonList(modified));
+        Assertions.assertEquals(all.size(), updatable.getEntries().size());
+        Assertions.assertEquals(reference.getUT1MinusUTC(old.getDate()) + 0.001,
+                                updatable.getUT1MinusUTC(old.getDate()),
+                                1.0e-12);
+        final AbsoluteDate far = old.getDate().shiftedBy(10 * Constants.JULIAN_DAY);
+        Assertions.assertEquals(reference.getUT1MinusUTC(far), updatable.getUT1MinusUTC(far), 1.0e-15);
+
+    }
+
+    @Test
+    public void testFramesCacheInvalidation() {
+
+        final TimeScales timeScales = DataContext.getDefault().getTimeScales();
+        final EOPHistory reference  = FramesFactory.getEOPHistory(IERSConventions.IERS_2010, false);
+        final List<EOPEntry> all    = reference.getEntries();
+        final int split             = all.size() / 2;
+        final UpdatableEOPHistory updatable =
+                        new UpdatableEOPHistory(IERSConventions.IERS_2010, all.subList(0, split), false, timeScales);
+        final Frames frames = new AbstractFrames(timeScales, () -> FramesFactory.getICRF()) {
+            @Override
+            public EOPHistory getEOPHistory(final IERSConventions conventions, final boolean simpleEOP) {
+                return updatable;
+            }
+        };
+        final Frame cirf          = frames.getCIRF(IERSConventions.IERS_2010, false);
+        final Frame referenceCirf = FramesFactory.getCIRF(IERSConventions.IERS_2010, false);
+
+        final AbsoluteDate early = all.get(split / 2).getDate().shiftedBy(1234.5);
+        final AbsoluteDate late  = all.get(split + 10).getDate().shiftedBy(1234.5);
+
+        // populate caches
+        final Rotation earlyBefore = cirf.getTransformTo(frames.getGCRF(), early).getRotation();
+        final Rotation lateBefore  = cirf.getTransformTo(frames.getGCRF(), late).getRotation();
+        Assertions.assertEquals(0.0,
+                                Rotation.distance(earlyBefore,
+                                                  referenceCirf.getTransformTo(FramesFactory.getGCRF(), early).getRotation()),
+                                1.0e-15);
+        Assertions.assertTrue(Rotation.distance(lateBefore,
+                                                referenceCirf.getTransformTo(FramesFactory.getGCRF(), late).getRotation()) > 1.0e-10);
+
+        // update EOP, cached transforms in the affected range must be recomputed
+        updatable.update(all.subList(split, all.size()));
+        final Rotation earlyAfter = cirf.getTransformTo(frames.getGCRF(), early).getRotation();
+        final Rotation lateAfter  = cirf.getTransformTo(frames.getGCRF(), late).getRotation();
+        Assertions.assertEquals(0.0, Rotation.distance(earlyBefore, earlyAfter), 1.0e-15);
+        Assertions.assertEquals(0.0,
+                                Rotation.distance(lateAfter,
+                                                  referenceCirf.getTransformTo(FramesFactory.getGCRF(), late).getRotation()),
+                                1.0e-15);
+
+    }
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+        TimeScalesFactory.getUTC();
+    }
+
+}
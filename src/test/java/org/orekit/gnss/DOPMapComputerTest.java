@@ -0,0 +1,183 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.gnss;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.bodies.GeodeticPoint;
+import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.FramesFactory;
+import org.orekit.propagation.Propagator;
+import org.orekit.propagation.analytical.gnss.GNSSPropagatorBuilder;
+import org.orekit.propagation.analytical.gnss.data.GPSAlmanac;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.ElevationMask;
+import org.orekit.utils.IERSConventions;
+
+public class DOPMapComputerTest {
+
+    private OneAxisEllipsoid    earth;
+    private List<GeodeticPoint> grid;
+    private List<Propagator>    gps;
+    private AbsoluteDate        date;
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("gnss");
+        earth = new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS,
+                                     Constants.WGS84_EARTH_FLATTENING,
+                                     FramesFactory.getITRF(IERSConventions.IERS_2010, true));
+        grid  = DOPMapComputer.createGrid(FastMath.toRadians(-80.0), FastMath.toRadians(80.0), FastMath.toRadians(20.0),
+                                          FastMath.toRadians(-180.0), FastMath.toRadians(165.0), FastMath.toRadians(15.0));
+        final YUMAParser reader = new YUMAParser(null);
+        reader.loadData();
+        gps = new ArrayList<>();
+        for (GPSAlmanac almanac : reader.getAlmanacs()) {
+            gps.add(new GNSSPropagatorBuilder(almanac).build());
+        }
+        date = new AbsoluteDate(2016, 3, 31, 7, 0, 0., TimeScalesFactory.getUTC());
+    }
+
+    @Test
+    public void testGrid() {
+        Assertions.assertEquals(9 * 24, grid.size());
+        Assertions.assertEquals(-80.0,  FastMath.toDegrees(grid.get(0).getLatitude()),   1.0e-12);
+        Assertions.assertEquals(-180.0, FastMath.toDegrees(grid.get(0).getLongitude()),  1.0e-12);
+        Assertions.assertEquals(-80.0,  FastMath.toDegrees(grid.get(23).getLatitude()),  1.0e-12);
+        Assertions.assertEquals(165.0,  FastMath.toDegrees(grid.get(23).getLongitude()), 1.0e-12);
+        Assertions.assertEquals(-60.0,  FastMath.toDegrees(grid.get(24).getLatitude()),  1.0e-12);
+        Assertions.assertEquals(80.0,   FastMath.toDegrees(grid.get(grid.size() - 1).getLatitude()), 1.0e-12);
+    }
+
+    @Test
+    public void testMinElevation() {
+        final DOPMapComputer computer = DOPMapComputer.create(earth, grid).withMinElevation(FastMath.toRadians(10.0));
+        Assertions.assertEquals(FastMath.toRadians(10.0), computer.getMinElevation(), 0.0);
+        Assertions.assertNull(computer.getElevationMask());
+        Assertions.assertNull(computer.getExecutor());
+        Assertions.assertEquals(grid.size(), computer.getLocations().size());
+        checkConsistency(computer.compute(date, gps), location -> DOPComputer.create(earth, location).
+                                                                  withMinElevation(FastMath.toRadians(10.0)));
+    }
+
+    @Test
+    public void testElevationMask() {
+        final DOPMapComputer computer = DOPMapComputer.create(earth, grid).withElevationMask(getMask());
+        Assertions.assertEquals(DOPComputer.DOP_MIN_ELEVATION, computer.getMinElevation(), 0.0);
+        Assertions.assertNotNull(computer.getElevationMask());
+        final DOP[] dops = computer.compute(date, gps);
+        checkConsistency(dops, location -> DOPComputer.create(earth, location).withElevationMask(getMask()));
+        int nan = 0;
+        for (final DOP dop : dops) {
+            if (Double.isNaN(dop.getGdop())) {
+                Assertions.assertTrue(dop.getGnssNb() < 4);
+                ++nan;
+            }
+        }
+        Assertions.assertTrue(nan > 0);
+    }
+
+    @Test
+    public void testExecutor() {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<GeodeticPoint> fine = DOPMapComputer.createGrid(FastMath.toRadians(-88.0), FastMath.toRadians(88.0),
+                                                                       FastMath.toRadians(4.0),
+                                                                       FastMath.toRadians(-180.0), FastMath.toRadians(176.0),
+                                                                       FastMath.toRadians(4.0));
+            final DOPMapComputer sequential = DOPMapComputer.create(earth, fine);
+            final DOPMapComputer concurrent = sequential.withExecutor(executor);
+            Assertions.assertSame(executor, concurrent.getExecutor());
+            final List<DOP[]> ref  = sequential.compute(date, date.shiftedBy(1800.0), 600.0, gps);
+            final List<DOP[]> maps = concurrent.compute(date, date.shiftedBy(1800.0), 600.0, gps);
+            Assertions.assertEquals(4, maps.size());
+            for (int i = 0; i < maps.size(); ++i) {
+                Assertions.assertEquals(fine.size(), maps.get(i).length);
+                for (int j = 0; j < fine.size(); ++j) {
+                    Assertions.assertEquals(date.shiftedBy(600.0 * i), maps.get(i)[j].getDate());
+                    Assertions.assertSame(fine.get(j), maps.get(i)[j].getLocation());
+                    Assertions.assertEquals(ref.get(i)[j].getGnssNb(), maps.get(i)[j].getGnssNb());
+                    Assertions.assertEquals(ref.get(i)[j].getGdop(),   maps.get(i)[j].getGdop(), 0.0);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testNotEnoughSV() {
+        try {
+            DOPMapComputer.create(earth, grid).compute(date, gps.subList(0, 3));
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_ENOUGH_GNSS_FOR_DOP, oe.getSpecifier());
+        }
+    }
+
+    private void checkConsistency(final DOP[] dops, final Function<GeodeticPoint, DOPComputer> factory) {
+        Assertions.assertEquals(grid.size(), dops.length);
+        for (int i = 0; i < grid.size(); ++i) {
+            // DOP may be huge for ill-conditioned geometries, hence the relative tolerance
+            final DOP ref = factory.apply(grid.get(i)).compute(date, gps);
+            Assertions.assertEquals(grid.get(i), dops[i].getLocation());
+            Assertions.assertEquals(date,        dops[i].getDate());
+            Assertions.assertEquals(ref.getGnssNb(), dops[i].getGnssNb());
+            checkRelative(ref.getGdop(),   dops[i].getGdop());
+            checkRelative(ref.getPdop(),   dops[i].getPdop());
+            checkRelative(ref.getHdop(),   dops[i].getHdop());
+            checkRelative(ref.getVdop(),   dops[i].getVdop());
+            checkRelative(ref.getTdop(),   dops[i].getTdop());
+        }
+    }
+
+    private void checkRelative(final double expected, final double actual) {
+        if (Double.isNaN(expected)) {
+            Assertions.assertTrue(Double.isNaN(actual));
+        } else {
+            Assertions.assertEquals(expected, actual, 1.0e-8 * FastMath.max(1.0, expected));
+        }
+    }
+
+    private ElevationMask getMask() {
+        final double [][] mask = {
+            {FastMath.toRadians(0.),   FastMath.toRadians(5.00)},
+            {FastMath.toRadians(45.),  FastMath.toRadians(50.00)},
+            {FastMath.toRadians(90.),  FastMath.toRadians(5.00)},
+            {FastMath.toRadians(135.), FastMath.toRadians(50.00)},
+            {FastMath.toRadians(180.), FastMath.toRadians(5.00)},
+            {FastMath.toRadians(225.), FastMath.toRadians(50.00)},
+            {FastMath.toRadians(270.), FastMath.toRadians(5.00)},
+            {FastMath.toRadians(315.), FastMath.toRadians(50.00)}
+        };
+        return new ElevationMask(mask);
+    }
+
+}
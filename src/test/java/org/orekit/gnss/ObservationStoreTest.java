@@ -0,0 +1,203 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.gnss;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.data.DataSource;
+import org.orekit.data.GzipFilter;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+
+public class ObservationStoreTest {
+
+    private List<ObservationDataSet> reference;
+    private ObservationStore         store;
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("gnss");
+        final String name = "rinex/ZIMM00CHE_R_20190320000_15M_30S_MO.crx.gz";
+        final DataSource raw = new DataSource(name.substring(name.indexOf('/') + 1),
+                                              () -> Utils.class.getClassLoader().getResourceAsStream(name));
+        reference = new RinexObservationLoader(new HatanakaCompressFilter().filter(new GzipFilter().filter(raw))).
+                    getObservationDataSets();
+        store     = new ObservationStore();
+        new RinexObservationLoader(new HatanakaCompressFilter().filter(new GzipFilter().filter(raw)),
+                                   TimeScalesFactory.getTimeScales(), store);
+    }
+
+    @Test
+    public void testContent() {
+
+        Assertions.assertEquals(30, store.getEpochsNumber());
+        Assertions.assertEquals(reference.get(0).getDate(), store.getEpochDate(0));
+        Assertions.assertEquals(reference.get(reference.size() - 1).getDate(),
+                                store.getEpochDate(store.getEpochsNumber() - 1));
+        Assertions.assertEquals(reference.stream().map(ods -> ods.getSatelliteSystem()).collect(Collectors.toSet()),
+                                store.getSatelliteSystems());
+
+        // all data sets can be rebuilt identically
+        final List<ObservationDataSet> all = store.getObservationDataSets(AbsoluteDate.PAST_INFINITY,
+                                                                          AbsoluteDate.FUTURE_INFINITY);
+        Assertions.assertEquals(reference.size(), all.size());
+        for (final ObservationDataSet ref : reference) {
+            final List<ObservationDataSet> rebuilt =
+                            store.getObservationDataSets(ref.getSatelliteSystem(), ref.getPrnNumber(),
+                                                         ref.getDate(), ref.getDate());
+            Assertions.assertEquals(1, rebuilt.size());
+            checkSame(ref, rebuilt.get(0));
+        }
+
+    }
+
+    @Test
+    public void testEpoch() {
+        final int epochIndex = 7;
+        final AbsoluteDate date = store.getEpochDate(epochIndex);
+        final List<ObservationDataSet> epoch = store.getEpoch(epochIndex);
+        int count = 0;
+        for (final ObservationDataSet ref : reference) {
+            if (ref.getDate().equals(date)) {
+                ++count;
+                Assertions.assertEquals(ref.getRcvrClkOffset(), store.getRcvrClkOffset(epochIndex), 1.0e-15);
+            }
+        }
+        Assertions.assertEquals(count, epoch.size());
+        for (final ObservationDataSet ods : epoch) {
+            Assertions.assertEquals(date, ods.getDate());
+        }
+    }
+
+    @Test
+    public void testSeries() {
+
+        final int[] prns = store.getPrnNumbers(SatelliteSystem.GPS);
+        Assertions.assertTrue(prns.length > 0);
+        final int prn = prns[0];
+        final ObservationType type = store.getObservationTypes(SatelliteSystem.GPS, prn).get(0);
+
+        // time range restricted to a few epochs
+        final AbsoluteDate start = store.getEpochDate(5);
+        final AbsoluteDate end   = store.getEpochDate(12).shiftedBy(1.0);
+        final ObservationSeries series = store.getSeries(SatelliteSystem.GPS, prn, type, start, end);
+        Assertions.assertEquals(type, series.getObservationType());
+
+        final List<ObservationData> expected = new ArrayList<>();
+        final List<AbsoluteDate>    dates    = new ArrayList<>();
+        for (final ObservationDataSet ref : reference) {
+            if (ref.getSatelliteSystem() == SatelliteSystem.GPS && ref.getPrnNumber() == prn &&
+                !ref.getDate().isBefore(start) && !ref.getDate().isAfter(end)) {
+                for (final ObservationData od : ref.getObservationData()) {
+                    if (od.getObservationType() == type) {
+                        expected.add(od);
+                        dates.add(ref.getDate());
+                    }
+                }
+            }
+        }
+        Assertions.assertEquals(expected.size(), series.size());
+        final double[] values = series.getValues();
+        for (int i = 0; i < series.size(); ++i) {
+            Assertions.assertEquals(dates.get(i), series.getDate(i));
+            Assertions.assertEquals(dates.get(i), store.getEpochDate(series.getEpochIndex(i)));
+            Assertions.assertEquals(expected.get(i).getValue(), series.getValue(i), 1.0e-15);
+            Assertions.assertEquals(expected.get(i).getValue(), values[i], 1.0e-15);
+            Assertions.assertEquals(expected.get(i).getLossOfLockIndicator(), series.getLossOfLockIndicator(i));
+            Assertions.assertEquals(expected.get(i).getSignalStrength(), series.getSignalStrength(i));
+        }
+
+        // out of range indices
+        for (final int i : new int[] { -1, series.size() }) {
+            try {
+                series.getValue(i);
+                Assertions.fail("an exception should have been thrown");
+            } catch (OrekitException oe) {
+                Assertions.assertEquals(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE, oe.getSpecifier());
+                Assertions.assertEquals(i, ((Integer) oe.getParts()[0]).intValue());
+                Assertions.assertEquals(series.size() - 1, ((Integer) oe.getParts()[2]).intValue());
+            }
+        }
+
+        // empty cases
+        Assertions.assertEquals(0, store.getSeries(SatelliteSystem.GPS, prn, type, end, start).size());
+        Assertions.assertEquals(0, store.getSeries(SatelliteSystem.GPS, 99, type, start, end).size());
+        Assertions.assertEquals(0, store.getPrnNumbers(SatelliteSystem.IRNSS).length);
+        Assertions.assertTrue(store.getObservationTypes(SatelliteSystem.IRNSS, 1).isEmpty());
+        Assertions.assertTrue(store.getObservationDataSets(SatelliteSystem.IRNSS, 1, start, end).isEmpty());
+
+    }
+
+    @Test
+    public void testAbsentObservations() {
+        final AbsoluteDate t0 = AbsoluteDate.GALILEO_EPOCH;
+        final ObservationStore s = new ObservationStore();
+        s.add(new ObservationDataSet(null, SatelliteSystem.GPS, 3, t0, 0.0,
+                                     Arrays.asList(new ObservationData(ObservationType.C1, 1.0, 0, 7))));
+        s.add(new ObservationDataSet(null, SatelliteSystem.GPS, 3, t0.shiftedBy(30), 0.0,
+                                     Arrays.asList(new ObservationData(ObservationType.C1, 2.0, 0, 7),
+                                                   new ObservationData(ObservationType.L1, 3.0, 1, 6))));
+        final ObservationSeries series = s.getSeries(SatelliteSystem.GPS, 3, ObservationType.L1,
+                                                     AbsoluteDate.PAST_INFINITY, AbsoluteDate.FUTURE_INFINITY);
+        Assertions.assertEquals(2, series.size());
+        Assertions.assertTrue(Double.isNaN(series.getValue(0)));
+        Assertions.assertEquals(ObservationStore.ABSENT, series.getLossOfLockIndicator(0));
+        Assertions.assertEquals(3.0, series.getValue(1), 1.0e-15);
+        Assertions.assertEquals(1, series.getLossOfLockIndicator(1));
+        Assertions.assertEquals(6, series.getSignalStrength(1));
+        Assertions.assertEquals(1, s.getEpoch(0).get(0).getObservationData().size());
+        Assertions.assertEquals(2, s.getEpoch(1).get(0).getObservationData().size());
+    }
+
+    @Test
+    public void testNonChronological() {
+        try {
+            store.add(reference.get(0));
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NON_CHRONOLOGICAL_DATES_FOR_OBSERVATIONS, oe.getSpecifier());
+        }
+    }
+
+    private void checkSame(final ObservationDataSet expected, final ObservationDataSet actual) {
+        Assertions.assertEquals(expected.getHeader().getMarkerName(), actual.getHeader().getMarkerName());
+        Assertions.assertEquals(expected.getSatelliteSystem(), actual.getSatelliteSystem());
+        Assertions.assertEquals(expected.getPrnNumber(), actual.getPrnNumber());
+        Assertions.assertEquals(expected.getDate(), actual.getDate());
+        Assertions.assertEquals(expected.getRcvrClkOffset(), actual.getRcvrClkOffset(), 1.0e-15);
+        Assertions.assertEquals(expected.getObservationData().size(), actual.getObservationData().size());
+        for (int i = 0; i < expected.getObservationData().size(); ++i) {
+            final ObservationData e = expected.getObservationData().get(i);
+            final ObservationData a = actual.getObservationData().get(i);
+            Assertions.assertEquals(e.getObservationType(), a.getObservationType());
+            Assertions.assertEquals(e.getValue(), a.getValue(), 1.0e-15);
+            Assertions.assertEquals(e.getLossOfLockIndicator(), a.getLossOfLockIndicator());
+            Assertions.assertEquals(e.getSignalStrength(), a.getSignalStrength());
+        }
+    }
+
+}
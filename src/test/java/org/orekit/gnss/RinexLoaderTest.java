@@ -23,6 +23,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.orekit.Utils;
 import org.orekit.data.DataSource;
+import org.orekit.data.GzipFilter;
 import org.orekit.data.UnixCompressFilter;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitIllegalArgumentException;
@@ -33,6 +34,7 @@ import org.orekit.time.TimeScalesFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 
 public class RinexLoaderTest {
@@ -887,6 +889,47 @@ public class RinexLoaderTest {
 
     }
 
+    @Test
+    public void testStreaming() {
+
+        final String name = "rinex/ZIMM00CHE_R_20190320000_15M_30S_MO.crx.gz";
+        final DataSource raw = new DataSource(name.substring(name.indexOf('/') + 1),
+                                              () -> Utils.class.getClassLoader().getResourceAsStream(name));
+        final List<ObservationDataSet> reference =
+                        new RinexObservationLoader(new HatanakaCompressFilter().filter(new GzipFilter().filter(raw))).
+                        getObservationDataSets();
+
+        final List<ObservationDataSet> streamed = new ArrayList<>();
+        final int[] nbEpochs = new int[1];
+        final RinexObservationLoader loader =
+                        new RinexObservationLoader(new HatanakaCompressFilter().filter(new GzipFilter().filter(raw)),
+                                                   TimeScalesFactory.getTimeScales(),
+                                                   epoch -> {
+                                                       for (final ObservationDataSet ods : epoch) {
+                                                           Assertions.assertEquals(epoch.get(0).getDate(), ods.getDate());
+                                                       }
+                                                       if (!streamed.isEmpty()) {
+                                                           Assertions.assertTrue(epoch.get(0).getDate().
+                                                                                 isAfter(streamed.get(streamed.size() - 1)));
+                                                       }
+                                                       streamed.addAll(epoch);
+                                                       ++nbEpochs[0];
+                                                   });
+
+        // nothing is accumulated by the loader itself
+        Assertions.assertTrue(loader.getObservationDataSets().isEmpty());
+
+        Assertions.assertEquals(30, nbEpochs[0]);
+        Assertions.assertEquals(reference.size(), streamed.size());
+        for (int i = 0; i < reference.size(); ++i) {
+            Assertions.assertEquals(reference.get(i).getDate(),                   streamed.get(i).getDate());
+            Assertions.assertEquals(reference.get(i).getSatelliteSystem(),        streamed.get(i).getSatelliteSystem());
+            Assertions.assertEquals(reference.get(i).getPrnNumber(),              streamed.get(i).getPrnNumber());
+            Assertions.assertEquals(reference.get(i).getObservationData().size(), streamed.get(i).getObservationData().size());
+        }
+
+    }
+
     private void checkObservation(final ObservationDataSet obser,
                                   final int year, final int month, final int day,
                                   final int hour, final int minute, final double second,
@@ -28,6 +28,7 @@ import java.net.Proxy;
 import java.net.URISyntaxException;
 import java.nio.file.Paths;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class NtripClientTest {
 
@@ -352,6 +353,124 @@ public class NtripClientTest {
         }
     }
 
+    @Test
+    public void testMultiplexedStreaming() throws Exception {
+        final String[] mountPoints = { "RTCM3EPH01", "RTCM3EPH02", "RTCM3EPH03" };
+        DummyServer server = prepareServer("/gnss/ntrip/RTCM3EPH01.dat",
+                                           "/gnss/ntrip/RTCM3EPH01.dat",
+                                           "/gnss/ntrip/RTCM3EPH01.dat");
+        server.run();
+        NtripClient client = new NtripClient("localhost", server.getServerPort());
+        client.setTimeout(500);
+        client.setReconnectParameters(0.001, 2.0, 1);
+        final AtomicInteger counter = new AtomicInteger();
+        client.addObserver(1042, null, (mountPoint, message) -> counter.incrementAndGet());
+        for (final String mountPoint : mountPoints) {
+            client.startMultiplexedStreaming(mountPoint, Type.RTCM, false, true);
+        }
+        server.await(10, TimeUnit.SECONDS);
+        for (final String mountPoint : mountPoints) {
+            // wait until the caster has closed the stream
+            for (int i = 0; i < 100 && client.getStreamMetrics(mountPoint).getBytes() < 33976; ++i) {
+                Thread.sleep(100);
+            }
+        }
+        client.stopStreaming(100);
+        Assertions.assertEquals(3 * 122, counter.get());
+        Assertions.assertNull(client.getStreamMetrics("unknown"));
+        for (final String mountPoint : mountPoints) {
+            final StreamMetrics metrics = client.getStreamMetrics(mountPoint);
+            Assertions.assertEquals(mountPoint, metrics.getMountPoint());
+            // all bytes from the caster have been read, and all frames extracted
+            Assertions.assertEquals(33976, metrics.getBytes());
+            Assertions.assertEquals(470, metrics.getMessages());
+            Assertions.assertEquals(metrics.getMessages(), metrics.getLatency().getN());
+            Assertions.assertTrue(metrics.getLatency().getMin() >= 0.0);
+            Assertions.assertTrue(metrics.getThroughput() > 0.0);
+            Assertions.assertEquals(0, metrics.getReconnections());
+        }
+    }
+
+    @Test
+    public void testMultiplexedRestart() throws Exception {
+        DummyServer server = prepareServer("/gnss/ntrip/RTCM3EPH01.dat",
+                                           "/gnss/ntrip/RTCM3EPH01.dat");
+        server.run();
+        NtripClient client = new NtripClient("localhost", server.getServerPort());
+        client.setTimeout(500);
+        client.setReconnectParameters(0.001, 2.0, 1);
+        final AtomicInteger counter = new AtomicInteger();
+        client.addObserver(1042, null, (mountPoint, message) -> counter.incrementAndGet());
+        for (int k = 1; k <= 2; ++k) {
+            // the same mount point can be streamed again after stopping
+            client.startMultiplexedStreaming("RTCM3EPH01", Type.RTCM, false, true);
+            for (int i = 0; i < 100 && client.getStreamMetrics("RTCM3EPH01").getBytes() < 33976; ++i) {
+                Thread.sleep(100);
+            }
+            client.stopStreaming(100);
+            Assertions.assertEquals(k * 122, counter.get());
+            Assertions.assertEquals(33976, client.getStreamMetrics("RTCM3EPH01").getBytes());
+        }
+        server.await(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testMultiplexedUnknownMessage() throws Exception {
+        DummyServer server = prepareServer("/gnss/ntrip/RTCM3EPH01.dat");
+        server.run();
+        NtripClient client = new NtripClient("localhost", server.getServerPort());
+        client.setTimeout(100);
+        client.setReconnectParameters(0.001, 2.0, 2);
+        final CountingObserver counter = new CountingObserver(m -> true);
+        client.addObserver(1042, "RTCM3EPH01", counter);
+        client.startMultiplexedStreaming("RTCM3EPH01", Type.RTCM, false, false);
+        server.await(10, TimeUnit.SECONDS);
+        // the 31st message causes the exception
+        counter.awaitCount(30, 30 * 1000);
+        Thread.sleep(1000);
+        try {
+            client.stopStreaming(100);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNKNOWN_ENCODED_MESSAGE_NUMBER, oe.getSpecifier());
+            Assertions.assertEquals("1046", oe.getParts()[0]);
+        }
+    }
+
+    @Test
+    public void testMultiplexedWrongContentType() throws Exception {
+        DummyServer server = prepareServer("/gnss/ntrip/wrong-content-type.txt");
+        server.run();
+        NtripClient client = new NtripClient("localhost", server.getServerPort());
+        client.setTimeout(500);
+        client.setReconnectParameters(0.001, 2.0, 2);
+        client.startMultiplexedStreaming("RTCM3EPH01", Type.RTCM, false, false);
+        server.await(10, TimeUnit.SECONDS);
+        Thread.sleep(400);
+        try {
+            client.stopStreaming(100);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException me) {
+            Assertions.assertEquals(OrekitMessages.UNEXPECTED_CONTENT_TYPE, me.getSpecifier());
+            Assertions.assertEquals("text/html", me.getParts()[0]);
+        }
+    }
+
+    @Test
+    public void testMultiplexedMountPointAlreadyConnected() {
+        NtripClient client = new NtripClient("localhost", NtripClient.DEFAULT_PORT);
+        client.setReconnectParameters(0.001, 2.0, 1);
+        client.startMultiplexedStreaming("RTCM3EPH01", Type.RTCM, false, false);
+        try {
+            client.startMultiplexedStreaming("RTCM3EPH01", Type.RTCM, false, false);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.MOUNPOINT_ALREADY_CONNECTED, oe.getSpecifier());
+            Assertions.assertEquals("RTCM3EPH01", oe.getParts()[0]);
+        }
+        client.stopStreaming(100);
+    }
+
     private DummyServer prepareServer(String... names) {
         DummyServer server = null;
         try {
@@ -0,0 +1,66 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.gnss.metric.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+
+public class ByteBufferEncodedMessagesTest extends AbstractEncodedMessagesTest {
+
+    protected EncodedMessage buildRawMessages(byte[] bytes) {
+        // use a direct buffer with little-endian order, which must not be a problem
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(bytes);
+        buffer.flip();
+        return new ByteBufferEncodedMessages(buffer);
+    }
+
+    @Test
+    public void testRegion() {
+        final byte[] bytes = new byte[20];
+        for (int i = 0; i < bytes.length; ++i) {
+            bytes[i] = (byte) (0x11 * i);
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.position(3);
+        final ByteBufferEncodedMessages m = new ByteBufferEncodedMessages(buffer);
+        m.start();
+        Assertions.assertEquals(0x33, m.extractBits(8));
+        Assertions.assertEquals(0x445566778899AAl, m.extractBits(56));
+        Assertions.assertEquals(0xBBCCDDEEFF1l, m.extractBits(44));
+        m.reset(buffer, 18, 19);
+        Assertions.assertEquals(0x1, m.extractBits(3));
+        Assertions.assertEquals(0x12, m.extractBits(5));
+        try {
+            m.extractBits(1);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException re) {
+            Assertions.assertEquals(OrekitMessages.END_OF_ENCODED_MESSAGE, re.getSpecifier());
+        }
+
+        // the caller buffer is unchanged
+        Assertions.assertEquals(3, buffer.position());
+        Assertions.assertEquals(20, buffer.limit());
+
+    }
+
+}
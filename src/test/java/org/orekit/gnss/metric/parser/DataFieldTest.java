@@ -60,6 +60,17 @@ public class DataFieldTest {
 
     }
 
+    @Test
+    public void testNoData() {
+        // the most negative value of INT_14 is reserved for "no data"
+        final EncodedMessage noData = (n) -> (0x1l << 63) >>> (64 - n);
+        Assertions.assertTrue(Double.isNaN(RtcmDataField.DF079.doubleValue(noData)));
+        // the most negative value of INT_22 is reserved for "no data"
+        Assertions.assertTrue(Double.isNaN(IgsSsrDataField.IDF013.doubleValue(noData)));
+        // sign-magnitude data types have no reserved value
+        Assertions.assertEquals(0.0, DataType.INT_S_11.doubleValue(noData), 0.0);
+    }
+
     private static class MockDataField implements DataField {
         // Noting to do ...
     }
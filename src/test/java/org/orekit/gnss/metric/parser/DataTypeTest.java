@@ -642,5 +642,14 @@ public class DataTypeTest {
         final EncodedMessage rm = (n) -> rawMessage >>> (64 - n);
         final Long result = dataType.decode(rm);
         Assertions.assertEquals(expected, result);
+        final double d = dataType.doubleValue(rm);
+        final float  f = dataType.floatValue(rm);
+        if (expected == null) {
+            Assertions.assertTrue(Double.isNaN(d));
+            Assertions.assertTrue(Float.isNaN(f));
+        } else {
+            Assertions.assertEquals(expected.doubleValue(), d, 0.0);
+            Assertions.assertEquals(expected.floatValue(), f, 0.0f);
+        }
     }
 }
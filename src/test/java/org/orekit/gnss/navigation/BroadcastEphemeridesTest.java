@@ -0,0 +1,151 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.gnss.navigation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.data.DataSource;
+import org.orekit.frames.FramesFactory;
+import org.orekit.gnss.SatelliteSystem;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.analytical.gnss.ClockCorrectionsProvider;
+import org.orekit.propagation.analytical.gnss.GNSSPropagator;
+import org.orekit.propagation.analytical.gnss.GNSSPropagatorBuilder;
+import org.orekit.propagation.analytical.gnss.data.AbstractNavigationMessage;
+import org.orekit.propagation.analytical.gnss.data.GNSSOrbitalElements;
+import org.orekit.propagation.analytical.gnss.data.GPSNavigationMessage;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.IERSConventions;
+
+public class BroadcastEphemeridesTest {
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+    }
+
+    @Test
+    public void testMixed() throws IOException {
+
+        final RinexNavigation navigation = load("Example_Mixed_Rinex304.n");
+        final BroadcastEphemerides ephemerides = new BroadcastEphemerides(navigation);
+        Assertions.assertEquals(FramesFactory.getITRF(IERSConventions.IERS_2010, true), ephemerides.getFrame());
+
+        // GLONASS satellite R05 is ignored
+        Assertions.assertEquals(Arrays.asList("C05", "C29", "G22", "G28"), ephemerides.getSatellites());
+
+        final AbsoluteDate t0 = navigation.getGPSNavigationMessages("G28").get(0).getDate();
+        final List<AbsoluteDate> dates = new ArrayList<>();
+        for (int i = 0; i < 12; ++i) {
+            dates.add(t0.shiftedBy(i * 300.0 - 1800.0));
+        }
+
+        final BroadcastEphemerides.Samples samples = ephemerides.evaluate(dates);
+        Assertions.assertEquals(ephemerides.getSatellites(), samples.getSatellites());
+        Assertions.assertEquals(dates, samples.getDates());
+        Assertions.assertEquals(3 * 4 * 12, samples.getPositions().length);
+        Assertions.assertEquals(4 * 12, samples.getClockOffsets().length);
+
+        for (int s = 0; s < samples.getSatellites().size(); ++s) {
+            for (int d = 0; d < dates.size(); ++d) {
+                final AbstractNavigationMessage message = ephemerides.select(s, dates.get(d));
+                Assertions.assertNotNull(message);
+                final GNSSPropagator propagator = new GNSSPropagatorBuilder((GNSSOrbitalElements) message).build();
+                final Vector3D expected = propagator.propagateInEcef(dates.get(d)).getPosition();
+                Assertions.assertEquals(0.0, Vector3D.distance(expected, samples.getPosition(s, d)), 1.0e-15);
+                Assertions.assertEquals(expected.getX(), samples.getPositions()[3 * (s * dates.size() + d)], 1.0e-15);
+                if (message instanceof GPSNavigationMessage && message.getEpochToc().equals(message.getDate())) {
+                    // compare with the clock model from the state-based provider
+                    final SpacecraftState state = propagator.propagate(dates.get(d));
+                    final double[] clock = new ClockCorrectionsProvider((GPSNavigationMessage) message).
+                                           getAdditionalState(state);
+                    Assertions.assertEquals(clock[0] + clock[1], samples.getClockOffset(s, d), 1.0e-15);
+                }
+            }
+        }
+
+    }
+
+    @Test
+    public void testSelection() throws IOException {
+        final RinexNavigation navigation = load("Example_IRNSS_Rinex304.n");
+        final BroadcastEphemerides ephemerides = new BroadcastEphemerides(navigation);
+        Assertions.assertEquals(Arrays.asList("I02", "I05"), ephemerides.getSatellites());
+        final AbstractNavigationMessage first  = navigation.getIRNSSNavigationMessages("I02").get(0);
+        final AbstractNavigationMessage second = navigation.getIRNSSNavigationMessages("I02").get(1);
+        Assertions.assertEquals(336.0, second.getDate().durationFrom(first.getDate()), 1.0e-10);
+        Assertions.assertSame(first,  ephemerides.select(0, first.getDate().shiftedBy(-1000.0)));
+        Assertions.assertSame(first,  ephemerides.select(0, first.getDate().shiftedBy(100.0)));
+        Assertions.assertSame(second, ephemerides.select(0, first.getDate().shiftedBy(200.0)));
+        Assertions.assertSame(second, ephemerides.select(0, first.getDate().shiftedBy(5000.0)));
+
+        // maximum age
+        Assertions.assertEquals(BroadcastEphemerides.DEFAULT_IRNSS_MAX_AGE,
+                                ephemerides.getMaxAge(SatelliteSystem.IRNSS), 1.0e-15);
+        Assertions.assertNull(ephemerides.select(0, second.getDate().shiftedBy(7201.0)));
+        final BroadcastEphemerides relaxed = ephemerides.withMaxAge(SatelliteSystem.IRNSS, 10000.0);
+        Assertions.assertEquals(10000.0, relaxed.getMaxAge(SatelliteSystem.IRNSS), 1.0e-15);
+        Assertions.assertEquals(BroadcastEphemerides.DEFAULT_IRNSS_MAX_AGE,
+                                ephemerides.getMaxAge(SatelliteSystem.IRNSS), 1.0e-15);
+        Assertions.assertSame(second, relaxed.select(0, second.getDate().shiftedBy(7201.0)));
+
+        final BroadcastEphemerides.Samples samples =
+                        ephemerides.evaluate(Arrays.asList(second.getDate(), second.getDate().shiftedBy(7201.0)));
+        Assertions.assertFalse(Double.isNaN(samples.getClockOffset(0, 0)));
+        Assertions.assertTrue(Double.isNaN(samples.getClockOffset(0, 1)));
+        Assertions.assertTrue(Double.isNaN(samples.getPosition(0, 1).getX()));
+    }
+
+    @Test
+    public void testExecutor() throws IOException {
+        final RinexNavigation navigation = load("Example_Mixed_Rinex304.n");
+        final BroadcastEphemerides sequential = new BroadcastEphemerides(navigation);
+        Assertions.assertNull(sequential.getExecutor());
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            final BroadcastEphemerides concurrent = sequential.withExecutor(executor);
+            Assertions.assertSame(executor, concurrent.getExecutor());
+            final AbsoluteDate t0 = navigation.getGPSNavigationMessages("G22").get(0).getDate();
+            final List<AbsoluteDate> dates = new ArrayList<>();
+            for (int i = 0; i < 100; ++i) {
+                dates.add(t0.shiftedBy(i * 30.0));
+            }
+            final BroadcastEphemerides.Samples ref = sequential.evaluate(dates);
+            final BroadcastEphemerides.Samples s   = concurrent.evaluate(dates);
+            Assertions.assertArrayEquals(ref.getPositions(),    s.getPositions(),    0.0);
+            Assertions.assertArrayEquals(ref.getClockOffsets(), s.getClockOffsets(), 0.0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private RinexNavigation load(final String name) throws IOException {
+        final String ex = "/gnss/navigation/" + name;
+        return new RinexNavigationParser().parse(new DataSource(ex, () -> getClass().getResourceAsStream(ex)));
+    }
+
+}
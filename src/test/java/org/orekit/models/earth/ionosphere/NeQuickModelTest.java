@@ -16,8 +16,17 @@
  */
 package org.orekit.models.earth.ionosphere;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import org.hipparchus.CalculusFieldElement;
 import org.hipparchus.Field;
+import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.geometry.euclidean.threed.FieldVector3D;
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
 import org.hipparchus.util.Decimal64Field;
@@ -29,6 +38,7 @@ import org.orekit.Utils;
 import org.orekit.bodies.FieldGeodeticPoint;
 import org.orekit.bodies.GeodeticPoint;
 import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.errors.OrekitException;
 import org.orekit.frames.FramesFactory;
 import org.orekit.frames.TopocentricFrame;
 import org.orekit.gnss.Frequency;
@@ -235,4 +245,92 @@ public class NeQuickModelTest {
         Assertions.assertEquals(1.13, delay.getReal(), 0.01);
     }
 
+    @Test
+    public void testBatch() {
+
+        // Model
+        final NeQuickModel model = new NeQuickModel(medium);
+
+        // Geodetic points: one station and several satellites
+        final GeodeticPoint recP = new GeodeticPoint(FastMath.toRadians(-31.80), FastMath.toRadians(115.89), 12.78);
+        final GeodeticPoint[] recPs = new GeodeticPoint[5];
+        final GeodeticPoint[] satPs = new GeodeticPoint[recPs.length];
+        for (int i = 0; i < recPs.length; ++i) {
+            recPs[i] = recP;
+            satPs[i] = new GeodeticPoint(FastMath.toRadians(-14.31 - 4 * i), FastMath.toRadians(124.09 + 3 * i), 20100697.90);
+        }
+
+        // Dates: same epoch twice, same month, other month
+        final AbsoluteDate[] dates = new AbsoluteDate[] {
+            new AbsoluteDate(2018, 4, 2, 16, 0, 0, TimeScalesFactory.getUTC()),
+            new AbsoluteDate(2018, 4, 2, 16, 0, 0, TimeScalesFactory.getUTC()),
+            new AbsoluteDate(2018, 4, 3, 4, 30, 0, TimeScalesFactory.getUTC()),
+            new AbsoluteDate(2018, 7, 14, 12, 0, 0, TimeScalesFactory.getUTC())
+        };
+
+        for (final AbsoluteDate date : dates) {
+            final double[] stec = model.stec(date, recPs, satPs);
+            Assertions.assertEquals(recPs.length, stec.length);
+            for (int i = 0; i < stec.length; ++i) {
+                // a fresh model does not share any cached coefficients
+                Assertions.assertEquals(new NeQuickModel(medium).stec(date, recPs[i], satPs[i]), stec[i], 1.0e-15);
+            }
+        }
+
+        // reference value
+        Assertions.assertEquals(6.96, model.stec(dates[0], recPs, satPs)[0], 0.05);
+
+    }
+
+    @Test
+    public void testBatchDimensionMismatch() {
+        final NeQuickModel model = new NeQuickModel(medium);
+        final GeodeticPoint p = new GeodeticPoint(0.0, 0.0, 0.0);
+        try {
+            model.stec(AbsoluteDate.J2000_EPOCH, new GeodeticPoint[] { p, p }, new GeodeticPoint[] { p });
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, oe.getSpecifier());
+            Assertions.assertEquals(1, ((Integer) oe.getParts()[0]).intValue());
+            Assertions.assertEquals(2, ((Integer) oe.getParts()[1]).intValue());
+        }
+    }
+
+    @Test
+    public void testMultiThreading() throws InterruptedException, ExecutionException {
+
+        // Model shared among all threads
+        final NeQuickModel model = new NeQuickModel(high);
+
+        // Geodetic points
+        final GeodeticPoint recP = new GeodeticPoint(FastMath.toRadians(82.49), FastMath.toRadians(297.66), 78.11);
+        final GeodeticPoint satP = new GeodeticPoint(FastMath.toRadians(54.29), FastMath.toRadians(8.23), 20281546.18);
+
+        // Dates spanning several months, so threads keep changing the cached coefficients
+        final AbsoluteDate t0 = new AbsoluteDate(2018, 4, 2, 0, 0, 0, TimeScalesFactory.getUTC());
+        final List<AbsoluteDate> dates = new ArrayList<>();
+        for (int i = 0; i < 48; ++i) {
+            dates.add(t0.shiftedBy(i * 5.5 * Constants.JULIAN_DAY));
+        }
+
+        // serial reference
+        final double[] reference = new double[dates.size()];
+        for (int i = 0; i < reference.length; ++i) {
+            reference[i] = new NeQuickModel(high).stec(dates.get(i), recP, satP);
+        }
+
+        // parallel evaluation with a shared model
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+        final List<Future<Double>> results = new ArrayList<>();
+        for (final AbsoluteDate date : dates) {
+            results.add(executorService.submit(() -> model.stec(date, recP, satP)));
+        }
+        executorService.shutdown();
+        Assertions.assertTrue(executorService.awaitTermination(60, TimeUnit.SECONDS));
+        for (int i = 0; i < reference.length; ++i) {
+            Assertions.assertEquals(reference[i], results.get(i).get().doubleValue(), 1.0e-15);
+        }
+
+    }
+
 }
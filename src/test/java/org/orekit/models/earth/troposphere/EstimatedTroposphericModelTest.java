@@ -82,6 +82,22 @@ public class EstimatedTroposphericModelTest {
         }
     }
 
+    @Test
+    public void testBatchDelay() {
+        final AbsoluteDate date = new AbsoluteDate(2018, 11, 25, TimeScalesFactory.getUTC());
+        final GeodeticPoint point = new GeodeticPoint(FastMath.toRadians(45.0), FastMath.toRadians(45.0), 350.0);
+        final DiscreteTroposphericModel model = new EstimatedTroposphericModel(new GlobalMappingFunctionModel(), 2.0);
+        final double[] elevations = new double[] {
+            FastMath.toRadians(7.0), FastMath.toRadians(25.0), FastMath.toRadians(60.0)
+        };
+        final double[] delays = model.pathDelay(elevations, point, model.getParameters(), date);
+        Assertions.assertEquals(elevations.length, delays.length);
+        for (int i = 0; i < elevations.length; ++i) {
+            Assertions.assertEquals(model.pathDelay(elevations[i], point, model.getParameters(), date),
+                                    delays[i], 1.0e-15);
+        }
+    }
+
     @Test
     public void testDelay() {
         final double elevation = 10d;
@@ -93,4 +93,30 @@ public class GlobalMappingFunctionModelTest {
         }
     }
 
+    @Test
+    public void testStationsNetwork() {
+        final MappingFunction model = new GlobalMappingFunctionModel();
+        final double[] elevations = new double[] {
+            FastMath.toRadians(5.0), FastMath.toRadians(15.0), FastMath.toRadians(45.0), FastMath.toRadians(85.0)
+        };
+        final AbsoluteDate t0 = new AbsoluteDate(1994, 1, 1, TimeScalesFactory.getUTC());
+        // more stations than cached locations, processed epoch by epoch
+        for (int k = 0; k < 3; ++k) {
+            final AbsoluteDate date = t0.shiftedBy(k * 86400.0 * 100);
+            for (int i = 0; i < 50; ++i) {
+                final GeodeticPoint point = new GeodeticPoint(FastMath.toRadians(-80.0 + 3.3 * i),
+                                                              FastMath.toRadians(7.2 * i), 100.0 + 10 * i);
+                final double[][] factors = model.mappingFactors(elevations, point, date);
+                Assertions.assertEquals(elevations.length, factors.length);
+                for (int j = 0; j < elevations.length; ++j) {
+                    // a fresh model does not share any cached coefficients
+                    final double[] refFactors = new GlobalMappingFunctionModel().mappingFactors(elevations[j], point, date);
+                    Assertions.assertEquals(refFactors[0], factors[j][0], 1.0e-15);
+                    Assertions.assertEquals(refFactors[1], factors[j][1], 1.0e-15);
+                    Assertions.assertEquals(refFactors[1], model.mappingFactors(elevations[j], point, date)[1], 1.0e-15);
+                }
+            }
+        }
+    }
+
 }
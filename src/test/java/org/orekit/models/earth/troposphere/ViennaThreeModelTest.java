@@ -207,4 +207,37 @@ public class ViennaThreeModelTest {
         }
     }
 
+    @Test
+    public void testStationsNetwork() {
+        final double[] a = { 0.00123462, 0.00047101};
+        final double[] z = {2.1993, 0.0690};
+        final ViennaThreeModel model = new ViennaThreeModel(a, z);
+        final double[] elevations = new double[] {
+            FastMath.toRadians(5.0), FastMath.toRadians(17.0), FastMath.toRadians(38.0), FastMath.toRadians(85.0)
+        };
+        final AbsoluteDate t0 = new AbsoluteDate(2018, 11, 25, TimeScalesFactory.getUTC());
+        // more stations than cached locations, processed epoch by epoch
+        for (int k = 0; k < 3; ++k) {
+            final AbsoluteDate date = t0.shiftedBy(k * 43200.0);
+            for (int i = 0; i < 50; ++i) {
+                final GeodeticPoint point = new GeodeticPoint(FastMath.toRadians(-80.0 + 3.3 * i),
+                                                              FastMath.toRadians(7.2 * i), 100.0 + 10 * i);
+                final double[]   delays  = model.pathDelay(elevations, point, model.getParameters(), date);
+                final double[][] factors = model.mappingFactors(elevations, point, date);
+                Assertions.assertEquals(elevations.length, delays.length);
+                Assertions.assertEquals(elevations.length, factors.length);
+                for (int j = 0; j < elevations.length; ++j) {
+                    // a fresh model does not share any cached coefficients
+                    final ViennaThreeModel reference = new ViennaThreeModel(a, z);
+                    final double[] refFactors = reference.mappingFactors(elevations[j], point, date);
+                    Assertions.assertEquals(reference.pathDelay(elevations[j], point, model.getParameters(), date),
+                                            delays[j], 1.0e-15);
+                    Assertions.assertEquals(refFactors[0], factors[j][0], 1.0e-15);
+                    Assertions.assertEquals(refFactors[1], factors[j][1], 1.0e-15);
+                    Assertions.assertEquals(refFactors[0], model.mappingFactors(elevations[j], point, date)[0], 1.0e-15);
+                }
+            }
+        }
+    }
+
 }
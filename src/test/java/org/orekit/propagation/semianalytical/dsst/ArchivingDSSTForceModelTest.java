@@ -0,0 +1,304 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.semianalytical.dsst;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.ode.nonstiff.AdaptiveStepsizeIntegrator;
+import org.hipparchus.ode.nonstiff.DormandPrince853Integrator;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.forces.gravity.potential.GravityFieldFactory;
+import org.orekit.forces.gravity.potential.ICGEMFormatReader;
+import org.orekit.forces.gravity.potential.UnnormalizedSphericalHarmonicsProvider;
+import org.orekit.frames.FramesFactory;
+import org.orekit.orbits.KeplerianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.orbits.PositionAngle;
+import org.orekit.propagation.BoundedPropagator;
+import org.orekit.propagation.EphemerisGenerator;
+import org.orekit.propagation.PropagationType;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.semianalytical.dsst.forces.ArchivingDSSTForceModel;
+import org.orekit.propagation.semianalytical.dsst.forces.DSSTForceModel;
+import org.orekit.propagation.semianalytical.dsst.forces.DSSTTesseral;
+import org.orekit.propagation.semianalytical.dsst.forces.DSSTZonal;
+import org.orekit.propagation.semianalytical.dsst.utilities.ShortPeriodicsArchive;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+
+public class ArchivingDSSTForceModelTest {
+
+    @Test
+    public void testReuse() throws IOException, ClassNotFoundException {
+
+        final ShortPeriodicsArchive archive = new ShortPeriodicsArchive(1.0e-9);
+        Assertions.assertEquals(1.0e-9, archive.getElementsTolerance(), 1.0e-20);
+
+        // first propagation computes and archives all contributions
+        final CountingZonal zonal = new CountingZonal(provider);
+        final List<Vector3D> reference = propagate(orbit, zonal, null);
+        final List<Vector3D> first     = propagate(orbit, new ArchivingDSSTForceModel(zonal, archive, "zonal"), null);
+        final int archived = archive.size();
+        Assertions.assertTrue(archived > 0);
+        for (int i = 0; i < reference.size(); ++i) {
+            Assertions.assertEquals(0.0, Vector3D.distance(reference.get(i), first.get(i)), 1.0e-15);
+        }
+
+        // second propagation reuses archived contributions without computing coefficients
+        zonal.updates = 0;
+        final List<Vector3D> second = propagate(orbit, new ArchivingDSSTForceModel(zonal, archive, "zonal"), null);
+        Assertions.assertEquals(0, zonal.updates);
+        Assertions.assertEquals(archived, archive.size());
+        for (int i = 0; i < reference.size(); ++i) {
+            Assertions.assertEquals(0.0, Vector3D.distance(reference.get(i), second.get(i)), 1.0e-15);
+        }
+
+        // a slightly different orbit reuses the archived contributions
+        final Orbit shifted = new KeplerianOrbit(orbit.getA() + 1.0e-5, 0.05, 0.3, 0, FastMath.PI, 0, PositionAngle.MEAN,
+                                                 orbit.getFrame(), orbit.getDate(), orbit.getMu());
+        final List<Vector3D> shiftedReference = propagate(shifted, new CountingZonal(provider), null);
+        zonal.updates = 0;
+        final List<Vector3D> shiftedArchived  = propagate(shifted, new ArchivingDSSTForceModel(zonal, archive, "zonal"), null);
+        Assertions.assertEquals(0, zonal.updates);
+        for (int i = 0; i < reference.size(); ++i) {
+            Assertions.assertEquals(0.0, Vector3D.distance(shiftedReference.get(i), shiftedArchived.get(i)), 1.0e-4);
+        }
+
+        // a saved and reloaded archive can be reused
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(archive);
+        }
+        final ShortPeriodicsArchive reloaded;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            reloaded = (ShortPeriodicsArchive) ois.readObject();
+        }
+        Assertions.assertEquals(archive.size(), reloaded.size());
+        zonal.updates = 0;
+        final List<Vector3D> third = propagate(orbit, new ArchivingDSSTForceModel(zonal, reloaded, "zonal"), null);
+        Assertions.assertEquals(0, zonal.updates);
+        for (int i = 0; i < reference.size(); ++i) {
+            Assertions.assertEquals(0.0, Vector3D.distance(reference.get(i), third.get(i)), 1.0e-15);
+        }
+
+        reloaded.clear();
+        Assertions.assertEquals(0, reloaded.size());
+
+    }
+
+    @Test
+    public void testOutsideNeighborhood() {
+
+        final ShortPeriodicsArchive archive = new ShortPeriodicsArchive(1.0e-9);
+        final CountingZonal zonal = new CountingZonal(provider);
+        final ArchivingDSSTForceModel archiving = new ArchivingDSSTForceModel(zonal, archive);
+        Assertions.assertSame(zonal, archiving.getModel());
+        Assertions.assertSame(archive, archiving.getArchive());
+        Assertions.assertNotEquals(archiving.getName(), new ArchivingDSSTForceModel(zonal, archive).getName());
+        propagate(orbit, archiving, null);
+        final int archived = archive.size();
+
+        // orbit too far from archived ones, everything is recomputed
+        final Orbit shifted = new KeplerianOrbit(orbit.getA() + 1000.0, 0.05, 0.3, 0, FastMath.PI, 0, PositionAngle.MEAN,
+                                                 orbit.getFrame(), orbit.getDate(), orbit.getMu());
+        final List<Vector3D> reference = propagate(shifted, new CountingZonal(provider), null);
+        zonal.updates = 0;
+        final List<Vector3D> recomputed = propagate(shifted, archiving, null);
+        Assertions.assertTrue(zonal.updates > 0);
+        Assertions.assertEquals(2 * archived, archive.size());
+        for (int i = 0; i < reference.size(); ++i) {
+            Assertions.assertEquals(0.0, Vector3D.distance(reference.get(i), recomputed.get(i)), 1.0e-15);
+        }
+
+    }
+
+    @Test
+    public void testDateMustMatch() {
+
+        final ShortPeriodicsArchive archive = new ShortPeriodicsArchive(1.0e-9);
+        final CountingZonal zonal = new CountingZonal(provider);
+        final ArchivingDSSTForceModel archiving = new ArchivingDSSTForceModel(zonal, archive);
+        propagate(orbit, archiving, null);
+        final int archived = archive.size();
+
+        // same orbit, shifted by one millisecond, nothing can be reused
+        final Orbit shifted = new KeplerianOrbit(orbit.getA(), 0.05, 0.3, 0, FastMath.PI, 0, PositionAngle.MEAN,
+                                                 orbit.getFrame(), orbit.getDate().shiftedBy(0.001), orbit.getMu());
+        zonal.updates = 0;
+        propagate(shifted, archiving, null);
+        Assertions.assertTrue(zonal.updates > 0);
+        Assertions.assertEquals(2 * archived, archive.size());
+
+    }
+
+    @Test
+    public void testSamePrefixDifferentConfigurations() {
+
+        // zonal models with different degrees share the same coefficients key prefix
+        final ShortPeriodicsArchive archive = new ShortPeriodicsArchive(1.0e-9);
+        final DSSTForceModel zonal4 = new DSSTZonal(provider, 4, 3, 9);
+        final DSSTForceModel zonal2 = new DSSTZonal(provider, 2, 1, 5);
+        final ArchivingDSSTForceModel archiving4 = new ArchivingDSSTForceModel(zonal4, archive);
+        final ArchivingDSSTForceModel archiving2 = new ArchivingDSSTForceModel(zonal2, archive);
+        propagate(orbit, archiving4, null);
+
+        // the second configuration must not reuse contributions from the first one
+        final List<Vector3D> reference = propagate(orbit, new DSSTZonal(provider, 2, 1, 5), null);
+        final List<Vector3D> archived  = propagate(orbit, archiving2, null);
+        for (int i = 0; i < reference.size(); ++i) {
+            Assertions.assertEquals(0.0, Vector3D.distance(reference.get(i), archived.get(i)), 1.0e-15);
+        }
+
+    }
+
+    @Test
+    public void testSeveralModels() {
+        final ShortPeriodicsArchive archive = new ShortPeriodicsArchive(1.0e-9);
+        final OneAxisEllipsoid earth = new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS,
+                                                            Constants.WGS84_EARTH_FLATTENING,
+                                                            FramesFactory.getITRF(IERSConventions.IERS_2010, true));
+        final DSSTTesseral tesseral = new DSSTTesseral(earth.getBodyFrame(), Constants.WGS84_EARTH_ANGULAR_VELOCITY,
+                                                       provider, 4, 4, 4, 8, 4, 4, 2);
+        final List<Vector3D> reference = propagate(orbit, new CountingZonal(provider), tesseral);
+        final CountingZonal zonal = new CountingZonal(provider);
+        final ArchivingDSSTForceModel archivingZonal    = new ArchivingDSSTForceModel(zonal, archive);
+        final ArchivingDSSTForceModel archivingTesseral = new ArchivingDSSTForceModel(tesseral, archive);
+        propagate(orbit, archivingZonal, archivingTesseral);
+        zonal.updates = 0;
+        final List<Vector3D> archived = propagate(orbit, archivingZonal, archivingTesseral);
+        Assertions.assertEquals(0, zonal.updates);
+        for (int i = 0; i < reference.size(); ++i) {
+            Assertions.assertEquals(0.0, Vector3D.distance(reference.get(i), archived.get(i)), 1.0e-15);
+        }
+    }
+
+    @Test
+    public void testEphemerisEarlierSteps() {
+
+        final ShortPeriodicsArchive archive = new ShortPeriodicsArchive(1.0e-9);
+        final BoundedPropagator reference = generateEphemeris(new CountingZonal(provider));
+        final CountingZonal zonal = new CountingZonal(provider);
+        final ArchivingDSSTForceModel archiving = new ArchivingDSSTForceModel(zonal, archive);
+        generateEphemeris(archiving);
+
+        // during the second propagation, all contributions are found in the archive
+        zonal.updates = 0;
+        final BoundedPropagator archived = generateEphemeris(archiving);
+        Assertions.assertEquals(0, zonal.updates);
+
+        // evaluating the ephemeris in earlier steps must use the coefficients of these steps
+        for (double dt = 0; dt < Constants.JULIAN_DAY; dt += 1234.5) {
+            final AbsoluteDate date = orbit.getDate().shiftedBy(dt);
+            Assertions.assertEquals(0.0,
+                                    Vector3D.distance(reference.propagate(date).getPVCoordinates().getPosition(),
+                                                      archived.propagate(date).getPVCoordinates().getPosition()),
+                                    1.0e-15);
+        }
+        Assertions.assertTrue(zonal.updates > 1);
+
+    }
+
+    @Test
+    public void testStoreReplacesMatchingEntry() {
+        final ShortPeriodicsArchive archive = new ShortPeriodicsArchive(1.0e-9);
+        final double[] parameters = new double[] { 1.0 };
+        archive.store("key", orbit, parameters, new double[] { 1.0, 2.0 });
+        archive.store("key", orbit, parameters, new double[] { 3.0, 4.0 });
+        Assertions.assertEquals(1, archive.size());
+        Assertions.assertArrayEquals(new double[] { 3.0, 4.0 }, archive.value("key", orbit, parameters), 1.0e-15);
+        archive.store("key", orbit, new double[] { 2.0 }, new double[] { 5.0, 6.0 });
+        Assertions.assertEquals(2, archive.size());
+    }
+
+    private BoundedPropagator generateEphemeris(final DSSTForceModel model) {
+        final double period = orbit.getKeplerianPeriod();
+        final double[][] tolerance = DSSTPropagator.tolerances(1.0, orbit);
+        final AdaptiveStepsizeIntegrator integrator =
+                        new DormandPrince853Integrator(period / 100, period, tolerance[0], tolerance[1]);
+        integrator.setInitialStepSize(period);
+        final DSSTPropagator propagator = new DSSTPropagator(integrator, PropagationType.OSCULATING);
+        propagator.addForceModel(model);
+        propagator.setInitialState(new SpacecraftState(orbit, 45.0), PropagationType.MEAN);
+        final EphemerisGenerator generator = propagator.getEphemerisGenerator();
+        propagator.propagate(orbit.getDate().shiftedBy(Constants.JULIAN_DAY));
+        return generator.getGeneratedEphemeris();
+    }
+
+    private List<Vector3D> propagate(final Orbit initial, final DSSTForceModel model1, final DSSTForceModel model2) {
+        final double period = initial.getKeplerianPeriod();
+        final double[][] tolerance = DSSTPropagator.tolerances(1.0, initial);
+        final AdaptiveStepsizeIntegrator integrator =
+                        new DormandPrince853Integrator(period / 100, period * 100, tolerance[0], tolerance[1]);
+        integrator.setInitialStepSize(10 * period);
+        final DSSTPropagator propagator = new DSSTPropagator(integrator, PropagationType.OSCULATING);
+        propagator.addForceModel(model1);
+        if (model2 != null) {
+            propagator.addForceModel(model2);
+        }
+        propagator.setInitialState(new SpacecraftState(initial, 45.0), PropagationType.MEAN);
+        final List<Vector3D> positions = new ArrayList<>();
+        propagator.setStepHandler(1800.0, state -> positions.add(state.getPVCoordinates().getPosition()));
+        propagator.propagate(initial.getDate().shiftedBy(Constants.JULIAN_DAY));
+        return positions;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("regular-data:potential/icgem-format");
+        GravityFieldFactory.addPotentialCoefficientsReader(new ICGEMFormatReader("^eigen-6s-truncated$", false));
+        provider = GravityFieldFactory.getUnnormalizedProvider(4, 4);
+        orbit = new KeplerianOrbit(13378000, 0.05, 0.3, 0, FastMath.PI, 0, PositionAngle.MEAN,
+                                   FramesFactory.getEME2000(),
+                                   new AbsoluteDate(2003, 5, 6, TimeScalesFactory.getUTC()),
+                                   provider.getMu());
+    }
+
+    /** Zonal model counting the short periodic terms updates. */
+    private static class CountingZonal extends DSSTZonal {
+
+        private int updates;
+
+        CountingZonal(final UnnormalizedSphericalHarmonicsProvider provider) {
+            super(provider, 4, 3, 9);
+        }
+
+        @Override
+        public void updateShortPeriodTerms(final double[] parameters, final SpacecraftState... meanStates) {
+            ++updates;
+            super.updateShortPeriodTerms(parameters, meanStates);
+        }
+
+    }
+
+    private UnnormalizedSphericalHarmonicsProvider provider;
+    private Orbit orbit;
+
+}
@@ -19,6 +19,7 @@ package org.orekit.propagation.semianalytical.dsst;
 import org.hipparchus.geometry.euclidean.threed.Rotation;
 import org.hipparchus.geometry.euclidean.threed.RotationOrder;
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,6 +33,8 @@ import org.orekit.bodies.CelestialBodyFactory;
 import org.orekit.bodies.OneAxisEllipsoid;
 import org.orekit.errors.OrekitException;
 import org.orekit.forces.BoxAndSolarArraySpacecraft;
+import org.orekit.forces.drag.DragForce;
+import org.orekit.forces.drag.IsotropicDrag;
 import org.orekit.forces.gravity.potential.GravityFieldFactory;
 import org.orekit.forces.gravity.potential.UnnormalizedSphericalHarmonicsProvider;
 import org.orekit.frames.Frame;
@@ -199,6 +202,92 @@ public class DSSTAtmosphericDragTest {
         Assertions.assertEquals(2.538427523777691E-8,   y[5], 1.e-23);
     }
 
+    @Test
+    public void testAdaptiveQuadrature() {
+
+        final AbsoluteDate initDate = new AbsoluteDate(new DateComponents(2003, 03, 21), new TimeComponents(1, 0, 0.), TimeScalesFactory.getUTC());
+        final Orbit orbit = new EquinoctialOrbit(7069219.9806427825,
+                                                 -4.5941811292223825E-4,
+                                                 1.309932339472599E-4,
+                                                 -1.002996107003202,
+                                                 0.570979900577994,
+                                                 2.62038786211518,
+                                                 PositionAngle.TRUE,
+                                                 FramesFactory.getEME2000(),
+                                                 initDate,
+                                                 3.986004415E14);
+        final SpacecraftState meanState = new SpacecraftState(orbit);
+        final AuxiliaryElements aux = new AuxiliaryElements(meanState.getOrbit(), 1);
+        final OneAxisEllipsoid earth = new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS,
+                                                            Constants.WGS84_EARTH_FLATTENING,
+                                                            FramesFactory.getITRF(IERSConventions.IERS_2010,
+                                                                                  true));
+        final Atmosphere atmosphere = new HarrisPriester(CelestialBodyFactory.getSun(), earth, 6);
+
+        final CountingDrag        gaussDrag    = new CountingDrag(atmosphere);
+        final DSSTAtmosphericDrag gauss        = new DSSTAtmosphericDrag(gaussDrag, meanState.getMu());
+        final CountingDrag        adaptiveDrag = new CountingDrag(atmosphere);
+        final DSSTAtmosphericDrag adaptive     = new DSSTAtmosphericDrag(adaptiveDrag, meanState.getMu());
+        Assertions.assertFalse(adaptive.isAdaptiveQuadrature());
+        adaptive.setAdaptiveQuadrature(true);
+        Assertions.assertTrue(adaptive.isAdaptiveQuadrature());
+
+        final double[] gaussShortPeriodic    = new double[6];
+        final double[] adaptiveShortPeriodic = new double[6];
+        final double[] gaussRates            = computeRatesAndShortPeriodic(gauss, meanState, aux, gaussShortPeriodic);
+        final double[] adaptiveRates         = computeRatesAndShortPeriodic(adaptive, meanState, aux, adaptiveShortPeriodic);
+
+        // near-circular orbit needs far fewer force model evaluations,
+        // and short periodic coefficients for all j share the same evaluations
+        Assertions.assertEquals(17, adaptive.getLastQuadratureOrder());
+        Assertions.assertEquals(216, gaussDrag.count);
+        Assertions.assertEquals(34, adaptiveDrag.count);
+
+        for (int i = 0; i < 6; ++i) {
+            Assertions.assertEquals(gaussRates[i], adaptiveRates[i], 1.0e-4 * FastMath.abs(gaussRates[i]));
+        }
+        Assertions.assertEquals(gaussShortPeriodic[0], adaptiveShortPeriodic[0], 2.0e-4);
+        Assertions.assertEquals(gaussShortPeriodic[1], adaptiveShortPeriodic[1], 3.0e-10);
+        Assertions.assertEquals(gaussShortPeriodic[2], adaptiveShortPeriodic[2], 3.0e-10);
+        Assertions.assertEquals(gaussShortPeriodic[3], adaptiveShortPeriodic[3], 3.0e-11);
+        Assertions.assertEquals(gaussShortPeriodic[4], adaptiveShortPeriodic[4], 3.0e-11);
+        Assertions.assertEquals(gaussShortPeriodic[5], adaptiveShortPeriodic[5], 1.0e-9);
+
+    }
+
+    private double[] computeRatesAndShortPeriodic(final DSSTForceModel drag, final SpacecraftState meanState,
+                                                  final AuxiliaryElements aux, final double[] shortPeriodic) {
+        drag.registerAttitudeProvider(new InertialProvider(Rotation.IDENTITY));
+        final List<ShortPeriodTerms> shortPeriodTerms =
+                        drag.initializeShortPeriodTerms(aux, PropagationType.OSCULATING, drag.getParameters());
+        final double[] rates = drag.getMeanElementRate(meanState, aux, drag.getParameters());
+        drag.updateShortPeriodTerms(drag.getParameters(), meanState);
+        for (final ShortPeriodTerms spt : shortPeriodTerms) {
+            final double[] value = spt.value(meanState.getOrbit());
+            for (int i = 0; i < value.length; i++) {
+                shortPeriodic[i] += value[i];
+            }
+        }
+        return rates;
+    }
+
+    /** Drag force counting the acceleration evaluations. */
+    private static class CountingDrag extends DragForce {
+
+        private int count;
+
+        CountingDrag(final Atmosphere atmosphere) {
+            super(atmosphere, new IsotropicDrag(25.0, 2.0));
+        }
+
+        @Override
+        public Vector3D acceleration(final SpacecraftState s, final double[] parameters) {
+            ++count;
+            return super.acceleration(s, parameters);
+        }
+
+    }
+
     @BeforeEach
     public void setUp() throws IOException, ParseException {
         Utils.setDataRoot("regular-data:potential/shm-format");
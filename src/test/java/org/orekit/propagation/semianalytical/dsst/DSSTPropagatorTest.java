@@ -108,6 +108,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
 public class DSSTPropagatorTest {
@@ -854,6 +855,63 @@ public class DSSTPropagatorTest {
 
     }
 
+    @Test
+    public void testParallelForceModels() {
+        Utils.setDataRoot("regular-data:potential/icgem-format");
+        GravityFieldFactory.addPotentialCoefficientsReader(new ICGEMFormatReader("^eigen-6s-truncated$", false));
+        UnnormalizedSphericalHarmonicsProvider nshp = GravityFieldFactory.getUnnormalizedProvider(8, 8);
+        Orbit orbit = new KeplerianOrbit(13378000, 0.05, 0.3, 0, FastMath.PI, 0, PositionAngle.MEAN,
+                                         FramesFactory.getTOD(false),
+                                         new AbsoluteDate(2003, 5, 6, TimeScalesFactory.getUTC()),
+                                         nshp.getMu());
+        OneAxisEllipsoid earth = new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS,
+                                                      Constants.WGS84_EARTH_FLATTENING,
+                                                      FramesFactory.getGTOD(false));
+        CelestialBody sun  = CelestialBodyFactory.getSun();
+        CelestialBody moon = CelestialBodyFactory.getMoon();
+        final AbsoluteDate finalDate = orbit.getDate().shiftedBy(5 * Constants.JULIAN_DAY);
+
+        final SpacecraftState[] finalStates = new SpacecraftState[2];
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int k = 0; k < finalStates.length; ++k) {
+                double period = orbit.getKeplerianPeriod();
+                double[][] tolerance = DSSTPropagator.tolerances(1.0, orbit);
+                AdaptiveStepsizeIntegrator integrator =
+                        new DormandPrince853Integrator(period / 100, period * 100, tolerance[0], tolerance[1]);
+                integrator.setInitialStepSize(10 * period);
+                DSSTPropagator propagator = new DSSTPropagator(integrator, PropagationType.OSCULATING);
+                propagator.addForceModel(new DSSTZonal(nshp, 8, 7, 17));
+                propagator.addForceModel(new DSSTTesseral(earth.getBodyFrame(),
+                                                          Constants.WGS84_EARTH_ANGULAR_VELOCITY,
+                                                          nshp, 8, 8, 4, 12, 8, 8, 4));
+                propagator.addForceModel(new DSSTThirdBody(sun, nshp.getMu()));
+                propagator.addForceModel(new DSSTThirdBody(moon, nshp.getMu()));
+                propagator.addForceModel(new DSSTSolarRadiationPressure(1.2, 180, sun, earth.getEquatorialRadius(), nshp.getMu()));
+                Assertions.assertNull(propagator.getForceModelsPool());
+                if (k == 1) {
+                    propagator.setForceModelsPool(pool);
+                    Assertions.assertSame(pool, propagator.getForceModelsPool());
+                }
+                propagator.setInitialState(new SpacecraftState(orbit, 45.0), PropagationType.MEAN);
+                finalStates[k] = propagator.propagate(finalDate);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        // summation order is preserved, so results are identical
+        Assertions.assertEquals(0.0,
+                                Vector3D.distance(finalStates[0].getPVCoordinates().getPosition(),
+                                                  finalStates[1].getPVCoordinates().getPosition()),
+                                0.0);
+        Assertions.assertEquals(0.0,
+                                Vector3D.distance(finalStates[0].getPVCoordinates().getVelocity(),
+                                                  finalStates[1].getPVCoordinates().getVelocity()),
+                                0.0);
+
+    }
+
     @Test
     public void testIssueMeanInclination() {
 
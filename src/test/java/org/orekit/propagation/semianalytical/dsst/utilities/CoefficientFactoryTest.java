@@ -32,8 +32,14 @@ import org.junit.jupiter.api.Test;
 import org.orekit.errors.OrekitException;
 import org.orekit.propagation.semianalytical.dsst.utilities.CoefficientsFactory.NSKey;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class CoefficientFactoryTest {
 
@@ -106,6 +112,38 @@ public class CoefficientFactoryTest {
         });
     }
 
+    @Test
+    public void testVmnsConcurrent() throws InterruptedException, ExecutionException {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Double>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; ++t) {
+                final int n = 30 + 5 * t;
+                futures.add(executor.submit(() -> {
+                    double maxError = 0;
+                    for (int s = -n; s <= n; s += 2) {
+                        final double reference = getVmns2(n / 2, n, s);
+                        final double vmns      = CoefficientsFactory.getVmns(n / 2, n, s);
+                        maxError = FastMath.max(maxError, FastMath.abs(vmns - reference) / FastMath.abs(reference));
+                    }
+                    return maxError;
+                }));
+            }
+            for (final Future<Double> future : futures) {
+                Assertions.assertEquals(0.0, future.get(), 1.0e-12);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // the map is consistent with the primitive table
+        final TreeMap<NSKey, Double> vns = CoefficientsFactory.computeVns(66);
+        Assertions.assertEquals(CoefficientsFactory.getVmns(0, 65, 3),
+                                CombinatoricsUtils.factorialDouble(68) * vns.get(new NSKey(65, 3)) /
+                                CombinatoricsUtils.factorialDouble(65),
+                                0.0);
+    }
+
     @Test
     public void testKey() {
         // test cases mostly written to improve coverage and make SonarQube happy...
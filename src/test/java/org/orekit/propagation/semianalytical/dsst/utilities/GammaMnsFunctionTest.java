@@ -85,6 +85,23 @@ public class GammaMnsFunctionTest {
         }
     }
 
+    @Test
+    public void testPrecomputeRatios()
+        throws NoSuchFieldException, SecurityException, IllegalArgumentException, IllegalAccessException {
+        Field precomputedF = GammaMnsFunction.class.getDeclaredField("PRECOMPUTED_RATIOS");
+        precomputedF.setAccessible(true);
+        precomputedF.set(null, new double[0]);
+        GammaMnsFunction.precomputeRatios(nMax + 3);
+        double[] precomputed = (double[]) precomputedF.get(null);
+        Assertions.assertEquals((nMax + 4) * (nMax + 5) * (4 * nMax + 15) / 6, precomputed.length);
+
+        // smaller functions reuse the published array as is
+        new GammaMnsFunction(nMax, 0.5, +1);
+        Assertions.assertSame(precomputed, precomputedF.get(null));
+        GammaMnsFunction.precomputeRatios(nMax);
+        Assertions.assertSame(precomputed, precomputedF.get(null));
+    }
+
     @Test
     public void testValue() {
         for (int bigI : new int[] { -1, +1 }) {
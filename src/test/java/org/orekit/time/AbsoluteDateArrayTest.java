@@ -0,0 +1,123 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.time;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AbsoluteDateArrayTest {
+
+    @Test
+    public void testConversions() {
+        final RandomGenerator random = new Well19937a(0x3c5a8a1b0c1cf79dl);
+        final List<AbsoluteDate> list = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            list.add(AbsoluteDate.J2000_EPOCH.shiftedBy(1.0e9 * (2 * random.nextDouble() - 1)));
+        }
+        final AbsoluteDateArray array = new AbsoluteDateArray(list);
+        Assertions.assertEquals(list.size(), array.size());
+        final AbsoluteDate[] dates = array.toDates();
+        for (int i = 0; i < list.size(); ++i) {
+            Assertions.assertEquals(list.get(i), array.getDate(i));
+            Assertions.assertEquals(list.get(i), dates[i]);
+            Assertions.assertEquals(0, array.compareTo(i, list.get(i)));
+        }
+        Assertions.assertFalse(array.isSorted());
+    }
+
+    @Test
+    public void testDurations() {
+        final AbsoluteDate reference = AbsoluteDate.GALILEO_EPOCH.shiftedBy(0.125);
+        final double[] durations = new double[] {
+            -3.5, -1.0e-12, 0.0, 0.875, 0.999999999999, 1.0, 1.0e6 + 0.3
+        };
+        final AbsoluteDateArray array = new AbsoluteDateArray(reference, durations);
+        Assertions.assertTrue(array.isSorted());
+        final double[] recovered = array.durationsFrom(reference);
+        for (int i = 0; i < durations.length; ++i) {
+            Assertions.assertEquals(reference.shiftedBy(durations[i]), array.getDate(i));
+            Assertions.assertEquals(durations[i], recovered[i], 1.0e-15);
+            Assertions.assertEquals(durations[i] - durations[0], array.durationFrom(i, 0), 1.0e-15);
+        }
+        final double[] steps = array.steps();
+        Assertions.assertEquals(durations.length - 1, steps.length);
+        for (int i = 0; i < steps.length; ++i) {
+            Assertions.assertEquals(durations[i + 1] - durations[i], steps[i], 1.0e-9);
+        }
+        Assertions.assertEquals(0, new AbsoluteDateArray(new AbsoluteDate[0]).steps().length);
+    }
+
+    @Test
+    public void testShift() {
+        final RandomGenerator random = new Well19937a(0x9c1e2db2bb96c4c1l);
+        final AbsoluteDate[] dates = new AbsoluteDate[100];
+        for (int i = 0; i < dates.length; ++i) {
+            dates[i] = AbsoluteDate.J2000_EPOCH.shiftedBy(1.0e8 * random.nextDouble());
+        }
+        final AbsoluteDateArray array = new AbsoluteDateArray(dates);
+        for (final double dt : new double[] { -1.0e-15, -0.25, 0.0, 0.75, 1234.5678, 1.0e-15 }) {
+            final AbsoluteDateArray shifted = array.shiftedBy(dt);
+            for (int i = 0; i < dates.length; ++i) {
+                Assertions.assertEquals(dates[i].shiftedBy(dt), shifted.getDate(i));
+            }
+        }
+        final AbsoluteDateArray future = array.shiftedBy(Double.POSITIVE_INFINITY);
+        final AbsoluteDateArray past   = array.shiftedBy(Double.NEGATIVE_INFINITY);
+        for (int i = 0; i < dates.length; ++i) {
+            Assertions.assertEquals(AbsoluteDate.FUTURE_INFINITY, future.getDate(i));
+            Assertions.assertEquals(AbsoluteDate.PAST_INFINITY, past.getDate(i));
+            Assertions.assertEquals(0, future.compareTo(i, AbsoluteDate.FUTURE_INFINITY));
+            Assertions.assertTrue(past.compareTo(i, AbsoluteDate.FUTURE_INFINITY) < 0);
+        }
+    }
+
+    @Test
+    public void testSearch() {
+        final AbsoluteDate t0 = AbsoluteDate.J2000_EPOCH;
+        final AbsoluteDateArray array = new AbsoluteDateArray(t0, new double[] {
+            0.0, 1.0, 2.0, 2.0, 3.5, 10.0
+        });
+        Assertions.assertTrue(array.isSorted());
+
+        Assertions.assertEquals(-1, array.binarySearch(t0.shiftedBy(-1.0)));
+        Assertions.assertEquals( 0, array.binarySearch(t0));
+        Assertions.assertEquals(-2, array.binarySearch(t0.shiftedBy(0.5)));
+        Assertions.assertEquals( 4, array.binarySearch(t0.shiftedBy(3.5)));
+        Assertions.assertEquals(-7, array.binarySearch(t0.shiftedBy(11.0)));
+        final int i = array.binarySearch(t0.shiftedBy(2.0));
+        Assertions.assertTrue(i == 2 || i == 3);
+
+        Assertions.assertEquals(-1, array.floorIndex(t0.shiftedBy(-1.0e-10)));
+        Assertions.assertEquals( 0, array.floorIndex(t0));
+        Assertions.assertEquals( 0, array.floorIndex(t0.shiftedBy(0.5)));
+        Assertions.assertEquals( 3, array.floorIndex(t0.shiftedBy(2.0)));
+        Assertions.assertEquals( 3, array.floorIndex(t0.shiftedBy(3.0)));
+        Assertions.assertEquals( 5, array.floorIndex(t0.shiftedBy(10.0)));
+        Assertions.assertEquals( 5, array.floorIndex(AbsoluteDate.FUTURE_INFINITY));
+        Assertions.assertEquals(-1, array.floorIndex(AbsoluteDate.PAST_INFINITY));
+
+        Assertions.assertEquals(-1, new AbsoluteDateArray(new AbsoluteDate[0]).floorIndex(t0));
+        Assertions.assertEquals(-1, new AbsoluteDateArray(new AbsoluteDate[0]).binarySearch(t0));
+
+    }
+
+}
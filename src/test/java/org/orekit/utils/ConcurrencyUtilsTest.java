@@ -0,0 +1,77 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.utils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+
+public class ConcurrencyUtilsTest {
+
+    @Test
+    public void testOrekitCause() {
+        final List<CompletableFuture<Double>> futures = createFutures();
+        final OrekitException cause = new OrekitException(OrekitMessages.INTERNAL_ERROR, "dummy");
+        final OrekitException converted =
+                        ConcurrencyUtils.cancelAndConvert(futures, new ExecutionException(cause));
+        Assertions.assertSame(cause, converted);
+        checkCancelled(futures);
+        Assertions.assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    public void testOtherCause() {
+        final List<CompletableFuture<Double>> futures = createFutures();
+        final IllegalStateException cause = new IllegalStateException("dummy");
+        final OrekitException converted =
+                        ConcurrencyUtils.cancelAndConvert(futures, new ExecutionException(cause));
+        Assertions.assertSame(cause, converted.getCause());
+        Assertions.assertEquals(LocalizedCoreFormats.SIMPLE_MESSAGE, converted.getSpecifier());
+        checkCancelled(futures);
+        Assertions.assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    public void testInterrupted() {
+        final List<CompletableFuture<Double>> futures = createFutures();
+        final InterruptedException ie = new InterruptedException("dummy");
+        final OrekitException converted = ConcurrencyUtils.cancelAndConvert(futures, ie);
+        Assertions.assertSame(ie, converted.getCause());
+        checkCancelled(futures);
+        // clear the flag so other tests are not affected
+        Assertions.assertTrue(Thread.interrupted());
+    }
+
+    private List<CompletableFuture<Double>> createFutures() {
+        return Arrays.asList(new CompletableFuture<>(), new CompletableFuture<>());
+    }
+
+    private void checkCancelled(final List<? extends Future<?>> futures) {
+        for (final Future<?> future : futures) {
+            Assertions.assertTrue(future.isCancelled());
+        }
+    }
+
+}
@@ -53,6 +53,29 @@ public class GenericTimeStampedCacheTest {
         Assertions.assertEquals(Constants.JULIAN_YEAR, cache.getMaxSpan(), 1.0e-10);
     }
 
+    @Test
+    public void testInvalidate() throws TimeStampedCacheException {
+        GenericTimeStampedCache<AbsoluteDate> cache = createCache(10, 3600.0, 13);
+        List<AbsoluteDate> list = new ArrayList<AbsoluteDate>();
+        list.add(AbsoluteDate.GALILEO_EPOCH);
+        list.add(AbsoluteDate.GALILEO_EPOCH.shiftedBy(100 * Constants.JULIAN_DAY));
+        list.add(AbsoluteDate.GALILEO_EPOCH.shiftedBy(200 * Constants.JULIAN_DAY));
+        Assertions.assertEquals(3, checkDatesSingleThread(list, cache));
+        Assertions.assertEquals(3, cache.getSlots());
+        Assertions.assertEquals(0, cache.invalidate(AbsoluteDate.GALILEO_EPOCH.shiftedBy(50 * Constants.JULIAN_DAY),
+                                                    AbsoluteDate.GALILEO_EPOCH.shiftedBy(60 * Constants.JULIAN_DAY)));
+        Assertions.assertEquals(3, cache.getSlots());
+        Assertions.assertEquals(1, cache.invalidate(AbsoluteDate.GALILEO_EPOCH.shiftedBy(99 * Constants.JULIAN_DAY),
+                                                    AbsoluteDate.GALILEO_EPOCH.shiftedBy(100 * Constants.JULIAN_DAY)));
+        Assertions.assertEquals(2, cache.getSlots());
+        final int generateCalls = cache.getGenerateCalls();
+        Assertions.assertEquals(3, checkDatesSingleThread(list, cache));
+        Assertions.assertEquals(3, cache.getSlots());
+        Assertions.assertTrue(cache.getGenerateCalls() > generateCalls);
+        Assertions.assertEquals(3, cache.invalidate(AbsoluteDate.PAST_INFINITY, AbsoluteDate.FUTURE_INFINITY));
+        Assertions.assertEquals(0, cache.getSlots());
+    }
+
     @Test
     public void testPastInfinityRange() throws TimeStampedCacheException {
         GenericTimeStampedCache<AbsoluteDate> cache =
@@ -0,0 +1,134 @@
+/* Copyright 2002-2022 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.TimeSpanMap.Span;
+
+public class ImmutableTimeSpanMapTest {
+
+    @Test
+    public void testSingleEntry() {
+        final String single = "single";
+        final ImmutableTimeSpanMap<String> map = new ImmutableTimeSpanMap<>(new TimeSpanMap<>(single));
+        Assertions.assertEquals(1, map.getSpansNumber());
+        Assertions.assertNull(map.getFirstTransition());
+        Assertions.assertNull(map.getLastTransition());
+        Assertions.assertEquals(0, map.getTransitionsDates().size());
+        Assertions.assertSame(single, map.get(AbsoluteDate.PAST_INFINITY));
+        Assertions.assertSame(single, map.get(AbsoluteDate.J2000_EPOCH));
+        Assertions.assertSame(single, map.get(AbsoluteDate.FUTURE_INFINITY));
+    }
+
+    @Test
+    public void testSameAsMutable() {
+        final AbsoluteDate ref = AbsoluteDate.J2000_EPOCH;
+        final TimeSpanMap<Integer> map = new TimeSpanMap<>(Integer.valueOf(0));
+        map.addValidAfter(Integer.valueOf(10), ref.shiftedBy(10.0), false);
+        map.addValidAfter(Integer.valueOf( 3), ref.shiftedBy( 2.0), false);
+        map.addValidAfter(Integer.valueOf( 9), ref.shiftedBy( 5.0), false);
+        map.addValidBefore(Integer.valueOf( 2), ref.shiftedBy( 3.0), false);
+        map.addValidBefore(Integer.valueOf( 5), ref.shiftedBy( 9.0), false);
+        final ImmutableTimeSpanMap<Integer> frozen = new ImmutableTimeSpanMap<>(map);
+        Assertions.assertEquals(map.getSpansNumber(), frozen.getSpansNumber());
+        Assertions.assertEquals(map.getFirstTransition().getDate(), frozen.getFirstTransition().getDate());
+        Assertions.assertEquals(map.getLastTransition().getDate(), frozen.getLastTransition().getDate());
+        for (double dt = -2.0; dt < 12.0; dt += 0.125) {
+            final AbsoluteDate date = ref.shiftedBy(dt);
+            final Span<Integer> s1 = map.getSpan(date);
+            final Span<Integer> s2 = frozen.getSpan(date);
+            Assertions.assertEquals(s1.getData(), s2.getData());
+            Assertions.assertEquals(s1.getStart(), s2.getStart());
+            Assertions.assertEquals(s1.getEnd(), s2.getEnd());
+        }
+
+        // transition dates belong to the span after the transition
+        for (Span<Integer> span = frozen.getFirstSpan(); span.next() != null; span = span.next()) {
+            Assertions.assertSame(span.next().getData(), frozen.get(span.getEnd()));
+        }
+
+        final List<Integer> l1 = new ArrayList<>();
+        map.forEach(l1::add);
+        final List<Integer> l2 = new ArrayList<>();
+        frozen.forEach(l2::add);
+        Assertions.assertEquals(l1, l2);
+
+        final TimeSpanMap<Integer> copy = frozen.toTimeSpanMap();
+        Assertions.assertEquals(map.getSpansNumber(), copy.getSpansNumber());
+        for (double dt = -2.0; dt < 12.0; dt += 0.125) {
+            Assertions.assertEquals(map.get(ref.shiftedBy(dt)), copy.get(ref.shiftedBy(dt)));
+        }
+
+    }
+
+    @Test
+    public void testIndependentFromOriginal() {
+        final AbsoluteDate ref = AbsoluteDate.J2000_EPOCH;
+        final TimeSpanMap<Integer> map = new TimeSpanMap<>(Integer.valueOf(0));
+        map.addValidAfter(Integer.valueOf(1), ref.shiftedBy(1.0), false);
+        final ImmutableTimeSpanMap<Integer> frozen = new ImmutableTimeSpanMap<>(map);
+        map.addValidAfter(Integer.valueOf(2), ref.shiftedBy(2.0), false);
+        map.addValidBefore(Integer.valueOf(-1), ref.shiftedBy(-1.0), true);
+        Assertions.assertEquals(4, map.getSpansNumber());
+        Assertions.assertEquals(2, frozen.getSpansNumber());
+        Assertions.assertEquals(0, frozen.get(ref.shiftedBy(-5.0)).intValue());
+        Assertions.assertEquals(1, frozen.get(ref.shiftedBy(5.0)).intValue());
+        Assertions.assertNull(frozen.getLastSpan().next());
+    }
+
+    @Test
+    public void testConcurrentLookup() throws InterruptedException, ExecutionException {
+        final AbsoluteDate ref = AbsoluteDate.J2000_EPOCH;
+        final TimeSpanMap<Integer> map = new TimeSpanMap<>(Integer.valueOf(0));
+        for (int i = 1; i < 1000; ++i) {
+            map.addValidAfter(Integer.valueOf(i), ref.shiftedBy(i), false);
+        }
+        final ImmutableTimeSpanMap<Integer> frozen = new ImmutableTimeSpanMap<>(map);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; ++t) {
+                final int offset = t;
+                futures.add(executor.submit(() -> {
+                    int errors = 0;
+                    for (int k = 0; k < 10000; ++k) {
+                        final int i = (7919 * k + offset) % 1000;
+                        if (frozen.get(ref.shiftedBy(i + 0.5)).intValue() != i) {
+                            ++errors;
+                        }
+                    }
+                    return errors;
+                }));
+            }
+            for (final Future<Integer> future : futures) {
+                Assertions.assertEquals(0, future.get().intValue());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}